@@ -0,0 +1,92 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.orm.benchmark.domain.Customer;
+import org.hibernate.orm.benchmark.domain.PurchaseOrder;
+
+/**
+ * Builds the {@link SessionFactory} shared by the benchmarks: an in-memory H2
+ * database with the {@linkplain org.hibernate.orm.benchmark.domain benchmark domain}
+ * exported to it and, optionally, populated with data.
+ * <p>
+ * Each call uses a distinct H2 database, so benchmarks running in the same fork
+ * never observe each other's data.
+ */
+public final class BenchmarkSessionFactory {
+	private static final AtomicInteger DB_COUNTER = new AtomicInteger();
+
+	private BenchmarkSessionFactory() {
+	}
+
+	/**
+	 * Build a {@link SessionFactory} with the default settings
+	 */
+	public static SessionFactoryImplementor build() {
+		return build( Map.of() );
+	}
+
+	/**
+	 * Build a {@link SessionFactory}, applying the given settings on top of the defaults
+	 */
+	public static SessionFactoryImplementor build(Map<String, Object> settings) {
+		final StandardServiceRegistryBuilder registryBuilder = new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.URL, "jdbc:h2:mem:bench" + DB_COUNTER.incrementAndGet() + ";DB_CLOSE_DELAY=-1" )
+				.applySetting( AvailableSettings.USER, "sa" )
+				.applySetting( AvailableSettings.PASS, "" )
+				.applySetting( AvailableSettings.POOL_SIZE, 1 )
+				.applySetting( AvailableSettings.HBM2DDL_AUTO, "create-drop" )
+				.applySetting( AvailableSettings.SHOW_SQL, false )
+				.applySetting( AvailableSettings.GENERATE_STATISTICS, false );
+		settings.forEach( registryBuilder::applySetting );
+
+		final StandardServiceRegistry registry = registryBuilder.build();
+		try {
+			return new MetadataSources( registry )
+					.addAnnotatedClass( Customer.class )
+					.addAnnotatedClass( PurchaseOrder.class )
+					.buildMetadata()
+					.buildSessionFactory()
+					.unwrap( SessionFactoryImplementor.class );
+		}
+		catch (RuntimeException e) {
+			StandardServiceRegistryBuilder.destroy( registry );
+			throw e;
+		}
+	}
+
+	/**
+	 * Insert {@code customerCount} customers with ids {@code 1..customerCount}, each
+	 * with {@code ordersPerCustomer} purchase orders.
+	 */
+	public static void populate(SessionFactory sessionFactory, int customerCount, int ordersPerCustomer) {
+		sessionFactory.inTransaction( session -> {
+			long orderId = 0;
+			for ( long i = 1; i <= customerCount; i++ ) {
+				final Customer customer = new Customer( i, "Customer" + i );
+				session.persist( customer );
+				for ( int j = 0; j < ordersPerCustomer; j++ ) {
+					session.persist( new PurchaseOrder( ++orderId, customer, BigDecimal.valueOf( j ) ) );
+				}
+				if ( i % 500 == 0 ) {
+					session.flush();
+					session.clear();
+				}
+			}
+		} );
+	}
+}
@@ -0,0 +1,88 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.orm.benchmark.domain.Customer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the flush of a session holding many managed, non-enhanced entities,
+ * where {@code DefaultFlushEntityEventListener} has to dirty check each of them
+ * against its loaded state.
+ * <p>
+ * A transaction is kept open for each measurement iteration and rolled back at
+ * its end, so the data never changes between iterations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DirtyCheckingFlushBenchmark {
+	@Param({ "1000", "10000" })
+	private int managedEntities;
+
+	private SessionFactoryImplementor sessionFactory;
+	private Session session;
+	private List<Customer> customers;
+	private int position;
+
+	@Setup(Level.Trial)
+	public void setUpSessionFactory() {
+		sessionFactory = BenchmarkSessionFactory.build();
+		BenchmarkSessionFactory.populate( sessionFactory, managedEntities, 0 );
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDownSessionFactory() {
+		sessionFactory.close();
+	}
+
+	@Setup(Level.Iteration)
+	public void setUpSession() {
+		session = sessionFactory.openSession();
+		session.getTransaction().begin();
+		customers = session.createQuery( "from Customer", Customer.class ).getResultList();
+	}
+
+	@TearDown(Level.Iteration)
+	public void tearDownSession() {
+		session.getTransaction().rollback();
+		session.close();
+	}
+
+	@Benchmark
+	public void flushUnchanged() {
+		session.flush();
+	}
+
+	@Benchmark
+	public void flushOneDirty() {
+		final Customer customer = customers.get( position++ % managedEntities );
+		customer.setLoyaltyPoints( customer.getLoyaltyPoints() + 1 );
+		session.flush();
+	}
+}
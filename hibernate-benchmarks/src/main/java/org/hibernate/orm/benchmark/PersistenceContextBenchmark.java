@@ -0,0 +1,95 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.orm.benchmark.domain.Customer;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures lookups against a {@code StatefulPersistenceContext} holding a large
+ * number of managed entities, both directly and through the {@code Session} API.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PersistenceContextBenchmark {
+	@Param({ "1000", "100000" })
+	private int managedEntities;
+
+	private SessionFactoryImplementor sessionFactory;
+	private SessionImplementor session;
+	private PersistenceContext persistenceContext;
+	private EntityPersister persister;
+	private List<Customer> customers;
+	private int position;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build();
+		BenchmarkSessionFactory.populate( sessionFactory, managedEntities, 0 );
+
+		session = sessionFactory.openSession().unwrap( SessionImplementor.class );
+		customers = session.createQuery( "from Customer", Customer.class ).getResultList();
+		persistenceContext = session.getPersistenceContextInternal();
+		persister = sessionFactory.getMappingMetamodel().getEntityDescriptor( Customer.class );
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		session.close();
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public Object getEntity() {
+		return persistenceContext.getEntity( new EntityKey( nextId(), persister ) );
+	}
+
+	@Benchmark
+	public Customer findManaged() {
+		return session.find( Customer.class, nextId() );
+	}
+
+	@Benchmark
+	public Customer getReferenceManaged() {
+		return session.getReference( Customer.class, nextId() );
+	}
+
+	@Benchmark
+	public boolean contains() {
+		return session.contains( customers.get( (int) nextId() - 1 ) );
+	}
+
+	private long nextId() {
+		position = position % managedEntities + 1;
+		return position;
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.orm.benchmark.domain.Customer;
+import org.hibernate.orm.benchmark.domain.PurchaseOrder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@code QuerySqmImpl.list} for HQL queries whose interpretation is
+ * already cached, so that the numbers are dominated by SQL execution and by
+ * row processing in {@code JdbcValuesResultSetImpl} and the result assemblers.
+ * Allocation per row is best observed through {@code gc.alloc.rate.norm}
+ * divided by {@link #rows}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QueryListBenchmark {
+	@Param({ "1", "100", "1000" })
+	private int rows;
+
+	private SessionFactoryImplementor sessionFactory;
+
+	@Setup
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build();
+		BenchmarkSessionFactory.populate( sessionFactory, 1_000, 1 );
+	}
+
+	@TearDown
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public List<Customer> listEntities() {
+		try ( Session session = sessionFactory.openSession() ) {
+			return session.createQuery( "from Customer c where c.id <= :max", Customer.class )
+					.setParameter( "max", (long) rows )
+					.list();
+		}
+	}
+
+	@Benchmark
+	public List<Object[]> listScalars() {
+		try ( Session session = sessionFactory.openSession() ) {
+			return session.createQuery(
+							"select c.id, c.name, c.balance, c.registered from Customer c where c.id <= :max",
+							Object[].class
+					)
+					.setParameter( "max", (long) rows )
+					.list();
+		}
+	}
+
+	@Benchmark
+	public List<PurchaseOrder> listWithJoinFetch() {
+		try ( Session session = sessionFactory.openSession() ) {
+			return session.createQuery(
+							"from PurchaseOrder o join fetch o.customer c where c.id <= :max",
+							PurchaseOrder.class
+					)
+					.setParameter( "max", (long) rows )
+					.list();
+		}
+	}
+}
@@ -0,0 +1,90 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.orm.benchmark.domain.Customer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@code SessionImpl.find} for an entity which is not yet part of the
+ * persistence context, i.e. the full load path: {@code DefaultLoadEventListener},
+ * the single-id loader, JDBC execution and row processing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SessionFindBenchmark {
+	private static final int CUSTOMERS = 1_000;
+
+	private SessionFactoryImplementor sessionFactory;
+	private long nextId;
+
+	@Setup
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build();
+		BenchmarkSessionFactory.populate( sessionFactory, CUSTOMERS, 0 );
+	}
+
+	@TearDown
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public Customer findInNewSession() {
+		try ( Session session = sessionFactory.openSession() ) {
+			return session.find( Customer.class, nextId() );
+		}
+	}
+
+	@Benchmark
+	public Customer findAfterClear(SessionState state) {
+		state.session.clear();
+		return state.session.find( Customer.class, nextId() );
+	}
+
+	private long nextId() {
+		nextId = nextId % CUSTOMERS + 1;
+		return nextId;
+	}
+
+	/**
+	 * A long-lived session, used to factor out the cost of opening a session
+	 */
+	@State(Scope.Thread)
+	public static class SessionState {
+		private Session session;
+
+		@Setup
+		public void setUp(SessionFindBenchmark benchmark) {
+			session = benchmark.sessionFactory.openSession();
+		}
+
+		@TearDown
+		public void tearDown() {
+			session.close();
+		}
+	}
+}
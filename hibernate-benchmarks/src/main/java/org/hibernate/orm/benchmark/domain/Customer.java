@@ -0,0 +1,91 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark.domain;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * A "narrow" root entity with a handful of basic attributes of mixed types.
+ */
+@Entity
+@Table(name = "customers")
+public class Customer {
+	@Id
+	private Long id;
+	private String name;
+	private String email;
+	private BigDecimal balance;
+	private LocalDate registered;
+	private int loyaltyPoints;
+	private boolean active;
+
+	protected Customer() {
+	}
+
+	public Customer(Long id, String name) {
+		this.id = id;
+		this.name = name;
+		this.email = name.toLowerCase() + "@example.org";
+		this.balance = BigDecimal.valueOf( id * 10 );
+		this.registered = LocalDate.of( 2020, 1, 1 ).plusDays( id );
+		this.loyaltyPoints = (int) ( id % 1000 );
+		this.active = id % 2 == 0;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public String getEmail() {
+		return email;
+	}
+
+	public void setEmail(String email) {
+		this.email = email;
+	}
+
+	public BigDecimal getBalance() {
+		return balance;
+	}
+
+	public void setBalance(BigDecimal balance) {
+		this.balance = balance;
+	}
+
+	public LocalDate getRegistered() {
+		return registered;
+	}
+
+	public int getLoyaltyPoints() {
+		return loyaltyPoints;
+	}
+
+	public void setLoyaltyPoints(int loyaltyPoints) {
+		this.loyaltyPoints = loyaltyPoints;
+	}
+
+	public boolean isActive() {
+		return active;
+	}
+
+	public void setActive(boolean active) {
+		this.active = active;
+	}
+}
@@ -0,0 +1,67 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark.domain;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+/**
+ * An entity with a lazy to-one association, used for insert batching and
+ * join-heavy queries.
+ */
+@Entity
+@Table(name = "purchase_orders")
+public class PurchaseOrder {
+	@Id
+	private Long id;
+	@ManyToOne(fetch = FetchType.LAZY)
+	private Customer customer;
+	private String reference;
+	private BigDecimal amount;
+	private Instant placed;
+
+	protected PurchaseOrder() {
+	}
+
+	public PurchaseOrder(Long id, Customer customer, BigDecimal amount) {
+		this.id = id;
+		this.customer = customer;
+		this.reference = "PO-" + id;
+		this.amount = amount;
+		this.placed = Instant.EPOCH.plusSeconds( id );
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public Customer getCustomer() {
+		return customer;
+	}
+
+	public String getReference() {
+		return reference;
+	}
+
+	public BigDecimal getAmount() {
+		return amount;
+	}
+
+	public void setAmount(BigDecimal amount) {
+		this.amount = amount;
+	}
+
+	public Instant getPlaced() {
+		return placed;
+	}
+}
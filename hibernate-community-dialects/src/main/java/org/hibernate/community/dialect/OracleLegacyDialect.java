@@ -1536,4 +1536,11 @@ public class OracleLegacyDialect extends Dialect {
 	public boolean supportsFromClauseInUpdate() {
 		return true;
 	}
+
+	@Override
+	public String getMultiRowInsertString(String insertSql, int rowCount) {
+		// Oracle doesn't support a multi-values insert, and the
+		// select union emulation would not be any cheaper than a batch
+		return null;
+	}
 }
@@ -484,4 +484,11 @@ public class SybaseLegacyDialect extends AbstractTransactSQLDialect {
 	public boolean supportsFromClauseInUpdate() {
 		return true;
 	}
+
+	@Override
+	public String getMultiRowInsertString(String insertSql, int rowCount) {
+		// multi-values inserts are emulated with a select union,
+		// which would not be any cheaper than a batch
+		return null;
+	}
 }
@@ -24,6 +24,8 @@ import org.hibernate.cache.spi.access.NaturalIdDataAccess;
 import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.event.spi.EventSource;
+import org.hibernate.loader.ast.internal.SimpleNaturalIdLoader;
+import org.hibernate.loader.ast.spi.NaturalIdLoader;
 import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
@@ -51,6 +53,7 @@ public class BulkOperationCleanupAction implements Executable, Serializable {
 	private final Set<EntityCleanup> entityCleanups = new HashSet<>();
 	private final Set<CollectionCleanup> collectionCleanups = new HashSet<>();
 	private final Set<NaturalIdCleanup> naturalIdCleanups = new HashSet<>();
+	private final Set<SimpleNaturalIdLoader<?>> naturalIdIndexCleanups = new HashSet<>();
 
 	/**
 	 * Constructs an action to cleanup "affected cache regions" based on the
@@ -79,6 +82,9 @@ public class BulkOperationCleanupAction implements Executable, Serializable {
 						new NaturalIdCleanup( persister.getNaturalIdCacheAccessStrategy(), session )
 				);
 			}
+			if ( persister.hasNaturalIdentifier() ) {
+				clearNaturalIdIndex( persister );
+			}
 
 			final MappingMetamodelImplementor mappingMetamodel = session.getFactory().getRuntimeMetamodels().getMappingMetamodel();
 			final Set<String> roles = mappingMetamodel.getCollectionRolesByEntityParticipant( persister.getEntityName() );
@@ -125,6 +131,9 @@ public class BulkOperationCleanupAction implements Executable, Serializable {
 				if ( entityDescriptor.hasNaturalIdentifier() && entityDescriptor.hasNaturalIdCache() ) {
 					naturalIdCleanups.add( new NaturalIdCleanup( entityDescriptor.getNaturalIdCacheAccessStrategy(), session ) );
 				}
+				if ( entityDescriptor.hasNaturalIdentifier() ) {
+					clearNaturalIdIndex( entityDescriptor );
+				}
 
 				final Set<String> roles = metamodel.getCollectionRolesByEntityParticipant( entityDescriptor.getEntityName() );
 				if ( roles != null ) {
@@ -143,6 +152,16 @@ public class BulkOperationCleanupAction implements Executable, Serializable {
 		this.affectedTableSpaces = spacesList.toArray( new String[ 0 ] );
 	}
 
+	private void clearNaturalIdIndex(EntityPersister persister) {
+		final NaturalIdLoader<?> naturalIdLoader = persister.getNaturalIdLoader();
+		if ( naturalIdLoader instanceof SimpleNaturalIdLoader ) {
+			final SimpleNaturalIdLoader<?> simpleNaturalIdLoader = (SimpleNaturalIdLoader<?>) naturalIdLoader;
+			simpleNaturalIdLoader.clearIndexedResolutions();
+			// cleared again after completion, since other sessions may index the affected rows in the meantime
+			naturalIdIndexCleanups.add( simpleNaturalIdLoader );
+		}
+	}
+
 	public static void schedule(SharedSessionContractImplementor session, SqmDmlStatement<?> statement) {
 		final List<EntityPersister> entityPersisters = new ArrayList<>( 1 );
 		final MappingMetamodelImplementor metamodel = session.getFactory().getRuntimeMetamodels().getMappingMetamodel();
@@ -233,6 +252,11 @@ public class BulkOperationCleanupAction implements Executable, Serializable {
 			}
 			naturalIdCleanups.clear();
 
+			for ( SimpleNaturalIdLoader<?> naturalIdLoader : naturalIdIndexCleanups ) {
+				naturalIdLoader.clearIndexedResolutions();
+			}
+			naturalIdIndexCleanups.clear();
+
 			for ( CollectionCleanup cleanup : collectionCleanups ) {
 				cleanup.release();
 			}
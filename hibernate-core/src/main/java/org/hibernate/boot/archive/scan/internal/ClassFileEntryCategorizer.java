@@ -0,0 +1,244 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.boot.archive.scan.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+
+import org.hibernate.boot.archive.scan.spi.ClassDescriptor;
+import org.hibernate.boot.archive.spi.ArchiveContext;
+import org.hibernate.boot.archive.spi.ArchiveEntry;
+import org.hibernate.boot.archive.spi.ArchiveException;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.ClassSummary;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.Indexer;
+import org.jboss.logging.Logger;
+
+import jakarta.persistence.Converter;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.MappedSuperclass;
+
+/**
+ * Categorizes the class file entries of the archives visited by a scan, and reports the
+ * managed classes and converters to the {@link ScanResultCollector}.
+ * <p>
+ * The class file entries of an archive are accumulated while it is visited, since its
+ * Jandex index, {@value #JANDEX_INDEX}, may be visited after them, and are categorized
+ * in batches. Classes known to the index of the archive are categorized from the index.
+ * The class files of the other ones are indexed, on a {@link ForkJoinPool} when the
+ * {@linkplain org.hibernate.boot.archive.scan.spi.ScanOptions#getParallelism parallelism}
+ * allows it, and each of its workers uses its own {@link Indexer}.
+ */
+public class ClassFileEntryCategorizer implements AutoCloseable {
+	private static final Logger log = Logger.getLogger( ClassFileEntryCategorizer.class );
+
+	/**
+	 * The name of the Jandex index of an archive
+	 */
+	public static final String JANDEX_INDEX = "META-INF/jandex.idx";
+
+	private static final int BATCH_SIZE = 1024;
+
+	private static final DotName CONVERTER = DotName.createSimple( Converter.class.getName() );
+
+	private static final DotName[] MODELS = {
+			DotName.createSimple( Entity.class.getName() ),
+			DotName.createSimple( MappedSuperclass.class.getName() ),
+			DotName.createSimple( Embeddable.class.getName() )
+	};
+
+	private final ScanResultCollector resultCollector;
+	private final int parallelism;
+	private final List<ArchiveEntry> classFileEntries = new ArrayList<>();
+
+	private Index archiveIndex;
+	private ForkJoinPool pool;
+
+	public ClassFileEntryCategorizer(ScanResultCollector resultCollector, int parallelism) {
+		this.resultCollector = resultCollector;
+		this.parallelism = parallelism;
+	}
+
+	/**
+	 * Reads the Jandex index of the archive being visited. An unreadable index is ignored.
+	 */
+	public void handleIndex(ArchiveEntry entry) {
+		try (InputStream inputStream = entry.getStreamAccess().accessInputStream()) {
+			archiveIndex = new IndexReader( inputStream ).read();
+		}
+		catch (IOException | RuntimeException e) {
+			log.debugf( "Unable to read Jandex index [%s] : %s", entry.getName(), e );
+		}
+	}
+
+	/**
+	 * Accumulates a class file entry of the archive being visited.
+	 */
+	public void handleClassFile(ArchiveEntry entry, ArchiveContext context) {
+		classFileEntries.add( entry );
+		if ( classFileEntries.size() >= BATCH_SIZE ) {
+			categorizeClassFiles( context.isRootUrl() );
+		}
+	}
+
+	/**
+	 * Categorizes the remaining class file entries of the archive which was just visited.
+	 */
+	public void completeArchive(ArchiveContext context) {
+		categorizeClassFiles( context.isRootUrl() );
+		archiveIndex = null;
+	}
+
+	private void categorizeClassFiles(boolean rootUrl) {
+		if ( classFileEntries.isEmpty() ) {
+			return;
+		}
+
+		final ClassDescriptor[] classDescriptors = new ClassDescriptor[classFileEntries.size()];
+		final List<Integer> unindexed = new ArrayList<>();
+		for ( int i = 0; i < classDescriptors.length; i++ ) {
+			final ArchiveEntry entry = classFileEntries.get( i );
+			final ClassInfo classInfo = archiveIndex == null ? null : archiveIndex.getClassByName( className( entry ) );
+			if ( classInfo == null ) {
+				unindexed.add( i );
+			}
+			else {
+				classDescriptors[i] = new ClassDescriptorImpl(
+						classInfo.name().toString(),
+						categorize( classInfo ),
+						entry.getStreamAccess()
+				);
+			}
+		}
+		readClassFiles( unindexed, classDescriptors );
+		classFileEntries.clear();
+
+		for ( ClassDescriptor classDescriptor : classDescriptors ) {
+			if ( classDescriptor.getCategorization() != ClassDescriptor.Categorization.OTHER ) {
+				resultCollector.handleClass( classDescriptor, rootUrl );
+			}
+		}
+	}
+
+	private void readClassFiles(List<Integer> positions, ClassDescriptor[] classDescriptors) {
+		final int taskCount = Math.min( parallelism, positions.size() );
+		if ( taskCount <= 1 ) {
+			readClassFiles( positions, classDescriptors, new Indexer() );
+			return;
+		}
+
+		final List<Callable<Void>> tasks = new ArrayList<>( taskCount );
+		final int chunkSize = ( positions.size() + taskCount - 1 ) / taskCount;
+		for ( int start = 0; start < positions.size(); start += chunkSize ) {
+			final List<Integer> chunk = positions.subList( start, Math.min( start + chunkSize, positions.size() ) );
+			tasks.add( () -> {
+				readClassFiles( chunk, classDescriptors, new Indexer() );
+				return null;
+			} );
+		}
+
+		if ( pool == null ) {
+			pool = new ForkJoinPool( parallelism, ScanningThread::new, null, false );
+		}
+		// invokeAll() returns once every task has completed, and the
+		// descriptors they wrote are then visible to this thread
+		for ( Future<Void> future : pool.invokeAll( tasks ) ) {
+			try {
+				future.get();
+			}
+			catch (ExecutionException e) {
+				if ( e.getCause() instanceof ArchiveException ) {
+					throw (ArchiveException) e.getCause();
+				}
+				throw new ArchiveException( "Could not build ClassInfo", e.getCause() );
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new ArchiveException( "Interrupted while reading class files", e );
+			}
+		}
+	}
+
+	private void readClassFiles(List<Integer> positions, ClassDescriptor[] classDescriptors, Indexer indexer) {
+		for ( Integer position : positions ) {
+			classDescriptors[position] = toClassDescriptor( classFileEntries.get( position ), indexer );
+		}
+	}
+
+	@Override
+	public void close() {
+		if ( pool != null ) {
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Indexes the given class file entry with the given {@link Indexer}, and categorizes it.
+	 */
+	public static ClassDescriptor toClassDescriptor(ArchiveEntry entry, Indexer indexer) {
+		try (InputStream inputStream = entry.getStreamAccess().accessInputStream()) {
+			final ClassSummary classSummary = indexer.indexWithSummary( inputStream );
+			final ClassInfo classInfo = indexer.complete().getClassByName( classSummary.name() );
+			return new ClassDescriptorImpl(
+					classSummary.name().toString(),
+					categorize( classInfo ),
+					entry.getStreamAccess()
+			);
+		}
+		catch (IOException e) {
+			throw new ArchiveException( "Could not build ClassInfo", e );
+		}
+	}
+
+	private static ClassDescriptor.Categorization categorize(ClassInfo classInfo) {
+		for ( DotName model : MODELS ) {
+			if ( classInfo.declaredAnnotation( model ) != null ) {
+				return ClassDescriptor.Categorization.MODEL;
+			}
+		}
+		if ( classInfo.declaredAnnotation( CONVERTER ) != null ) {
+			return ClassDescriptor.Categorization.CONVERTER;
+		}
+		return ClassDescriptor.Categorization.OTHER;
+	}
+
+	/**
+	 * Is the given entry the Jandex index of its archive?
+	 */
+	public static boolean isJandexIndex(ArchiveEntry entry) {
+		return JANDEX_INDEX.equals( relativePath( entry ) );
+	}
+
+	private static DotName className(ArchiveEntry entry) {
+		final String path = relativePath( entry );
+		return DotName.createSimple( path.substring( 0, path.length() - ".class".length() ).replace( '/', '.' ) );
+	}
+
+	private static String relativePath(ArchiveEntry entry) {
+		final String nameWithinArchive = entry.getNameWithinArchive();
+		return nameWithinArchive.startsWith( "/" ) ? nameWithinArchive.substring( 1 ) : nameWithinArchive;
+	}
+
+	private static final class ScanningThread extends ForkJoinWorkerThread {
+		private ScanningThread(ForkJoinPool pool) {
+			super( pool );
+			setName( "hibernate-scanner-" + getPoolIndex() );
+		}
+	}
+}
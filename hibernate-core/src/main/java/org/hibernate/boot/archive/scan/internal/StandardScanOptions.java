@@ -15,12 +15,21 @@ public class StandardScanOptions implements ScanOptions {
 	private final boolean detectClassesInRoot;
 	private final boolean detectClassesInNonRoot;
 	private final boolean detectHibernateMappingFiles;
+	private final int parallelism;
 
 	public StandardScanOptions() {
 		this( "hbm,class", false );
 	}
 
 	public StandardScanOptions(String explicitDetectionSetting, boolean persistenceUnitExcludeUnlistedClassesValue) {
+		this( explicitDetectionSetting, persistenceUnitExcludeUnlistedClassesValue, 1 );
+	}
+
+	public StandardScanOptions(
+			String explicitDetectionSetting,
+			boolean persistenceUnitExcludeUnlistedClassesValue,
+			int parallelism) {
+		this.parallelism = parallelism;
 		if ( explicitDetectionSetting == null ) {
 			detectHibernateMappingFiles = true;
 			detectClassesInRoot = ! persistenceUnitExcludeUnlistedClassesValue;
@@ -47,4 +56,9 @@ public class StandardScanOptions implements ScanOptions {
 	public boolean canDetectHibernateMappingFiles() {
 		return detectHibernateMappingFiles;
 	}
+
+	@Override
+	public int getParallelism() {
+		return parallelism;
+	}
 }
@@ -10,6 +10,7 @@ import java.net.URL;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.hibernate.boot.archive.scan.internal.ClassFileEntryCategorizer;
 import org.hibernate.boot.archive.scan.internal.NoopEntryHandler;
 import org.hibernate.boot.archive.scan.internal.ScanResultCollector;
 import org.hibernate.boot.archive.spi.ArchiveContext;
@@ -34,18 +35,22 @@ public abstract class AbstractScannerImpl implements Scanner {
 	public ScanResult scan(ScanEnvironment environment, ScanOptions options, ScanParameters parameters) {
 		final ScanResultCollector collector = new ScanResultCollector( environment, options, parameters );
 
-		if ( environment.getNonRootUrls() != null ) {
-			final ArchiveContext context = new ArchiveContextImpl( false, collector );
-			for ( URL url : environment.getNonRootUrls() ) {
-				final ArchiveDescriptor descriptor = buildArchiveDescriptor( url, environment, false );
-				descriptor.visitArchive( context );
+		try ( ClassFileEntryCategorizer categorizer = new ClassFileEntryCategorizer( collector, options.getParallelism() ) ) {
+			if ( environment.getNonRootUrls() != null ) {
+				final ArchiveContextImpl context = new ArchiveContextImpl( false, collector, categorizer );
+				for ( URL url : environment.getNonRootUrls() ) {
+					final ArchiveDescriptor descriptor = buildArchiveDescriptor( url, environment, false );
+					descriptor.visitArchive( context );
+					context.completeArchive();
+				}
 			}
-		}
 
-		if ( environment.getRootUrl() != null ) {
-			final ArchiveContext context = new ArchiveContextImpl( true, collector );
-			final ArchiveDescriptor descriptor = buildArchiveDescriptor( environment.getRootUrl(), environment, true );
-			descriptor.visitArchive( context );
+			if ( environment.getRootUrl() != null ) {
+				final ArchiveContextImpl context = new ArchiveContextImpl( true, collector, categorizer );
+				final ArchiveDescriptor descriptor = buildArchiveDescriptor( environment.getRootUrl(), environment, true );
+				descriptor.visitArchive( context );
+				context.completeArchive();
+			}
 		}
 
 		return collector.toScanResult();
@@ -111,13 +116,45 @@ public abstract class AbstractScannerImpl implements Scanner {
 		private final ClassFileArchiveEntryHandler classEntryHandler;
 		private final PackageInfoArchiveEntryHandler packageEntryHandler;
 		private final ArchiveEntryHandler fileEntryHandler;
+		private final ClassFileEntryCategorizer classFileEntryCategorizer;
+		private final ArchiveEntryHandler classFileEntryHandler;
+		private final ArchiveEntryHandler indexEntryHandler;
 
 		public ArchiveContextImpl(boolean isRootUrl, ScanResultCollector scanResultCollector) {
+			this( isRootUrl, scanResultCollector, null );
+		}
+
+		/**
+		 * Creates a context which defers the class file entries of each archive to the given
+		 * {@link ClassFileEntryCategorizer}, until {@link #completeArchive()} is called.
+		 */
+		public ArchiveContextImpl(
+				boolean isRootUrl,
+				ScanResultCollector scanResultCollector,
+				ClassFileEntryCategorizer classFileEntryCategorizer) {
 			this.isRootUrl = isRootUrl;
 
 			this.classEntryHandler = new ClassFileArchiveEntryHandler( scanResultCollector );
 			this.packageEntryHandler = new PackageInfoArchiveEntryHandler( scanResultCollector );
 			this.fileEntryHandler = new NonClassFileArchiveEntryHandler( scanResultCollector );
+			this.classFileEntryCategorizer = classFileEntryCategorizer;
+			if ( classFileEntryCategorizer == null ) {
+				this.classFileEntryHandler = classEntryHandler;
+				this.indexEntryHandler = fileEntryHandler;
+			}
+			else {
+				this.classFileEntryHandler = classFileEntryCategorizer::handleClassFile;
+				this.indexEntryHandler = (entry, context) -> classFileEntryCategorizer.handleIndex( entry );
+			}
+		}
+
+		/**
+		 * Called once the entries of an archive have all been visited.
+		 */
+		public void completeArchive() {
+			if ( classFileEntryCategorizer != null ) {
+				classFileEntryCategorizer.completeArchive( this );
+			}
 		}
 
 		@Override
@@ -139,7 +176,10 @@ public abstract class AbstractScannerImpl implements Scanner {
 				return NoopEntryHandler.NOOP_INSTANCE;
 			}
 			else if ( nameWithinArchive.endsWith( ".class" ) ) {
-				return classEntryHandler;
+				return classFileEntryHandler;
+			}
+			else if ( ClassFileEntryCategorizer.isJandexIndex( entry ) ) {
+				return indexEntryHandler;
 			}
 			else {
 				return fileEntryHandler;
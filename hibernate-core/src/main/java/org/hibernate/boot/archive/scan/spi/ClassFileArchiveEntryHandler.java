@@ -6,23 +6,12 @@
  */
 package org.hibernate.boot.archive.scan.spi;
 
-import java.io.IOException;
-import java.io.InputStream;
-import jakarta.persistence.Converter;
-import jakarta.persistence.Embeddable;
-import jakarta.persistence.Entity;
-import jakarta.persistence.MappedSuperclass;
-
-import org.hibernate.boot.archive.scan.internal.ClassDescriptorImpl;
+import org.hibernate.boot.archive.scan.internal.ClassFileEntryCategorizer;
 import org.hibernate.boot.archive.scan.internal.ScanResultCollector;
 import org.hibernate.boot.archive.spi.ArchiveContext;
 import org.hibernate.boot.archive.spi.ArchiveEntry;
 import org.hibernate.boot.archive.spi.ArchiveEntryHandler;
-import org.hibernate.boot.archive.spi.ArchiveException;
 
-import org.jboss.jandex.ClassSummary;
-import org.jboss.jandex.DotName;
-import org.jboss.jandex.Index;
 import org.jboss.jandex.Indexer;
 
 /**
@@ -32,14 +21,6 @@ import org.jboss.jandex.Indexer;
  */
 public class ClassFileArchiveEntryHandler implements ArchiveEntryHandler {
 
-	private final static DotName CONVERTER = DotName.createSimple( Converter.class.getName() );
-
-	private final static DotName[] MODELS = {
-			DotName.createSimple( Entity.class.getName() ),
-			DotName.createSimple( MappedSuperclass.class.getName() ),
-			DotName.createSimple( Embeddable.class.getName() )
-	};
-
 	private final ScanResultCollector resultCollector;
 	private final Indexer indexer;
 
@@ -61,39 +42,6 @@ public class ClassFileArchiveEntryHandler implements ArchiveEntryHandler {
 	}
 
 	private ClassDescriptor toClassDescriptor(ArchiveEntry entry) {
-		try (InputStream inputStream = entry.getStreamAccess().accessInputStream()) {
-			ClassSummary classSummary = indexer.indexWithSummary( inputStream );
-			Index index = indexer.complete();
-			return toClassDescriptor( classSummary, index, entry );
-		}
-		catch (IOException e) {
-			throw new ArchiveException( "Could not build ClassInfo", e );
-		}
-	}
-
-	private ClassDescriptor toClassDescriptor(ClassSummary classSummary, Index index, ArchiveEntry entry) {
-		ClassDescriptor.Categorization categorization = ClassDescriptor.Categorization.OTHER;
-
-		if ( isModel( index ) ) {
-			categorization = ClassDescriptor.Categorization.MODEL;
-		}
-		else if ( isConverter( index ) ) {
-			categorization = ClassDescriptor.Categorization.CONVERTER;
-		}
-
-		return new ClassDescriptorImpl( classSummary.name().toString(), categorization, entry.getStreamAccess() );
-	}
-
-	private boolean isConverter(Index index) {
-		return !index.getAnnotations( CONVERTER ).isEmpty();
-	}
-
-	private boolean isModel(Index index) {
-		for ( DotName model : MODELS ) {
-			if ( !index.getAnnotations( model ).isEmpty() ) {
-				return true;
-			}
-		}
-		return false;
+		return ClassFileEntryCategorizer.toClassDescriptor( entry, indexer );
 	}
 }
@@ -39,4 +39,17 @@ public interface ScanOptions {
 	 */
 	@Deprecated
 	boolean canDetectHibernateMappingFiles();
+
+	/**
+	 * The number of threads allowed to read the class files of an archive.
+	 *
+	 * @return The scanning parallelism, {@code 1} for reading class files one at a time
+	 *
+	 * @see org.hibernate.cfg.PersistenceSettings#SCANNER_PARALLELISM
+	 *
+	 * @since 6.5
+	 */
+	default int getParallelism() {
+		return 1;
+	}
 }
@@ -0,0 +1,85 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.boot.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.boot.BootLogging;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Measures the time spent in each successive phase of a bootstrap process, and
+ * reports it to the {@value #NAME} logger at {@code DEBUG} level.
+ * <p>
+ * Nothing is measured unless that logger is enabled for {@code DEBUG}.
+ */
+public final class BootPhaseTimings {
+	public static final String NAME = BootLogging.NAME + ".timing";
+	private static final Logger LOG = Logger.getLogger( NAME );
+
+	private final String processName;
+	private final boolean enabled;
+	private final List<String> phaseNames;
+	private final List<Long> phaseDurations;
+	private final long processStart;
+	private String currentPhase;
+	private long currentPhaseStart;
+
+	public BootPhaseTimings(String processName) {
+		this.processName = processName;
+		this.enabled = LOG.isDebugEnabled();
+		this.phaseNames = enabled ? new ArrayList<>() : null;
+		this.phaseDurations = enabled ? new ArrayList<>() : null;
+		this.processStart = enabled ? System.nanoTime() : 0L;
+	}
+
+	/**
+	 * Ends the current phase, if any, and starts the named one
+	 */
+	public void phase(String phaseName) {
+		if ( enabled ) {
+			final long now = System.nanoTime();
+			endCurrentPhase( now );
+			currentPhase = phaseName;
+			currentPhaseStart = now;
+		}
+	}
+
+	/**
+	 * Ends the current phase, and logs the time spent in each phase
+	 */
+	public void report() {
+		if ( enabled ) {
+			final long now = System.nanoTime();
+			endCurrentPhase( now );
+			final StringBuilder report = new StringBuilder( processName )
+					.append( " took " )
+					.append( TimeUnit.NANOSECONDS.toMillis( now - processStart ) )
+					.append( "ms" );
+			for ( int i = 0; i < phaseNames.size(); i++ ) {
+				report.append( System.lineSeparator() )
+						.append( "    " )
+						.append( phaseNames.get( i ) )
+						.append( ": " )
+						.append( TimeUnit.NANOSECONDS.toMillis( phaseDurations.get( i ) ) )
+						.append( "ms" );
+			}
+			LOG.debug( report.toString() );
+		}
+	}
+
+	private void endCurrentPhase(long now) {
+		if ( currentPhase != null ) {
+			phaseNames.add( currentPhase );
+			phaseDurations.add( now - currentPhaseStart );
+			currentPhase = null;
+		}
+	}
+}
@@ -0,0 +1,53 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.boot.internal;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.SessionFactoryObserver;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.internal.QueryPlanCacheWarmup;
+
+import static org.hibernate.cfg.QuerySettings.QUERY_PLAN_CACHE_WARMUP_FILE;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getString;
+
+/**
+ * Responsible for {@linkplain QueryPlanCacheWarmup warming up} the query
+ * plan cache when the {@link SessionFactory} is created, and for persisting
+ * its content when the {@code SessionFactory} is closed.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_WARMUP_FILE
+ */
+class SessionFactoryObserverForQueryPlanCacheWarmup implements SessionFactoryObserver {
+	@Override
+	public void sessionFactoryCreated(SessionFactory factory) {
+		final Path file = getWarmupFile( factory );
+		if ( file != null ) {
+			QueryPlanCacheWarmup.warmUp( file, (SessionFactoryImplementor) factory );
+		}
+	}
+
+	@Override
+	public void sessionFactoryClosing(SessionFactory factory) {
+		// the query engine, and its interpretation cache, is only closed afterward
+		final Path file = getWarmupFile( factory );
+		if ( file != null ) {
+			QueryPlanCacheWarmup.write( file, (SessionFactoryImplementor) factory );
+		}
+	}
+
+	private static Path getWarmupFile(SessionFactory factory) {
+		final SessionFactoryImplementor sessionFactory = (SessionFactoryImplementor) factory;
+		if ( !sessionFactory.getQueryEngine().getInterpretationCache().isEnabled() ) {
+			return null;
+		}
+		final String fileName = getString( QUERY_PLAN_CACHE_WARMUP_FILE, factory.getProperties() );
+		return fileName == null || fileName.isBlank() ? null : Paths.get( fileName );
+	}
+}
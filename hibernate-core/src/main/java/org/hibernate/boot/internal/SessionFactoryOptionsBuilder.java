@@ -9,6 +9,7 @@ package org.hibernate.boot.internal;
 import java.lang.reflect.Constructor;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -93,28 +94,34 @@ import static org.hibernate.cfg.AvailableSettings.DISCARD_PC_ON_CLOSE;
 import static org.hibernate.cfg.AvailableSettings.ENABLE_LAZY_LOAD_NO_TRANS;
 import static org.hibernate.cfg.AvailableSettings.FAIL_ON_PAGINATION_OVER_COLLECTION_FETCH;
 import static org.hibernate.cfg.AvailableSettings.FLUSH_BEFORE_COMPLETION;
+import static org.hibernate.cfg.AvailableSettings.FLUSH_PARALLEL_DIRTY_CHECK_THRESHOLD;
 import static org.hibernate.cfg.AvailableSettings.GENERATE_STATISTICS;
 import static org.hibernate.cfg.AvailableSettings.IMMUTABLE_ENTITY_UPDATE_QUERY_HANDLING_MODE;
 import static org.hibernate.cfg.AvailableSettings.INTERCEPTOR;
 import static org.hibernate.cfg.AvailableSettings.IN_CLAUSE_PARAMETER_PADDING;
+import static org.hibernate.cfg.AvailableSettings.IN_CLAUSE_PARAMETER_PADDING_BUCKETS;
 import static org.hibernate.cfg.AvailableSettings.JDBC_TIME_ZONE;
 import static org.hibernate.cfg.AvailableSettings.JPA_CALLBACKS_ENABLED;
 import static org.hibernate.cfg.AvailableSettings.JTA_TRACK_BY_THREAD;
 import static org.hibernate.cfg.AvailableSettings.LOG_SESSION_METRICS;
 import static org.hibernate.cfg.AvailableSettings.MAX_FETCH_DEPTH;
 import static org.hibernate.cfg.AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER;
+import static org.hibernate.cfg.AvailableSettings.NATURAL_ID_INDEX_SIZE;
 import static org.hibernate.cfg.AvailableSettings.ORDER_INSERTS;
 import static org.hibernate.cfg.AvailableSettings.ORDER_UPDATES;
 import static org.hibernate.cfg.AvailableSettings.PREFER_USER_TRANSACTION;
 import static org.hibernate.cfg.AvailableSettings.QUERY_CACHE_FACTORY;
+import static org.hibernate.cfg.AvailableSettings.QUERY_CACHE_NEAR_CACHE_SIZE;
 import static org.hibernate.cfg.AvailableSettings.QUERY_STARTUP_CHECKING;
 import static org.hibernate.cfg.AvailableSettings.QUERY_STATISTICS_MAX_SIZE;
 import static org.hibernate.cfg.AvailableSettings.SESSION_FACTORY_NAME;
 import static org.hibernate.cfg.AvailableSettings.SESSION_FACTORY_NAME_IS_JNDI;
 import static org.hibernate.cfg.AvailableSettings.SESSION_SCOPED_INTERCEPTOR;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_BATCH_SIZE;
+import static org.hibernate.cfg.AvailableSettings.STATEMENT_CACHE_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_FETCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_INSPECTOR;
+import static org.hibernate.cfg.AvailableSettings.USE_COMPACT_CACHE_ENTRIES;
 import static org.hibernate.cfg.AvailableSettings.USE_DIRECT_REFERENCE_CACHE_ENTRIES;
 import static org.hibernate.cfg.AvailableSettings.USE_GET_GENERATED_KEYS;
 import static org.hibernate.cfg.AvailableSettings.USE_IDENTIFIER_ROLLBACK;
@@ -198,6 +205,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private boolean subselectFetchEnabled;
 	private NullPrecedence defaultNullPrecedence;
 	private boolean orderUpdatesEnabled;
+	private final int flushParallelDirtyCheckThreshold;
 	private boolean orderInsertsEnabled;
 	private boolean collectionsInDefaultFetchGroupEnabled = true;
 
@@ -230,8 +238,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private String cacheRegionPrefix;
 	private boolean minimalPutsEnabled;
 	private boolean structuredCacheEntriesEnabled;
+	private boolean compactCacheEntriesEnabled;
+	private int queryCacheNearCacheSize;
 	private boolean directReferenceCacheEntriesEnabled;
 	private boolean autoEvictCollectionCache;
+	private int naturalIdIndexSize;
 
 	// Schema tooling
 	private SchemaAutoTooling schemaAutoTooling;
@@ -241,6 +252,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private int jdbcBatchSize;
 	private boolean jdbcBatchVersionedData;
 	private Integer jdbcFetchSize;
+	private final int jdbcStatementCacheSize;
 	private boolean scrollableResultSetsEnabled;
 	private boolean commentsEnabled;
 	private PhysicalConnectionHandlingMode connectionHandlingMode;
@@ -263,6 +275,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 
 	private final boolean failOnPaginationOverCollectionFetchEnabled;
 	private final boolean inClauseParameterPaddingEnabled;
+	private final int[] inClauseParameterPaddingBuckets;
 
 	private final int queryStatisticsMaxSize;
 
@@ -376,6 +389,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		);
 		this.defaultNullPrecedence = NullPrecedence.parse( defaultNullPrecedence );
 		this.orderUpdatesEnabled = getBoolean( ORDER_UPDATES, configurationSettings );
+		this.flushParallelDirtyCheckThreshold = getInt( FLUSH_PARALLEL_DIRTY_CHECK_THRESHOLD, configurationSettings, 0 );
 		this.orderInsertsEnabled = getBoolean( ORDER_INSERTS, configurationSettings );
 
 		this.callbacksEnabled = getBoolean( JPA_CALLBACKS_ENABLED, configurationSettings, true );
@@ -454,6 +468,8 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 					regionFactory.isMinimalPutsEnabledByDefault()
 			);
 			this.structuredCacheEntriesEnabled = configurationService.getSetting( USE_STRUCTURED_CACHE, BOOLEAN, false );
+			this.compactCacheEntriesEnabled = configurationService.getSetting( USE_COMPACT_CACHE_ENTRIES, BOOLEAN, false );
+			this.queryCacheNearCacheSize = getInt( QUERY_CACHE_NEAR_CACHE_SIZE, configurationSettings, 0 );
 			this.directReferenceCacheEntriesEnabled = configurationService.getSetting(
 					USE_DIRECT_REFERENCE_CACHE_ENTRIES,
 					BOOLEAN,
@@ -468,9 +484,12 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 			this.cacheRegionPrefix = null;
 			this.minimalPutsEnabled = false;
 			this.structuredCacheEntriesEnabled = false;
+			this.compactCacheEntriesEnabled = false;
+			this.queryCacheNearCacheSize = 0;
 			this.directReferenceCacheEntriesEnabled = false;
 			this.autoEvictCollectionCache = false;
 		}
+		this.naturalIdIndexSize = getInt( NATURAL_ID_INDEX_SIZE, configurationSettings, 0 );
 
 		try {
 			this.schemaAutoTooling = SchemaAutoTooling.interpret( (String) configurationSettings.get( AvailableSettings.HBM2DDL_AUTO ) );
@@ -509,6 +528,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 				meta.supportsGetGeneratedKeys()
 		);
 		this.jdbcFetchSize = getInteger( STATEMENT_FETCH_SIZE, configurationSettings );
+		this.jdbcStatementCacheSize = getInt( STATEMENT_CACHE_SIZE, configurationSettings, 0 );
 
 		this.connectionHandlingMode = interpretConnectionHandlingMode( configurationSettings, serviceRegistry );
 		this.connectionProviderDisablesAutoCommit = getBoolean(
@@ -582,6 +602,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 				IN_CLAUSE_PARAMETER_PADDING,
 				configurationSettings
 		);
+		this.inClauseParameterPaddingBuckets = determineInClauseParameterPaddingBuckets( configurationSettings );
 
 		this.queryStatisticsMaxSize = getInt(
 				QUERY_STATISTICS_MAX_SIZE,
@@ -742,6 +763,30 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		);
 	}
 
+	private static int[] determineInClauseParameterPaddingBuckets(Map<String,Object> configurationSettings) {
+		final String buckets = getString( IN_CLAUSE_PARAMETER_PADDING_BUCKETS, configurationSettings );
+		if ( isEmpty( buckets ) ) {
+			return null;
+		}
+		try {
+			final int[] result = Arrays.stream( buckets.split( "[,\\s]+" ) )
+					.filter( bucket -> !bucket.isEmpty() )
+					.mapToInt( Integer::parseInt )
+					.sorted()
+					.distinct()
+					.toArray();
+			if ( result.length == 0 || result[0] <= 0 ) {
+				throw new IllegalArgumentException( "Configuration property " + IN_CLAUSE_PARAMETER_PADDING_BUCKETS
+						+ " value [" + buckets + "] must be a list of positive integers" );
+			}
+			return result;
+		}
+		catch (NumberFormatException e) {
+			throw new IllegalArgumentException( "Configuration property " + IN_CLAUSE_PARAMETER_PADDING_BUCKETS
+					+ " value [" + buckets + "] must be a list of positive integers", e );
+		}
+	}
+
 	@SuppressWarnings("unchecked")
 	private static Supplier<? extends Interceptor> determineStatelessInterceptor(
 			Map<String,Object> configurationSettings,
@@ -1010,6 +1055,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return orderUpdatesEnabled;
 	}
 
+	@Override
+	public int getFlushParallelDirtyCheckThreshold() {
+		return flushParallelDirtyCheckThreshold;
+	}
+
 	@Override
 	public boolean isOrderInsertsEnabled() {
 		return orderInsertsEnabled;
@@ -1065,6 +1115,21 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return structuredCacheEntriesEnabled;
 	}
 
+	@Override
+	public boolean isCompactCacheEntriesEnabled() {
+		return compactCacheEntriesEnabled;
+	}
+
+	@Override
+	public int getQueryCacheNearCacheSize() {
+		return queryCacheNearCacheSize;
+	}
+
+	@Override
+	public int getNaturalIdIndexSize() {
+		return naturalIdIndexSize;
+	}
+
 	@Override
 	public boolean isDirectReferenceCacheEntriesEnabled() {
 		return directReferenceCacheEntriesEnabled;
@@ -1105,6 +1170,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return jdbcFetchSize;
 	}
 
+	@Override
+	public int getJdbcStatementCacheSize() {
+		return jdbcStatementCacheSize;
+	}
+
 	@Override
 	public PhysicalConnectionHandlingMode getPhysicalConnectionHandlingMode() {
 		return connectionHandlingMode;
@@ -1195,6 +1265,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return this.inClauseParameterPaddingEnabled;
 	}
 
+	@Override
+	public int[] getInClauseParameterPaddingBuckets() {
+		return inClauseParameterPaddingBuckets;
+	}
+
 	@Override
 	public JpaCompliance getJpaCompliance() {
 		return jpaCompliance;
@@ -6,6 +6,7 @@
  */
 package org.hibernate.boot.model.process.internal;
 
+import java.io.File;
 import java.lang.reflect.Constructor;
 import java.net.URL;
 import java.util.ArrayList;
@@ -34,10 +35,15 @@ import org.hibernate.boot.registry.classloading.spi.ClassLoadingException;
 import org.hibernate.boot.spi.BootstrapContext;
 import org.hibernate.boot.spi.ClassLoaderAccess;
 import org.hibernate.boot.spi.XmlMappingBinderAccess;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.internal.util.StringHelper;
 import org.hibernate.service.ServiceRegistry;
 
 import org.jboss.logging.Logger;
 
+import static org.hibernate.cfg.PersistenceSettings.SCANNER_SNAPSHOT;
+
 /**
  * Coordinates the process of executing {@link Scanner} (if enabled)
  * and applying the resources (classes, packages and mappings) discovered.
@@ -63,6 +69,20 @@ public class ScanningCoordinator {
 			return;
 		}
 
+		final String snapshotFileName = bootstrapContext.getServiceRegistry().getService( ConfigurationService.class )
+				.getSetting( SCANNER_SNAPSHOT, StandardConverters.STRING );
+		final File snapshotFile = StringHelper.isEmpty( snapshotFileName ) ? null : new File( snapshotFileName );
+		if ( snapshotFile != null ) {
+			final ScanningSnapshot snapshot =
+					ScanningSnapshot.read( snapshotFile, bootstrapContext, xmlMappingBinderAccess != null );
+			if ( snapshot != null ) {
+				log.debugf( "Using scanning snapshot [%s]", snapshotFile );
+				snapshot.applyTo( managedResources, bootstrapContext );
+				return;
+			}
+		}
+		final ScanningSnapshot.Capture capture = snapshotFile == null ? null : ScanningSnapshot.capture( managedResources );
+
 		final ClassLoaderService classLoaderService = bootstrapContext.getServiceRegistry().getService( ClassLoaderService.class );
 		final ClassLoaderAccess classLoaderAccess = new ClassLoaderAccessImpl(
 				bootstrapContext.getJpaTempClassLoader(),
@@ -79,6 +99,10 @@ public class ScanningCoordinator {
 		);
 
 		applyScanResultsToManagedResources( managedResources, scanResult, bootstrapContext, xmlMappingBinderAccess );
+
+		if ( capture != null ) {
+			capture.complete( managedResources, bootstrapContext, xmlMappingBinderAccess != null ).write( snapshotFile );
+		}
 	}
 
 	private static final Class[] SINGLE_ARG = new Class[] { ArchiveDescriptorFactory.class };
@@ -0,0 +1,443 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.boot.model.process.internal;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.MalformedURLException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+import javax.xml.namespace.QName;
+
+import org.hibernate.Version;
+import org.hibernate.boot.archive.scan.spi.ScanEnvironment;
+import org.hibernate.boot.jaxb.Origin;
+import org.hibernate.boot.jaxb.spi.BindableMappingDescriptor;
+import org.hibernate.boot.jaxb.spi.Binding;
+import org.hibernate.boot.model.convert.internal.ClassBasedConverterDescriptor;
+import org.hibernate.boot.model.convert.spi.ConverterDescriptor;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.internal.util.SerializationHelper;
+
+import org.jboss.logging.Logger;
+
+import jakarta.xml.bind.JAXBElement;
+
+/**
+ * The managed resources discovered by {@linkplain ScanningCoordinator scanning},
+ * stored in a file so that later bootstraps may skip scanning, along with the
+ * parsing of the discovered mapping files.
+ * <p>
+ * A snapshot records a fingerprint of everything it was built from: the size and
+ * modification time of the classes and mapping files it lists, or of the archives
+ * containing them, of the archives of the persistence unit, and of the files of its
+ * directories, along with the Hibernate version. Nothing is read to compute it, so
+ * that validating a snapshot costs no more than listing the persistence unit. A
+ * snapshot whose fingerprint no longer matches is ignored, and replaced after scanning.
+ * <p>
+ * A snapshot is read with a {@linkplain #filter filter} accepting only the classes
+ * which make up a snapshot.
+ *
+ * @see org.hibernate.cfg.PersistenceSettings#SCANNER_SNAPSHOT
+ */
+final class ScanningSnapshot implements Serializable {
+	private static final Logger log = Logger.getLogger( ScanningSnapshot.class );
+
+	private static final String JAXB_PACKAGE_PREFIX = "org.hibernate.boot.jaxb.";
+
+	private static final Set<Class<?>> SERIALIZED_JDK_CLASSES = Set.of(
+			String.class,
+			Boolean.class,
+			Character.class,
+			Number.class,
+			Byte.class,
+			Short.class,
+			Integer.class,
+			Long.class,
+			Float.class,
+			Double.class,
+			BigInteger.class,
+			BigDecimal.class,
+			ArrayList.class,
+			HashMap.class,
+			QName.class,
+			JAXBElement.class,
+			JAXBElement.GlobalScope.class
+	);
+
+	private final String fingerprint;
+	private final ArrayList<String> annotatedClassNames;
+	private final ArrayList<String> annotatedClassReferenceNames;
+	private final ArrayList<String> annotatedPackageNames;
+	private final ArrayList<String> converterClassNames;
+	private final ArrayList<Binding<BindableMappingDescriptor>> xmlBindings;
+
+	private ScanningSnapshot(
+			ArrayList<String> annotatedClassNames,
+			ArrayList<String> annotatedClassReferenceNames,
+			ArrayList<String> annotatedPackageNames,
+			ArrayList<String> converterClassNames,
+			ArrayList<Binding<BindableMappingDescriptor>> xmlBindings,
+			BootstrapContext bootstrapContext,
+			boolean xmlMappingEnabled) {
+		this.annotatedClassNames = annotatedClassNames;
+		this.annotatedClassReferenceNames = annotatedClassReferenceNames;
+		this.annotatedPackageNames = annotatedPackageNames;
+		this.converterClassNames = converterClassNames;
+		this.xmlBindings = xmlBindings;
+		this.fingerprint = fingerprint( bootstrapContext, xmlMappingEnabled );
+	}
+
+	/**
+	 * Captures the state of the given resources before scanning, so that a snapshot
+	 * of whatever scanning adds to them may be taken afterwards.
+	 */
+	static Capture capture(ManagedResourcesImpl managedResources) {
+		return new Capture( managedResources );
+	}
+
+	/**
+	 * Reads the snapshot stored in the given file, or returns {@code null} if there
+	 * is none, or if it does not match the current state of the persistence unit.
+	 */
+	static ScanningSnapshot read(File file, BootstrapContext bootstrapContext, boolean xmlMappingEnabled) {
+		if ( !file.exists() ) {
+			return null;
+		}
+
+		final Object stored;
+		try ( InputStream inputStream = new FileInputStream( file ) ) {
+			stored = SerializationHelper.deserialize(
+					inputStream,
+					ScanningSnapshot.class.getClassLoader(),
+					ScanningSnapshot::filter
+			);
+		}
+		catch (IOException | RuntimeException e) {
+			log.debugf( e, "Unable to read scanning snapshot [%s]", file );
+			return null;
+		}
+
+		if ( !( stored instanceof ScanningSnapshot ) ) {
+			log.debugf( "File [%s] does not contain a scanning snapshot", file );
+			return null;
+		}
+		final ScanningSnapshot snapshot = (ScanningSnapshot) stored;
+		if ( !snapshot.fingerprint.equals( snapshot.fingerprint( bootstrapContext, xmlMappingEnabled ) ) ) {
+			log.debugf( "Scanning snapshot [%s] is obsolete", file );
+			return null;
+		}
+		return snapshot;
+	}
+
+	/**
+	 * Accepts the snapshot itself, the JAXB bindings of the mapping files, and the enums
+	 * and JDK types they hold.  A snapshot holding any other class is ignored, as if it
+	 * were obsolete.
+	 */
+	private static ObjectInputFilter.Status filter(ObjectInputFilter.FilterInfo filterInfo) {
+		Class<?> serialClass = filterInfo.serialClass();
+		if ( serialClass == null ) {
+			return ObjectInputFilter.Status.UNDECIDED;
+		}
+		while ( serialClass.isArray() ) {
+			serialClass = serialClass.getComponentType();
+		}
+		return serialClass.isPrimitive()
+				|| serialClass == ScanningSnapshot.class
+				|| serialClass.getName().startsWith( JAXB_PACKAGE_PREFIX )
+				|| Enum.class.isAssignableFrom( serialClass )
+				|| SERIALIZED_JDK_CLASSES.contains( serialClass )
+				? ObjectInputFilter.Status.ALLOWED
+				: ObjectInputFilter.Status.REJECTED;
+	}
+
+	void write(File file) {
+		try ( OutputStream outputStream = new FileOutputStream( file ) ) {
+			SerializationHelper.serialize( this, outputStream );
+		}
+		catch (IOException | RuntimeException e) {
+			log.debugf( e, "Unable to write scanning snapshot [%s]", file );
+		}
+	}
+
+	void applyTo(ManagedResourcesImpl managedResources, BootstrapContext bootstrapContext) {
+		final ClassLoaderService classLoaderService =
+				bootstrapContext.getServiceRegistry().getService( ClassLoaderService.class );
+		for ( String className : annotatedClassNames ) {
+			managedResources.addAnnotatedClassName( className );
+		}
+		for ( String className : annotatedClassReferenceNames ) {
+			managedResources.addAnnotatedClassReference( classLoaderService.classForName( className ) );
+		}
+		for ( String packageName : annotatedPackageNames ) {
+			managedResources.addAnnotatedPackageName( packageName );
+		}
+		for ( String className : converterClassNames ) {
+			managedResources.addAttributeConverterDefinition(
+					new ClassBasedConverterDescriptor(
+							classLoaderService.classForName( className ),
+							bootstrapContext.getClassmateContext()
+					)
+			);
+		}
+		for ( Binding<BindableMappingDescriptor> xmlBinding : xmlBindings ) {
+			managedResources.addXmlBinding( xmlBinding );
+		}
+	}
+
+	private String fingerprint(BootstrapContext bootstrapContext, boolean xmlMappingEnabled) {
+		final MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance( "SHA-256" );
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException( e );
+		}
+
+		update( digest, Version.getVersionString() );
+		update( digest, Boolean.toString( xmlMappingEnabled ) );
+
+		final ScanEnvironment scanEnvironment = bootstrapContext.getScanEnvironment();
+		updateArchive( digest, scanEnvironment.getRootUrl() );
+		if ( scanEnvironment.getNonRootUrls() != null ) {
+			for ( URL url : scanEnvironment.getNonRootUrls() ) {
+				updateArchive( digest, url );
+			}
+		}
+		if ( scanEnvironment.getExplicitlyListedClassNames() != null ) {
+			for ( String className : scanEnvironment.getExplicitlyListedClassNames() ) {
+				update( digest, className );
+			}
+		}
+		if ( scanEnvironment.getExplicitlyListedMappingFiles() != null ) {
+			for ( String mappingFile : scanEnvironment.getExplicitlyListedMappingFiles() ) {
+				update( digest, mappingFile );
+			}
+		}
+
+		final ClassLoaderService classLoaderService =
+				bootstrapContext.getServiceRegistry().getService( ClassLoaderService.class );
+		final Set<String> archives = new HashSet<>();
+		for ( List<String> classNames : List.of( annotatedClassNames, annotatedClassReferenceNames, converterClassNames ) ) {
+			for ( String className : classNames ) {
+				update( digest, className );
+				updateResource( digest, classLoaderService.locateResource( className.replace( '.', '/' ) + ".class" ), archives );
+			}
+		}
+		for ( String packageName : annotatedPackageNames ) {
+			update( digest, packageName );
+			updateResource( digest, classLoaderService.locateResource( packageName.replace( '.', '/' ) + "/package-info.class" ), archives );
+		}
+		for ( Binding<BindableMappingDescriptor> xmlBinding : xmlBindings ) {
+			final Origin origin = xmlBinding.getOrigin();
+			update( digest, origin.getName() );
+			updateResource( digest, locate( origin, classLoaderService ), archives );
+		}
+
+		return Base64.getEncoder().encodeToString( digest.digest() );
+	}
+
+	private static URL locate(Origin origin, ClassLoaderService classLoaderService) {
+		try {
+			switch ( origin.getType() ) {
+				case RESOURCE:
+					return classLoaderService.locateResource( origin.getName() );
+				case FILE:
+					return new File( origin.getName() ).toURI().toURL();
+				case URL:
+					return new URL( origin.getName() );
+				default:
+					return null;
+			}
+		}
+		catch (MalformedURLException e) {
+			return null;
+		}
+	}
+
+	private static void updateArchive(MessageDigest digest, URL url) {
+		if ( url == null ) {
+			return;
+		}
+		update( digest, url.toExternalForm() );
+		try {
+			if ( "jar".equals( url.getProtocol() ) ) {
+				final String path = url.getPath();
+				final int separator = path.indexOf( "!/" );
+				updateArchive( digest, new URL( separator < 0 ? path : path.substring( 0, separator ) ) );
+			}
+			else if ( "file".equals( url.getProtocol() ) ) {
+				final File file = new File( url.toURI() );
+				if ( file.isFile() ) {
+					updateFile( digest, file );
+				}
+				else if ( file.isDirectory() ) {
+					updateDirectory( digest, file.toPath() );
+				}
+			}
+		}
+		catch (MalformedURLException | URISyntaxException | IllegalArgumentException e) {
+			log.tracef( "Unable to inspect archive [%s]", url );
+		}
+	}
+
+	/**
+	 * A directory does not change when a file is added to one of its subdirectories,
+	 * so every file of the tree is fingerprinted.
+	 */
+	private static void updateDirectory(MessageDigest digest, Path directory) {
+		try ( Stream<Path> files = Files.walk( directory ) ) {
+			final Iterator<Path> iterator = files.filter( Files::isRegularFile ).sorted().iterator();
+			while ( iterator.hasNext() ) {
+				final Path file = iterator.next();
+				update( digest, directory.relativize( file ).toString() );
+				update( digest, Long.toString( Files.size( file ) ) );
+				update( digest, Long.toString( Files.getLastModifiedTime( file ).toMillis() ) );
+			}
+		}
+		catch (IOException | UncheckedIOException e) {
+			log.tracef( "Unable to list directory [%s]", directory );
+			// a directory which cannot be listed never matches
+			update( digest, UUID.randomUUID().toString() );
+		}
+	}
+
+	/**
+	 * A resource packaged in an archive is fingerprinted by the archive itself, once
+	 * for all the resources it contains.
+	 */
+	private static void updateResource(MessageDigest digest, URL url, Set<String> archives) {
+		if ( url == null ) {
+			update( digest, "" );
+			return;
+		}
+		try {
+			if ( "jar".equals( url.getProtocol() ) ) {
+				final String path = url.getPath();
+				final int separator = path.indexOf( "!/" );
+				final String archive = separator < 0 ? path : path.substring( 0, separator );
+				update( digest, archive );
+				if ( archives.add( archive ) ) {
+					updateResource( digest, new URL( archive ), archives );
+				}
+			}
+			else if ( "file".equals( url.getProtocol() ) ) {
+				updateFile( digest, new File( url.toURI() ) );
+			}
+			else {
+				final URLConnection connection = url.openConnection();
+				update( digest, Long.toString( connection.getContentLengthLong() ) );
+				update( digest, Long.toString( connection.getLastModified() ) );
+			}
+		}
+		catch (IOException | URISyntaxException | IllegalArgumentException e) {
+			update( digest, "" );
+		}
+	}
+
+	private static void updateFile(MessageDigest digest, File file) {
+		update( digest, Long.toString( file.length() ) );
+		update( digest, Long.toString( file.lastModified() ) );
+	}
+
+	private static void update(MessageDigest digest, String value) {
+		digest.update( value.getBytes( StandardCharsets.UTF_8 ) );
+		digest.update( (byte) 0 );
+	}
+
+	/**
+	 * The state of {@link ManagedResourcesImpl} before scanning
+	 */
+	static final class Capture {
+		private final Set<String> annotatedClassNames;
+		private final Set<Class<?>> annotatedClassReferences;
+		private final Set<String> annotatedPackageNames;
+		private final Set<Class<?>> converterClasses;
+		private final int xmlBindingCount;
+
+		private Capture(ManagedResourcesImpl managedResources) {
+			annotatedClassNames = new HashSet<>( managedResources.getAnnotatedClassNames() );
+			annotatedClassReferences = new HashSet<>( managedResources.getAnnotatedClassReferences() );
+			annotatedPackageNames = new HashSet<>( managedResources.getAnnotatedPackageNames() );
+			converterClasses = new HashSet<>();
+			for ( ConverterDescriptor descriptor : managedResources.getAttributeConverterDescriptors() ) {
+				converterClasses.add( descriptor.getAttributeConverterClass() );
+			}
+			xmlBindingCount = managedResources.getXmlMappingBindings().size();
+		}
+
+		/**
+		 * A snapshot of the resources added to the given resources since they were captured
+		 */
+		ScanningSnapshot complete(
+				ManagedResourcesImpl managedResources,
+				BootstrapContext bootstrapContext,
+				boolean xmlMappingEnabled) {
+			final ArrayList<String> addedClassNames = new ArrayList<>();
+			for ( String className : managedResources.getAnnotatedClassNames() ) {
+				if ( !annotatedClassNames.contains( className ) ) {
+					addedClassNames.add( className );
+				}
+			}
+			final ArrayList<String> addedClassReferenceNames = new ArrayList<>();
+			for ( Class<?> classReference : managedResources.getAnnotatedClassReferences() ) {
+				if ( !annotatedClassReferences.contains( classReference ) ) {
+					addedClassReferenceNames.add( classReference.getName() );
+				}
+			}
+			final ArrayList<String> addedPackageNames = new ArrayList<>();
+			for ( String packageName : managedResources.getAnnotatedPackageNames() ) {
+				if ( !annotatedPackageNames.contains( packageName ) ) {
+					addedPackageNames.add( packageName );
+				}
+			}
+			final ArrayList<String> addedConverterClassNames = new ArrayList<>();
+			for ( ConverterDescriptor descriptor : managedResources.getAttributeConverterDescriptors() ) {
+				if ( descriptor instanceof ClassBasedConverterDescriptor
+						&& !converterClasses.contains( descriptor.getAttributeConverterClass() ) ) {
+					addedConverterClassNames.add( descriptor.getAttributeConverterClass().getName() );
+				}
+			}
+			final List<Binding<BindableMappingDescriptor>> xmlBindings = new ArrayList<>( managedResources.getXmlMappingBindings() );
+			return new ScanningSnapshot(
+					addedClassNames,
+					addedClassReferenceNames,
+					addedPackageNames,
+					addedConverterClassNames,
+					new ArrayList<>( xmlBindings.subList( xmlBindingCount, xmlBindings.size() ) ),
+					bootstrapContext,
+					xmlMappingEnabled
+			);
+		}
+	}
+}
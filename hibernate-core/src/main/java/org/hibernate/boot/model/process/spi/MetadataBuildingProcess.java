@@ -23,6 +23,7 @@ import java.util.Set;
 import java.util.UUID;
 
 import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.internal.BootPhaseTimings;
 import org.hibernate.boot.internal.InFlightMetadataCollectorImpl;
 import org.hibernate.boot.internal.MetadataBuildingContextRootImpl;
 import org.hibernate.boot.jaxb.Origin;
@@ -167,6 +168,8 @@ public class MetadataBuildingProcess {
 			final ManagedResources managedResources,
 			final BootstrapContext bootstrapContext,
 			final MetadataBuildingOptions options) {
+		final BootPhaseTimings timings = new BootPhaseTimings( "Metadata building" );
+		timings.phase( "type contributions" );
 		final InFlightMetadataCollectorImpl metadataCollector = new InFlightMetadataCollectorImpl(
 				bootstrapContext,
 				options
@@ -195,6 +198,7 @@ public class MetadataBuildingProcess {
 		//		NOTE : this becomes even more simplified after we move purely
 		// 		to unified model
 
+		timings.phase( "class loading" );
 		final MetadataSourceProcessor processor = new MetadataSourceProcessor() {
 			private final MetadataSourceProcessor hbmProcessor =
 						options.isXmlMappingEnabled()
@@ -307,6 +311,7 @@ public class MetadataBuildingProcess {
 			}
 		};
 
+		timings.phase( "global definitions" );
 		processor.prepare();
 
 		processor.processTypeDefinitions();
@@ -317,6 +322,7 @@ public class MetadataBuildingProcess {
 		processor.processFilterDefinitions();
 		processor.processFetchProfiles();
 
+		timings.phase( "entity binding" );
 		final Set<String> processedEntityNames = new HashSet<>();
 		processor.prepareForEntityHierarchyProcessing();
 		processor.processEntityHierarchies( processedEntityNames );
@@ -329,8 +335,10 @@ public class MetadataBuildingProcess {
 			contributor.contribute( metadataCollector, jandexView );
 		}
 
+		timings.phase( "second passes" );
 		metadataCollector.processSecondPasses( rootMetadataBuildingContext );
 
+		timings.phase( "named queries and additional mappings" );
 		// Make sure collections are fully bound before processing named queries as hbm result set mappings require it
 		processor.processNamedQueries();
 
@@ -341,7 +349,10 @@ public class MetadataBuildingProcess {
 
 		applyExtraQueryImports( managedResources, metadataCollector );
 
-		return metadataCollector.buildMetadataInstance( rootMetadataBuildingContext );
+		timings.phase( "metadata instance" );
+		final MetadataImplementor metadata = metadataCollector.buildMetadataInstance( rootMetadataBuildingContext );
+		timings.report();
+		return metadata;
 	}
 
 	private static void processAdditionalMappingContributions(
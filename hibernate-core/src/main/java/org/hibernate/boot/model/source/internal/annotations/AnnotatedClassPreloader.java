@@ -0,0 +1,107 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.boot.model.source.internal.annotations;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Loads the annotated classes of the domain model, and reads their annotations,
+ * on a {@link ForkJoinPool}, so that binding them one by one afterwards finds the
+ * classes, the annotation types, and the annotations already loaded and parsed by
+ * the JVM.
+ * <p>
+ * Binding itself is not thread-safe, and remains sequential. Failures are ignored
+ * here, since binding reports them.
+ *
+ * @see org.hibernate.cfg.MappingSettings#CLASS_LOADING_PARALLELISM
+ */
+final class AnnotatedClassPreloader {
+	private static final Logger log = Logger.getLogger( AnnotatedClassPreloader.class );
+
+	private AnnotatedClassPreloader() {
+	}
+
+	static void preload(
+			Collection<String> classNames,
+			Collection<Class<?>> classes,
+			ClassLoaderService classLoaderService,
+			int parallelism) {
+		final int size = classNames.size() + classes.size();
+		if ( parallelism <= 1 || size <= 1 ) {
+			return;
+		}
+
+		final List<Callable<Void>> tasks = new ArrayList<>( size );
+		for ( String className : classNames ) {
+			tasks.add( () -> {
+				introspect( classLoaderService.classForName( className ) );
+				return null;
+			} );
+		}
+		for ( Class<?> annotatedClass : classes ) {
+			tasks.add( () -> {
+				introspect( annotatedClass );
+				return null;
+			} );
+		}
+
+		// the workers see the same classes as the bootstrapping thread
+		final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		final ForkJoinPool pool = new ForkJoinPool(
+				Math.min( parallelism, size ),
+				forkJoinPool -> new PreloadingThread( forkJoinPool, contextClassLoader ),
+				null,
+				false
+		);
+		try {
+			// invokeAll() returns once every task has completed
+			pool.invokeAll( tasks );
+		}
+		catch (RuntimeException e) {
+			log.debugf( e, "Unable to preload annotated classes" );
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+
+	private static void introspect(Class<?> annotatedClass) {
+		try {
+			for ( Class<?> type = annotatedClass; type != null && type != Object.class; type = type.getSuperclass() ) {
+				type.getDeclaredAnnotations();
+				for ( Field field : type.getDeclaredFields() ) {
+					field.getDeclaredAnnotations();
+				}
+				for ( Method method : type.getDeclaredMethods() ) {
+					method.getDeclaredAnnotations();
+				}
+			}
+		}
+		catch (RuntimeException | LinkageError e) {
+			log.tracef( "Unable to preload class [%s] : %s", annotatedClass.getName(), e );
+		}
+	}
+
+	private static final class PreloadingThread extends ForkJoinWorkerThread {
+		private PreloadingThread(ForkJoinPool pool, ClassLoader contextClassLoader) {
+			super( pool );
+			setName( "hibernate-class-preloader-" + getPoolIndex() );
+			setContextClassLoader( contextClassLoader );
+		}
+	}
+}
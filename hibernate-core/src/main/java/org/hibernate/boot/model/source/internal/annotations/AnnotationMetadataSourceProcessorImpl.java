@@ -29,6 +29,8 @@ import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
 import org.hibernate.boot.spi.JpaOrmXmlPersistenceUnitDefaultAware;
 import org.hibernate.boot.spi.JpaOrmXmlPersistenceUnitDefaultAware.JpaOrmXmlPersistenceUnitDefaults;
 import org.hibernate.boot.spi.MetadataBuildingOptions;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.internal.util.collections.CollectionHelper;
 
@@ -39,6 +41,8 @@ import jakarta.persistence.AttributeConverter;
 import jakarta.persistence.Converter;
 import jakarta.persistence.Entity;
 
+import static org.hibernate.cfg.MappingSettings.CLASS_LOADING_PARALLELISM;
+
 /**
  * @author Steve Ebersole
  */
@@ -98,6 +102,14 @@ public class AnnotationMetadataSourceProcessorImpl implements MetadataSourceProc
 			// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 		}
 
+		AnnotatedClassPreloader.preload(
+				managedResources.getAnnotatedClassNames(),
+				managedResources.getAnnotatedClassReferences(),
+				classLoaderService,
+				metadataBuildingOptions.getServiceRegistry().getService( ConfigurationService.class )
+						.getSetting( CLASS_LOADING_PARALLELISM, StandardConverters.INTEGER, 1 )
+		);
+
 		for ( String className : managedResources.getAnnotatedClassNames() ) {
 			final Class<?> annotatedClass = classLoaderService.classForName( className );
 			categorizeAnnotatedClass( annotatedClass, converterRegistry );
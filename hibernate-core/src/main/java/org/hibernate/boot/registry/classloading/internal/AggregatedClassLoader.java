@@ -16,6 +16,13 @@ import java.util.Optional;
 import org.hibernate.internal.util.ExceptionHelper;
 
 public class AggregatedClassLoader extends ClassLoader {
+	static {
+		// this class loader never defines classes, it only delegates to the individual
+		// class loaders, and has no mutable state, so that classes may be loaded through
+		// it by several threads at once, as the annotated classes are preloaded
+		ClassLoader.registerAsParallelCapable();
+	}
+
 	private final ClassLoader[] individualClassLoaders;
 	private final TcclLookupPrecedence tcclLookupPrecedence;
 
@@ -203,6 +203,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isOrderUpdatesEnabled();
 	}
 
+	@Override
+	public int getFlushParallelDirtyCheckThreshold() {
+		return delegate.getFlushParallelDirtyCheckThreshold();
+	}
+
 	@Override
 	public boolean isOrderInsertsEnabled() {
 		return delegate.isOrderInsertsEnabled();
@@ -273,6 +278,21 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isStructuredCacheEntriesEnabled();
 	}
 
+	@Override
+	public boolean isCompactCacheEntriesEnabled() {
+		return delegate.isCompactCacheEntriesEnabled();
+	}
+
+	@Override
+	public int getQueryCacheNearCacheSize() {
+		return delegate.getQueryCacheNearCacheSize();
+	}
+
+	@Override
+	public int getNaturalIdIndexSize() {
+		return delegate.getNaturalIdIndexSize();
+	}
+
 	@Override
 	public boolean isDirectReferenceCacheEntriesEnabled() {
 		return delegate.isDirectReferenceCacheEntriesEnabled();
@@ -313,6 +333,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.getJdbcFetchSize();
 	}
 
+	@Override
+	public int getJdbcStatementCacheSize() {
+		return delegate.getJdbcStatementCacheSize();
+	}
+
 	@Override
 	public PhysicalConnectionHandlingMode getPhysicalConnectionHandlingMode() {
 		return delegate.getPhysicalConnectionHandlingMode();
@@ -422,6 +447,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.inClauseParameterPaddingEnabled();
 	}
 
+	@Override
+	public int[] getInClauseParameterPaddingBuckets() {
+		return delegate.getInClauseParameterPaddingBuckets();
+	}
+
 	@Override
 	public int getQueryStatisticsMaxSize() {
 		return delegate.getQueryStatisticsMaxSize();
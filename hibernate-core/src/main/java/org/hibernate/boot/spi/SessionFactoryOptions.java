@@ -152,6 +152,18 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	boolean isOrderUpdatesEnabled();
 
+	/**
+	 * The minimum number of entities in a persistence context for their dirty check to
+	 * be performed in parallel during a flush, or {@code 0} if it never is.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#FLUSH_PARALLEL_DIRTY_CHECK_THRESHOLD
+	 *
+	 * @since 6.5
+	 */
+	default int getFlushParallelDirtyCheckThreshold() {
+		return 0;
+	}
+
 	boolean isOrderInsertsEnabled();
 
 	boolean isMultiTenancyEnabled();
@@ -174,6 +186,33 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	boolean isStructuredCacheEntriesEnabled();
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#USE_COMPACT_CACHE_ENTRIES
+	 *
+	 * @since 6.5
+	 */
+	default boolean isCompactCacheEntriesEnabled() {
+		return false;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_CACHE_NEAR_CACHE_SIZE
+	 *
+	 * @since 6.5
+	 */
+	default int getQueryCacheNearCacheSize() {
+		return 0;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#NATURAL_ID_INDEX_SIZE
+	 *
+	 * @since 6.5
+	 */
+	default int getNaturalIdIndexSize() {
+		return 0;
+	}
+
 	boolean isDirectReferenceCacheEntriesEnabled();
 
 	boolean isAutoEvictCollectionCache();
@@ -190,6 +229,18 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	Integer getJdbcFetchSize();
 
+	/**
+	 * The maximum number of idle prepared statements kept open for reuse by a
+	 * session, or {@code 0} if statements are not reused.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE
+	 *
+	 * @since 6.5
+	 */
+	default int getJdbcStatementCacheSize() {
+		return 0;
+	}
+
 	PhysicalConnectionHandlingMode getPhysicalConnectionHandlingMode();
 
 	default boolean doesConnectionProviderDisableAutoCommit() {
@@ -272,6 +323,18 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 		return false;
 	}
 
+	/**
+	 * The lengths to which {@code IN} clause parameter lists are padded, in ascending
+	 * order, or {@code null} if they are padded to the next power of two.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#IN_CLAUSE_PARAMETER_PADDING_BUCKETS
+	 *
+	 * @since 6.5
+	 */
+	default int[] getInClauseParameterPaddingBuckets() {
+		return null;
+	}
+
 	default int getQueryStatisticsMaxSize() {
 		return Statistics.DEFAULT_QUERY_STATISTICS_MAX_SIZE;
 	}
@@ -0,0 +1,275 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.bytecode.internal;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Member;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+
+import org.hibernate.InstantiationException;
+import org.hibernate.PropertyAccessException;
+import org.hibernate.PropertyNotFoundException;
+import org.hibernate.bytecode.spi.ReflectionOptimizer;
+import org.hibernate.internal.util.ReflectHelper;
+import org.hibernate.property.access.internal.AccessorMethodHandles;
+import org.hibernate.property.access.spi.Getter;
+import org.hibernate.property.access.spi.GetterFieldHandleImpl;
+import org.hibernate.property.access.spi.GetterFieldImpl;
+import org.hibernate.property.access.spi.GetterMethodImpl;
+import org.hibernate.property.access.spi.PropertyAccess;
+import org.hibernate.property.access.spi.PropertyAccessBuildingException;
+import org.hibernate.property.access.spi.Setter;
+import org.hibernate.property.access.spi.SetterFieldHandleImpl;
+import org.hibernate.property.access.spi.SetterFieldImpl;
+import org.hibernate.property.access.spi.SetterMethodImpl;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer.UNFETCHED_PROPERTY;
+import static org.hibernate.engine.internal.ManagedTypeHelper.isManagedType;
+
+/**
+ * A {@link ReflectionOptimizer} which instantiates a persistent class, and reads
+ * and writes its persistent state, through {@link MethodHandle}s, without
+ * generating any class.
+ *
+ * @see org.hibernate.cfg.BytecodeSettings#USE_METHOD_HANDLE_ACCESS
+ */
+public final class ReflectionOptimizerMethodHandleImpl implements ReflectionOptimizer {
+	private final @Nullable InstantiationOptimizer instantiationOptimizer;
+	private final @Nullable AccessOptimizer accessOptimizer;
+
+	private ReflectionOptimizerMethodHandleImpl(
+			@Nullable InstantiationOptimizer instantiationOptimizer,
+			@Nullable AccessOptimizer accessOptimizer) {
+		this.instantiationOptimizer = instantiationOptimizer;
+		this.accessOptimizer = accessOptimizer;
+	}
+
+	/**
+	 * An optimizer for the given class and properties, or {@code null} if neither
+	 * instantiation nor access can be optimized.
+	 * <p>
+	 * Instantiation is optimized when the class declares a no-argument constructor.
+	 * Access is optimized unless the class is enhanced, or any of the properties is
+	 * accessed other than by plain field or accessor method, or may not be accessed
+	 * through a method handle.
+	 */
+	public static @Nullable ReflectionOptimizer from(Class<?> clazz, Map<String, PropertyAccess> propertyAccessMap) {
+		final InstantiationOptimizer instantiationOptimizer = instantiationOptimizer( clazz );
+		final AccessOptimizer accessOptimizer = isManagedType( clazz ) ? null : accessOptimizer( propertyAccessMap );
+		return instantiationOptimizer == null && accessOptimizer == null
+				? null
+				: new ReflectionOptimizerMethodHandleImpl( instantiationOptimizer, accessOptimizer );
+	}
+
+	private static @Nullable InstantiationOptimizer instantiationOptimizer(Class<?> clazz) {
+		if ( ReflectHelper.isAbstractClass( clazz ) ) {
+			return null;
+		}
+		try {
+			final Constructor<?> constructor = ReflectHelper.getDefaultConstructor( clazz );
+			return new InstantiationOptimizerImpl( clazz, AccessorMethodHandles.constructor( constructor ) );
+		}
+		catch (PropertyNotFoundException | PropertyAccessBuildingException e) {
+			return null;
+		}
+	}
+
+	private static @Nullable AccessOptimizer accessOptimizer(Map<String, PropertyAccess> propertyAccessMap) {
+		final int size = propertyAccessMap.size();
+		final String[] propertyNames = new String[size];
+		final Getter[] getters = new Getter[size];
+		final Setter[] setters = new Setter[size];
+		final Member[] getterMembers = new Member[size];
+		final Member[] setterMembers = new Member[size];
+		final MethodHandle[] getterHandles = new MethodHandle[size];
+		final MethodHandle[] setterHandles = new MethodHandle[size];
+		int i = 0;
+		for ( Map.Entry<String, PropertyAccess> entry : propertyAccessMap.entrySet() ) {
+			final Getter getter = entry.getValue().getGetter();
+			final Setter setter = entry.getValue().getSetter();
+			final Member getterMember = getterMember( getter );
+			final Member setterMember = setterMember( setter );
+			if ( getterMember == null || setterMember == null ) {
+				return null;
+			}
+			propertyNames[i] = entry.getKey();
+			getters[i] = getter;
+			setters[i] = setter;
+			getterMembers[i] = getterMember;
+			setterMembers[i] = setterMember;
+			try {
+				getterHandles[i] = AccessorMethodHandles.getter( getterMember );
+				setterHandles[i] = AccessorMethodHandles.setter( setterMember );
+			}
+			catch (PropertyAccessBuildingException e) {
+				return null;
+			}
+			i++;
+		}
+		return new AccessOptimizerImpl(
+				propertyNames,
+				getters,
+				setters,
+				getterMembers,
+				setterMembers,
+				getterHandles,
+				setterHandles
+		);
+	}
+
+	private static @Nullable Member getterMember(Getter getter) {
+		// exact classes only, since subclasses, such as the enhanced getters, may access differently
+		final Class<?> getterClass = getter.getClass();
+		return getterClass == GetterFieldImpl.class
+				|| getterClass == GetterFieldHandleImpl.class
+				|| getterClass == GetterMethodImpl.class
+				? getter.getMember()
+				: null;
+	}
+
+	private static @Nullable Member setterMember(Setter setter) {
+		final Class<?> setterClass = setter.getClass();
+		if ( setterClass == SetterFieldImpl.class || setterClass == SetterFieldHandleImpl.class ) {
+			final Member field = ( (SetterFieldImpl) setter ).getField();
+			// a method handle may not write a final field
+			return Modifier.isFinal( field.getModifiers() ) ? null : field;
+		}
+		else if ( setterClass == SetterMethodImpl.class ) {
+			return setter.getMethod();
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public @Nullable InstantiationOptimizer getInstantiationOptimizer() {
+		return instantiationOptimizer;
+	}
+
+	@Override
+	public @Nullable AccessOptimizer getAccessOptimizer() {
+		return accessOptimizer;
+	}
+
+	private static final class InstantiationOptimizerImpl implements InstantiationOptimizer {
+		private final Class<?> clazz;
+		private final MethodHandle constructorHandle;
+
+		private InstantiationOptimizerImpl(Class<?> clazz, MethodHandle constructorHandle) {
+			this.clazz = clazz;
+			this.constructorHandle = constructorHandle;
+		}
+
+		@Override
+		public Object newInstance() {
+			try {
+				return (Object) constructorHandle.invokeExact();
+			}
+			catch (Throwable t) {
+				throw new InstantiationException( "Could not instantiate", clazz, t );
+			}
+		}
+	}
+
+	private static final class AccessOptimizerImpl implements AccessOptimizer {
+		private final String[] propertyNames;
+		private final Getter[] getters;
+		private final Setter[] setters;
+		private final Member[] getterMembers;
+		private final Member[] setterMembers;
+		private final MethodHandle[] getterHandles;
+		private final MethodHandle[] setterHandles;
+
+		private AccessOptimizerImpl(
+				String[] propertyNames,
+				Getter[] getters,
+				Setter[] setters,
+				Member[] getterMembers,
+				Member[] setterMembers,
+				MethodHandle[] getterHandles,
+				MethodHandle[] setterHandles) {
+			this.propertyNames = propertyNames;
+			this.getters = getters;
+			this.setters = setters;
+			this.getterMembers = getterMembers;
+			this.setterMembers = setterMembers;
+			this.getterHandles = getterHandles;
+			this.setterHandles = setterHandles;
+		}
+
+		@Override
+		public String[] getPropertyNames() {
+			return propertyNames.clone();
+		}
+
+		@Override
+		public Object[] getPropertyValues(Object object) {
+			final Object[] values = new Object[getterHandles.length];
+			for ( int i = 0; i < getterHandles.length; i++ ) {
+				try {
+					values[i] = (Object) getterHandles[i].invokeExact( object );
+				}
+				catch (ClassCastException | NullPointerException e) {
+					if ( !AccessorMethodHandles.rejectsOwner( getterMembers[i], object ) ) {
+						throw propertyAccessException( e, false, i );
+					}
+					// the getter was not called, let it report the problem
+					values[i] = getters[i].get( object );
+				}
+				catch (Error e) {
+					throw e;
+				}
+				catch (Throwable t) {
+					throw propertyAccessException( t, false, i );
+				}
+			}
+			return values;
+		}
+
+		@Override
+		public void setPropertyValues(Object object, Object[] values) {
+			for ( int i = 0; i < setterHandles.length; i++ ) {
+				final Object value = values[i];
+				if ( value != UNFETCHED_PROPERTY ) {
+					try {
+						setterHandles[i].invokeExact( object, value );
+					}
+					catch (ClassCastException | NullPointerException e) {
+						if ( !AccessorMethodHandles.rejectsOwner( setterMembers[i], object )
+								&& !AccessorMethodHandles.rejectsValue( setterMembers[i], value ) ) {
+							throw propertyAccessException( e, true, i );
+						}
+						// the setter was not called, let it report the problem
+						setters[i].set( object, value );
+					}
+					catch (Error e) {
+						throw e;
+					}
+					catch (Throwable t) {
+						throw propertyAccessException( t, true, i );
+					}
+				}
+			}
+		}
+
+		private PropertyAccessException propertyAccessException(Throwable cause, boolean setter, int index) {
+			final Member member = setter ? setterMembers[index] : getterMembers[index];
+			return new PropertyAccessException(
+					cause,
+					"Exception occurred inside",
+					setter,
+					member.getDeclaringClass(),
+					propertyNames[index]
+			);
+		}
+	}
+}
@@ -11,6 +11,7 @@ import java.util.Map;
 import org.hibernate.HibernateException;
 import org.hibernate.bytecode.enhance.spi.EnhancementContext;
 import org.hibernate.bytecode.enhance.spi.Enhancer;
+import org.hibernate.bytecode.internal.ReflectionOptimizerMethodHandleImpl;
 import org.hibernate.bytecode.spi.BytecodeProvider;
 import org.hibernate.bytecode.spi.ProxyFactoryFactory;
 import org.hibernate.bytecode.spi.ReflectionOptimizer;
@@ -45,7 +46,8 @@ public final class BytecodeProviderImpl implements BytecodeProvider {
 
 	@Override
 	public @Nullable ReflectionOptimizer getReflectionOptimizer(Class<?> clazz, Map<String, PropertyAccess> propertyAccessMap) {
-		throw new HibernateException( "Using the ReflectionOptimizer is not possible when the configured BytecodeProvider is 'none'. Use a different BytecodeProvider" );
+		// no class may be generated, but method handles need none
+		return ReflectionOptimizerMethodHandleImpl.from( clazz, propertyAccessMap );
 	}
 
 	@Override
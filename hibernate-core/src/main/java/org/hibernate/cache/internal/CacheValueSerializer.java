@@ -0,0 +1,264 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.cache.spi.entry.CompactCacheEntry.CompactState;
+import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
+import org.hibernate.cache.spi.support.AbstractReadWriteAccess;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.type.SerializationException;
+
+/**
+ * Binary serialization of the values stored in the second-level cache by the
+ * {@link OffHeapStorageAccess}.
+ * <p>
+ * The usual values, that is, the {@linkplain CacheEntry cache entries} of entities,
+ * their disassembled state, and the read-write {@linkplain AbstractReadWriteAccess.Item
+ * items} which wrap them, are written field by field, preceded by a one byte tag.  Any
+ * other value is written using Java serialization.
+ */
+final class CacheValueSerializer {
+	private static final byte NULL = 0;
+	private static final byte STRING = 1;
+	private static final byte LONG = 2;
+	private static final byte INTEGER = 3;
+	private static final byte SHORT = 4;
+	private static final byte BYTE = 5;
+	private static final byte BOOLEAN = 6;
+	private static final byte DOUBLE = 7;
+	private static final byte FLOAT = 8;
+	private static final byte CHARACTER = 9;
+	private static final byte UUID_VALUE = 10;
+	private static final byte BYTES = 11;
+	private static final byte SERIALIZABLE_ARRAY = 12;
+	private static final byte OBJECT_ARRAY = 13;
+	private static final byte STANDARD_ENTRY = 14;
+	private static final byte COMPACT_STATE = 15;
+	private static final byte ITEM = 16;
+	private static final byte SERIALIZED = 17;
+
+	private CacheValueSerializer() {
+	}
+
+	/**
+	 * Is the given value a reference to an entity instance, which must be kept as is,
+	 * instead of being serialized?
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#USE_DIRECT_REFERENCE_CACHE_ENTRIES
+	 */
+	static boolean isReference(Object value) {
+		if ( value instanceof AbstractReadWriteAccess.Item ) {
+			return isReference( ( (AbstractReadWriteAccess.Item) value ).getValue() );
+		}
+		return value instanceof CacheEntry && ( (CacheEntry) value ).isReferenceEntry();
+	}
+
+	static byte[] serialize(Object value) {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream( 128 );
+		try ( DataOutputStream output = new DataOutputStream( bytes ) ) {
+			write( output, value );
+		}
+		catch (IOException e) {
+			throw new SerializationException( "Could not serialize cache value", e );
+		}
+		return bytes.toByteArray();
+	}
+
+	static Object deserialize(byte[] bytes) {
+		try ( DataInputStream input = new DataInputStream( new ByteArrayInputStream( bytes ) ) ) {
+			return read( input );
+		}
+		catch (IOException e) {
+			throw new SerializationException( "Could not deserialize cache value", e );
+		}
+	}
+
+	private static void write(DataOutputStream output, Object value) throws IOException {
+		if ( value == null ) {
+			output.writeByte( NULL );
+		}
+		else if ( value instanceof String ) {
+			output.writeByte( STRING );
+			writeString( output, (String) value );
+		}
+		else if ( value instanceof Long ) {
+			output.writeByte( LONG );
+			output.writeLong( (Long) value );
+		}
+		else if ( value instanceof Integer ) {
+			output.writeByte( INTEGER );
+			output.writeInt( (Integer) value );
+		}
+		else if ( value instanceof Short ) {
+			output.writeByte( SHORT );
+			output.writeShort( (Short) value );
+		}
+		else if ( value instanceof Byte ) {
+			output.writeByte( BYTE );
+			output.writeByte( (Byte) value );
+		}
+		else if ( value instanceof Boolean ) {
+			output.writeByte( BOOLEAN );
+			output.writeBoolean( (Boolean) value );
+		}
+		else if ( value instanceof Double ) {
+			output.writeByte( DOUBLE );
+			output.writeDouble( (Double) value );
+		}
+		else if ( value instanceof Float ) {
+			output.writeByte( FLOAT );
+			output.writeFloat( (Float) value );
+		}
+		else if ( value instanceof Character ) {
+			output.writeByte( CHARACTER );
+			output.writeChar( (Character) value );
+		}
+		else if ( value instanceof UUID ) {
+			output.writeByte( UUID_VALUE );
+			output.writeLong( ( (UUID) value ).getMostSignificantBits() );
+			output.writeLong( ( (UUID) value ).getLeastSignificantBits() );
+		}
+		else if ( value instanceof byte[] ) {
+			output.writeByte( BYTES );
+			writeBytes( output, (byte[]) value );
+		}
+		// only the exact array types, so that the deserialized array has the same class
+		else if ( value.getClass() == Serializable[].class ) {
+			output.writeByte( SERIALIZABLE_ARRAY );
+			writeArray( output, (Object[]) value );
+		}
+		else if ( value.getClass() == Object[].class ) {
+			output.writeByte( OBJECT_ARRAY );
+			writeArray( output, (Object[]) value );
+		}
+		else if ( value.getClass() == StandardCacheEntryImpl.class ) {
+			final StandardCacheEntryImpl entry = (StandardCacheEntryImpl) value;
+			output.writeByte( STANDARD_ENTRY );
+			writeString( output, entry.getSubclass() );
+			write( output, entry.getVersion() );
+			writeArray( output, entry.getDisassembledState() );
+		}
+		else if ( value instanceof CompactState ) {
+			final CompactState state = (CompactState) value;
+			output.writeByte( COMPACT_STATE );
+			writeString( output, state.getSubclass() );
+			writeBytes( output, state.getValues() );
+			write( output, state.getReferences() );
+		}
+		else if ( value instanceof AbstractReadWriteAccess.Item ) {
+			final AbstractReadWriteAccess.Item item = (AbstractReadWriteAccess.Item) value;
+			output.writeByte( ITEM );
+			output.writeLong( item.getTimestamp() );
+			write( output, item.getVersion() );
+			write( output, item.getValue() );
+		}
+		else {
+			output.writeByte( SERIALIZED );
+			writeBytes( output, SerializationHelper.serialize( (Serializable) value ) );
+		}
+	}
+
+	private static void writeString(DataOutputStream output, String value) throws IOException {
+		writeBytes( output, value.getBytes( StandardCharsets.UTF_8 ) );
+	}
+
+	private static void writeBytes(DataOutputStream output, byte[] value) throws IOException {
+		output.writeInt( value.length );
+		output.write( value );
+	}
+
+	private static void writeArray(DataOutputStream output, Object[] values) throws IOException {
+		output.writeInt( values.length );
+		for ( Object value : values ) {
+			write( output, value );
+		}
+	}
+
+	private static Object read(DataInputStream input) throws IOException {
+		final byte tag = input.readByte();
+		switch ( tag ) {
+			case NULL:
+				return null;
+			case STRING:
+				return readString( input );
+			case LONG:
+				return input.readLong();
+			case INTEGER:
+				return input.readInt();
+			case SHORT:
+				return input.readShort();
+			case BYTE:
+				return input.readByte();
+			case BOOLEAN:
+				return input.readBoolean();
+			case DOUBLE:
+				return input.readDouble();
+			case FLOAT:
+				return input.readFloat();
+			case CHARACTER:
+				return input.readChar();
+			case UUID_VALUE:
+				return new UUID( input.readLong(), input.readLong() );
+			case BYTES:
+				return readBytes( input );
+			case SERIALIZABLE_ARRAY:
+				return readArray( input, new Serializable[input.readInt()] );
+			case OBJECT_ARRAY:
+				return readArray( input, new Object[input.readInt()] );
+			case STANDARD_ENTRY: {
+				final String subclass = readString( input );
+				final Object version = read( input );
+				final Serializable[] state = readArray( input, new Serializable[input.readInt()] );
+				return new StandardCacheEntryImpl( state, subclass, version );
+			}
+			case COMPACT_STATE: {
+				final String subclass = readString( input );
+				final byte[] values = readBytes( input );
+				final Serializable[] references = (Serializable[]) read( input );
+				return new CompactState( subclass, values, references );
+			}
+			case ITEM: {
+				final long timestamp = input.readLong();
+				final Object version = read( input );
+				final Object value = read( input );
+				return new AbstractReadWriteAccess.Item( value, version, timestamp );
+			}
+			case SERIALIZED:
+				return SerializationHelper.deserialize( readBytes( input ) );
+			default:
+				throw new IllegalStateException( "Unexpected tag in serialized cache value: " + tag );
+		}
+	}
+
+	private static String readString(DataInputStream input) throws IOException {
+		return new String( readBytes( input ), StandardCharsets.UTF_8 );
+	}
+
+	private static byte[] readBytes(DataInputStream input) throws IOException {
+		final byte[] bytes = new byte[input.readInt()];
+		input.readFully( bytes );
+		return bytes;
+	}
+
+	private static <T> T[] readArray(DataInputStream input, T[] values) throws IOException {
+		for ( int i = 0; i < values.length; i++ ) {
+			//noinspection unchecked
+			values[i] = (T) read( input );
+		}
+		return values;
+	}
+}
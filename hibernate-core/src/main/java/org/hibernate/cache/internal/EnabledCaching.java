@@ -97,10 +97,7 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 					sessionFactory
 			);
 			regionsByName.put( queryResultsRegion.getName(), queryResultsRegion );
-			defaultQueryResultsCache = new QueryResultsCacheImpl(
-					queryResultsRegion,
-					timestampsCache
-			);
+			defaultQueryResultsCache = makeQueryResultsCache( queryResultsRegion );
 		}
 		else {
 			timestampsCache = new TimestampsCacheDisabledImpl();
@@ -546,15 +543,24 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 					this::makeQueryResultsRegion
 			);
 		}
-		final QueryResultsCacheImpl regionAccess = new QueryResultsCacheImpl(
-				queryResultsRegion,
-				timestampsCache
-		);
+		final QueryResultsCacheImpl regionAccess = makeQueryResultsCache( queryResultsRegion );
 		namedQueryResultsCacheMap.put( regionName, regionAccess );
 		legacySecondLevelCacheNames.add( regionName );
 		return regionAccess;
 	}
 
+	private QueryResultsCacheImpl makeQueryResultsCache(QueryResultsRegion queryResultsRegion) {
+		final int nearCacheSize = getSessionFactory().getSessionFactoryOptions().getQueryCacheNearCacheSize();
+		if ( nearCacheSize > 0 ) {
+			final QueryResultsNearCache nearCache = new QueryResultsNearCache( nearCacheSize, regionFactory );
+			// the near cache is only usable if it is notified of the invalidations
+			if ( timestampsCache.addInvalidationListener( nearCache ) ) {
+				return new QueryResultsCacheImpl( queryResultsRegion, timestampsCache, nearCache );
+			}
+		}
+		return new QueryResultsCacheImpl( queryResultsRegion, timestampsCache );
+	}
+
 	protected QueryResultsRegion makeQueryResultsRegion(String regionName) {
 		return regionFactory.buildQueryResultsRegion( regionName, getSessionFactory() );
 	}
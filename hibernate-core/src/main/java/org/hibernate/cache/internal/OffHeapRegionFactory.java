@@ -0,0 +1,150 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.internal;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import static org.hibernate.cfg.CacheSettings.OFF_HEAP_REGION_CAPACITY;
+
+/**
+ * A {@link org.hibernate.cache.spi.RegionFactory} which keeps the data of the entity,
+ * collection, natural id and query results regions in memory outside the Java heap,
+ * so that large amounts of data may be cached without increasing the cost of garbage
+ * collection.  The capacity of each region is bounded, as specified by
+ * {@value org.hibernate.cfg.CacheSettings#OFF_HEAP_REGION_CAPACITY}, and the entries
+ * are evicted according to the W-TinyLFU policy.
+ * <p>
+ * The update timestamps, which must never be evicted, are kept on the heap.
+ * <p>
+ * This factory is not selected implicitly, it must be specified by its class name
+ * using {@value org.hibernate.cfg.CacheSettings#CACHE_REGION_FACTORY}.
+ *
+ * @see OffHeapStorageAccess
+ *
+ * @since 6.5
+ */
+public class OffHeapRegionFactory extends RegionFactoryTemplate {
+	/**
+	 * The default capacity of a region, in bytes
+	 */
+	public static final long DEFAULT_REGION_CAPACITY = 64L * 1024 * 1024;
+
+	private final List<StorageAccess> storageAccesses = new CopyOnWriteArrayList<>();
+	private volatile Map<String, Object> configValues;
+	private volatile long defaultCapacity;
+
+	@Override
+	protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+		this.configValues = configValues;
+		this.defaultCapacity = capacity( OFF_HEAP_REGION_CAPACITY, DEFAULT_REGION_CAPACITY );
+	}
+
+	@Override
+	protected void releaseFromUse() {
+		for ( StorageAccess storageAccess : storageAccesses ) {
+			storageAccess.release();
+		}
+		storageAccesses.clear();
+		configValues = null;
+	}
+
+	@Override
+	protected DomainDataStorageAccess createDomainDataStorageAccess(
+			DomainDataRegionConfig regionConfig,
+			DomainDataRegionBuildingContext buildingContext) {
+		return createStorageAccess( regionConfig.getRegionName() );
+	}
+
+	@Override
+	protected StorageAccess createQueryResultsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		return createStorageAccess( regionName );
+	}
+
+	@Override
+	protected StorageAccess createTimestampsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		final TimestampsStorageAccess storageAccess = new TimestampsStorageAccess();
+		storageAccesses.add( storageAccess );
+		return storageAccess;
+	}
+
+	private OffHeapStorageAccess createStorageAccess(String regionName) {
+		final OffHeapStorageAccess storageAccess = new OffHeapStorageAccess(
+				regionName,
+				capacity( OFF_HEAP_REGION_CAPACITY + '.' + regionName, defaultCapacity )
+		);
+		storageAccesses.add( storageAccess );
+		return storageAccess;
+	}
+
+	private long capacity(String settingName, long defaultValue) {
+		final Object value = configValues == null ? null : configValues.get( settingName );
+		if ( value == null ) {
+			return defaultValue;
+		}
+		else if ( value instanceof Number ) {
+			return ( (Number) value ).longValue();
+		}
+		else {
+			return Long.parseLong( value.toString().trim() );
+		}
+	}
+
+	/**
+	 * StorageAccess for the update timestamps region, which keeps the
+	 * timestamps on the heap, and never evicts them
+	 */
+	private static class TimestampsStorageAccess implements StorageAccess {
+		private final ConcurrentMap<Object, Object> timestamps = new ConcurrentHashMap<>();
+
+		@Override
+		public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+			return timestamps.get( key );
+		}
+
+		@Override
+		public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+			timestamps.put( key, value );
+		}
+
+		@Override
+		public boolean contains(Object key) {
+			return timestamps.containsKey( key );
+		}
+
+		@Override
+		public void evictData() {
+			timestamps.clear();
+		}
+
+		@Override
+		public void evictData(Object key) {
+			timestamps.remove( key );
+		}
+
+		@Override
+		public void release() {
+			timestamps.clear();
+		}
+	}
+}
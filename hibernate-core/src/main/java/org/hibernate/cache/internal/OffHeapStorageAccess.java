@@ -0,0 +1,504 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.internal;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.FrequencySketch;
+
+/**
+ * StorageAccess for a region of the {@link OffHeapRegionFactory}, which keeps the
+ * {@linkplain CacheValueSerializer serialized} values of the region in direct
+ * {@link ByteBuffer}s, outside the Java heap.  Only the keys, and a small node per
+ * entry, are kept on the heap.
+ * <p>
+ * The memory of the region is divided into blocks of {@value #BLOCK_SIZE} bytes, which
+ * are allocated, on demand, in slabs of up to 64 MiB.  A value occupies a chain of
+ * blocks, each of which starts with the index of the next block of the chain.  Blocks
+ * which are released are chained into a list of free blocks.
+ * <p>
+ * When the capacity of the region is reached, entries are evicted according to the
+ * W-TinyLFU policy: new entries are added to a small LRU <em>window</em>, and the
+ * entries evicted from the window are admitted into the <em>main</em> segmented LRU
+ * only if they are estimated to be accessed more frequently, by a {@link FrequencySketch},
+ * than the entries which would be evicted to make room for them.  The main space is
+ * divided into a <em>probation</em> segment, and a <em>protected</em> segment for
+ * the entries which were accessed again while in probation.
+ * <p>
+ * All operations on the region are serialized by a lock, but values are serialized
+ * and deserialized outside the lock.
+ */
+public class OffHeapStorageAccess implements DomainDataStorageAccess {
+	private static final int BLOCK_SIZE = 128;
+	private static final int BLOCK_PAYLOAD = BLOCK_SIZE - Integer.BYTES;
+	private static final int SLAB_SHIFT = 19;
+	private static final int SLAB_BLOCKS = 1 << SLAB_SHIFT;
+	private static final int NO_BLOCK = -1;
+	private static final int MAXIMUM_SKETCH_SIZE = 1 << 20;
+
+	private final String regionName;
+	private final int maximumWeight;
+	private final int maximumWindowWeight;
+	private final int maximumMainWeight;
+	private final int maximumProtectedWeight;
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Map<Object, Node> nodes = new HashMap<>();
+	private final FrequencySketch sketch;
+	private final AccessQueue window = new AccessQueue();
+	private final AccessQueue probation = new AccessQueue();
+	private final AccessQueue protectedQueue = new AccessQueue();
+
+	private final ByteBuffer[] slabs;
+	private int freeBlock = NO_BLOCK;
+	private int unusedBlock;
+
+	/**
+	 * @param regionName The name of the region
+	 * @param capacity The maximum number of bytes of memory used by the values of the region
+	 */
+	public OffHeapStorageAccess(String regionName, long capacity) {
+		this.regionName = regionName;
+		this.maximumWeight = (int) Math.max( 2, Math.min( capacity / BLOCK_SIZE, Integer.MAX_VALUE ) );
+		this.maximumWindowWeight = Math.max( 1, maximumWeight / 100 );
+		this.maximumMainWeight = maximumWeight - maximumWindowWeight;
+		this.maximumProtectedWeight = (int) ( maximumMainWeight * 8L / 10 );
+		// assume that a value occupies a few blocks
+		this.sketch = new FrequencySketch( Math.min( Math.max( 1, maximumWeight / 4 ), MAXIMUM_SKETCH_SIZE ) );
+		this.slabs = new ByteBuffer[( maximumWeight + SLAB_BLOCKS - 1 ) >>> SLAB_SHIFT];
+	}
+
+	public String getRegionName() {
+		return regionName;
+	}
+
+	/**
+	 * The number of entries in the region
+	 */
+	public int getEntryCount() {
+		lock.lock();
+		try {
+			return nodes.size();
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * The number of bytes of memory occupied by the entries of the region
+	 */
+	public long getOccupiedBytes() {
+		lock.lock();
+		try {
+			return (long) ( window.weight + probation.weight + protectedQueue.weight ) * BLOCK_SIZE;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		final byte[] bytes;
+		lock.lock();
+		try {
+			sketch.increment( key );
+			final Node node = nodes.get( key );
+			if ( node == null ) {
+				return null;
+			}
+			onAccess( node );
+			if ( node.reference != null ) {
+				return node.reference;
+			}
+			bytes = read( node );
+		}
+		finally {
+			lock.unlock();
+		}
+		return CacheValueSerializer.deserialize( bytes );
+	}
+
+	@Override
+	public Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		final Map<Object, Object> items = new HashMap<>();
+		final Map<Object, byte[]> serialized = new HashMap<>();
+		lock.lock();
+		try {
+			for ( Object key : keys ) {
+				sketch.increment( key );
+				final Node node = nodes.get( key );
+				if ( node != null ) {
+					onAccess( node );
+					if ( node.reference != null ) {
+						items.put( key, node.reference );
+					}
+					else {
+						serialized.put( key, read( node ) );
+					}
+				}
+			}
+		}
+		finally {
+			lock.unlock();
+		}
+		for ( Map.Entry<Object, byte[]> entry : serialized.entrySet() ) {
+			items.put( entry.getKey(), CacheValueSerializer.deserialize( entry.getValue() ) );
+		}
+		return items;
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		final boolean reference = CacheValueSerializer.isReference( value );
+		final byte[] bytes = reference ? null : CacheValueSerializer.serialize( value );
+		lock.lock();
+		try {
+			put( key, reference ? value : null, bytes );
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void putAllIntoCache(Map<Object, Object> items, SharedSessionContractImplementor session) {
+		final Object[] keys = new Object[items.size()];
+		final Object[] references = new Object[keys.length];
+		final byte[][] serialized = new byte[keys.length][];
+		int i = 0;
+		for ( Map.Entry<Object, Object> item : items.entrySet() ) {
+			keys[i] = item.getKey();
+			if ( CacheValueSerializer.isReference( item.getValue() ) ) {
+				references[i] = item.getValue();
+			}
+			else {
+				serialized[i] = CacheValueSerializer.serialize( item.getValue() );
+			}
+			i++;
+		}
+		lock.lock();
+		try {
+			for ( int j = 0; j < keys.length; j++ ) {
+				put( keys[j], references[j], serialized[j] );
+			}
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void putAllFromLoad(Map<Object, Object> items, SharedSessionContractImplementor session) {
+		putAllIntoCache( items, session );
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		lock.lock();
+		try {
+			return nodes.containsKey( key );
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void evictData() {
+		lock.lock();
+		try {
+			clear();
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void evictData(Object key) {
+		lock.lock();
+		try {
+			final Node node = nodes.get( key );
+			if ( node != null ) {
+				discard( node );
+			}
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void release() {
+		lock.lock();
+		try {
+			clear();
+			// the direct memory is freed once the buffers are garbage collected
+			Arrays.fill( slabs, null );
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	private void put(Object key, Object reference, byte[] bytes) {
+		sketch.increment( key );
+		final Node existing = nodes.get( key );
+		if ( existing != null ) {
+			discard( existing );
+		}
+
+		final int weight = bytes == null ? 1 : blocks( bytes.length );
+		if ( weight > maximumMainWeight ) {
+			// too large to ever be admitted
+			return;
+		}
+		final Node node = new Node( key, weight );
+		nodes.put( key, node );
+		window.addFirst( node );
+		evict();
+
+		if ( node.queue != null ) {
+			// the blocks of the evicted entries are free, so there is room for the new one
+			if ( bytes == null ) {
+				node.reference = reference;
+			}
+			else {
+				write( node, bytes );
+			}
+		}
+	}
+
+	private static int blocks(int length) {
+		return Math.max( 1, ( length + BLOCK_PAYLOAD - 1 ) / BLOCK_PAYLOAD );
+	}
+
+	private void onAccess(Node node) {
+		if ( node.queue == probation ) {
+			probation.remove( node );
+			protectedQueue.addFirst( node );
+			while ( protectedQueue.weight > maximumProtectedWeight ) {
+				final Node demoted = protectedQueue.tail;
+				protectedQueue.remove( demoted );
+				probation.addFirst( demoted );
+			}
+		}
+		else {
+			node.queue.moveToFront( node );
+		}
+	}
+
+	/**
+	 * Move the entries which overflow the window to the main space, if they are
+	 * admitted by the TinyLFU policy.
+	 */
+	private void evict() {
+		while ( window.weight > maximumWindowWeight ) {
+			final Node candidate = window.tail;
+			window.remove( candidate );
+			admit( candidate );
+		}
+	}
+
+	private void admit(Node candidate) {
+		while ( probation.weight + protectedQueue.weight + candidate.weight > maximumMainWeight ) {
+			final Node victim = probation.tail != null ? probation.tail : protectedQueue.tail;
+			if ( sketch.frequency( candidate.key ) <= sketch.frequency( victim.key ) ) {
+				discard( candidate );
+				return;
+			}
+			discard( victim );
+		}
+		probation.addFirst( candidate );
+	}
+
+	private void discard(Node node) {
+		if ( node.queue != null ) {
+			node.queue.remove( node );
+		}
+		nodes.remove( node.key, node );
+		release( node );
+	}
+
+	private void clear() {
+		nodes.clear();
+		window.clear();
+		probation.clear();
+		protectedQueue.clear();
+		freeBlock = NO_BLOCK;
+		unusedBlock = 0;
+	}
+
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Blocks
+
+	private void write(Node node, byte[] bytes) {
+		int previous = NO_BLOCK;
+		int offset = 0;
+		do {
+			final int block = allocate();
+			if ( previous == NO_BLOCK ) {
+				node.firstBlock = block;
+			}
+			else {
+				setNext( previous, block );
+			}
+			final int length = Math.min( BLOCK_PAYLOAD, bytes.length - offset );
+			final ByteBuffer slab = slab( block );
+			slab.position( position( block ) + Integer.BYTES );
+			slab.put( bytes, offset, length );
+			offset += length;
+			previous = block;
+		} while ( offset < bytes.length );
+		setNext( previous, NO_BLOCK );
+		node.length = bytes.length;
+	}
+
+	private byte[] read(Node node) {
+		final byte[] bytes = new byte[node.length];
+		int block = node.firstBlock;
+		int offset = 0;
+		while ( offset < bytes.length ) {
+			final int length = Math.min( BLOCK_PAYLOAD, bytes.length - offset );
+			final ByteBuffer slab = slab( block );
+			slab.position( position( block ) + Integer.BYTES );
+			slab.get( bytes, offset, length );
+			offset += length;
+			block = next( block );
+		}
+		return bytes;
+	}
+
+	private void release(Node node) {
+		int block = node.firstBlock;
+		while ( block != NO_BLOCK ) {
+			final int next = next( block );
+			setNext( block, freeBlock );
+			freeBlock = block;
+			block = next;
+		}
+		node.firstBlock = NO_BLOCK;
+		node.reference = null;
+	}
+
+	private int allocate() {
+		if ( freeBlock != NO_BLOCK ) {
+			final int block = freeBlock;
+			freeBlock = next( block );
+			return block;
+		}
+		final int block = unusedBlock++;
+		final int slab = block >>> SLAB_SHIFT;
+		if ( slabs[slab] == null ) {
+			final int blocks = Math.min( SLAB_BLOCKS, maximumWeight - ( slab << SLAB_SHIFT ) );
+			slabs[slab] = ByteBuffer.allocateDirect( blocks * BLOCK_SIZE );
+		}
+		return block;
+	}
+
+	private ByteBuffer slab(int block) {
+		return slabs[block >>> SLAB_SHIFT];
+	}
+
+	private static int position(int block) {
+		return ( block & ( SLAB_BLOCKS - 1 ) ) * BLOCK_SIZE;
+	}
+
+	private int next(int block) {
+		return slab( block ).getInt( position( block ) );
+	}
+
+	private void setNext(int block, int next) {
+		slab( block ).putInt( position( block ), next );
+	}
+
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Access order
+
+	private static final class Node {
+		private final Object key;
+		private final int weight;
+		private int firstBlock = NO_BLOCK;
+		private int length;
+		private Object reference;
+
+		private AccessQueue queue;
+		private Node previous;
+		private Node next;
+
+		private Node(Object key, int weight) {
+			this.key = key;
+			this.weight = weight;
+		}
+	}
+
+	/**
+	 * A list of nodes, from the most recently accessed to the least recently accessed
+	 */
+	private static final class AccessQueue {
+		private Node head;
+		private Node tail;
+		private int weight;
+
+		private void addFirst(Node node) {
+			node.queue = this;
+			node.previous = null;
+			node.next = head;
+			if ( head == null ) {
+				tail = node;
+			}
+			else {
+				head.previous = node;
+			}
+			head = node;
+			weight += node.weight;
+		}
+
+		private void remove(Node node) {
+			if ( node.previous == null ) {
+				head = node.next;
+			}
+			else {
+				node.previous.next = node.next;
+			}
+			if ( node.next == null ) {
+				tail = node.previous;
+			}
+			else {
+				node.next.previous = node.previous;
+			}
+			node.queue = null;
+			node.previous = null;
+			node.next = null;
+			weight -= node.weight;
+		}
+
+		private void moveToFront(Node node) {
+			if ( node != head ) {
+				remove( node );
+				addFirst( node );
+			}
+		}
+
+		private void clear() {
+			head = null;
+			tail = null;
+			weight = 0;
+		}
+	}
+}
@@ -8,10 +8,14 @@ package org.hibernate.cache.internal;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 
 import org.hibernate.HibernateException;
+import org.hibernate.cache.CacheException;
 import org.hibernate.cache.spi.QueryKey;
 import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.cache.spi.QueryResultsRegion;
@@ -19,6 +23,7 @@ import org.hibernate.cache.spi.TimestampsCache;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.event.spi.EventManager;
 import org.hibernate.event.spi.HibernateMonitoringEvent;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
 
@@ -34,12 +39,21 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 
 	private final QueryResultsRegion cacheRegion;
 	private final TimestampsCache timestampsCache;
+	private final QueryResultsNearCache nearCache;
 
 	QueryResultsCacheImpl(
 			QueryResultsRegion cacheRegion,
 			TimestampsCache timestampsCache) {
+		this( cacheRegion, timestampsCache, null );
+	}
+
+	QueryResultsCacheImpl(
+			QueryResultsRegion cacheRegion,
+			TimestampsCache timestampsCache,
+			QueryResultsNearCache nearCache) {
 		this.cacheRegion = cacheRegion;
 		this.timestampsCache = timestampsCache;
+		this.nearCache = nearCache;
 	}
 
 	@Override
@@ -63,6 +77,10 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 				deepCopy( results )
 		);
 
+		if ( nearCache != null ) {
+			nearCache.evict( key );
+		}
+
 		final EventManager eventManager = session.getEventManager();
 		final HibernateMonitoringEvent cachePutEvent = eventManager.beginCachePutEvent();
 		try {
@@ -92,31 +110,7 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 			final QueryKey key,
 			final Set<String> spaces,
 			final SharedSessionContractImplementor session) throws HibernateException {
-		final boolean loggerDebugEnabled = L2CACHE_LOGGER.isDebugEnabled();
-		if ( loggerDebugEnabled ) {
-			L2CACHE_LOGGER.debugf( "Checking cached query results in region: %s", cacheRegion.getName() );
-		}
-
-		final CacheItem cacheItem = getCachedData( key, session );
-		if ( cacheItem == null ) {
-			if ( loggerDebugEnabled ) {
-				L2CACHE_LOGGER.debug( "Query results were not found in cache" );
-			}
-			return null;
-		}
-
-		if ( !timestampsCache.isUpToDate( spaces, cacheItem.timestamp, session ) ) {
-			if ( loggerDebugEnabled ) {
-				L2CACHE_LOGGER.debug( "Cached query results were not up-to-date" );
-			}
-			return null;
-		}
-
-		if ( loggerDebugEnabled ) {
-			L2CACHE_LOGGER.debug( "Returning cached query results" );
-		}
-
-		return deepCopy( cacheItem.results );
+		return getResults( key, spaces, null, session );
 	}
 
 	@Override
@@ -124,7 +118,34 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 			final QueryKey key,
 			final String[] spaces,
 			final SharedSessionContractImplementor session) throws HibernateException {
+		return getResults( key, Arrays.asList( spaces ), null, session );
+	}
+
+	@Override
+	public List<?> get(
+			final QueryKey key,
+			final Set<String> spaces,
+			final String queryIdentifier,
+			final SharedSessionContractImplementor session) throws HibernateException {
+		return getResults( key, spaces, queryIdentifier, session );
+	}
+
+	private List<?> getResults(
+			final QueryKey key,
+			final Collection<String> spaces,
+			final String queryIdentifier,
+			final SharedSessionContractImplementor session) throws HibernateException {
 		final boolean loggerDebugEnabled = L2CACHE_LOGGER.isDebugEnabled();
+		if ( nearCache != null ) {
+			final List<?> results = nearCache.get( key );
+			if ( results != null ) {
+				if ( loggerDebugEnabled ) {
+					L2CACHE_LOGGER.debugf( "Returning query results from the near cache of region: %s", cacheRegion.getName() );
+				}
+				return results;
+			}
+		}
+
 		if ( loggerDebugEnabled ) {
 			L2CACHE_LOGGER.debugf( "Checking cached query results in region: %s", cacheRegion.getName() );
 		}
@@ -141,6 +162,10 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 			if ( loggerDebugEnabled ) {
 				L2CACHE_LOGGER.debug( "Cached query results were not up-to-date" );
 			}
+			final StatisticsImplementor statistics = session.getFactory().getStatistics();
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.queryCacheStale( queryIdentifier, cacheRegion.getName() );
+			}
 			return null;
 		}
 
@@ -148,7 +173,23 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 			L2CACHE_LOGGER.debug( "Returning cached query results" );
 		}
 
-		return deepCopy( cacheItem.results );
+		if ( nearCache == null ) {
+			return deepCopy( cacheItem.results );
+		}
+		else {
+			// the results of the item are never modified
+			final List<?> results = Collections.unmodifiableList( cacheItem.results );
+			nearCache.put( key, spaces, cacheItem.timestamp, results );
+			return results;
+		}
+	}
+
+	@Override
+	public void clear() throws CacheException {
+		if ( nearCache != null ) {
+			nearCache.clear();
+		}
+		QueryResultsCache.super.clear();
 	}
 
 	private CacheItem getCachedData(QueryKey key, SharedSessionContractImplementor session) {
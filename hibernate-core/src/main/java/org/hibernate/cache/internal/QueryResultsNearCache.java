@@ -0,0 +1,192 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.internal;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.cache.spi.QueryKey;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cache.spi.TimestampsCache;
+
+/**
+ * A local cache of up-to-date query results, in front of a query results region.
+ * <p>
+ * Entries are only added once their results were read from the region and found
+ * {@linkplain TimestampsCache#isUpToDate up-to-date}, and they are removed eagerly
+ * when one of their query spaces is {@linkplain TimestampsCache.InvalidationListener
+ * invalidated}, so that the results of a hit never need to be checked against the
+ * update timestamps.  The results are kept as an unmodifiable list, which is
+ * returned without being copied.
+ * <p>
+ * The number of result rows kept in the near cache is bounded: the least recently
+ * added entries are evicted to make room for new ones.  Entries also expire once
+ * the {@linkplain RegionFactory#getTimeout() timeout} of the region factory has
+ * elapsed since their results were put into the region, so that results are not
+ * kept indefinitely after the region itself has let go of them.
+ *
+ * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_NEAR_CACHE_SIZE
+ */
+final class QueryResultsNearCache implements TimestampsCache.InvalidationListener {
+	private final int maximumSize;
+	private final RegionFactory regionFactory;
+	private final long timeout;
+
+	// read without locking, all modifications are made while holding the monitor
+	private final Map<QueryKey, Entry> entries = new ConcurrentHashMap<>();
+	private final Map<String, Set<Entry>> entriesBySpace = new HashMap<>();
+	private final Map<String, Long> lastInvalidations = new HashMap<>();
+	private Entry eldest;
+	private Entry youngest;
+	private int size;
+
+	QueryResultsNearCache(int maximumSize, RegionFactory regionFactory) {
+		this.maximumSize = maximumSize;
+		this.regionFactory = regionFactory;
+		this.timeout = regionFactory.getTimeout();
+	}
+
+	/**
+	 * The cached results for the given key, or {@code null}
+	 */
+	List<?> get(QueryKey key) {
+		final Entry entry = entries.get( key );
+		if ( entry == null ) {
+			return null;
+		}
+		else if ( regionFactory.nextTimestamp() > entry.expiry ) {
+			expire( entry );
+			return null;
+		}
+		else {
+			return entry.results;
+		}
+	}
+
+	/**
+	 * Add unmodifiable results which were just found up-to-date, unless one of
+	 * their spaces was invalidated after the given timestamp of the results.
+	 * They expire once the timeout has elapsed since that timestamp.
+	 */
+	synchronized void put(QueryKey key, Collection<String> spaces, long timestamp, List<?> results) {
+		if ( results.size() > maximumSize ) {
+			return;
+		}
+		for ( String space : spaces ) {
+			final Long lastInvalidation = lastInvalidations.get( space );
+			if ( lastInvalidation != null && lastInvalidation >= timestamp ) {
+				return;
+			}
+		}
+
+		final Entry existing = entries.get( key );
+		if ( existing != null ) {
+			remove( existing );
+		}
+		final Entry entry = new Entry( key, spaces.toArray( new String[0] ), results, timestamp + timeout );
+		entries.put( key, entry );
+		for ( String space : entry.spaces ) {
+			entriesBySpace.computeIfAbsent( space, s -> new HashSet<>() ).add( entry );
+		}
+		if ( youngest == null ) {
+			eldest = entry;
+		}
+		else {
+			youngest.younger = entry;
+			entry.elder = youngest;
+		}
+		youngest = entry;
+		size += entry.results.size();
+
+		while ( size > maximumSize ) {
+			remove( eldest );
+		}
+	}
+
+	/**
+	 * Remove the results for the given key, which are being replaced in the region
+	 */
+	synchronized void evict(QueryKey key) {
+		final Entry entry = entries.get( key );
+		if ( entry != null ) {
+			remove( entry );
+		}
+	}
+
+	private synchronized void expire(Entry entry) {
+		remove( entry );
+	}
+
+	@Override
+	public synchronized void spacesInvalidated(String[] spaces, long timestamp) {
+		for ( String space : spaces ) {
+			lastInvalidations.put( space, timestamp );
+			final Set<Entry> invalidated = entriesBySpace.remove( space );
+			if ( invalidated != null ) {
+				for ( Entry entry : invalidated ) {
+					remove( entry );
+				}
+			}
+		}
+	}
+
+	synchronized void clear() {
+		entries.clear();
+		entriesBySpace.clear();
+		eldest = null;
+		youngest = null;
+		size = 0;
+	}
+
+	private void remove(Entry entry) {
+		if ( entries.remove( entry.key, entry ) ) {
+			for ( String space : entry.spaces ) {
+				final Set<Entry> spaceEntries = entriesBySpace.get( space );
+				if ( spaceEntries != null ) {
+					spaceEntries.remove( entry );
+					if ( spaceEntries.isEmpty() ) {
+						entriesBySpace.remove( space );
+					}
+				}
+			}
+			if ( entry.elder == null ) {
+				eldest = entry.younger;
+			}
+			else {
+				entry.elder.younger = entry.younger;
+			}
+			if ( entry.younger == null ) {
+				youngest = entry.elder;
+			}
+			else {
+				entry.younger.elder = entry.elder;
+			}
+			size -= entry.results.size();
+		}
+	}
+
+	private static final class Entry {
+		private final QueryKey key;
+		private final String[] spaces;
+		private final List<?> results;
+		private final long expiry;
+		private Entry elder;
+		private Entry younger;
+
+		private Entry(QueryKey key, String[] spaces, List<?> results, long expiry) {
+			this.key = key;
+			this.spaces = spaces;
+			this.results = results;
+			this.expiry = expiry;
+		}
+	}
+}
@@ -7,6 +7,8 @@
 package org.hibernate.cache.internal;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.hibernate.cache.spi.RegionFactory;
 import org.hibernate.cache.spi.TimestampsCache;
@@ -31,6 +33,7 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 	public static final boolean DEBUG_ENABLED = log.isDebugEnabled();
 
 	private final TimestampsRegion timestampsRegion;
+	private final List<InvalidationListener> invalidationListeners = new CopyOnWriteArrayList<>();
 
 	public TimestampsCacheEnabledImpl(TimestampsRegion timestampsRegion) {
 		this.timestampsRegion = timestampsRegion;
@@ -41,6 +44,18 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 		return timestampsRegion;
 	}
 
+	@Override
+	public boolean addInvalidationListener(InvalidationListener listener) {
+		invalidationListeners.add( listener );
+		return true;
+	}
+
+	private void notifyInvalidationListeners(String[] spaces, long timestamp) {
+		for ( InvalidationListener listener : invalidationListeners ) {
+			listener.spacesInvalidated( spaces, timestamp );
+		}
+	}
+
 	@Override
 	public void preInvalidate(
 			String[] spaces,
@@ -84,6 +99,8 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 				statistics.updateTimestampsCachePut();
 			}
 		}
+
+		notifyInvalidationListeners( spaces, ts );
 	}
 
 	@Override
@@ -123,6 +140,8 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 				}
 			}
 		}
+
+		notifyInvalidationListeners( spaces, ts );
 	}
 
 	@Override
@@ -101,6 +101,33 @@ public interface QueryResultsCache {
 			String[] spaces,
 			SharedSessionContractImplementor session) throws HibernateException;
 
+	/**
+	 * Attempt to retrieve a cached query result list for the given
+	 * {@link QueryKey}, as {@linkplain #get(QueryKey, Set, SharedSessionContractImplementor)
+	 * above}, {@linkplain org.hibernate.stat.spi.StatisticsImplementor#queryCacheStale
+	 * reporting} cached results which are stale in the statistics of the given query.
+	 *
+	 * @param key The cache key uniquely identifying the query and its
+	 *            bound parameter arguments
+	 * @param spaces The query spaces which affect the results of the
+	 *               query (used to check if cached results are stale)
+	 * @param queryIdentifier The identifier of the query in the statistics
+	 * @param session The originating session
+	 *
+	 * @return The cached results; may be null.
+	 *
+	 * @throws HibernateException Indicates a problem delegating to the underlying cache.
+	 *
+	 * @since 6.5
+	 */
+	default List<?> get(
+			QueryKey key,
+			Set<String> spaces,
+			String queryIdentifier,
+			SharedSessionContractImplementor session) throws HibernateException {
+		return get( key, spaces, session );
+	}
+
 	/**
 	 * Clear all items from this query result cache.
 	 *
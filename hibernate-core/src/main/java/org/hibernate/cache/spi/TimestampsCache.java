@@ -67,6 +67,19 @@ public interface TimestampsCache {
 			Long timestamp,
 			SharedSessionContractImplementor session);
 
+	/**
+	 * Register a listener to be notified of each (pre-)invalidation of query
+	 * spaces performed by this cache.
+	 *
+	 * @return {@code true} if this cache notifies listeners, or {@code false}
+	 *         if the listener will never be notified
+	 *
+	 * @since 6.5
+	 */
+	default boolean addInvalidationListener(InvalidationListener listener) {
+		return false;
+	}
+
 	default void clear() throws CacheException {
 		getRegion().clear();
 	}
@@ -75,4 +88,19 @@ public interface TimestampsCache {
 		// nothing to do - the region itself is destroyed
 	}
 
+	/**
+	 * Listener notified of the invalidations of query spaces
+	 *
+	 * @see #addInvalidationListener
+	 *
+	 * @since 6.5
+	 */
+	@FunctionalInterface
+	interface InvalidationListener {
+		/**
+		 * Called after the given spaces were (pre-)invalidated with the given timestamp.
+		 */
+		void spacesInvalidated(String[] spaces, long timestamp);
+	}
+
 }
@@ -6,6 +6,10 @@
  */
 package org.hibernate.cache.spi.access;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 import jakarta.persistence.Cache;
 
 import org.hibernate.cache.CacheException;
@@ -57,6 +61,33 @@ public interface CachedDomainDataAccess {
 	 */
 	Object get(SharedSessionContractImplementor session, Object key);
 
+	/**
+	 * Attempt to retrieve several objects from the cache at once. Used when
+	 * resolving a batch of entities/collections from the second level cache,
+	 * so that the underlying cache provider may fetch them in a single call.
+	 *
+	 * @param session Current session.
+	 * @param keys The keys of the items to be retrieved.
+	 *
+	 * @return the cached data which was found, keyed by cache key
+	 *
+	 * @throws CacheException Propagated from underlying cache provider
+	 *
+	 * @implSpec The default implementation calls {@link #get} for each key
+	 *
+	 * @since 6.5
+	 */
+	default Map<Object, Object> getAll(SharedSessionContractImplementor session, Collection<?> keys) {
+		final Map<Object, Object> cachedData = new HashMap<>();
+		for ( Object key : keys ) {
+			final Object value = get( session, key );
+			if ( value != null ) {
+				cachedData.put( key, value );
+			}
+		}
+		return cachedData;
+	}
+
 	/**
 	 * Attempt to cache an object, afterQuery loading from the database.
 	 *
@@ -96,6 +127,38 @@ public interface CachedDomainDataAccess {
 			Object version,
 			boolean minimalPutOverride);
 
+	/**
+	 * Attempt to cache several objects, after loading them from the database
+	 * with a single query, so that the underlying cache provider may store
+	 * them in a single call.
+	 *
+	 * @param session Current session.
+	 * @param keys The item keys
+	 * @param values The items
+	 * @param versions The item version numbers
+	 *
+	 * @return the number of objects which were successfully cached
+	 *
+	 * @throws CacheException Propagated from underlying cache provider
+	 *
+	 * @implSpec The default implementation calls {@link #putFromLoad} for each item
+	 *
+	 * @since 6.5
+	 */
+	default int putAllFromLoad(
+			SharedSessionContractImplementor session,
+			Object[] keys,
+			Object[] values,
+			Object[] versions) {
+		int puts = 0;
+		for ( int i = 0; i < keys.length; i++ ) {
+			if ( putFromLoad( session, keys[i], values[i], versions[i], false ) ) {
+				puts++;
+			}
+		}
+		return puts;
+	}
+
 	/**
 	 * We are going to attempt to update/delete the keyed object. This
 	 * method is used by "asynchronous" concurrency strategies.
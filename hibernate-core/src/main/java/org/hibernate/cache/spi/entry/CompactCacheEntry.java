@@ -0,0 +1,383 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.Type;
+
+/**
+ * Compact CacheEntry format for entities.  Used to store the entry into the second-level cache
+ * as a {@link CompactState}, which encodes the values of the basic attributes of the entity into
+ * a single {@code byte[]}, instead of an array of boxed values.
+ * <p>
+ * The encoding of each attribute is chosen from the domain Java type of its {@link BasicType},
+ * which is also the type of its disassembled values, whether or not the type has a value converter.
+ * Values of any other type, or of an unexpected class, are kept as references, in a separate array.
+ *
+ * @see org.hibernate.cfg.CacheSettings#USE_COMPACT_CACHE_ENTRIES
+ */
+public class CompactCacheEntry implements CacheEntryStructure {
+	private static final byte REFERENCE = 0;
+	private static final byte LONG = 1;
+	private static final byte INTEGER = 2;
+	private static final byte SHORT = 3;
+	private static final byte BYTE = 4;
+	private static final byte BOOLEAN = 5;
+	private static final byte DOUBLE = 6;
+	private static final byte FLOAT = 7;
+	private static final byte CHARACTER = 8;
+	private static final byte STRING = 9;
+
+	// the tag of an encoded value, written before it
+	private static final byte NULL_VALUE = 0;
+	private static final byte ENCODED_VALUE = 1;
+	private static final byte REFERENCED_VALUE = 2;
+
+	private final EntityPersister persister;
+	private final byte[] codecs;
+
+	/**
+	 * Constructs a CompactCacheEntry strategy
+	 *
+	 * @param persister The persister whose data needs to be encoded.
+	 */
+	public CompactCacheEntry(EntityPersister persister) {
+		this.persister = persister;
+		this.codecs = codecs( persister.getPropertyTypes() );
+	}
+
+	private static byte[] codecs(Type[] types) {
+		final byte[] codecs = new byte[types.length];
+		for ( int i = 0; i < types.length; i++ ) {
+			codecs[i] = codec( types[i] );
+		}
+		return codecs;
+	}
+
+	private static byte codec(Type type) {
+		if ( type instanceof BasicType<?> ) {
+			// Type#disassemble() keeps the domain value, even when the type has a value converter
+			return codec( ( (BasicType<?>) type ).getJavaTypeDescriptor().getJavaTypeClass() );
+		}
+		return REFERENCE;
+	}
+
+	private static byte codec(Class<?> javaType) {
+		if ( javaType == Long.class || javaType == long.class ) {
+			return LONG;
+		}
+		else if ( javaType == Integer.class || javaType == int.class ) {
+			return INTEGER;
+		}
+		else if ( javaType == Short.class || javaType == short.class ) {
+			return SHORT;
+		}
+		else if ( javaType == Byte.class || javaType == byte.class ) {
+			return BYTE;
+		}
+		else if ( javaType == Boolean.class || javaType == boolean.class ) {
+			return BOOLEAN;
+		}
+		else if ( javaType == Double.class || javaType == double.class ) {
+			return DOUBLE;
+		}
+		else if ( javaType == Float.class || javaType == float.class ) {
+			return FLOAT;
+		}
+		else if ( javaType == Character.class || javaType == char.class ) {
+			return CHARACTER;
+		}
+		else if ( javaType == String.class ) {
+			return STRING;
+		}
+		else {
+			return REFERENCE;
+		}
+	}
+
+	private byte[] codecs(String entityName, SessionFactoryImplementor factory) {
+		if ( entityName.equals( persister.getEntityName() ) ) {
+			return codecs;
+		}
+		final EntityPersister subclassPersister = factory.getRuntimeMetamodels()
+				.getMappingMetamodel()
+				.getEntityDescriptor( entityName );
+		final CacheEntryStructure structure = subclassPersister.getCacheEntryStructure();
+		return structure instanceof CompactCacheEntry
+				? ( (CompactCacheEntry) structure ).codecs
+				: codecs( subclassPersister.getPropertyTypes() );
+	}
+
+	@Override
+	public Object structure(Object item) {
+		final CacheEntry entry = (CacheEntry) item;
+		final Serializable[] disassembledState = entry.getDisassembledState();
+		final byte[] codecs = codecs( entry.getSubclass(), persister.getFactory() );
+
+		final Encoder encoder = new Encoder( disassembledState.length * 5 + 10 );
+		for ( int i = 0; i < disassembledState.length; i++ ) {
+			encoder.write( codecs[i], disassembledState[i] );
+		}
+		final Object version = entry.getVersion();
+		final byte versionCodec = version == null ? REFERENCE : codec( version.getClass() );
+		encoder.writeByte( versionCodec );
+		encoder.write( versionCodec, version );
+		return new CompactState( entry.getSubclass(), encoder.toByteArray(), encoder.references() );
+	}
+
+	@Override
+	public Object destructure(Object structured, SessionFactoryImplementor factory) {
+		final CompactState state = (CompactState) structured;
+		final byte[] codecs = codecs( state.subclass, factory );
+
+		final Decoder decoder = new Decoder( state.values, state.references );
+		final Serializable[] disassembledState = new Serializable[codecs.length];
+		for ( int i = 0; i < codecs.length; i++ ) {
+			disassembledState[i] = decoder.read( codecs[i] );
+		}
+		final Object version = decoder.read( decoder.readByte() );
+		return new StandardCacheEntryImpl( disassembledState, state.subclass, version );
+	}
+
+	private static boolean encodable(byte codec, Object value) {
+		switch ( codec ) {
+			case LONG:
+				return value instanceof Long;
+			case INTEGER:
+				return value instanceof Integer;
+			case SHORT:
+				return value instanceof Short;
+			case BYTE:
+				return value instanceof Byte;
+			case BOOLEAN:
+				return value instanceof Boolean;
+			case DOUBLE:
+				return value instanceof Double;
+			case FLOAT:
+				return value instanceof Float;
+			case CHARACTER:
+				return value instanceof Character;
+			case STRING:
+				return value instanceof String;
+			default:
+				return false;
+		}
+	}
+
+	/**
+	 * The cached form of an entity, as structured by {@link CompactCacheEntry}
+	 */
+	public static final class CompactState implements Serializable {
+		private final String subclass;
+		private final byte[] values;
+		private final Serializable[] references;
+
+		public CompactState(String subclass, byte[] values, Serializable[] references) {
+			this.subclass = subclass;
+			this.values = values;
+			this.references = references;
+		}
+
+		public String getSubclass() {
+			return subclass;
+		}
+
+		/**
+		 * The encoded values of the attributes and version
+		 */
+		public byte[] getValues() {
+			return values;
+		}
+
+		/**
+		 * The values which could not be encoded, or {@code null} if there are none
+		 */
+		public Serializable[] getReferences() {
+			return references;
+		}
+
+		@Override
+		public String toString() {
+			return "CompactCacheEntry(" + subclass + ')';
+		}
+	}
+
+	private static final class Encoder {
+		private byte[] bytes;
+		private int position;
+		private List<Serializable> references;
+
+		private Encoder(int initialSize) {
+			bytes = new byte[initialSize];
+		}
+
+		private void write(byte codec, Object value) {
+			if ( value == null ) {
+				writeByte( NULL_VALUE );
+			}
+			else if ( encodable( codec, value ) ) {
+				writeByte( ENCODED_VALUE );
+				switch ( codec ) {
+					case LONG:
+						writeLong( (Long) value );
+						break;
+					case INTEGER:
+						writeInt( (Integer) value );
+						break;
+					case SHORT:
+						writeShort( (Short) value );
+						break;
+					case BYTE:
+						writeByte( (Byte) value );
+						break;
+					case BOOLEAN:
+						writeByte( (byte) ( (Boolean) value ? 1 : 0 ) );
+						break;
+					case DOUBLE:
+						writeLong( Double.doubleToRawLongBits( (Double) value ) );
+						break;
+					case FLOAT:
+						writeInt( Float.floatToRawIntBits( (Float) value ) );
+						break;
+					case CHARACTER:
+						writeShort( (short) ( (Character) value ).charValue() );
+						break;
+					case STRING:
+						final byte[] utf8 = ( (String) value ).getBytes( StandardCharsets.UTF_8 );
+						writeInt( utf8.length );
+						ensureCapacity( utf8.length );
+						System.arraycopy( utf8, 0, bytes, position, utf8.length );
+						position += utf8.length;
+						break;
+				}
+			}
+			else {
+				writeByte( REFERENCED_VALUE );
+				if ( references == null ) {
+					references = new ArrayList<>();
+				}
+				references.add( (Serializable) value );
+			}
+		}
+
+		private void ensureCapacity(int size) {
+			if ( position + size > bytes.length ) {
+				bytes = Arrays.copyOf( bytes, Math.max( bytes.length * 2, position + size ) );
+			}
+		}
+
+		private void writeByte(byte value) {
+			ensureCapacity( 1 );
+			bytes[position++] = value;
+		}
+
+		private void writeShort(short value) {
+			ensureCapacity( 2 );
+			bytes[position++] = (byte) ( value >> 8 );
+			bytes[position++] = (byte) value;
+		}
+
+		private void writeInt(int value) {
+			ensureCapacity( 4 );
+			bytes[position++] = (byte) ( value >> 24 );
+			bytes[position++] = (byte) ( value >> 16 );
+			bytes[position++] = (byte) ( value >> 8 );
+			bytes[position++] = (byte) value;
+		}
+
+		private void writeLong(long value) {
+			writeInt( (int) ( value >> 32 ) );
+			writeInt( (int) value );
+		}
+
+		private byte[] toByteArray() {
+			return position == bytes.length ? bytes : Arrays.copyOf( bytes, position );
+		}
+
+		private Serializable[] references() {
+			return references == null ? null : references.toArray( new Serializable[0] );
+		}
+	}
+
+	private static final class Decoder {
+		private final byte[] bytes;
+		private final Serializable[] references;
+		private int position;
+		private int referenceIndex;
+
+		private Decoder(byte[] bytes, Serializable[] references) {
+			this.bytes = bytes;
+			this.references = references;
+		}
+
+		private Serializable read(byte codec) {
+			switch ( bytes[position++] ) {
+				case NULL_VALUE:
+					return null;
+				case REFERENCED_VALUE:
+					return references[referenceIndex++];
+				default:
+					return decode( codec );
+			}
+		}
+
+		private byte readByte() {
+			return bytes[position++];
+		}
+
+		private Serializable decode(byte codec) {
+			switch ( codec ) {
+				case LONG:
+					return readLong();
+				case INTEGER:
+					return readInt();
+				case SHORT:
+					return readShort();
+				case BYTE:
+					return readByte();
+				case BOOLEAN:
+					return readByte() != 0;
+				case DOUBLE:
+					return Double.longBitsToDouble( readLong() );
+				case FLOAT:
+					return Float.intBitsToFloat( readInt() );
+				case CHARACTER:
+					return (char) readShort();
+				case STRING:
+					final int length = readInt();
+					final String string = new String( bytes, position, length, StandardCharsets.UTF_8 );
+					position += length;
+					return string;
+				default:
+					throw new IllegalStateException( "Unexpected encoded value" );
+			}
+		}
+
+		private short readShort() {
+			return (short) ( ( bytes[position++] & 0xFF ) << 8 | bytes[position++] & 0xFF );
+		}
+
+		private int readInt() {
+			return ( bytes[position++] & 0xFF ) << 24
+					| ( bytes[position++] & 0xFF ) << 16
+					| ( bytes[position++] & 0xFF ) << 8
+					| bytes[position++] & 0xFF;
+		}
+
+		private long readLong() {
+			return (long) readInt() << 32 | readInt() & 0xFFFFFFFFL;
+		}
+	}
+}
@@ -6,6 +6,9 @@
  */
 package org.hibernate.cache.spi.support;
 
+import java.util.Collection;
+import java.util.Map;
+
 import org.hibernate.cache.spi.DomainDataRegion;
 import org.hibernate.cache.spi.access.CachedDomainDataAccess;
 import org.hibernate.cache.spi.access.SoftLock;
@@ -13,6 +16,8 @@ import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 import org.jboss.logging.Logger;
 
+import static org.hibernate.internal.util.collections.CollectionHelper.mapOfSize;
+
 /**
  * @author Steve Ebersole
  */
@@ -53,6 +58,11 @@ public abstract class AbstractCachedDomainDataAccess implements CachedDomainData
 		return getStorageAccess().getFromCache( key, session );
 	}
 
+	@Override
+	public Map<Object, Object> getAll(SharedSessionContractImplementor session, Collection<?> keys) {
+		return getStorageAccess().getAllFromCache( keys, session );
+	}
+
 	@Override
 	public boolean putFromLoad(
 			SharedSessionContractImplementor session,
@@ -73,6 +83,20 @@ public abstract class AbstractCachedDomainDataAccess implements CachedDomainData
 		return putFromLoad( session, key, value, version );
 	}
 
+	@Override
+	public int putAllFromLoad(
+			SharedSessionContractImplementor session,
+			Object[] keys,
+			Object[] values,
+			Object[] versions) {
+		final Map<Object, Object> items = mapOfSize( keys.length );
+		for ( int i = 0; i < keys.length; i++ ) {
+			items.put( keys[i], values[i] );
+		}
+		getStorageAccess().putAllFromLoad( items, session );
+		return keys.length;
+	}
+
 	private static final SoftLock REGION_LOCK = new SoftLock() {
 	};
 
@@ -7,12 +7,19 @@
 package org.hibernate.cache.spi.support;
 
 import java.io.Serializable;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
 
 import org.hibernate.cache.spi.DomainDataRegion;
 import org.hibernate.cache.spi.RegionFactory;
@@ -22,23 +29,35 @@ import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.jboss.logging.Logger;
 
 import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
+import static org.hibernate.internal.util.collections.CollectionHelper.mapOfSize;
 
 /**
+ * Base support for read-write access to cached data.
+ * <p>
+ * Operations on a cached item are serialized using a read-write lock, chosen
+ * among a fixed number of lock stripes according to the hash of the item key,
+ * so that contention grows with key collisions rather than with the overall
+ * traffic of the region.
+ *
  * @author Steve Ebersole
  */
 public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAccess {
 	private static final Logger log = Logger.getLogger( AbstractReadWriteAccess.class );
 
+	private static final int LOCK_STRIPES =
+			Math.min( 256, Integer.highestOneBit( Runtime.getRuntime().availableProcessors() * 8 - 1 ) << 1 );
+
 	private final UUID uuid = UUID.randomUUID();
 	private final AtomicLong nextLockId = new AtomicLong();
-	private final ReentrantReadWriteLock reentrantReadWriteLock = new ReentrantReadWriteLock();
-	private final Lock readLock = reentrantReadWriteLock.readLock();
-	private final Lock writeLock = reentrantReadWriteLock.writeLock();
+	private final ReentrantReadWriteLock[] lockStripes = new ReentrantReadWriteLock[LOCK_STRIPES];
 
 	protected AbstractReadWriteAccess(
 			DomainDataRegion domainDataRegion,
 			DomainDataStorageAccess storageAccess) {
 		super( domainDataRegion, storageAccess );
+		for ( int i = 0; i < lockStripes.length; i++ ) {
+			lockStripes[i] = new ReentrantReadWriteLock();
+		}
 	}
 
 	protected abstract Comparator getVersionComparator();
@@ -51,12 +70,73 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 		return nextLockId.getAndIncrement();
 	}
 
+	/**
+	 * The lock for reading the cached item with the given key
+	 */
+	protected Lock readLock(Object key) {
+		return lockStripe( key ).readLock();
+	}
+
+	/**
+	 * The lock for modifying the cached item with the given key
+	 */
+	protected Lock writeLock(Object key) {
+		return lockStripe( key ).writeLock();
+	}
+
+	/**
+	 * A lock for reading any of the cached items, which acquires the read
+	 * locks of every stripe
+	 *
+	 * @deprecated use {@link #readLock(Object)}
+	 */
+	@Deprecated(since = "6.5")
 	protected Lock readLock() {
-		return readLock;
+		return new StripedLock( allStripes( ReentrantReadWriteLock::readLock ) );
 	}
 
+	/**
+	 * A lock for modifying any of the cached items, which acquires the write
+	 * locks of every stripe
+	 *
+	 * @deprecated use {@link #writeLock(Object)}
+	 */
+	@Deprecated(since = "6.5")
 	protected Lock writeLock() {
-		return writeLock;
+		return new StripedLock( allStripes( ReentrantReadWriteLock::writeLock ) );
+	}
+
+	private ReentrantReadWriteLock lockStripe(Object key) {
+		return lockStripes[stripeIndex( key )];
+	}
+
+	private int stripeIndex(Object key) {
+		final int hash = key.hashCode();
+		return ( hash ^ ( hash >>> 16 ) ) & ( lockStripes.length - 1 );
+	}
+
+	private Lock[] allStripes(Function<ReentrantReadWriteLock, Lock> lock) {
+		final Lock[] locks = new Lock[lockStripes.length];
+		for ( int i = 0; i < locks.length; i++ ) {
+			locks[i] = lock.apply( lockStripes[i] );
+		}
+		return locks;
+	}
+
+	/**
+	 * The locks of the distinct stripes of the given keys, ordered by
+	 * stripe, so that they are always acquired in the same order
+	 */
+	private Lock stripes(Collection<?> keys, Function<ReentrantReadWriteLock, Lock> lock) {
+		final BitSet stripes = new BitSet( lockStripes.length );
+		for ( Object key : keys ) {
+			stripes.set( stripeIndex( key ) );
+		}
+		final Lock[] locks = new Lock[stripes.cardinality()];
+		for ( int i = stripes.nextSetBit( 0 ), j = 0; i >= 0; i = stripes.nextSetBit( i + 1 ), j++ ) {
+			locks[j] = lock.apply( lockStripes[i] );
+		}
+		return new StripedLock( locks );
 	}
 
 	/**
@@ -69,6 +149,7 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 		if ( debugEnabled ) {
 			log.debugf( "Getting cached data from region [`%s` (%s)] by key [%s]", getRegion().getName(), getAccessType(), key );
 		}
+		final Lock readLock = readLock( key );
 		try {
 			readLock.lock();
 			final Lockable item = (Lockable) getStorageAccess().getFromCache( key, session );
@@ -99,12 +180,37 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 		}
 	}
 
+	@Override
+	public Map<Object, Object> getAll(SharedSessionContractImplementor session, Collection<?> keys) {
+		if ( log.isDebugEnabled() ) {
+			log.debugf( "Getting cached data from region [`%s` (%s)] by %s keys", getRegion().getName(), getAccessType(), keys.size() );
+		}
+		final Lock readLock = stripes( keys, ReentrantReadWriteLock::readLock );
+		try {
+			readLock.lock();
+			final Map<Object, Object> items = getStorageAccess().getAllFromCache( keys, session );
+			final long timestamp = session.getCacheTransactionSynchronization().getCachingTimestamp();
+			final Map<Object, Object> values = mapOfSize( items.size() );
+			for ( Map.Entry<Object, Object> entry : items.entrySet() ) {
+				final Lockable item = (Lockable) entry.getValue();
+				if ( item.isReadable( timestamp ) ) {
+					values.put( entry.getKey(), item.getValue() );
+				}
+			}
+			return values;
+		}
+		finally {
+			readLock.unlock();
+		}
+	}
+
 	@Override
 	public boolean putFromLoad(
 			SharedSessionContractImplementor session,
 			Object key,
 			Object value,
 			Object version) {
+		final Lock writeLock = writeLock( key );
 		try {
 			final boolean debugEnabled = log.isDebugEnabled();
 			if ( debugEnabled ) {
@@ -140,6 +246,45 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 		}
 	}
 
+	@Override
+	public int putAllFromLoad(
+			SharedSessionContractImplementor session,
+			Object[] keys,
+			Object[] values,
+			Object[] versions) {
+		final Lock writeLock = stripes( Arrays.asList( keys ), ReentrantReadWriteLock::writeLock );
+		try {
+			final boolean debugEnabled = log.isDebugEnabled();
+			if ( debugEnabled ) {
+				log.debugf( "Caching data from load [region=`%s` (%s)] : %s keys", getRegion().getName(), getAccessType(), keys.length );
+			}
+			writeLock.lock();
+			final long timestamp = session.getCacheTransactionSynchronization().getCachingTimestamp();
+			final Map<Object, Object> existingItems = getStorageAccess().getAllFromCache( Arrays.asList( keys ), session );
+			final Map<Object, Object> items = mapOfSize( keys.length );
+			for ( int i = 0; i < keys.length; i++ ) {
+				final Lockable item = (Lockable) existingItems.get( keys[i] );
+				if ( item == null || item.isWriteable( timestamp, versions[i], getVersionComparator() ) ) {
+					items.put( keys[i], new Item( values[i], versions[i], timestamp ) );
+				}
+				else if ( debugEnabled ) {
+					log.debugf(
+							"Cache put-from-load [region=`%s` (%s), key=`%s`, value=`%s`] failed due to being non-writable",
+							getAccessType(),
+							getRegion().getName(),
+							keys[i],
+							values[i]
+					);
+				}
+			}
+			getStorageAccess().putAllIntoCache( items, session );
+			return items.size();
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
 	protected abstract AccessedDataClassification getAccessedDataClassification();
 
 	@Override
@@ -154,6 +299,7 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 
 	@Override
 	public SoftLock lockItem(SharedSessionContractImplementor session, Object key, Object version) {
+		final Lock writeLock = writeLock( key );
 		try {
 			writeLock.lock();
 
@@ -176,6 +322,7 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 
 	@Override
 	public void unlockItem(SharedSessionContractImplementor session, Object key, SoftLock lock) {
+		final Lock writeLock = writeLock( key );
 		try {
 			if ( log.isDebugEnabled() ) {
 				log.debugf(
@@ -279,7 +426,7 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 		/**
 		 * Creates an unlocked item wrapping the given value with a version and creation timestamp.
 		 */
-		Item(Object value, Object version, long timestamp) {
+		public Item(Object value, Object version, long timestamp) {
 			this.value = value;
 			this.version = version;
 			this.timestamp = timestamp;
@@ -320,6 +467,20 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 			return value;
 		}
 
+		/**
+		 * The version of the enclosed value.
+		 */
+		public Object getVersion() {
+			return version;
+		}
+
+		/**
+		 * The timestamp of the creation of this item.
+		 */
+		public long getTimestamp() {
+			return timestamp;
+		}
+
 		@Override
 		public boolean isUnlockable(SoftLock lock) {
 			return false;
@@ -465,4 +626,84 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 			return "Lock Source-UUID:" + sourceUuid + " Lock-ID:" + lockId;
 		}
 	}
+
+	/**
+	 * Acquires several locks, always in the given order, and releases them
+	 * in the reverse order.
+	 */
+	private static final class StripedLock implements Lock {
+		private final Lock[] locks;
+
+		private StripedLock(Lock[] locks) {
+			this.locks = locks;
+		}
+
+		@Override
+		public void lock() {
+			for ( Lock lock : locks ) {
+				lock.lock();
+			}
+		}
+
+		@Override
+		public void lockInterruptibly() throws InterruptedException {
+			int acquired = 0;
+			try {
+				for ( ; acquired < locks.length; acquired++ ) {
+					locks[acquired].lockInterruptibly();
+				}
+			}
+			finally {
+				if ( acquired < locks.length ) {
+					unlock( acquired );
+				}
+			}
+		}
+
+		@Override
+		public boolean tryLock() {
+			for ( int i = 0; i < locks.length; i++ ) {
+				if ( !locks[i].tryLock() ) {
+					unlock( i );
+					return false;
+				}
+			}
+			return true;
+		}
+
+		@Override
+		public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+			final long deadline = System.nanoTime() + unit.toNanos( time );
+			int acquired = 0;
+			try {
+				for ( ; acquired < locks.length; acquired++ ) {
+					if ( !locks[acquired].tryLock( deadline - System.nanoTime(), TimeUnit.NANOSECONDS ) ) {
+						return false;
+					}
+				}
+				return true;
+			}
+			finally {
+				if ( acquired < locks.length ) {
+					unlock( acquired );
+				}
+			}
+		}
+
+		@Override
+		public void unlock() {
+			unlock( locks.length );
+		}
+
+		private void unlock(int count) {
+			for ( int i = count - 1; i >= 0; i-- ) {
+				locks[i].unlock();
+			}
+		}
+
+		@Override
+		public Condition newCondition() {
+			throw new UnsupportedOperationException( "Conditions are not supported by striped locks" );
+		}
+	}
 }
@@ -6,8 +6,13 @@
  */
 package org.hibernate.cache.spi.support;
 
+import java.util.Collection;
+import java.util.Map;
+
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
+import static org.hibernate.internal.util.collections.CollectionHelper.mapOfSize;
+
 /**
  * Specialization of {@link StorageAccess} for domain data regions.
  *
@@ -24,4 +29,54 @@ public interface DomainDataStorageAccess extends StorageAccess {
 	default void putFromLoad(Object key, Object value, SharedSessionContractImplementor session) {
 		putIntoCache( key, value, session );
 	}
+
+	/**
+	 * Put several items into the cache, using a single call to the
+	 * underlying cache when it supports bulk operations.
+	 *
+	 * @implNote the method default is to call {@link #putIntoCache} for each item
+	 *
+	 * @since 6.5
+	 */
+	default void putAllIntoCache(Map<Object, Object> items, SharedSessionContractImplementor session) {
+		for ( Map.Entry<Object, Object> item : items.entrySet() ) {
+			putIntoCache( item.getKey(), item.getValue(), session );
+		}
+	}
+
+	/**
+	 * Specialized form of {@linkplain #putAllIntoCache putting several items}
+	 * into the cache in cases where they were all loaded (read) from the database
+	 * by the same query
+	 *
+	 * @implNote the method default is to call {@link #putFromLoad} for each item
+	 *
+	 * @since 6.5
+	 */
+	default void putAllFromLoad(Map<Object, Object> items, SharedSessionContractImplementor session) {
+		for ( Map.Entry<Object, Object> item : items.entrySet() ) {
+			putFromLoad( item.getKey(), item.getValue(), session );
+		}
+	}
+
+	/**
+	 * Get the items with the given keys from the cache, using a single
+	 * call to the underlying cache when it supports bulk operations.
+	 *
+	 * @return the items which were found, keyed by their key
+	 *
+	 * @implNote the method default is to call {@link #getFromCache} for each key
+	 *
+	 * @since 6.5
+	 */
+	default Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		final Map<Object, Object> items = mapOfSize( keys.size() );
+		for ( Object key : keys ) {
+			final Object item = getFromCache( key, session );
+			if ( item != null ) {
+				items.put( key, item );
+			}
+		}
+		return items;
+	}
 }
@@ -35,6 +35,75 @@ public interface BatchSettings {
 	 */
 	String STATEMENT_BATCH_SIZE = "hibernate.jdbc.batch_size";
 
+	/**
+	 * When enabled, batched inserts of rows into the same table are coalesced into
+	 * multi-row {@code insert ... values (...),(...)} statements, rather than sent
+	 * as a JDBC batch of single-row inserts, which many drivers execute as separate
+	 * statements. Each statement inserts up to {@value #STATEMENT_BATCH_SIZE} rows,
+	 * within the {@linkplain org.hibernate.dialect.Dialect#getParameterCountLimit
+	 * parameter limit} and the {@linkplain org.hibernate.dialect.Dialect#getMultiRowInsertRowLimit
+	 * row limit} of the database.
+	 * <p>
+	 * The size of these batches is not {@linkplain #ADAPTIVE_BATCH_SIZE_MAX adapted}.
+	 * <p>
+	 * Has no effect unless batching is enabled, or if the
+	 * {@linkplain org.hibernate.dialect.Dialect#getMultiRowInsertString Dialect}
+	 * does not support multi-row inserts.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 6.5
+	 */
+	String MULTI_ROW_INSERT = "hibernate.jdbc.batch_multi_row_insert";
+
+	/**
+	 * The largest batch size which adaptive batching may choose, or {@code 0} to always
+	 * use the {@value #STATEMENT_BATCH_SIZE}.
+	 * <p>
+	 * When enabled, the size of the batches of each table and kind of statement starts
+	 * at the {@value #STATEMENT_BATCH_SIZE}, and is then adjusted after every execution
+	 * of a batch from its measured execution time and the size of its bound parameter
+	 * values, so that a batch executes within {@value #ADAPTIVE_BATCH_TARGET_TIME}
+	 * and binds about a megabyte of values.  Batches of wide rows, with LOBs for example,
+	 * thus get smaller, and batches of narrow rows bigger.
+	 * <p>
+	 * Has no effect unless batching is enabled, and does not apply to the inserts
+	 * coalesced into {@linkplain #MULTI_ROW_INSERT multi-row inserts}, which always
+	 * use the {@value #STATEMENT_BATCH_SIZE}, nor to sessions with a batch size set by
+	 * {@link org.hibernate.Session#setJdbcBatchSize}, which is used as is.
+	 *
+	 * @see #ADAPTIVE_BATCH_SIZE_MIN
+	 * @see org.hibernate.stat.Statistics#getAdaptiveJdbcBatchSizes()
+	 *
+	 * @settingDefault {@code 0}
+	 *
+	 * @since 6.5
+	 */
+	String ADAPTIVE_BATCH_SIZE_MAX = "hibernate.jdbc.adaptive_batch_size_max";
+
+	/**
+	 * The smallest batch size which adaptive batching may choose.
+	 *
+	 * @see #ADAPTIVE_BATCH_SIZE_MAX
+	 *
+	 * @settingDefault {@code 2}
+	 *
+	 * @since 6.5
+	 */
+	String ADAPTIVE_BATCH_SIZE_MIN = "hibernate.jdbc.adaptive_batch_size_min";
+
+	/**
+	 * The execution time, in milliseconds, which adaptive batching aims at for
+	 * a single batch.
+	 *
+	 * @see #ADAPTIVE_BATCH_SIZE_MAX
+	 *
+	 * @settingDefault {@code 50}
+	 *
+	 * @since 6.5
+	 */
+	String ADAPTIVE_BATCH_TARGET_TIME = "hibernate.jdbc.adaptive_batch_target_time";
+
 	/**
 	 * Enable ordering of update statements by primary key value, for the purpose of more
 	 * efficient JDBC batching
@@ -55,6 +124,24 @@ public interface BatchSettings {
 	 */
 	String ORDER_INSERTS = "hibernate.order_inserts";
 
+	/**
+	 * The minimum number of entities in a persistence context for the dirty check of
+	 * the entities during a flush to be partitioned across the common
+	 * {@link java.util.concurrent.ForkJoinPool}, or {@code 0} to always check them on
+	 * the flushing thread.
+	 * <p>
+	 * Only the extraction of the state of entities with simple properties, and its
+	 * comparison with their loaded snapshot, is performed in parallel, ahead of time.
+	 * The flush events and the resulting actions are still processed one entity at a
+	 * time, in the usual order, and the result of the parallel check is discarded for
+	 * the entities flushed after a {@link jakarta.persistence.PreUpdate} callback.
+	 *
+	 * @settingDefault {@code 0}
+	 *
+	 * @since 6.5
+	 */
+	String FLUSH_PARALLEL_DIRTY_CHECK_THRESHOLD = "hibernate.flush.parallel_dirty_check_threshold";
+
 	/**
 	 * When enabled, specifies that {@linkplain jakarta.persistence.Version versioned}
 	 * data should be included in batching.
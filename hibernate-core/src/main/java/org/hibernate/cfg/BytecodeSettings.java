@@ -18,6 +18,11 @@ public interface BytecodeSettings {
 	 * Selects a bytecode enhancement library.
 	 * <p>
 	 * At present only bytebuddy is supported, bytebuddy being the default since version 5.3.
+	 * The value {@code "none"} disables the generation of classes at runtime, which is
+	 * useful when the entities are enhanced at build time: persistent classes are then
+	 * instantiated and accessed through {@linkplain java.lang.invoke.MethodHandle method
+	 * handles}, as with {@link #USE_METHOD_HANDLE_ACCESS}, and lazy to-one associations
+	 * rely on the enhancement instead of on proxies.
 	 *
 	 * @settingDefault {@code "bytebuddy"}
 	 */
@@ -30,6 +35,24 @@ public interface BytecodeSettings {
 	 */
 	String ENHANCER_ENABLE_ASSOCIATION_MANAGEMENT = "hibernate.enhancer.enableAssociationManagement";
 
+	/**
+	 * When enabled, entity and embeddable classes are instantiated, and the persistent
+	 * state of those which are not enhanced is read and written, through
+	 * {@linkplain java.lang.invoke.MethodHandle method handles}, instead of through
+	 * classes generated by the {@linkplain #BYTECODE_PROVIDER bytecode provider}.
+	 * <p>
+	 * Method handles avoid generating and loading classes per entity at startup, and
+	 * do not require the bytecode provider to be able to access the persistent fields
+	 * and accessor methods, which it cannot when they are {@code private}.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see org.hibernate.property.access.spi.BuiltInPropertyAccessStrategies#FIELD_HANDLE
+	 *
+	 * @since 6.5
+	 */
+	String USE_METHOD_HANDLE_ACCESS = "hibernate.bytecode.use_method_handle_access";
+
 	/**
 	 * @deprecated Will be removed without replacement. See HHH-15641
 	 */
@@ -149,6 +149,71 @@ public interface CacheSettings {
 	 */
 	String USE_STRUCTURED_CACHE = "hibernate.cache.use_structured_entries";
 
+	/**
+	 * Enables the use of compact second-level cache entries, which encode the values
+	 * of the basic attributes of an entity into a single byte array, instead of an
+	 * array of boxed values. This reduces the size of the cache entries, and the cost
+	 * of their serialization by caches which store them off-heap or remotely.
+	 * <p>
+	 * Ignored when {@value #USE_STRUCTURED_CACHE} is enabled.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see org.hibernate.cache.spi.entry.CompactCacheEntry
+	 *
+	 * @since 6.5
+	 */
+	String USE_COMPACT_CACHE_ENTRIES = "hibernate.cache.use_compact_entries";
+
+	/**
+	 * The maximum number of result rows kept in a local <em>near cache</em> by each
+	 * query results region. Once query results have been read from the region and
+	 * found up-to-date, they are kept in the near cache, and are returned without
+	 * checking the {@linkplain org.hibernate.cache.spi.TimestampsCache update timestamps}
+	 * until they are evicted by the invalidation of one of their query spaces, or to
+	 * make room for other results, or until they expire after the
+	 * {@linkplain org.hibernate.cache.spi.RegionFactory#getTimeout() timeout} of the
+	 * region factory.
+	 * <p>
+	 * The near cache only observes the invalidations performed by this
+	 * {@link org.hibernate.SessionFactory}, and so it should not be enabled when the
+	 * tables are modified by other processes, even with a clustered cache.
+	 * <p>
+	 * A value of {@code 0} disables the near cache.
+	 *
+	 * @settingDefault {@code 0}
+	 *
+	 * @since 6.5
+	 */
+	String QUERY_CACHE_NEAR_CACHE_SIZE = "hibernate.cache.query_near_cache_size";
+
+	/**
+	 * The maximum number of natural-id to identifier resolutions kept, for each entity
+	 * with a simple immutable {@linkplain org.hibernate.annotations.NaturalId natural id}
+	 * which is held by the {@linkplain #USE_SECOND_LEVEL_CACHE second-level cache}, in an
+	 * index shared by all sessions of the {@link org.hibernate.SessionFactory}. Loads by
+	 * natural id consult the index before executing a query, and the entity is then
+	 * loaded by its identifier, usually from the second-level cache.
+	 * <p>
+	 * The index is lock-free, and a resolution may be displaced by another one before
+	 * the index is full. Resolutions are only added once the transaction which read
+	 * them has committed, and are removed when the entity is deleted by this
+	 * {@code SessionFactory}. An indexed identifier is only used once the entity has
+	 * been loaded by it and found to have the requested natural id, so that rows
+	 * deleted or changed by other processes are detected once the stale entity is no
+	 * longer held by the second-level cache.
+	 * <p>
+	 * The index is not used for entities which are not cached, since checking an
+	 * indexed identifier would cost a query, nor for multi-tenant sessions, nor for
+	 * sessions whose {@link org.hibernate.CacheMode} does not read from the cache. A
+	 * value of {@code 0} disables the index.
+	 *
+	 * @settingDefault {@code 0}
+	 *
+	 * @since 6.5
+	 */
+	String NATURAL_ID_INDEX_SIZE = "hibernate.cache.natural_id_index_size";
+
 	/**
 	 * Enables the automatic eviction of a bidirectional association's collection
 	 * cache when an element in the {@link jakarta.persistence.ManyToOne} collection
@@ -206,6 +271,21 @@ public interface CacheSettings {
 	 */
 	String COLLECTION_CACHE_PREFIX = "hibernate.collectioncache";
 
+	/**
+	 * The maximum number of bytes of off-heap memory used by each region of the
+	 * {@link org.hibernate.cache.internal.OffHeapRegionFactory}. The capacity of
+	 * a given region may be specified using a property named by appending
+	 * {@code .} and the unqualified name of the region to this setting, for
+	 * example, {@code hibernate.cache.off_heap.region_capacity.Country}.
+	 *
+	 * @settingDefault {@code 67108864}, that is, 64 MiB
+	 *
+	 * @see org.hibernate.cache.internal.OffHeapRegionFactory
+	 *
+	 * @since 6.5
+	 */
+	String OFF_HEAP_REGION_CAPACITY = "hibernate.cache.off_heap.region_capacity";
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Legacy JPA settings
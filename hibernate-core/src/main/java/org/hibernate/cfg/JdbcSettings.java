@@ -363,6 +363,24 @@ public interface JdbcSettings extends C3p0Settings, ProxoolSettings {
 	 */
 	String STATEMENT_FETCH_SIZE = "hibernate.jdbc.fetch_size";
 
+	/**
+	 * The maximum number of idle {@linkplain java.sql.PreparedStatement prepared
+	 * statements} for queries which are kept open for reuse by a session, until
+	 * the end of the transaction or the release of its JDBC connection, or
+	 * {@code 0} to close every statement right after its execution.
+	 * <p>
+	 * When a query is executed again with the same SQL and result set options,
+	 * an idle statement is reused instead of preparing a new one, and when there
+	 * are too many idle statements, the least recently used one is closed.  Useful
+	 * with connection pools and drivers which do not cache prepared statements
+	 * themselves.
+	 *
+	 * @settingDefault {@code 0}
+	 *
+	 * @since 6.5
+	 */
+	String STATEMENT_CACHE_SIZE = "hibernate.jdbc.statement_cache_size";
+
 	/**
 	 * Controls how Hibernate should handle scrollable results - <ul>
 	 * 	 <li>
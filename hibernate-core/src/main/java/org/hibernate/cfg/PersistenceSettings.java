@@ -137,6 +137,46 @@ public interface PersistenceSettings {
 	 */
 	String SCANNER_DISCOVERY = "hibernate.archive.autodetection";
 
+	/**
+	 * The path of a file holding a snapshot of the classes, packages and mapping files
+	 * discovered by {@linkplain #SCANNER scanning}, along with the parsed mapping files.
+	 * <p>
+	 * When the file holds a snapshot matching the persistence unit, scanning is skipped,
+	 * and the snapshot is used instead. Otherwise, the persistence unit is scanned, and
+	 * the file is written, so that it may be produced once at build time and shipped
+	 * with the application. A snapshot matches the persistence unit when none of the
+	 * classes and mapping files it lists, none of the archives of the persistence unit,
+	 * none of the files of its directories, and the version of Hibernate have changed
+	 * since it was written. Changes are detected by comparing sizes and modification
+	 * times, never contents: a class or mapping file packaged in an archive is compared
+	 * through the archive, and for a directory, the name, size and modification time of
+	 * every file it contains are compared, so that a file added to the directory also
+	 * leads to a new scan.
+	 * <p>
+	 * The snapshot file is only read back if it contains nothing but the types which
+	 * make up a snapshot, but should nevertheless not be writable by untrusted users.
+	 *
+	 * @settingDefault none, the persistence unit is scanned on every bootstrap
+	 *
+	 * @since 6.5
+	 */
+	String SCANNER_SNAPSHOT = "hibernate.archive.snapshot";
+
+	/**
+	 * The number of threads used to read the class files found by {@linkplain #SCANNER
+	 * scanning} an archive.
+	 * <p>
+	 * The classes of an archive holding a Jandex index, {@code META-INF/jandex.idx}, are
+	 * categorized from that index, and only the class files missing from the index are read.
+	 *
+	 * @settingDefault {@code 1}, class files are read one at a time
+	 *
+	 * @see org.hibernate.boot.archive.scan.spi.ScanOptions#getParallelism
+	 *
+	 * @since 6.5
+	 */
+	String SCANNER_PARALLELISM = "hibernate.archive.scanning_parallelism";
+
 	/**
 	 * Allows JPA callbacks (via {@link jakarta.persistence.PreUpdate} and friends) to be
 	 * completely disabled. Mostly useful to save some memory when they are not used.
@@ -190,6 +190,21 @@ public interface QuerySettings {
 	 */
 	String IN_CLAUSE_PARAMETER_PADDING = "hibernate.query.in_clause_parameter_padding";
 
+	/**
+	 * Specifies the lengths to which {@code IN} clause parameter lists are padded when
+	 * {@value #IN_CLAUSE_PARAMETER_PADDING} is enabled, as a comma-separated list of
+	 * positive integers, for example {@code 10,50,100,500}. A list is padded to the
+	 * smallest bucket which can hold it, or to a multiple of the largest bucket, by
+	 * repeating its last value.
+	 * <p>
+	 * By default, lists are padded to the next power of two.
+	 *
+	 * @see #IN_CLAUSE_PARAMETER_PADDING
+	 *
+	 * @since 6.5
+	 */
+	String IN_CLAUSE_PARAMETER_PADDING_BUCKETS = "hibernate.query.in_clause_parameter_padding_buckets";
+
 	/**
 	 * When enabled, specifies that Hibernate should attempt to map parameter names
 	 * given in a {@link org.hibernate.procedure.ProcedureCall} or
@@ -224,6 +239,63 @@ public interface QuerySettings {
 	 */
 	String QUERY_PLAN_CACHE_MAX_SIZE = "hibernate.query.plan_cache_max_size";
 
+	/**
+	 * Selects the eviction policy used by the
+	 * {@linkplain org.hibernate.query.spi.QueryInterpretationCache query interpretation cache}
+	 * once it holds {@value #QUERY_PLAN_CACHE_MAX_SIZE} entries:
+	 * <ul>
+	 *     <li>{@code lirs} - the default, evicts entries using the LIRS algorithm,
+	 *     <li>{@code tinylfu} - admits new entries only if they are estimated to be used
+	 *     more frequently than the entries they would replace, with lock-free reads. This
+	 *     is preferable for highly concurrent applications issuing many distinct dynamic
+	 *     queries, which would otherwise flush the plans of their frequent queries.
+	 * </ul>
+	 *
+	 * @settingDefault {@code lirs}
+	 *
+	 * @see org.hibernate.stat.Statistics#getQueryInterpretationCacheStatistics(String)
+	 *
+	 * @since 6.5
+	 */
+	String QUERY_PLAN_CACHE_EVICTION = "hibernate.query.plan_cache_eviction";
+
+	/**
+	 * The maximum total length, in characters, of the queries held by each map of
+	 * the {@linkplain org.hibernate.query.spi.QueryInterpretationCache query
+	 * interpretation cache}, in addition to the {@value #QUERY_PLAN_CACHE_MAX_SIZE}
+	 * bound. The length of a query is a rough measure of the memory used by its
+	 * interpretation and plans, so this keeps a few very large generated queries
+	 * from taking up the space of many small ones.
+	 * <p>
+	 * Only honored by the {@code tinylfu} {@linkplain #QUERY_PLAN_CACHE_EVICTION
+	 * eviction policy}.
+	 *
+	 * @settingDefault none, only the number of entries is bounded
+	 *
+	 * @since 6.5
+	 */
+	String QUERY_PLAN_CACHE_MAX_WEIGHT = "hibernate.query.plan_cache_max_weight";
+
+	/**
+	 * The path of a file to which the query strings held by the
+	 * {@linkplain org.hibernate.query.spi.QueryInterpretationCache query interpretation cache}
+	 * are written when the {@link org.hibernate.SessionFactory} is closed, and from
+	 * which they are read, and interpreted in parallel, when it is next started. This
+	 * avoids paying the cost of parsing and interpreting the queries of an application
+	 * while it serves its first requests after a restart.
+	 * <p>
+	 * The file records a fingerprint of the domain model, and is ignored if the model
+	 * has changed in the meantime. Only the query strings are persisted: the queries
+	 * are interpreted again against the current model on startup.
+	 * <p>
+	 * Has no effect if the query plan cache is {@linkplain #QUERY_PLAN_CACHE_ENABLED disabled}.
+	 *
+	 * @settingDefault none, the query plan cache is not persisted
+	 *
+	 * @since 6.5
+	 */
+	String QUERY_PLAN_CACHE_WARMUP_FILE = "hibernate.query.plan_cache_warmup_file";
+
 	/**
 	 * The maximum number of {@link org.hibernate.query.ParameterMetadata} instances
 	 * maintained by the {@link org.hibernate.query.spi.QueryInterpretationCache}.
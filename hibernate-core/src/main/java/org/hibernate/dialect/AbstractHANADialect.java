@@ -1889,4 +1889,11 @@ public abstract class AbstractHANADialect extends Dialect {
 	public DmlTargetColumnQualifierSupport getDmlTargetColumnQualifierSupport() {
 		return DmlTargetColumnQualifierSupport.TABLE_ALIAS;
 	}
+
+	@Override
+	public String getMultiRowInsertString(String insertSql, int rowCount) {
+		// multi-values inserts are emulated with a select union,
+		// which would not be any cheaper than a batch
+		return null;
+	}
 }
@@ -4391,6 +4391,77 @@ public abstract class Dialect implements ConversionContext, TypeContributor, Fun
 		return true;
 	}
 
+	/**
+	 * Render an insert statement which inserts the given number of rows at once, from
+	 * the SQL of an insert statement which inserts a single row. The {@code values}
+	 * tuple of the single-row insert is repeated once per row, so that the JDBC
+	 * parameters of the row with index {@code i} follow those of the row with index
+	 * {@code i - 1}.
+	 * <p>
+	 * Used to coalesce a batch of identical inserts into a single statement, when
+	 * {@value org.hibernate.cfg.BatchSettings#MULTI_ROW_INSERT} is enabled.
+	 *
+	 * @param insertSql The SQL of an insert statement of a single row
+	 * @param rowCount The number of rows the rendered statement should insert
+	 *
+	 * @return The SQL of the multi-row insert statement, or {@code null} if this
+	 *         dialect does not support multi-row inserts, or if the given statement
+	 *         does not end with a {@code values} tuple
+	 *
+	 * @since 6.5
+	 */
+	public String getMultiRowInsertString(String insertSql, int rowCount) {
+		if ( !supportsValuesListForInsert() ) {
+			return null;
+		}
+		final int valuesIndex = insertSql.toLowerCase( Locale.ROOT ).lastIndexOf( " values (" );
+		if ( valuesIndex < 0 ) {
+			return null;
+		}
+		final int tupleStart = valuesIndex + " values ".length();
+		// the tuple must be the very end of the statement, i.e. the parenthesis
+		// opening it must be closed by the last character of the statement
+		int depth = 0;
+		boolean quoted = false;
+		for ( int i = tupleStart; i < insertSql.length(); i++ ) {
+			final char c = insertSql.charAt( i );
+			if ( c == '\'' ) {
+				quoted = !quoted;
+			}
+			else if ( !quoted ) {
+				if ( c == '(' ) {
+					depth++;
+				}
+				else if ( c == ')' && --depth == 0 && i != insertSql.length() - 1 ) {
+					return null;
+				}
+			}
+		}
+		if ( depth != 0 ) {
+			return null;
+		}
+		final String tuple = insertSql.substring( tupleStart );
+		final StringBuilder sql = new StringBuilder( insertSql.length() + ( tuple.length() + 1 ) * ( rowCount - 1 ) );
+		sql.append( insertSql );
+		for ( int i = 1; i < rowCount; i++ ) {
+			sql.append( ',' ).append( tuple );
+		}
+		return sql.toString();
+	}
+
+	/**
+	 * The maximum number of rows a single {@linkplain #getMultiRowInsertString multi-row
+	 * insert} may insert, regardless of the number of parameters it binds, which is
+	 * limited by {@link #getParameterCountLimit()}.
+	 *
+	 * @return The limit, or a non-positive integer to indicate no limit.
+	 *
+	 * @since 6.5
+	 */
+	public int getMultiRowInsertRowLimit() {
+		return 0;
+	}
+
 	/**
 	 * Does this dialect support the {@code from} clause for update statements?
 	 *
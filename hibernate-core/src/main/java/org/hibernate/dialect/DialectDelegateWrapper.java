@@ -1342,6 +1342,16 @@ public class DialectDelegateWrapper extends Dialect {
 		return wrapped.supportsValuesListForInsert();
 	}
 
+	@Override
+	public String getMultiRowInsertString(String insertSql, int rowCount) {
+		return wrapped.getMultiRowInsertString( insertSql, rowCount );
+	}
+
+	@Override
+	public int getMultiRowInsertRowLimit() {
+		return wrapped.getMultiRowInsertRowLimit();
+	}
+
 	@Override
 	public boolean supportsSkipLocked() {
 		return wrapped.supportsSkipLocked();
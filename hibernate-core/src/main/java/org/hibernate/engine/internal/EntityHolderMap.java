@@ -0,0 +1,531 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.internal;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+import org.hibernate.engine.spi.EntityHolder;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.Type;
+import org.hibernate.type.descriptor.java.IntegerJavaType;
+import org.hibernate.type.descriptor.java.JavaType;
+import org.hibernate.type.descriptor.java.LongJavaType;
+import org.hibernate.type.descriptor.java.UUIDJavaType;
+
+/**
+ * The {@link EntityHolder}s of a {@link StatefulPersistenceContext}, by {@link EntityKey}.
+ * <p>
+ * The holders of entities with a {@code long}, {@code int} or {@link UUID} identifier
+ * are kept in one open-addressing table per root entity, keyed by the unboxed value of
+ * the identifier, which avoids the allocation of a bucket entry per holder, and allows
+ * {@linkplain #get(Object, EntityPersister) lookups by identifier} without allocating
+ * an {@code EntityKey}.  The holders of entities with any other kind of identifier are
+ * kept in a {@code HashMap}.
+ * <p>
+ * A holder must always be put under its own {@linkplain EntityHolder#getEntityKey() key},
+ * which is what the entries of the map expose.  Null values are not supported.
+ * This class is not threadsafe.
+ *
+ * @param <H> The type of the entity holders
+ */
+final class EntityHolderMap<H extends EntityHolder> extends AbstractMap<EntityKey, H> {
+
+	private HashMap<String, IdTable> tablesByRootEntityName;
+	private int tableSize;
+	private HashMap<EntityKey, H> others;
+
+	// the table of the persister of the last lookup, since lookups tend to come in runs
+	private EntityPersister cachedPersister;
+	private IdTable cachedTable;
+
+	private int modCount;
+
+	private Set<Entry<EntityKey, H>> entrySet;
+	private Collection<H> values;
+
+	@Override
+	public int size() {
+		return others == null ? tableSize : tableSize + others.size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return get( key ) != null;
+	}
+
+	@Override
+	public H get(Object key) {
+		if ( !( key instanceof EntityKey ) ) {
+			return null;
+		}
+		final EntityKey entityKey = (EntityKey) key;
+		final Object id = entityKey.getIdentifier();
+		final IdTable table = table( entityKey.getPersister() );
+		if ( table.accepts( id ) ) {
+			//noinspection unchecked
+			return (H) table.get( key( id ), lowKey( id ) );
+		}
+		else {
+			return others == null ? null : others.get( entityKey );
+		}
+	}
+
+	/**
+	 * The holder of the entity with the given identifier, looked up without
+	 * allocating an {@link EntityKey} if the identifier is a {@code long},
+	 * {@code int} or {@link UUID}.
+	 */
+	public H get(Object id, EntityPersister persister) {
+		final IdTable table = table( persister );
+		if ( table.accepts( id ) ) {
+			//noinspection unchecked
+			return (H) table.get( key( id ), lowKey( id ) );
+		}
+		else {
+			return others == null || others.isEmpty() ? null : others.get( new EntityKey( id, persister ) );
+		}
+	}
+
+	@Override
+	public H put(EntityKey key, H holder) {
+		Objects.requireNonNull( holder );
+		assert key.equals( holder.getEntityKey() );
+
+		final Object id = key.getIdentifier();
+		final IdTable table = table( key.getPersister() );
+		if ( table.accepts( id ) ) {
+			final Object previous = table.put( key( id ), lowKey( id ), holder );
+			if ( previous == null ) {
+				tableSize++;
+				modCount++;
+			}
+			//noinspection unchecked
+			return (H) previous;
+		}
+		else {
+			if ( others == null ) {
+				others = new HashMap<>();
+			}
+			return others.put( key, holder );
+		}
+	}
+
+	@Override
+	public H remove(Object key) {
+		if ( !( key instanceof EntityKey ) ) {
+			return null;
+		}
+		final EntityKey entityKey = (EntityKey) key;
+		final Object id = entityKey.getIdentifier();
+		final IdTable table = table( entityKey.getPersister() );
+		if ( table.accepts( id ) ) {
+			final Object removed = table.remove( key( id ), lowKey( id ) );
+			if ( removed != null ) {
+				tableSize--;
+				modCount++;
+			}
+			//noinspection unchecked
+			return (H) removed;
+		}
+		else {
+			return others == null ? null : others.remove( entityKey );
+		}
+	}
+
+	@Override
+	public void clear() {
+		tablesByRootEntityName = null;
+		tableSize = 0;
+		others = null;
+		cachedPersister = null;
+		cachedTable = null;
+		modCount++;
+	}
+
+	@Override
+	public Set<Entry<EntityKey, H>> entrySet() {
+		if ( entrySet == null ) {
+			entrySet = new AbstractSet<>() {
+				@Override
+				public Iterator<Entry<EntityKey, H>> iterator() {
+					return new HolderIterator<>() {
+						@Override
+						public Entry<EntityKey, H> next() {
+							final H holder = nextHolder();
+							return new SimpleImmutableEntry<>( holder.getEntityKey(), holder );
+						}
+					};
+				}
+
+				@Override
+				public int size() {
+					return EntityHolderMap.this.size();
+				}
+
+				@Override
+				public void clear() {
+					EntityHolderMap.this.clear();
+				}
+			};
+		}
+		return entrySet;
+	}
+
+	@Override
+	public Collection<H> values() {
+		if ( values == null ) {
+			values = new AbstractCollection<>() {
+				@Override
+				public Iterator<H> iterator() {
+					return new HolderIterator<>() {
+						@Override
+						public H next() {
+							return nextHolder();
+						}
+					};
+				}
+
+				@Override
+				public int size() {
+					return EntityHolderMap.this.size();
+				}
+
+				@Override
+				public void clear() {
+					EntityHolderMap.this.clear();
+				}
+			};
+		}
+		return values;
+	}
+
+	private IdTable table(EntityPersister persister) {
+		if ( persister == cachedPersister ) {
+			return cachedTable;
+		}
+		if ( tablesByRootEntityName == null ) {
+			tablesByRootEntityName = new HashMap<>();
+		}
+		IdTable table = tablesByRootEntityName.get( persister.getRootEntityName() );
+		if ( table == null ) {
+			table = new IdTable( idKind( persister ) );
+			tablesByRootEntityName.put( persister.getRootEntityName(), table );
+		}
+		cachedPersister = persister;
+		cachedTable = table;
+		return table;
+	}
+
+	private static final int OTHER_ID = 0;
+	private static final int LONG_ID = 1;
+	private static final int INTEGER_ID = 2;
+	private static final int UUID_ID = 3;
+
+	/**
+	 * Identifiers are only kept unboxed when their type compares them by value,
+	 * so that the equality of unboxed values is the equality of {@link EntityKey}s.
+	 */
+	private static int idKind(EntityPersister persister) {
+		final Type identifierType = persister.getIdentifierType();
+		if ( identifierType instanceof BasicType<?> ) {
+			final JavaType<?> javaType = ( (BasicType<?>) identifierType ).getJavaTypeDescriptor();
+			if ( javaType.getClass() == LongJavaType.class ) {
+				return LONG_ID;
+			}
+			else if ( javaType.getClass() == IntegerJavaType.class ) {
+				return INTEGER_ID;
+			}
+			else if ( javaType.getClass() == UUIDJavaType.class ) {
+				return UUID_ID;
+			}
+		}
+		return OTHER_ID;
+	}
+
+	private static long key(Object id) {
+		if ( id instanceof Long ) {
+			return (Long) id;
+		}
+		else if ( id instanceof Integer ) {
+			return (Integer) id;
+		}
+		else {
+			return ( (UUID) id ).getMostSignificantBits();
+		}
+	}
+
+	private static long lowKey(Object id) {
+		return id instanceof UUID ? ( (UUID) id ).getLeastSignificantBits() : 0L;
+	}
+
+	/**
+	 * An open-addressing hash table, with linear probing, of the holders
+	 * of the entities of a root entity, by unboxed identifier
+	 */
+	private static final class IdTable {
+		private static final int INITIAL_CAPACITY = 16;
+		// marks the slot of a removed holder, so that probing continues past it
+		private static final Object REMOVED = new Object();
+
+		private final int kind;
+
+		private long[] keys;
+		// the least significant bits of UUID identifiers
+		private long[] lowKeys;
+		private Object[] values;
+		private int size;
+		// the number of slots which are not null, that is, including removed ones
+		private int used;
+		private int threshold;
+
+		private IdTable(int kind) {
+			this.kind = kind;
+		}
+
+		private boolean accepts(Object id) {
+			switch ( kind ) {
+				case LONG_ID:
+					return id instanceof Long;
+				case INTEGER_ID:
+					return id instanceof Integer;
+				case UUID_ID:
+					return id instanceof UUID;
+				default:
+					return false;
+			}
+		}
+
+		private static int hash(long key, long lowKey) {
+			final long hash = ( key ^ lowKey * 0xC2B2AE3D27D4EB4FL ) * 0x9E3779B97F4A7C15L;
+			return (int) ( hash ^ hash >>> 32 );
+		}
+
+		private boolean matches(int index, long key, long lowKey) {
+			return keys[index] == key && ( lowKeys == null || lowKeys[index] == lowKey );
+		}
+
+		private Object get(long key, long lowKey) {
+			if ( values == null ) {
+				return null;
+			}
+			final int mask = values.length - 1;
+			int index = hash( key, lowKey ) & mask;
+			Object value;
+			while ( ( value = values[index] ) != null ) {
+				if ( value != REMOVED && matches( index, key, lowKey ) ) {
+					return value;
+				}
+				index = ( index + 1 ) & mask;
+			}
+			return null;
+		}
+
+		private Object put(long key, long lowKey, Object holder) {
+			if ( values == null ) {
+				allocate( INITIAL_CAPACITY );
+			}
+			else if ( used >= threshold ) {
+				// grow, unless most of the used slots are those of removed holders
+				rehash( size >= threshold / 2 ? values.length * 2 : values.length );
+			}
+
+			final int mask = values.length - 1;
+			int index = hash( key, lowKey ) & mask;
+			int removedIndex = -1;
+			Object value;
+			while ( ( value = values[index] ) != null ) {
+				if ( value == REMOVED ) {
+					if ( removedIndex < 0 ) {
+						removedIndex = index;
+					}
+				}
+				else if ( matches( index, key, lowKey ) ) {
+					values[index] = holder;
+					return value;
+				}
+				index = ( index + 1 ) & mask;
+			}
+
+			if ( removedIndex >= 0 ) {
+				index = removedIndex;
+			}
+			else {
+				used++;
+			}
+			keys[index] = key;
+			if ( lowKeys != null ) {
+				lowKeys[index] = lowKey;
+			}
+			values[index] = holder;
+			size++;
+			return null;
+		}
+
+		private Object remove(long key, long lowKey) {
+			if ( values == null ) {
+				return null;
+			}
+			final int mask = values.length - 1;
+			int index = hash( key, lowKey ) & mask;
+			Object value;
+			while ( ( value = values[index] ) != null ) {
+				if ( value != REMOVED && matches( index, key, lowKey ) ) {
+					removeAt( index );
+					return value;
+				}
+				index = ( index + 1 ) & mask;
+			}
+			return null;
+		}
+
+		private void removeAt(int index) {
+			values[index] = REMOVED;
+			size--;
+		}
+
+		/**
+		 * The index of the first slot holding a holder, starting at the given index, or {@code -1}
+		 */
+		private int nextOccupied(int from) {
+			if ( values != null ) {
+				for ( int index = from; index < values.length; index++ ) {
+					final Object value = values[index];
+					if ( value != null && value != REMOVED ) {
+						return index;
+					}
+				}
+			}
+			return -1;
+		}
+
+		private void allocate(int capacity) {
+			keys = new long[capacity];
+			lowKeys = kind == UUID_ID ? new long[capacity] : null;
+			values = new Object[capacity];
+			threshold = capacity - ( capacity >> 2 );
+			size = 0;
+			used = 0;
+		}
+
+		private void rehash(int capacity) {
+			final long[] oldKeys = keys;
+			final long[] oldLowKeys = lowKeys;
+			final Object[] oldValues = values;
+			allocate( capacity );
+			for ( int index = 0; index < oldValues.length; index++ ) {
+				final Object value = oldValues[index];
+				if ( value != null && value != REMOVED ) {
+					put( oldKeys[index], oldLowKeys == null ? 0L : oldLowKeys[index], value );
+				}
+			}
+		}
+	}
+
+	private abstract class HolderIterator<T> implements Iterator<T> {
+		private final Iterator<IdTable> tables;
+		private IdTable nextTable;
+		private int nextIndex;
+		private Iterator<H> othersIterator;
+
+		private IdTable currentTable;
+		private int currentIndex;
+		private boolean removable;
+		private int expectedModCount = modCount;
+
+		private HolderIterator() {
+			tables = tablesByRootEntityName == null
+					? Collections.emptyIterator()
+					: tablesByRootEntityName.values().iterator();
+			advance();
+		}
+
+		private void advance() {
+			if ( nextTable != null ) {
+				nextIndex = nextTable.nextOccupied( nextIndex + 1 );
+				if ( nextIndex >= 0 ) {
+					return;
+				}
+			}
+			while ( tables.hasNext() ) {
+				nextTable = tables.next();
+				nextIndex = nextTable.nextOccupied( 0 );
+				if ( nextIndex >= 0 ) {
+					return;
+				}
+			}
+			nextTable = null;
+			if ( othersIterator == null ) {
+				othersIterator = others == null ? Collections.emptyIterator() : others.values().iterator();
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			return nextTable != null || othersIterator.hasNext();
+		}
+
+		protected H nextHolder() {
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			final H holder;
+			if ( nextTable != null ) {
+				currentTable = nextTable;
+				currentIndex = nextIndex;
+				//noinspection unchecked
+				holder = (H) nextTable.values[nextIndex];
+				advance();
+			}
+			else if ( othersIterator.hasNext() ) {
+				currentTable = null;
+				holder = othersIterator.next();
+			}
+			else {
+				throw new NoSuchElementException();
+			}
+			removable = true;
+			return holder;
+		}
+
+		@Override
+		public void remove() {
+			if ( !removable ) {
+				throw new IllegalStateException();
+			}
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			if ( currentTable != null ) {
+				currentTable.removeAt( currentIndex );
+				tableSize--;
+				expectedModCount = ++modCount;
+			}
+			else {
+				othersIterator.remove();
+			}
+			removable = false;
+		}
+	}
+}
@@ -25,6 +25,8 @@ import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.event.spi.EventManager;
 import org.hibernate.event.spi.HibernateMonitoringEvent;
+import org.hibernate.loader.ast.internal.SimpleNaturalIdLoader;
+import org.hibernate.loader.ast.spi.NaturalIdLoader;
 import org.hibernate.metamodel.mapping.EntityMappingType;
 import org.hibernate.metamodel.mapping.NaturalIdLogging;
 import org.hibernate.metamodel.mapping.NaturalIdMapping;
@@ -439,6 +441,11 @@ public class NaturalIdResolutionsImpl implements NaturalIdResolutions, Serializa
 			return;
 		}
 
+		final NaturalIdLoader<?> naturalIdLoader = entityDescriptor.getNaturalIdLoader();
+		if ( naturalIdLoader instanceof SimpleNaturalIdLoader ) {
+			( (SimpleNaturalIdLoader<?>) naturalIdLoader ).evictIndexedResolution( naturalId, session() );
+		}
+
 		final NaturalIdDataAccess cacheAccess = naturalIdMapping.getCacheAccess();
 
 		if ( cacheAccess == null ) {
@@ -0,0 +1,165 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.mutation.spi.Binding;
+import org.hibernate.engine.jdbc.mutation.spi.BindingGroup;
+
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
+
+/**
+ * The batch sizes chosen by adaptive batching, one per {@link BatchKey}.
+ * <p>
+ * After each execution of a batch, the cost of a row is estimated from the execution
+ * time and the size of the bound values of the batch, and the batch size moves halfway
+ * towards the number of rows which would execute in the target time and bind about
+ * {@value #TARGET_BOUND_BYTES} bytes.  The batch size only grows after the execution
+ * of a full batch, since the fixed cost of a round trip would otherwise be attributed
+ * to too few rows.
+ *
+ * @see org.hibernate.cfg.BatchSettings#ADAPTIVE_BATCH_SIZE_MAX
+ */
+public class AdaptiveBatchSizes {
+	/**
+	 * The total size of the bound values of a batch aimed at
+	 */
+	public static final long TARGET_BOUND_BYTES = 1024 * 1024;
+
+	private static final int DEFAULT_VALUE_BYTES = 8;
+
+	private final int minimumBatchSize;
+	private final int maximumBatchSize;
+	private final long targetExecutionNanos;
+
+	private final ConcurrentHashMap<BatchKey, AdaptiveBatchSize> batchSizes = new ConcurrentHashMap<>();
+
+	public AdaptiveBatchSizes(int minimumBatchSize, int maximumBatchSize, long targetExecutionMillis) {
+		this.minimumBatchSize = Math.max( 2, minimumBatchSize );
+		this.maximumBatchSize = Math.max( this.minimumBatchSize, maximumBatchSize );
+		this.targetExecutionNanos = TimeUnit.MILLISECONDS.toNanos( Math.max( 1, targetExecutionMillis ) );
+	}
+
+	/**
+	 * The adaptive batch size of the batches of the given key, initially
+	 * the given batch size, within the bounds
+	 */
+	public AdaptiveBatchSize resolve(BatchKey key, int initialBatchSize) {
+		return batchSizes.computeIfAbsent( key, k -> new AdaptiveBatchSize( k, clamp( initialBatchSize ) ) );
+	}
+
+	private int clamp(int batchSize) {
+		return Math.min( maximumBatchSize, Math.max( minimumBatchSize, batchSize ) );
+	}
+
+	/**
+	 * Estimate the number of bytes sent to the database for the given bindings
+	 */
+	public static long estimateBoundBytes(BindingGroup bindingGroup) {
+		if ( bindingGroup == null ) {
+			return 0;
+		}
+		long bytes = 0;
+		for ( Binding binding : bindingGroup.getBindings() ) {
+			bytes += estimateBoundBytes( binding.getValue() );
+		}
+		return bytes;
+	}
+
+	private static long estimateBoundBytes(Object value) {
+		if ( value instanceof byte[] ) {
+			return ( (byte[]) value ).length;
+		}
+		else if ( value instanceof CharSequence ) {
+			return ( (CharSequence) value ).length();
+		}
+		else if ( value instanceof char[] ) {
+			return ( (char[]) value ).length;
+		}
+		try {
+			if ( value instanceof Blob ) {
+				return ( (Blob) value ).length();
+			}
+			else if ( value instanceof Clob ) {
+				return ( (Clob) value ).length();
+			}
+		}
+		catch (SQLException e) {
+			// the length of a LOB might not be known before it is read
+		}
+		return DEFAULT_VALUE_BYTES;
+	}
+
+	/**
+	 * The batch size of the batches of a given {@link BatchKey}
+	 */
+	public final class AdaptiveBatchSize {
+		private final BatchKey key;
+		private volatile int batchSize;
+
+		private AdaptiveBatchSize(BatchKey key, int batchSize) {
+			this.key = key;
+			this.batchSize = batchSize;
+		}
+
+		/**
+		 * The batch size to use for the next batch
+		 */
+		public int getBatchSize() {
+			return batchSize;
+		}
+
+		/**
+		 * Adjust the batch size after the execution of a batch.
+		 *
+		 * @param rowCount The number of rows of the executed batch
+		 * @param boundBytes The estimated size of the values bound to the batch
+		 * @param executionNanos The execution time of the batch
+		 *
+		 * @return {@code true} if the batch size changed
+		 */
+		public synchronized boolean executed(int rowCount, long boundBytes, long executionNanos) {
+			if ( rowCount <= 0 ) {
+				return false;
+			}
+
+			final double rowsInTargetTime = executionNanos <= 0
+					? Double.MAX_VALUE
+					: (double) targetExecutionNanos * rowCount / executionNanos;
+			final double rowsInTargetBytes = boundBytes <= 0
+					? Double.MAX_VALUE
+					: (double) TARGET_BOUND_BYTES * rowCount / boundBytes;
+			final double targetBatchSize = Math.min( rowsInTargetTime, rowsInTargetBytes );
+
+			final int current = batchSize;
+			if ( targetBatchSize > current && rowCount < current ) {
+				return false;
+			}
+			final int adapted = clamp( (int) Math.min( maximumBatchSize, ( current + targetBatchSize ) / 2 ) );
+			if ( adapted == current ) {
+				return false;
+			}
+
+			if ( BATCH_LOGGER.isDebugEnabled() ) {
+				BATCH_LOGGER.debugf(
+						"Adapted batch size from %s to %s - `%s`",
+						current,
+						adapted,
+						key.toLoggableString()
+				);
+			}
+			batchSize = adapted;
+			return true;
+		}
+	}
+}
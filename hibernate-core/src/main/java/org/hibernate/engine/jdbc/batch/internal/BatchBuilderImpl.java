@@ -10,6 +10,7 @@ import java.util.Collections;
 import java.util.function.Supplier;
 
 import org.hibernate.Internal;
+import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
@@ -17,10 +18,14 @@ import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
 import org.hibernate.engine.jdbc.mutation.internal.PreparedStatementGroupSingleTable;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.jdbc.Expectation;
+import org.hibernate.sql.model.MutationType;
+import org.hibernate.sql.model.PreparableMutationOperation;
 import org.hibernate.sql.model.TableMapping;
 import org.hibernate.sql.model.jdbc.JdbcInsertMutation;
 
 import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
+import static org.hibernate.jdbc.Expectations.BASIC;
 import static org.hibernate.jdbc.Expectations.NONE;
 
 /**
@@ -30,6 +35,8 @@ import static org.hibernate.jdbc.Expectations.NONE;
  */
 public class BatchBuilderImpl implements BatchBuilder {
 	private final int globalBatchSize;
+	private final boolean multiRowInserts;
+	private final AdaptiveBatchSizes adaptiveBatchSizes;
 
 	/**
 	 * Constructs a BatchBuilderImpl
@@ -38,14 +45,52 @@ public class BatchBuilderImpl implements BatchBuilder {
 	 * on {@link #buildBatch}
 	 */
 	public BatchBuilderImpl(int globalBatchSize) {
+		this( globalBatchSize, false );
+	}
+
+	/**
+	 * Constructs a BatchBuilderImpl
+	 *
+	 * @param globalBatchSize The batch size to use.  Can be overridden
+	 * on {@link #buildBatch}
+	 * @param multiRowInserts Whether to coalesce batched inserts into
+	 * multi-row inserts, when possible
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#MULTI_ROW_INSERT
+	 */
+	public BatchBuilderImpl(int globalBatchSize, boolean multiRowInserts) {
+		this( globalBatchSize, multiRowInserts, null );
+	}
+
+	/**
+	 * Constructs a BatchBuilderImpl
+	 *
+	 * @param globalBatchSize The batch size to use.  Can be overridden
+	 * on {@link #buildBatch}
+	 * @param multiRowInserts Whether to coalesce batched inserts into
+	 * multi-row inserts, when possible
+	 * @param adaptiveBatchSizes The batch sizes chosen by adaptive batching,
+	 * which then override the batch size, or {@code null}
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#MULTI_ROW_INSERT
+	 * @see org.hibernate.cfg.BatchSettings#ADAPTIVE_BATCH_SIZE_MAX
+	 */
+	public BatchBuilderImpl(
+			int globalBatchSize,
+			boolean multiRowInserts,
+			AdaptiveBatchSizes adaptiveBatchSizes) {
 		if ( BATCH_LOGGER.isTraceEnabled() ) {
 			BATCH_LOGGER.tracef(
-					"Using standard BatchBuilder (%s)",
-					globalBatchSize
+					"Using standard BatchBuilder (%s, multi-row inserts: %s, adaptive: %s)",
+					globalBatchSize,
+					multiRowInserts,
+					adaptiveBatchSizes != null
 			);
 		}
 
 		this.globalBatchSize = globalBatchSize;
+		this.multiRowInserts = multiRowInserts;
+		this.adaptiveBatchSizes = adaptiveBatchSizes;
 	}
 
 	public int getJdbcBatchSize() {
@@ -63,7 +108,82 @@ public class BatchBuilderImpl implements BatchBuilder {
 				: explicitBatchSize;
 		assert batchSize > 1;
 
-		return new BatchImpl( key, statementGroupSupplier.get(), batchSize, jdbcCoordinator );
+		final PreparedStatementGroup statementGroup = statementGroupSupplier.get();
+		if ( multiRowInserts && statementGroup instanceof PreparedStatementGroupSingleTable ) {
+			final PreparedStatementGroupSingleTable singleTableGroup = (PreparedStatementGroupSingleTable) statementGroup;
+			final int rowsPerStatement = determineRowsPerStatement( singleTableGroup.getMutationOperation(), batchSize, jdbcCoordinator );
+			if ( rowsPerStatement > 1 ) {
+				return new MultiRowInsertBatch( key, singleTableGroup, batchSize, rowsPerStatement, jdbcCoordinator );
+			}
+		}
+
+		// a batch size set explicitly on the session is used as is
+		if ( adaptiveBatchSizes != null && jdbcCoordinator.getJdbcSessionOwner().getJdbcBatchSize() == null ) {
+			final AdaptiveBatchSizes.AdaptiveBatchSize adaptiveBatchSize = adaptiveBatchSizes.resolve( key, batchSize );
+			return new BatchImpl(
+					key,
+					statementGroup,
+					adaptiveBatchSize.getBatchSize(),
+					jdbcCoordinator,
+					adaptiveBatchSize
+			);
+		}
+
+		return new BatchImpl( key, statementGroup, batchSize, jdbcCoordinator );
+	}
+
+	/**
+	 * The number of rows a multi-row insert for the given mutation may insert at
+	 * once, or {@code 0} if the mutation cannot be executed as a multi-row insert.
+	 */
+	private static int determineRowsPerStatement(
+			PreparableMutationOperation mutation,
+			int batchSize,
+			JdbcCoordinator jdbcCoordinator) {
+		if ( mutation.getMutationType() != MutationType.INSERT || mutation.isCallable() ) {
+			return 0;
+		}
+		// the row count of a multi-row insert can only be checked as a whole
+		final Expectation expectation = mutation.getExpectation();
+		if ( expectation != NONE && expectation != BASIC ) {
+			return 0;
+		}
+		final int parametersPerRow = mutation.getParameterBinders().size();
+		if ( parametersPerRow == 0 ) {
+			return 0;
+		}
+
+		final Dialect dialect = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getJdbcServices().getDialect();
+		final String singleRowSql = mutation.getSqlString();
+		final String twoRowSql = dialect.getMultiRowInsertString( singleRowSql, 2 );
+		// every parameter must belong to the repeated tuple, or the parameter
+		// positions of the rows following the first could not be computed
+		if ( twoRowSql == null
+				|| !twoRowSql.startsWith( singleRowSql )
+				|| countParameters( twoRowSql, singleRowSql.length() ) != parametersPerRow ) {
+			return 0;
+		}
+
+		int rowsPerStatement = batchSize;
+		final int parameterCountLimit = dialect.getParameterCountLimit();
+		if ( parameterCountLimit > 0 ) {
+			rowsPerStatement = Math.min( rowsPerStatement, parameterCountLimit / parametersPerRow );
+		}
+		final int rowLimit = dialect.getMultiRowInsertRowLimit();
+		if ( rowLimit > 0 ) {
+			rowsPerStatement = Math.min( rowsPerStatement, rowLimit );
+		}
+		return rowsPerStatement;
+	}
+
+	private static int countParameters(String sql, int start) {
+		int count = 0;
+		for ( int i = start; i < sql.length(); i++ ) {
+			if ( sql.charAt( i ) == '?' ) {
+				count++;
+			}
+		}
+		return count;
 	}
 
 
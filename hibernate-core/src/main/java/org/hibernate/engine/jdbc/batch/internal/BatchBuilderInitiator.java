@@ -43,8 +43,18 @@ public class BatchBuilderInitiator implements StandardServiceInitiator<BatchBuil
 		}
 
 		if ( builder == null ) {
+			final int adaptiveBatchSizeMax =
+					ConfigurationHelper.getInt( BatchSettings.ADAPTIVE_BATCH_SIZE_MAX, configurationValues, 0 );
 			return new BatchBuilderImpl(
-					ConfigurationHelper.getInt( BatchSettings.STATEMENT_BATCH_SIZE, configurationValues, 1 )
+					ConfigurationHelper.getInt( BatchSettings.STATEMENT_BATCH_SIZE, configurationValues, 1 ),
+					ConfigurationHelper.getBoolean( BatchSettings.MULTI_ROW_INSERT, configurationValues ),
+					adaptiveBatchSizeMax > 0
+							? new AdaptiveBatchSizes(
+									ConfigurationHelper.getInt( BatchSettings.ADAPTIVE_BATCH_SIZE_MIN, configurationValues, 2 ),
+									adaptiveBatchSizeMax,
+									ConfigurationHelper.getInt( BatchSettings.ADAPTIVE_BATCH_TARGET_TIME, configurationValues, 50 )
+							)
+							: null
 			);
 		}
 
@@ -11,6 +11,7 @@ import java.sql.SQLException;
 import java.util.LinkedHashSet;
 
 import org.hibernate.HibernateException;
+import org.hibernate.engine.jdbc.batch.internal.AdaptiveBatchSizes.AdaptiveBatchSize;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.engine.jdbc.batch.spi.BatchObserver;
@@ -26,6 +27,7 @@ import org.hibernate.event.spi.EventManager;
 import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.resource.jdbc.spi.JdbcObserver;
 import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 import static org.hibernate.engine.jdbc.JdbcLogging.JDBC_MESSAGE_LOGGER;
 import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
@@ -39,7 +41,7 @@ import static org.hibernate.sql.model.ModelMutationLogging.MODEL_MUTATION_LOGGER
  */
 public class BatchImpl implements Batch {
 	private final BatchKey key;
-	private final int batchSizeToUse;
+	private int batchSizeToUse;
 	private final PreparedStatementGroup statementGroup;
 
 	private final JdbcCoordinator jdbcCoordinator;
@@ -48,7 +50,10 @@ public class BatchImpl implements Batch {
 
 	private final LinkedHashSet<BatchObserver> observers = new LinkedHashSet<>();
 
+	private final AdaptiveBatchSize adaptiveBatchSize;
+
 	private int batchPosition;
+	private long boundBytes;
 	private boolean batchExecuted;
 
 	public BatchImpl(
@@ -56,6 +61,20 @@ public class BatchImpl implements Batch {
 			PreparedStatementGroup statementGroup,
 			int batchSizeToUse,
 			JdbcCoordinator jdbcCoordinator) {
+		this( key, statementGroup, batchSizeToUse, jdbcCoordinator, null );
+	}
+
+	/**
+	 * @param adaptiveBatchSize The {@linkplain org.hibernate.cfg.BatchSettings#ADAPTIVE_BATCH_SIZE_MAX
+	 * adaptive} size of the batches of this key, which is then used instead of the given batch
+	 * size once the first execution adjusted it, or {@code null}
+	 */
+	public BatchImpl(
+			BatchKey key,
+			PreparedStatementGroup statementGroup,
+			int batchSizeToUse,
+			JdbcCoordinator jdbcCoordinator,
+			AdaptiveBatchSize adaptiveBatchSize) {
 		if ( key == null ) {
 			throw new IllegalArgumentException( "Batch key cannot be null" );
 		}
@@ -72,6 +91,7 @@ public class BatchImpl implements Batch {
 		this.sqlExceptionHelper = jdbcServices.getSqlExceptionHelper();
 
 		this.batchSizeToUse = batchSizeToUse;
+		this.adaptiveBatchSize = adaptiveBatchSize;
 
 		if ( BATCH_LOGGER.isTraceEnabled() ) {
 			BATCH_LOGGER.tracef(
@@ -124,6 +144,11 @@ public class BatchImpl implements Batch {
 				//noinspection resource
 				final PreparedStatement statement = statementDetails.resolveStatement();
 				sqlStatementLogger.logStatement( statementDetails.getSqlString() );
+				if ( adaptiveBatchSize != null ) {
+					boundBytes += AdaptiveBatchSizes.estimateBoundBytes(
+							jdbcValueBindings.getBindingGroup( statementDetails.getMutatingTableDetails().getTableName() )
+					);
+				}
 				jdbcValueBindings.beforeStatement( statementDetails );
 
 				try {
@@ -148,11 +173,14 @@ public class BatchImpl implements Batch {
 		}
 
 		batchPosition++;
-		if ( batchPosition == batchSizeToUse ) {
+		if ( batchPosition >= batchSizeToUse ) {
 			notifyObserversImplicitExecution();
 			performExecution();
 			batchPosition = 0;
 			batchExecuted = true;
+			if ( adaptiveBatchSize != null ) {
+				batchSizeToUse = adaptiveBatchSize.getBatchSize();
+			}
 		}
 	}
 
@@ -260,6 +288,7 @@ public class BatchImpl implements Batch {
 		//noinspection deprecation
 		final JdbcSessionOwner jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
 		final JdbcObserver observer = jdbcSessionOwner.getJdbcSessionContext().getObserver();
+		final long executionStartNanos = adaptiveBatchSize == null ? 0 : System.nanoTime();
 		try {
 			getStatementGroup().forEachStatement( (tableName, statementDetails) -> {
 				final String sql = statementDetails.getSqlString();
@@ -299,9 +328,24 @@ public class BatchImpl implements Batch {
 					throw re;
 				}
 			} );
+			if ( adaptiveBatchSize != null ) {
+				adaptBatchSize( batchPosition, boundBytes, System.nanoTime() - executionStartNanos );
+			}
 		}
 		finally {
 			batchPosition = 0;
+			boundBytes = 0;
+		}
+	}
+
+	private void adaptBatchSize(int rowCount, long executedBoundBytes, long executionNanos) {
+		if ( adaptiveBatchSize.executed( rowCount, executedBoundBytes, executionNanos ) ) {
+			final StatisticsImplementor statistics = jdbcCoordinator.getJdbcSessionOwner()
+					.getJdbcSessionContext()
+					.getStatistics();
+			if ( statistics != null && statistics.isStatisticsEnabled() ) {
+				statistics.jdbcBatchSizeAdapted( getKey().toLoggableString(), adaptiveBatchSize.getBatchSize() );
+			}
 		}
 	}
 
@@ -0,0 +1,338 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+
+import org.hibernate.StaleStateException;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.batch.spi.BatchObserver;
+import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
+import org.hibernate.engine.jdbc.mutation.TableInclusionChecker;
+import org.hibernate.engine.jdbc.mutation.internal.PreparedStatementGroupSingleTable;
+import org.hibernate.engine.jdbc.mutation.spi.Binding;
+import org.hibernate.engine.jdbc.mutation.spi.BindingGroup;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
+import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.jdbc.BatchedTooManyRowsAffectedException;
+import org.hibernate.jdbc.Expectation;
+import org.hibernate.jdbc.Expectations;
+import org.hibernate.resource.jdbc.ResourceRegistry;
+import org.hibernate.sql.model.PreparableMutationOperation;
+import org.hibernate.sql.model.TableMapping;
+
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_MESSAGE_LOGGER;
+import static org.hibernate.sql.model.ModelMutationLogging.MODEL_MUTATION_LOGGER;
+
+/**
+ * Batch of inserts into a single table which, rather than relying on
+ * {@link PreparedStatement#addBatch()}, executes the collected rows as
+ * multi-row {@code insert ... values (...),(...)} statements rendered by
+ * {@link Dialect#getMultiRowInsertString}.
+ * <p>
+ * The parameter values of each row are collected when the row is added, and
+ * bound to a statement inserting up to {@linkplain #getRowsPerStatement() a
+ * number of rows} at once when the batch is executed.  The row count of each
+ * statement is then checked against the number of rows it inserted, since it
+ * cannot be split back into one row count per inserted row.  For this reason,
+ * only inserts {@linkplain Expectations#BASIC expecting one row} per entity, or
+ * {@linkplain Expectations#NONE nothing at all}, are executed this way.
+ * <p>
+ * Unlike {@link BatchImpl}, the size of this batch is fixed, and is not
+ * {@linkplain org.hibernate.cfg.BatchSettings#ADAPTIVE_BATCH_SIZE_MAX adapted}
+ * after its executions.
+ *
+ * @see org.hibernate.cfg.BatchSettings#MULTI_ROW_INSERT
+ */
+public class MultiRowInsertBatch implements Batch {
+	private static final Binding[] NO_BINDINGS = new Binding[0];
+
+	private final BatchKey key;
+	private final int batchSizeToUse;
+	private final int rowsPerStatement;
+	private final PreparedStatementGroupSingleTable statementGroup;
+
+	private final JdbcCoordinator jdbcCoordinator;
+	private final Dialect dialect;
+	private final SqlStatementLogger sqlStatementLogger;
+	private final SqlExceptionHelper sqlExceptionHelper;
+
+	private final LinkedHashSet<BatchObserver> observers = new LinkedHashSet<>();
+
+	private final List<Binding[]> rows;
+
+	public MultiRowInsertBatch(
+			BatchKey key,
+			PreparedStatementGroupSingleTable statementGroup,
+			int batchSizeToUse,
+			int rowsPerStatement,
+			JdbcCoordinator jdbcCoordinator) {
+		if ( key == null ) {
+			throw new IllegalArgumentException( "Batch key cannot be null" );
+		}
+		if ( jdbcCoordinator == null ) {
+			throw new IllegalArgumentException( "JDBC coordinator cannot be null" );
+		}
+
+		this.key = key;
+		this.statementGroup = statementGroup;
+		this.batchSizeToUse = batchSizeToUse;
+		this.rowsPerStatement = rowsPerStatement;
+		this.jdbcCoordinator = jdbcCoordinator;
+		this.rows = new ArrayList<>( batchSizeToUse );
+
+		final JdbcServices jdbcServices = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getJdbcServices();
+		this.dialect = jdbcServices.getDialect();
+		this.sqlStatementLogger = jdbcServices.getSqlStatementLogger();
+		this.sqlExceptionHelper = jdbcServices.getSqlExceptionHelper();
+
+		if ( BATCH_LOGGER.isTraceEnabled() ) {
+			BATCH_LOGGER.tracef(
+					"Created multi-row insert Batch (%s / %s) - `%s`",
+					rowsPerStatement,
+					batchSizeToUse,
+					key.toLoggableString()
+			);
+		}
+	}
+
+	@Override
+	public final BatchKey getKey() {
+		return key;
+	}
+
+	@Override
+	public PreparedStatementGroupSingleTable getStatementGroup() {
+		return statementGroup;
+	}
+
+	/**
+	 * The maximum number of rows inserted by a single statement
+	 */
+	public int getRowsPerStatement() {
+		return rowsPerStatement;
+	}
+
+	@Override
+	public void addObserver(BatchObserver observer) {
+		observers.add( observer );
+	}
+
+	@Override
+	public void addToBatch(JdbcValueBindings jdbcValueBindings, TableInclusionChecker inclusionChecker) {
+		final TableMapping tableDetails = statementGroup.getMutationOperation().getTableDetails();
+		if ( inclusionChecker != null && !inclusionChecker.include( tableDetails ) ) {
+			if ( MODEL_MUTATION_LOGGER.isTraceEnabled() ) {
+				MODEL_MUTATION_LOGGER.tracef(
+						"Skipping addBatch for table : %s (batch-position=%s)",
+						tableDetails.getTableName(),
+						rows.size() + 1
+				);
+			}
+			return;
+		}
+
+		if ( BATCH_LOGGER.isTraceEnabled() ) {
+			BATCH_LOGGER.tracef(
+					"Adding to multi-row insert batch (%s) - `%s`",
+					rows.size() + 1,
+					getKey().toLoggableString()
+			);
+		}
+
+		try {
+			final BindingGroup bindingGroup = jdbcValueBindings.getBindingGroup( tableDetails.getTableName() );
+			rows.add( bindingGroup == null ? NO_BINDINGS : bindingGroup.getBindings().toArray( NO_BINDINGS ) );
+		}
+		finally {
+			jdbcValueBindings.afterStatement( tableDetails );
+		}
+
+		if ( rows.size() == batchSizeToUse ) {
+			notifyObserversImplicitExecution();
+			performExecution();
+		}
+	}
+
+	@Override
+	public void execute() {
+		notifyObserversExplicitExecution();
+		try {
+			if ( rows.isEmpty() ) {
+				if ( BATCH_LOGGER.isDebugEnabled() ) {
+					BATCH_LOGGER.debugf(
+							"No batched statements to execute - %s",
+							getKey().toLoggableString()
+					);
+				}
+			}
+			else {
+				performExecution();
+			}
+		}
+		finally {
+			releaseStatements();
+		}
+	}
+
+	protected void performExecution() {
+		if ( BATCH_LOGGER.isTraceEnabled() ) {
+			BATCH_LOGGER.tracef(
+					"Executing multi-row insert batch (%s / %s) - `%s`",
+					rows.size(),
+					batchSizeToUse,
+					getKey().toLoggableString()
+			);
+		}
+
+		try {
+			for ( int start = 0; start < rows.size(); start += rowsPerStatement ) {
+				executeRows( start, Math.min( start + rowsPerStatement, rows.size() ) );
+			}
+		}
+		finally {
+			rows.clear();
+		}
+	}
+
+	private void executeRows(int start, int end) {
+		final PreparableMutationOperation mutation = statementGroup.getMutationOperation();
+		final SharedSessionContractImplementor session = statementGroup.getSession();
+		final int rowCount = end - start;
+		final int parametersPerRow = mutation.getParameterBinders().size();
+		final String sql = dialect.getMultiRowInsertString( mutation.getSqlString(), rowCount );
+		assert sql != null;
+
+		final ResourceRegistry resourceRegistry = jdbcCoordinator.getLogicalConnection().getResourceRegistry();
+		PreparedStatement statement = null;
+		try {
+			statement = jdbcCoordinator.getMutationStatementPreparer().prepareStatement( sql, false );
+			resourceRegistry.register( null, statement );
+			sqlStatementLogger.logStatement( sql );
+
+			for ( int row = 0; row < rowCount; row++ ) {
+				final int offset = row * parametersPerRow;
+				for ( Binding binding : rows.get( start + row ) ) {
+					try {
+						binding.getValueBinder().bind( statement, binding.getValue(), binding.getPosition() + offset, session );
+					}
+					catch (SQLException e) {
+						throw sqlExceptionHelper.convert(
+								e,
+								String.format(
+										Locale.ROOT,
+										"Unable to bind parameter #%s - %s",
+										binding.getPosition() + offset,
+										binding.getValue()
+								)
+						);
+					}
+				}
+			}
+
+			final int affectedRowCount = jdbcCoordinator.getResultSetReturn().executeUpdate( statement, sql );
+			if ( mutation.getTableDetails().isIdentifierTable() ) {
+				checkRowCount( affectedRowCount, start, rowCount, sql, mutation.getExpectation() );
+			}
+		}
+		catch (RuntimeException re) {
+			abortBatch( re );
+			BATCH_MESSAGE_LOGGER.unableToExecuteBatch( re, sql );
+			throw re;
+		}
+		finally {
+			if ( statement != null ) {
+				resourceRegistry.release( statement );
+				jdbcCoordinator.afterStatementExecution();
+			}
+		}
+	}
+
+	/**
+	 * Check that a multi-row insert inserted exactly one row per collected row. Since
+	 * the row count of the statement cannot be attributed to the individual rows, an
+	 * unexpected row count is reported for the statement as a whole.
+	 */
+	private static void checkRowCount(int affectedRowCount, int start, int rowCount, String sql, Expectation expectation) {
+		if ( expectation == Expectations.NONE || affectedRowCount == rowCount ) {
+			return;
+		}
+		final String message = String.format(
+				Locale.ROOT,
+				"Multi-row insert of batch rows [%s, %s) returned unexpected row count: %s; expected: %s; statement executed: %s",
+				start,
+				start + rowCount,
+				affectedRowCount,
+				rowCount,
+				sql
+		);
+		if ( affectedRowCount < rowCount ) {
+			throw new StaleStateException( message );
+		}
+		else {
+			throw new BatchedTooManyRowsAffectedException( message, rowCount, affectedRowCount, start );
+		}
+	}
+
+	protected void releaseStatements() {
+		statementGroup.release();
+		jdbcCoordinator.afterStatementExecution();
+	}
+
+	/**
+	 * Convenience method to notify registered observers of an explicit execution of this batch.
+	 */
+	protected final void notifyObserversExplicitExecution() {
+		for ( BatchObserver observer : observers ) {
+			observer.batchExplicitlyExecuted();
+		}
+	}
+
+	/**
+	 * Convenience method to notify registered observers of an implicit execution of this batch.
+	 */
+	protected final void notifyObserversImplicitExecution() {
+		for ( BatchObserver observer : observers ) {
+			observer.batchImplicitlyExecuted();
+		}
+	}
+
+	protected void abortBatch(Exception cause) {
+		try {
+			jdbcCoordinator.abortBatch();
+		}
+		catch (RuntimeException e) {
+			cause.addSuppressed( e );
+		}
+	}
+
+	@Override
+	public void release() {
+		if ( !rows.isEmpty() ) {
+			BATCH_MESSAGE_LOGGER.batchContainedStatementsOnRelease();
+			rows.clear();
+		}
+		releaseStatements();
+		observers.clear();
+	}
+
+	@Override
+	public String toString() {
+		return "MultiRowInsertBatch(" + getKey().toLoggableString() + ")";
+	}
+}
@@ -135,7 +135,7 @@ class StatementPreparerImpl implements StatementPreparer {
 			if ( ! settings().isScrollableResultSetsEnabled() ) {
 				throw new AssertionFailure("scrollable result sets are not enabled");
 			}
-			final PreparedStatement ps = new QueryStatementPreparationTemplate( sql ) {
+			final PreparedStatement ps = new QueryStatementPreparationTemplate( sql, scrollMode.toResultSetType(), !isCallable ) {
 				public PreparedStatement doPrepare() throws SQLException {
 						return isCallable
 								? connection().prepareCall( sql, scrollMode.toResultSetType(), ResultSet.CONCUR_READ_ONLY )
@@ -146,7 +146,7 @@ class StatementPreparerImpl implements StatementPreparer {
 			return ps;
 		}
 		else {
-			final PreparedStatement ps = new QueryStatementPreparationTemplate( sql ) {
+			final PreparedStatement ps = new QueryStatementPreparationTemplate( sql, ResultSet.TYPE_FORWARD_ONLY, !isCallable ) {
 				public PreparedStatement doPrepare() throws SQLException {
 						return isCallable
 								? connection().prepareCall( sql )
@@ -178,14 +178,26 @@ class StatementPreparerImpl implements StatementPreparer {
 				final JdbcObserver observer = jdbcSessionOwner.getJdbcSessionContext().getObserver();
 				final EventManager eventManager = jdbcSessionOwner.getEventManager();
 				final HibernateMonitoringEvent jdbcPreparedStatementCreation = eventManager.beginJdbcPreparedStatementCreationEvent();
+				final PreparedStatement reusedStatement = reuseStatement();
 				try {
-					observer.jdbcPrepareStatementStart();
-					preparedStatement = doPrepare();
+					if ( reusedStatement == null ) {
+						observer.jdbcPrepareStatementStart();
+						preparedStatement = doPrepare();
+					}
+					else {
+						preparedStatement = reusedStatement;
+					}
 					setStatementTimeout( preparedStatement );
 				}
 				finally {
-					eventManager.completeJdbcPreparedStatementCreationEvent( jdbcPreparedStatementCreation, sql );
-					observer.jdbcPrepareStatementEnd();
+					eventManager.completeJdbcPreparedStatementCreationEvent(
+							jdbcPreparedStatementCreation,
+							sql,
+							reusedStatement != null
+					);
+					if ( reusedStatement == null ) {
+						observer.jdbcPrepareStatementEnd();
+					}
 				}
 				postProcess( preparedStatement );
 				return preparedStatement;
@@ -197,6 +209,14 @@ class StatementPreparerImpl implements StatementPreparer {
 
 		protected abstract PreparedStatement doPrepare() throws SQLException;
 
+		/**
+		 * An open statement to use instead of {@linkplain #doPrepare() preparing} one,
+		 * already registered with the resource registry
+		 */
+		protected PreparedStatement reuseStatement() {
+			return null;
+		}
+
 		public void postProcess(PreparedStatement preparedStatement) throws SQLException {
 			jdbcCoordinator.getLogicalConnection().getResourceRegistry().register( preparedStatement, true );
 //			logicalConnection().notifyObserversStatementPrepared();
@@ -211,12 +231,37 @@ class StatementPreparerImpl implements StatementPreparer {
 	}
 
 	private abstract class QueryStatementPreparationTemplate extends StatementPreparationTemplate {
-		protected QueryStatementPreparationTemplate(String sql) {
+		private final int resultSetType;
+		private final boolean reusable;
+		private boolean reused;
+
+		protected QueryStatementPreparationTemplate(String sql, int resultSetType, boolean reusable) {
 			super( sql );
+			this.resultSetType = resultSetType;
+			this.reusable = reusable;
+		}
+
+		@Override
+		protected PreparedStatement reuseStatement() {
+			if ( !reusable ) {
+				return null;
+			}
+			final PreparedStatement statement = jdbcCoordinator.getLogicalConnection().getResourceRegistry()
+					.reuseStatement( sql, resultSetType, ResultSet.CONCUR_READ_ONLY );
+			reused = statement != null;
+			return statement;
 		}
 
 		public void postProcess(PreparedStatement preparedStatement) throws SQLException {
-			super.postProcess( preparedStatement );
+			if ( reusable ) {
+				if ( !reused ) {
+					jdbcCoordinator.getLogicalConnection().getResourceRegistry()
+							.registerReusable( preparedStatement, sql, resultSetType, ResultSet.CONCUR_READ_ONLY );
+				}
+			}
+			else {
+				super.postProcess( preparedStatement );
+			}
 			setStatementFetchSize( preparedStatement );
 		}
 	}
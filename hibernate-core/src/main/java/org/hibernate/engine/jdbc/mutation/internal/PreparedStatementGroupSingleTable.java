@@ -35,6 +35,20 @@ public class PreparedStatementGroupSingleTable implements PreparedStatementGroup
 		this.session = session;
 	}
 
+	/**
+	 * The mutation for which the statement is prepared
+	 */
+	public PreparableMutationOperation getMutationOperation() {
+		return jdbcMutation;
+	}
+
+	/**
+	 * The session for which the statement is prepared
+	 */
+	public SharedSessionContractImplementor getSession() {
+		return session;
+	}
+
 	protected TableMapping getMutatingTableDetails() {
 		return jdbcMutation.getTableDetails();
 	}
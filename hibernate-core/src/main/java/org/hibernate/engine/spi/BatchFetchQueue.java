@@ -6,8 +6,12 @@
  */
 package org.hibernate.engine.spi;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
@@ -219,27 +223,33 @@ public class BatchFetchQueue {
 		int end = -1;
 		boolean checkForEnd = false;
 
-		for ( EntityKey key : set ) {
-			if ( checkForEnd && batchPosition == end ) {
-				// the first id found after the given id
-				return;
-			}
+		final Iterator<EntityKey> keys = set.iterator();
+		while ( keys.hasNext() ) {
+			final List<EntityKey> chunk = nextChunk( keys, domainBatchSize );
+			final boolean[] cached = areCached( chunk, entityDescriptor.getEntityPersister() );
+			for ( int i = 0; i < chunk.size(); i++ ) {
+				final EntityKey key = chunk.get( i );
+				if ( checkForEnd && batchPosition == end ) {
+					// the first id found after the given id
+					return;
+				}
 
-			if ( identifierMapping.areEqual( loadingId, key.getIdentifier(), context.getSession() ) ) {
-				end = batchPosition;
-			}
-			else {
-				if ( !isCached( key, entityDescriptor.getEntityPersister() ) ) {
-					//noinspection unchecked
-					collector.accept( batchPosition++, (T) key.getIdentifier() );
+				if ( identifierMapping.areEqual( loadingId, key.getIdentifier(), context.getSession() ) ) {
+					end = batchPosition;
+				}
+				else {
+					if ( !cached[i] ) {
+						//noinspection unchecked
+						collector.accept( batchPosition++, (T) key.getIdentifier() );
+					}
 				}
-			}
 
-			if ( batchPosition == domainBatchSize ) {
-				// end of array, start filling again from start
-				batchPosition = 1;
-				if ( end != -1 ) {
-					checkForEnd = true;
+				if ( batchPosition == domainBatchSize ) {
+					// end of array, start filling again from start
+					batchPosition = 1;
+					if ( end != -1 ) {
+						checkForEnd = true;
+					}
 				}
 			}
 		}
@@ -272,26 +282,32 @@ public class BatchFetchQueue {
 		final LinkedHashSet<EntityKey> set =
 				batchLoadableEntityKeys.get( entityDescriptor.getEntityName() );
 		if ( set != null ) {
-			for ( EntityKey key : set ) {
-				if ( checkForEnd && i == end ) {
-					// the first id found after the given id
-					return ids;
-				}
+			final Iterator<EntityKey> keys = set.iterator();
+			while ( keys.hasNext() ) {
+				final List<EntityKey> chunk = nextChunk( keys, maxBatchSize );
+				final boolean[] cached = areCached( chunk, entityDescriptor.getEntityPersister() );
+				for ( int j = 0; j < chunk.size(); j++ ) {
+					final EntityKey key = chunk.get( j );
+					if ( checkForEnd && i == end ) {
+						// the first id found after the given id
+						return ids;
+					}
 
-				if ( entityDescriptor.getEntityPersister().getIdentifierType()
-						.isEqual( loadingId, key.getIdentifier() ) ) {
-					end = i;
-				}
-				else {
-					if ( !isCached( key, entityDescriptor.getEntityPersister() ) ) {
-						ids[i++] = key.getIdentifier();
+					if ( entityDescriptor.getEntityPersister().getIdentifierType()
+							.isEqual( loadingId, key.getIdentifier() ) ) {
+						end = i;
+					}
+					else {
+						if ( !cached[j] ) {
+							ids[i++] = key.getIdentifier();
+						}
 					}
-				}
 
-				if ( i == maxBatchSize ) {
-					i = 1; // end of array, start filling again from start
-					if ( end != -1 ) {
-						checkForEnd = true;
+					if ( i == maxBatchSize ) {
+						i = 1; // end of array, start filling again from start
+						if ( end != -1 ) {
+							checkForEnd = true;
+						}
 					}
 				}
 			}
@@ -301,19 +317,31 @@ public class BatchFetchQueue {
 		return ids;
 	}
 
-	private boolean isCached(EntityKey entityKey, EntityPersister persister) {
+	/**
+	 * Determine which of the given entity keys are in the second-level cache,
+	 * using a single bulk lookup.
+	 */
+	private boolean[] areCached(List<EntityKey> entityKeys, EntityPersister persister) {
+		final boolean[] cached = new boolean[entityKeys.size()];
 		final SharedSessionContractImplementor session = context.getSession();
-		if ( context.getSession().getCacheMode().isGetEnabled() && persister.canReadFromCache() ) {
+		if ( session.getCacheMode().isGetEnabled() && persister.canReadFromCache() ) {
 			final EntityDataAccess cache = persister.getCacheAccessStrategy();
-			final Object key = cache.generateCacheKey(
-					entityKey.getIdentifier(),
-					persister,
-					session.getFactory(),
-					session.getTenantIdentifier()
-			);
-			return CacheHelper.fromSharedCache( session, key, persister, cache ) != null;
+			final Object[] cacheKeys = new Object[entityKeys.size()];
+			for ( int i = 0; i < cacheKeys.length; i++ ) {
+				cacheKeys[i] = cache.generateCacheKey(
+						entityKeys.get( i ).getIdentifier(),
+						persister,
+						session.getFactory(),
+						session.getTenantIdentifier()
+				);
+			}
+			final Map<Object, Object> cachedValues =
+					CacheHelper.fromSharedCache( session, Arrays.asList( cacheKeys ), persister, cache );
+			for ( int i = 0; i < cacheKeys.length; i++ ) {
+				cached[i] = cachedValues.get( cacheKeys[i] ) != null;
+			}
 		}
-		return false;
+		return cached;
 	}
 
 
@@ -386,55 +414,61 @@ public class BatchFetchQueue {
 		int end = -1;
 		boolean checkForEnd = false;
 
-		for ( Entry<CollectionEntry, PersistentCollection<?>> me : map.entrySet() ) {
-			final CollectionEntry ce = me.getKey();
-			final Object loadedKey = ce.getLoadedKey();
-			final PersistentCollection<?> collection = me.getValue();
-
-			if ( loadedKey == null ) {
-				// the loadedKey of the collectionEntry might be null as it might have been reset to null
-				// (see for example Collections.processDereferencedCollection()
-				// and CollectionEntry.afterAction())
-				// though we clear the queue on flush, it seems like a good idea to guard
-				// against potentially null loadedKeys (which leads to various NPEs as demonstrated in HHH-7821).
-				continue;
-			}
+		final Iterator<Entry<CollectionEntry, PersistentCollection<?>>> entries = map.entrySet().iterator();
+		while ( entries.hasNext() ) {
+			final List<Entry<CollectionEntry, PersistentCollection<?>>> chunk = nextChunk( entries, batchSize );
+			final boolean[] cached = areCached( chunk, pluralAttributeMapping.getCollectionDescriptor() );
+			for ( int j = 0; j < chunk.size(); j++ ) {
+				final Entry<CollectionEntry, PersistentCollection<?>> me = chunk.get( j );
+				final CollectionEntry ce = me.getKey();
+				final Object loadedKey = ce.getLoadedKey();
+				final PersistentCollection<?> collection = me.getValue();
 
-			if ( collection.wasInitialized() ) {
-				// should never happen
-				LOG.warn( "Encountered initialized collection in BatchFetchQueue, this should not happen." );
-				continue;
-			}
+				if ( loadedKey == null ) {
+					// the loadedKey of the collectionEntry might be null as it might have been reset to null
+					// (see for example Collections.processDereferencedCollection()
+					// and CollectionEntry.afterAction())
+					// though we clear the queue on flush, it seems like a good idea to guard
+					// against potentially null loadedKeys (which leads to various NPEs as demonstrated in HHH-7821).
+					continue;
+				}
 
-			if ( checkForEnd && i == end ) {
-				// the first key found after the given key
-				return;
-			}
+				if ( collection.wasInitialized() ) {
+					// should never happen
+					LOG.warn( "Encountered initialized collection in BatchFetchQueue, this should not happen." );
+					continue;
+				}
 
-			final boolean isEqual = pluralAttributeMapping.getKeyDescriptor().areEqual(
-					keyBeingLoaded,
-					loadedKey,
-					context.getSession()
-			);
-//			final boolean isEqual = collectionPersister.getKeyType().isEqual(
-//					id,
-//					loadedKey,
-//					collectionPersister.getFactory()
-//			);
-
-			if ( isEqual ) {
-				end = i;
-			}
-			else if ( !isCached( loadedKey, pluralAttributeMapping.getCollectionDescriptor() ) ) {
-				//noinspection unchecked
-				collector.accept( i++, (T) loadedKey );
-			}
+				if ( checkForEnd && i == end ) {
+					// the first key found after the given key
+					return;
+				}
+
+				final boolean isEqual = pluralAttributeMapping.getKeyDescriptor().areEqual(
+						keyBeingLoaded,
+						loadedKey,
+						context.getSession()
+				);
+//				final boolean isEqual = collectionPersister.getKeyType().isEqual(
+//						id,
+//						loadedKey,
+//						collectionPersister.getFactory()
+//				);
 
-			if ( i == batchSize ) {
-				//end of array, start filling again from start
-				i = 1;
-				if ( end != -1 ) {
-					checkForEnd = true;
+				if ( isEqual ) {
+					end = i;
+				}
+				else if ( !cached[j] ) {
+					//noinspection unchecked
+					collector.accept( i++, (T) loadedKey );
+				}
+
+				if ( i == batchSize ) {
+					//end of array, start filling again from start
+					i = 1;
+					if ( end != -1 ) {
+						checkForEnd = true;
+					}
 				}
 			}
 		}
@@ -469,49 +503,55 @@ public class BatchFetchQueue {
 		final LinkedHashMap<CollectionEntry, PersistentCollection<?>> map =
 				batchLoadableCollections.get( collectionPersister.getRole() );
 		if ( map != null ) {
-			for ( Entry<CollectionEntry, PersistentCollection<?>> me : map.entrySet() ) {
-				final CollectionEntry ce = me.getKey();
-				final Object loadedKey = ce.getLoadedKey();
-				final PersistentCollection<?> collection = me.getValue();
-
-				if ( loadedKey == null ) {
-					// the loadedKey of the collectionEntry might be null as it might have been reset to null
-					// (see for example Collections.processDereferencedCollection()
-					// and CollectionEntry.afterAction())
-					// though we clear the queue on flush, it seems like a good idea to guard
-					// against potentially null loadedKeys (which leads to various NPEs as demonstrated in HHH-7821).
-					continue;
-				}
+			final Iterator<Entry<CollectionEntry, PersistentCollection<?>>> entries = map.entrySet().iterator();
+			while ( entries.hasNext() ) {
+				final List<Entry<CollectionEntry, PersistentCollection<?>>> chunk = nextChunk( entries, batchSize );
+				final boolean[] cached = areCached( chunk, collectionPersister );
+				for ( int j = 0; j < chunk.size(); j++ ) {
+					final Entry<CollectionEntry, PersistentCollection<?>> me = chunk.get( j );
+					final CollectionEntry ce = me.getKey();
+					final Object loadedKey = ce.getLoadedKey();
+					final PersistentCollection<?> collection = me.getValue();
+
+					if ( loadedKey == null ) {
+						// the loadedKey of the collectionEntry might be null as it might have been reset to null
+						// (see for example Collections.processDereferencedCollection()
+						// and CollectionEntry.afterAction())
+						// though we clear the queue on flush, it seems like a good idea to guard
+						// against potentially null loadedKeys (which leads to various NPEs as demonstrated in HHH-7821).
+						continue;
+					}
 
-				if ( collection.wasInitialized() ) {
-					// should never happen
-					LOG.warn( "Encountered initialized collection in BatchFetchQueue, this should not happen." );
-					continue;
-				}
+					if ( collection.wasInitialized() ) {
+						// should never happen
+						LOG.warn( "Encountered initialized collection in BatchFetchQueue, this should not happen." );
+						continue;
+					}
 
-				if ( checkForEnd && i == end ) {
-					return keys; //the first key found after the given key
-				}
+					if ( checkForEnd && i == end ) {
+						return keys; //the first key found after the given key
+					}
 
-				final boolean isEqual = collectionPersister.getKeyType().isEqual(
-						id,
-						loadedKey,
-						collectionPersister.getFactory()
-				);
+					final boolean isEqual = collectionPersister.getKeyType().isEqual(
+							id,
+							loadedKey,
+							collectionPersister.getFactory()
+					);
 
-				if ( isEqual ) {
-					end = i;
-					//checkForEnd = false;
-				}
-				else if ( !isCached( loadedKey, collectionPersister ) ) {
-					keys[i++] = loadedKey;
-					//count++;
-				}
+					if ( isEqual ) {
+						end = i;
+						//checkForEnd = false;
+					}
+					else if ( !cached[j] ) {
+						keys[i++] = loadedKey;
+						//count++;
+					}
 
-				if ( i == batchSize ) {
-					i = 1; //end of array, start filling again from start
-					if ( end != -1 ) {
-						checkForEnd = true;
+					if ( i == batchSize ) {
+						i = 1; //end of array, start filling again from start
+						if ( end != -1 ) {
+							checkForEnd = true;
+						}
 					}
 				}
 			}
@@ -519,19 +559,54 @@ public class BatchFetchQueue {
 		return keys; //we ran out of keys to try
 	}
 
-	private boolean isCached(Object collectionKey, CollectionPersister persister) {
-		SharedSessionContractImplementor session = context.getSession();
+	/**
+	 * Determine which of the uninitialized collections of the given entries are
+	 * in the second-level cache, using a single bulk lookup.
+	 */
+	private boolean[] areCached(
+			List<Entry<CollectionEntry, PersistentCollection<?>>> entries,
+			CollectionPersister persister) {
+		final boolean[] cached = new boolean[entries.size()];
+		final SharedSessionContractImplementor session = context.getSession();
 		if ( session.getCacheMode().isGetEnabled() && persister.hasCache() ) {
-			CollectionDataAccess cache = persister.getCacheAccessStrategy();
-			Object cacheKey = cache.generateCacheKey(
-					collectionKey,
-					persister,
-					session.getFactory(),
-					session.getTenantIdentifier()
-			);
-			return CacheHelper.fromSharedCache( session, cacheKey, persister, cache ) != null;
+			final CollectionDataAccess cache = persister.getCacheAccessStrategy();
+			final Object[] cacheKeys = new Object[entries.size()];
+			final List<Object> keysToLookup = new ArrayList<>( cacheKeys.length );
+			for ( int i = 0; i < cacheKeys.length; i++ ) {
+				final Entry<CollectionEntry, PersistentCollection<?>> entry = entries.get( i );
+				final Object loadedKey = entry.getKey().getLoadedKey();
+				if ( loadedKey != null && !entry.getValue().wasInitialized() ) {
+					cacheKeys[i] = cache.generateCacheKey(
+							loadedKey,
+							persister,
+							session.getFactory(),
+							session.getTenantIdentifier()
+					);
+					keysToLookup.add( cacheKeys[i] );
+				}
+			}
+			if ( !keysToLookup.isEmpty() ) {
+				final Map<Object, Object> cachedValues =
+						CacheHelper.fromSharedCache( session, keysToLookup, persister, cache );
+				for ( int i = 0; i < cacheKeys.length; i++ ) {
+					cached[i] = cacheKeys[i] != null && cachedValues.get( cacheKeys[i] ) != null;
+				}
+			}
 		}
-		return false;
+		return cached;
+	}
+
+	/**
+	 * The next elements of the given iterator, at most the size of a batch,
+	 * which are looked up in the second-level cache together.
+	 */
+	private static <E> List<E> nextChunk(Iterator<E> iterator, int batchSize) {
+		final List<E> chunk = new ArrayList<>( Math.max( batchSize, 1 ) );
+		do {
+			chunk.add( iterator.next() );
+		}
+		while ( iterator.hasNext() && chunk.size() < batchSize );
+		return chunk;
 	}
 
 	public SharedSessionContractImplementor getSession() {
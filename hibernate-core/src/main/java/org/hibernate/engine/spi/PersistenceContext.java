@@ -173,6 +173,21 @@ public interface PersistenceContext {
 	 */
 	Object getEntity(EntityKey key);
 
+	/**
+	 * Get the entity instance with the given identifier, without necessarily
+	 * allocating an {@link EntityKey}
+	 *
+	 * @param id The identifier of the entity
+	 * @param persister The persister of the entity
+	 *
+	 * @return The matching entity, or {@code null}
+	 *
+	 * @since 6.5
+	 */
+	default Object getEntity(Object id, EntityPersister persister) {
+		return getEntity( getSession().generateEntityKey( id, persister ) );
+	}
+
 	/**
 	 * Is there an entity with the given key in the persistence context
 	 *
@@ -513,6 +528,16 @@ public interface PersistenceContext {
 
 	EntityHolder getEntityHolder(EntityKey key);
 
+	/**
+	 * Get the holder of the entity with the given identifier, without
+	 * necessarily allocating an {@link EntityKey}
+	 *
+	 * @since 6.5
+	 */
+	default EntityHolder getEntityHolder(Object id, EntityPersister persister) {
+		return getEntityHolder( getSession().generateEntityKey( id, persister ) );
+	}
+
 	boolean containsEntityHolder(EntityKey key);
 
 	EntityHolder removeEntityHolder(EntityKey key);
@@ -208,28 +208,47 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 
 		final Map.Entry<Object,EntityEntry>[] entityEntries = persistenceContext.reentrantSafeEntityEntries();
 		final int count = entityEntries.length;
+		final ActionQueue actionQueue = source.getActionQueue();
+
+		// extract the state of the entities and compare it with their snapshots in parallel,
+		// up front, the flush of each entity below still happens in order, on this thread
+		final int parallelDirtyCheckThreshold =
+				source.getFactory().getSessionFactoryOptions().getFlushParallelDirtyCheckThreshold();
+		final ParallelDirtyCheck parallelDirtyCheck = parallelDirtyCheckThreshold > 0
+				&& count >= parallelDirtyCheckThreshold
+				&& ParallelDirtyCheck.isApplicable( source )
+						? ParallelDirtyCheck.perform( entityEntries, source )
+						: null;
 
 		FlushEntityEvent entityEvent = null; //allow reuse of the event as it's heavily allocated in certain use cases
 		int eventGenerationId = 0; //Used to double-check the instance reuse won't cause problems
 
-		for ( Map.Entry<Object,EntityEntry> me : entityEntries ) {
+		for ( int i = 0; i < count; i++ ) {
 			// Update the status of the object and if necessary, schedule an update
 
+			final Map.Entry<Object,EntityEntry> me = entityEntries[i];
 			final EntityEntry entry = me.getValue();
 			final Status status = entry.getStatus();
 
 			if ( status != Status.LOADING && status != Status.GONE ) {
 				entityEvent = createOrReuseEventInstance( entityEvent, source, me.getKey(), entry );
+				if ( parallelDirtyCheck != null ) {
+					parallelDirtyCheck.applyTo( entityEvent, i );
+				}
 
 				entityEvent.setInstanceGenerationId( ++eventGenerationId );
 
+				final int updates = parallelDirtyCheck == null ? 0 : actionQueue.numberOfUpdates();
 				flushListeners.fireEventOnEachListener( entityEvent, FlushEntityEventListener::onFlushEntity );
+				if ( parallelDirtyCheck != null ) {
+					parallelDirtyCheck.flushed( entry, actionQueue.numberOfUpdates() > updates );
+				}
 				entityEvent.setAllowedToReuse( true );
 				assert entityEvent.getInstanceGenerationId() == eventGenerationId;
 			}
 		}
 
-		source.getActionQueue().sortActions();
+		actionQueue.sortActions();
 
 		return count;
 	}
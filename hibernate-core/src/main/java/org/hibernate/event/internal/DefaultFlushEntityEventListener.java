@@ -135,7 +135,7 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 
 		final boolean mightBeDirty = entry.requiresDirtyCheck( entity );
 
-		final Object[] values = getValues( entity, entry, mightBeDirty, session );
+		final Object[] values = getValues( event, entity, entry, mightBeDirty, session );
 
 		event.setPropertyValues( values );
 
@@ -164,7 +164,12 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 
 	}
 
-	private Object[] getValues(Object entity, EntityEntry entry, boolean mightBeDirty, SessionImplementor session) {
+	private Object[] getValues(
+			FlushEntityEvent event,
+			Object entity,
+			EntityEntry entry,
+			boolean mightBeDirty,
+			SessionImplementor session) {
 		final Object[] loadedState = entry.getLoadedState();
 
 		if ( entry.getStatus() == Status.DELETED ) {
@@ -177,8 +182,11 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 		else {
 			final EntityPersister persister = entry.getPersister();
 			checkId( entity, persister, entry.getId(), session );
-			// grab its current state
-			Object[] values = persister.getValues( entity );
+			// grab its current state, unless it was already extracted
+			// by the parallel dirty check
+			final Object[] values = hasPrecomputedDirtyCheck( event, loadedState )
+					? event.getPrecomputedPropertyValues()
+					: persister.getValues( entity );
 			checkNaturalId( persister, entity, entry, values, loadedState, session );
 			return values;
 		}
@@ -496,7 +504,15 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 			final Object entity = event.getEntity();
 			if ( loadedState != null ) {
 				// dirty check against the usual snapshot of the entity
-				dirtyProperties = persister.findDirty( values, loadedState, entity, session );
+				if ( values == event.getPrecomputedPropertyValues() ) {
+					dirtyProperties = event.getPrecomputedDirtyProperties();
+					// the values might still be changed by a callback, after
+					// which the dirty check is performed again
+					event.setPrecomputedDirtyCheck( null, null, null );
+				}
+				else {
+					dirtyProperties = persister.findDirty( values, loadedState, entity, session );
+				}
 				dirtyCheckPossible = true;
 			}
 			else if ( entry.getStatus() == Status.DELETED && !entry.isModifiableEntity() ) {
@@ -542,6 +558,17 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 		return dirtyProperties;
 	}
 
+	/**
+	 * Whether the state of the entity was extracted and compared with the given loaded
+	 * state ahead of time, in parallel.
+	 *
+	 * @see ParallelDirtyCheck
+	 */
+	private static boolean hasPrecomputedDirtyCheck(FlushEntityEvent event, Object[] loadedState) {
+		return event.getPrecomputedPropertyValues() != null
+			&& event.getPrecomputedLoadedState() == loadedState;
+	}
+
 	/**
 	 * Attempt to get the dirty properties from either the Interceptor,
 	 * the bytecode enhancement, or a custom dirtiness strategy.
@@ -0,0 +1,245 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.internal;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.hibernate.EmptyInterceptor;
+import org.hibernate.boot.internal.DefaultCustomEntityDirtinessStrategy;
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.event.spi.FlushEntityEvent;
+import org.hibernate.event.spi.FlushEntityEventListener;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.internal.util.collections.ArrayHelper;
+import org.hibernate.jpa.event.spi.CallbackRegistry;
+import org.hibernate.jpa.event.spi.CallbackType;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.tuple.NonIdentifierAttribute;
+import org.hibernate.type.AbstractStandardBasicType;
+import org.hibernate.type.Type;
+
+import static org.hibernate.engine.internal.ManagedTypeHelper.isPersistentAttributeInterceptable;
+
+/**
+ * Extracts the state of the entities of a large persistence context and compares it
+ * with their loaded snapshot in parallel, using the common
+ * {@link java.util.concurrent.ForkJoinPool}, before they are flushed one at a time.
+ * <p>
+ * This is only done for entities which are not enhanced and whose properties are all
+ * of basic, immutable types, since reading their state touches neither the session nor
+ * other entities, and they are compared the same way {@link EntityPersister#findDirty}
+ * compares them. It is also only done if neither an {@link org.hibernate.Interceptor},
+ * nor a {@link org.hibernate.CustomEntityDirtinessStrategy}, nor a custom
+ * {@link org.hibernate.event.spi.FlushEntityEventListener} could take part in the flush.
+ * The extracted state and the result of the comparison are handed to the
+ * {@link FlushEntityEvent} of the entity, which uses them instead of extracting the
+ * state again. The flush then proceeds as usual, in the order of the persistence
+ * context, so the actions added to the {@link org.hibernate.engine.spi.ActionQueue}
+ * are the same, in the same order, as when flushing serially.
+ * <p>
+ * A {@link jakarta.persistence.PreUpdate} callback invoked by the flush of an entity
+ * might change the state of another entity before it is flushed, and so the results
+ * are discarded for every entity flushed after such a callback.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#FLUSH_PARALLEL_DIRTY_CHECK_THRESHOLD
+ */
+final class ParallelDirtyCheck {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( ParallelDirtyCheck.class );
+
+	private final CallbackRegistry callbackRegistry;
+	private final Object[][] values;
+	private final Object[][] loadedStates;
+	private final int[][] dirtyProperties;
+	private boolean discarded;
+
+	private ParallelDirtyCheck(CallbackRegistry callbackRegistry, int count) {
+		this.callbackRegistry = callbackRegistry;
+		this.values = new Object[count][];
+		this.loadedStates = new Object[count][];
+		this.dirtyProperties = new int[count][];
+	}
+
+	/**
+	 * Whether the dirty check of the entities of the given session may be performed
+	 * ahead of time, that is, whether it is not handled by an {@link org.hibernate.Interceptor}
+	 * or a {@link org.hibernate.CustomEntityDirtinessStrategy}, and the flush of an entity
+	 * is not handled by any other listener than {@link DefaultFlushEntityEventListener}
+	 */
+	static boolean isApplicable(SessionImplementor session) {
+		final SessionFactoryImplementor factory = session.getFactory();
+		if ( session.getInterceptor() != EmptyInterceptor.INSTANCE
+				|| factory.getCustomEntityDirtinessStrategy() != DefaultCustomEntityDirtinessStrategy.INSTANCE ) {
+			return false;
+		}
+		for ( FlushEntityEventListener listener : factory.getFastSessionServices().eventListenerGroup_FLUSH_ENTITY.listeners() ) {
+			if ( listener.getClass() != DefaultFlushEntityEventListener.class ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Perform the dirty check of the given entities in parallel, where possible
+	 */
+	static ParallelDirtyCheck perform(Map.Entry<Object, EntityEntry>[] entityEntries, SessionImplementor session) {
+		final int count = entityEntries.length;
+		final ParallelDirtyCheck result =
+				new ParallelDirtyCheck( session.getFactory().getEventEngine().getCallbackRegistry(), count );
+
+		final Map<EntityPersister, PropertyComparison> comparisons = new IdentityHashMap<>();
+		final PropertyComparison[] entityComparisons = new PropertyComparison[count];
+		for ( int i = 0; i < count; i++ ) {
+			final Object entity = entityEntries[i].getKey();
+			final EntityEntry entry = entityEntries[i].getValue();
+			if ( entry.getStatus() == Status.MANAGED
+					&& entry.getLoadedState() != null
+					&& !isPersistentAttributeInterceptable( entity ) ) {
+				final EntityPersister persister = entry.getPersister();
+				final PropertyComparison comparison;
+				if ( comparisons.containsKey( persister ) ) {
+					comparison = comparisons.get( persister );
+				}
+				else {
+					comparison = PropertyComparison.forPersister( persister );
+					comparisons.put( persister, comparison );
+				}
+				if ( comparison != null ) {
+					result.loadedStates[i] = entry.getLoadedState();
+					entityComparisons[i] = comparison;
+				}
+			}
+		}
+
+		IntStream.range( 0, count ).parallel().forEach( i -> {
+			final PropertyComparison comparison = entityComparisons[i];
+			if ( comparison != null ) {
+				final Object[] currentValues;
+				try {
+					currentValues = comparison.persister.getValues( entityEntries[i].getKey() );
+				}
+				catch (RuntimeException e) {
+					// the entity is simply checked again, during its flush,
+					// which reports the problem if there really is one
+					LOG.tracef( "Unable to extract the state of entity of type %s: %s",
+							comparison.persister.getEntityName(), e );
+					return;
+				}
+				result.dirtyProperties[i] = comparison.findDirty( currentValues, result.loadedStates[i] );
+				result.values[i] = currentValues;
+			}
+		} );
+		return result;
+	}
+
+	/**
+	 * Hand the result of the dirty check of the entity at the given position over to
+	 * the event for its flush
+	 */
+	void applyTo(FlushEntityEvent event, int position) {
+		final Object[] currentValues = values[position];
+		if ( currentValues != null && !discarded ) {
+			event.setPrecomputedDirtyCheck( currentValues, loadedStates[position], dirtyProperties[position] );
+		}
+	}
+
+	/**
+	 * Called once the given entity was flushed, to discard the results for the entities
+	 * which are yet to be flushed if its flush might have invoked a callback
+	 *
+	 * @param updateScheduled whether the flush scheduled an update of the entity
+	 */
+	void flushed(EntityEntry entry, boolean updateScheduled) {
+		if ( updateScheduled && !discarded
+				&& callbackRegistry.hasRegisteredCallbacks( entry.getPersister().getMappedClass(), CallbackType.PRE_UPDATE ) ) {
+			LOG.trace( "Discarding the parallel dirty check of the remaining entities after a PreUpdate callback" );
+			discarded = true;
+		}
+	}
+
+	/**
+	 * Compares the property values of entities of a type whose properties are all of
+	 * basic, immutable types with their loaded state, exactly like
+	 * {@link AbstractEntityPersister#findDirty}, but without a session.
+	 */
+	private static final class PropertyComparison {
+		private final EntityPersister persister;
+		private final Type[] types;
+		private final boolean[] checkable;
+
+		private PropertyComparison(EntityPersister persister, Type[] types, boolean[] checkable) {
+			this.persister = persister;
+			this.types = types;
+			this.checkable = checkable;
+		}
+
+		/**
+		 * The comparison of the properties of the given entity type, or {@code null} if
+		 * it can only be performed by {@link EntityPersister#findDirty}, or might be
+		 * invalidated by mutating a property value in place
+		 */
+		static PropertyComparison forPersister(EntityPersister persister) {
+			if ( !( persister instanceof AbstractEntityPersister )
+					|| persister.hasMutableProperties()
+					|| persister.hasCollections() ) {
+				return null;
+			}
+			final NonIdentifierAttribute[] properties = persister.getEntityMetamodel().getProperties();
+			final boolean[][] columnUpdateable = ( (AbstractEntityPersister) persister ).getPropertyColumnUpdateable();
+			final Type[] types = new Type[properties.length];
+			final boolean[] checkable = new boolean[properties.length];
+			for ( int i = 0; i < properties.length; i++ ) {
+				final Type type = properties[i].getType();
+				// the dirty check of these types never uses the session
+				if ( !( type instanceof AbstractStandardBasicType ) || type.isMutable()
+						|| columnUpdateable[i].length != 1 ) {
+					return null;
+				}
+				types[i] = type;
+				checkable[i] = properties[i].isDirtyCheckable() && columnUpdateable[i][0];
+			}
+			return new PropertyComparison( persister, types, checkable );
+		}
+
+		int[] findDirty(Object[] currentState, Object[] previousState) {
+			int[] results = null;
+			int count = 0;
+			for ( int i = 0; i < types.length; i++ ) {
+				if ( isDirty( currentState[i], previousState[i], i ) ) {
+					if ( results == null ) {
+						results = new int[types.length];
+					}
+					results[count++] = i;
+				}
+			}
+			return count == 0 ? null : ArrayHelper.trim( results, count );
+		}
+
+		private boolean isDirty(Object current, Object previous, int i) {
+			if ( current == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+				return false;
+			}
+			else if ( previous == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+				return true;
+			}
+			else if ( current == previous ) {
+				return false;
+			}
+			else {
+				return checkable[i] && !types[i].isSame( previous, current );
+			}
+		}
+	}
+}
@@ -60,6 +60,21 @@ public interface EventManager {
 			HibernateMonitoringEvent jdbcPreparedStatementCreation,
 			String preparedStatementSql);
 
+	/**
+	 * Complete the event of obtaining a JDBC {@link java.sql.PreparedStatement},
+	 * which might have been reused from the statement cache, rather than prepared.
+	 *
+	 * @since 6.5
+	 *
+	 * @see org.hibernate.cfg.JdbcSettings#STATEMENT_CACHE_SIZE
+	 */
+	default void completeJdbcPreparedStatementCreationEvent(
+			HibernateMonitoringEvent jdbcPreparedStatementCreation,
+			String preparedStatementSql,
+			boolean cached) {
+		completeJdbcPreparedStatementCreationEvent( jdbcPreparedStatementCreation, preparedStatementSql );
+	}
+
 	HibernateMonitoringEvent beginJdbcPreparedStatementExecutionEvent();
 
 	void completeJdbcPreparedStatementExecutionEvent(
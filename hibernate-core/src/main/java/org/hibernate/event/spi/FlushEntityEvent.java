@@ -21,6 +21,9 @@ public class FlushEntityEvent extends AbstractEvent {
 	private boolean dirtyCheckPossible;
 	private boolean dirtyCheckHandledByInterceptor;
 	private EntityEntry entityEntry;
+	private Object[] precomputedPropertyValues;
+	private Object[] precomputedLoadedState;
+	private int[] precomputedDirtyProperties;
 	private boolean allowedToReuse;//allows this event instance to be reused for multiple events: special case to GC
 	private int instanceGenerationId;//in support of event instance reuse: to double check no recursive/nested use is happening
 
@@ -79,6 +82,58 @@ public class FlushEntityEvent extends AbstractEvent {
 		return entity;
 	}
 
+	/**
+	 * The property values of this entity, extracted ahead of its flush for the dirty
+	 * check, or {@code null} if they were not.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#FLUSH_PARALLEL_DIRTY_CHECK_THRESHOLD
+	 *
+	 * @since 6.5
+	 */
+	public Object[] getPrecomputedPropertyValues() {
+		return precomputedPropertyValues;
+	}
+
+	/**
+	 * The loaded state the dirty check of this entity was performed against, ahead of
+	 * its flush, or {@code null} if it was not.
+	 *
+	 * @since 6.5
+	 */
+	public Object[] getPrecomputedLoadedState() {
+		return precomputedLoadedState;
+	}
+
+	/**
+	 * The indexes of the dirty properties found by the dirty check performed ahead of
+	 * the flush of this entity, or {@code null} if none were dirty or it was not
+	 * performed, as told by {@link #getPrecomputedPropertyValues()}.
+	 *
+	 * @since 6.5
+	 */
+	public int[] getPrecomputedDirtyProperties() {
+		return precomputedDirtyProperties;
+	}
+
+	/**
+	 * Record the result of a dirty check performed ahead of the flush of this entity.
+	 * If the entity still has the same loaded state, the flush uses the given property
+	 * values as the current state of the entity, instead of extracting it again, along
+	 * with the given dirty properties. It is reset when this event is
+	 * {@linkplain #isAllowedToReuse() reused}.
+	 *
+	 * @param propertyValues the property values extracted from the entity, which were compared
+	 * @param loadedState the loaded state of the entity they were compared with
+	 * @param dirtyProperties the indexes of the dirty properties, or {@code null} if none are dirty
+	 *
+	 * @since 6.5
+	 */
+	public void setPrecomputedDirtyCheck(Object[] propertyValues, Object[] loadedState, int[] dirtyProperties) {
+		this.precomputedPropertyValues = propertyValues;
+		this.precomputedLoadedState = loadedState;
+		this.precomputedDirtyProperties = dirtyProperties;
+	}
+
 	/**
 	 * This is a terrible anti-pattern, but particular circumstances call for being
 	 * able to reuse the same event instance: this is otherwise allocated in hot loops
@@ -102,6 +157,9 @@ public class FlushEntityEvent extends AbstractEvent {
 		this.hasDirtyCollection = false;
 		this.dirtyCheckPossible = false;
 		this.dirtyCheckHandledByInterceptor = false;
+		this.precomputedPropertyValues = null;
+		this.precomputedLoadedState = null;
+		this.precomputedDirtyProperties = null;
 	}
 
 	public boolean isAllowedToReuse() {
@@ -24,6 +24,30 @@ public final class MathHelper {
 		return 1 << -Integer.numberOfLeadingZeros(value - 1);
 	}
 
+	/**
+	 * Returns the smallest of the given ascending {@code buckets} which is greater than or
+	 * equal to {@code value}, or, if {@code value} exceeds the largest bucket, the smallest
+	 * multiple of the largest bucket which is. If no buckets are given, returns the
+	 * {@linkplain #ceilingPowerOfTwo smallest power of two} greater than or equal to
+	 * {@code value}.
+	 *
+	 * @param value reference number
+	 * @param buckets ascending positive numbers, or {@code null}
+	 * @return the bucket {@code value} falls into
+	 */
+	public static int ceilingBucket(int value, int[] buckets) {
+		if ( buckets == null || buckets.length == 0 ) {
+			return ceilingPowerOfTwo( value );
+		}
+		for ( int bucket : buckets ) {
+			if ( bucket >= value ) {
+				return bucket;
+			}
+		}
+		final int largestBucket = buckets[buckets.length - 1];
+		return divideRoundingUp( value, largestBucket ) * largestBucket;
+	}
+
 	/**
 	 * Returns the result of dividing a positive {@code numerator} by a positive {@code denominator} rounded up.
 	 * <p>
@@ -10,6 +10,7 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.ObjectInputFilter;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.ObjectStreamClass;
@@ -201,12 +202,39 @@ public final class SerializationHelper {
 		return doDeserialize( inputStream, loader, defaultClassLoader(), hibernateClassLoader() );
 	}
 
-	@SuppressWarnings("unchecked")
+	/**
+	 * Deserializes an object from the given stream, using the given classloader,
+	 * and accepting only the classes accepted by the given filter.
+	 *
+	 * @param inputStream the serialized object input stream, must not be null
+	 * @param loader The classloader to use
+	 * @param filter The filter of the classes and graph of the serialized object
+	 *
+	 * @return the deserialized object
+	 *
+	 * @throws IllegalArgumentException if <code>inputStream</code> is <code>null</code>
+	 * @throws SerializationException (runtime) if the serialization fails, or is rejected by the filter
+	 */
+	public static Object deserialize(InputStream inputStream, ClassLoader loader, ObjectInputFilter filter)
+			throws SerializationException {
+		return doDeserialize( inputStream, loader, defaultClassLoader(), hibernateClassLoader(), filter );
+	}
+
 	public static <T> T doDeserialize(
 			InputStream inputStream,
 			ClassLoader loader,
 			ClassLoader fallbackLoader1,
 			ClassLoader fallbackLoader2) throws SerializationException {
+		return doDeserialize( inputStream, loader, fallbackLoader1, fallbackLoader2, null );
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T doDeserialize(
+			InputStream inputStream,
+			ClassLoader loader,
+			ClassLoader fallbackLoader1,
+			ClassLoader fallbackLoader2,
+			ObjectInputFilter filter) throws SerializationException {
 		if ( inputStream == null ) {
 			throw new IllegalArgumentException( "The InputStream must not be null" );
 		}
@@ -220,6 +248,9 @@ public final class SerializationHelper {
 					fallbackLoader1,
 					fallbackLoader2
 			);
+			if ( filter != null ) {
+				in.setObjectInputFilter( filter );
+			}
 			try {
 				return (T) in.readObject();
 			}
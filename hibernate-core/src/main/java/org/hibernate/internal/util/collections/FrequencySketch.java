@@ -0,0 +1,129 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal.util.collections;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A probabilistic estimate of how often keys have been accessed recently, as
+ * used by the TinyLFU admission policy.
+ * <p>
+ * This is a Count-Min sketch with four rows of 4-bit counters, packed sixteen
+ * to a {@code long}. Once the number of recorded accesses reaches ten times the
+ * maximum size of the cache, every counter is halved, so that the popularity of
+ * keys decays over time and the sketch stays small.
+ * <p>
+ * The sketch is updated with compare-and-set operations only; concurrent
+ * increments may occasionally be lost, which merely makes the estimate a little
+ * less accurate.
+ *
+ * @see TinyLfuCache
+ * @see org.hibernate.cache.internal.OffHeapStorageAccess
+ */
+public final class FrequencySketch {
+	private static final long[] SEEDS = {
+			0xc3a5c85c97cb3127L,
+			0xb492b66fbe98f273L,
+			0x9ae16a3b2f90404fL,
+			0xcbf29ce484222325L
+	};
+	private static final long RESET_MASK = 0x7777777777777777L;
+	private static final long MAX_COUNTER = 0xfL;
+
+	private final AtomicLongArray table;
+	private final int tableMask;
+	private final int sampleSize;
+	private final AtomicInteger additions = new AtomicInteger();
+
+	/**
+	 * @param maximumSize The maximum number of entries of the cache the sketch is used for
+	 */
+	public FrequencySketch(int maximumSize) {
+		final int tableSize = ceilingPowerOfTwo( Math.max( maximumSize, 16 ) );
+		this.table = new AtomicLongArray( tableSize );
+		this.tableMask = tableSize - 1;
+		this.sampleSize = 10 * Math.max( maximumSize, 1 );
+	}
+
+	/**
+	 * The estimated number of recent accesses to the given key, between 0 and 15
+	 */
+	public int frequency(Object key) {
+		final int hash = spread( key.hashCode() );
+		int frequency = Integer.MAX_VALUE;
+		for ( int row = 0; row < SEEDS.length; row++ ) {
+			final long slot = indexOf( hash, row );
+			final int index = (int) ( slot >>> 32 );
+			final int offset = (int) slot;
+			frequency = Math.min( frequency, (int) ( ( table.get( index ) >>> offset ) & MAX_COUNTER ) );
+		}
+		return frequency;
+	}
+
+	/**
+	 * Record an access to the given key
+	 */
+	public void increment(Object key) {
+		final int hash = spread( key.hashCode() );
+		boolean added = false;
+		for ( int row = 0; row < SEEDS.length; row++ ) {
+			final long slot = indexOf( hash, row );
+			added |= incrementAt( (int) ( slot >>> 32 ), (int) slot );
+		}
+		if ( added && additions.incrementAndGet() == sampleSize ) {
+			reset();
+		}
+	}
+
+	private boolean incrementAt(int index, int offset) {
+		final long mask = MAX_COUNTER << offset;
+		while ( true ) {
+			final long current = table.get( index );
+			if ( ( current & mask ) == mask ) {
+				// the counter is saturated
+				return false;
+			}
+			if ( table.compareAndSet( index, current, current + ( 1L << offset ) ) ) {
+				return true;
+			}
+		}
+	}
+
+	/**
+	 * Halve every counter, so that old accesses weigh less than recent ones
+	 */
+	private void reset() {
+		for ( int i = 0; i < table.length(); i++ ) {
+			table.getAndUpdate( i, value -> ( value >>> 1 ) & RESET_MASK );
+		}
+		additions.addAndGet( -sampleSize / 2 );
+	}
+
+	/**
+	 * The index of the {@code long} holding the counter of the given row in the
+	 * upper 32 bits and the bit offset of the counter within it in the lower 32.
+	 */
+	private long indexOf(int hash, int row) {
+		long h = ( hash + SEEDS[row] ) * SEEDS[row];
+		h += h >>> 32;
+		final int index = (int) ( h >>> 4 ) & tableMask;
+		final int offset = ( (int) h & 0xf ) << 2;
+		return ( (long) index << 32 ) | offset;
+	}
+
+	private static int spread(int hash) {
+		int h = hash;
+		h = ( ( h >>> 16 ) ^ h ) * 0x45d9f3b;
+		h = ( ( h >>> 16 ) ^ h ) * 0x45d9f3b;
+		return ( h >>> 16 ) ^ h;
+	}
+
+	private static int ceilingPowerOfTwo(int value) {
+		return value >= ( 1 << 30 ) ? 1 << 30 : Integer.highestOneBit( value - 1 ) << 1;
+	}
+}
@@ -0,0 +1,520 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal.util.collections;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.ToIntBiFunction;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A bounded {@link ConcurrentMap} using a simplified W-TinyLFU policy, meant
+ * for caches which are read far more often than they are written to, with
+ * access patterns which mix a set of "hot" keys with scans of keys that are
+ * used once, or rarely.
+ * <p>
+ * Reads never block: they are served by a {@link ConcurrentHashMap}, record the
+ * access in a {@link FrequencySketch} and mark the entry as recently used.
+ * Writes are serialized by a single lock, which also guards the eviction
+ * bookkeeping.
+ * <p>
+ * New entries are first added to a small <em>admission window</em>, about 1% of
+ * the maximum size. When an entry drops out of the window and the cache is full,
+ * it competes with the eviction candidate of the <em>main</em> space, chosen by
+ * the CLOCK (second chance) algorithm, and only the key estimated to be accessed
+ * more frequently by the sketch is retained. A burst of distinct keys therefore
+ * cannot flush out the entries which are really in use.
+ * <p>
+ * The cache may also be bounded by the total weight of its entries, as computed
+ * by a <em>weigher</em>, in which case it is full when either bound is exceeded.
+ * <p>
+ * As with any cache using an admission policy, an entry which was just put in
+ * the map is not guaranteed to be retrievable from it.
+ *
+ * @param <K> the type of keys maintained by this map
+ * @param <V> the type of mapped values
+ *
+ * @see BoundedConcurrentHashMap
+ */
+public class TinyLfuCache<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V> {
+	private final int maximumSize;
+	private final int windowMaximumSize;
+	private final long maximumWeight;
+	private final ToIntBiFunction<? super K, ? super V> weigher;
+	private final BiConsumer<K, V> evictionListener;
+
+	private final ConcurrentHashMap<K, Node<K, V>> data;
+	private final FrequencySketch sketch;
+
+	private final ReentrantLock evictionLock = new ReentrantLock();
+	private final AccessQueue<K, V> window = new AccessQueue<>();
+	private final AccessQueue<K, V> main = new AccessQueue<>();
+	// guarded by evictionLock
+	private long totalWeight;
+
+	private transient @Nullable Set<Entry<K, V>> entrySet;
+
+	/**
+	 * Create a cache holding at most {@code maximumSize} entries.
+	 */
+	public TinyLfuCache(int maximumSize) {
+		this( maximumSize, (key, value) -> {} );
+	}
+
+	/**
+	 * Create a cache holding at most {@code maximumSize} entries, notifying the given
+	 * listener whenever an entry is evicted, or rejected by the admission policy.
+	 * The listener is called while the write lock is held.
+	 */
+	public TinyLfuCache(int maximumSize, BiConsumer<K, V> evictionListener) {
+		this( maximumSize, Long.MAX_VALUE, (key, value) -> 1, evictionListener );
+	}
+
+	/**
+	 * Create a cache holding at most {@code maximumSize} entries, whose weights, as
+	 * computed by the given weigher when they are put in the cache, add up to at most
+	 * {@code maximumWeight}. The given listener is notified whenever an entry is
+	 * evicted, or rejected by the admission policy, while the write lock is held.
+	 */
+	public TinyLfuCache(
+			int maximumSize,
+			long maximumWeight,
+			ToIntBiFunction<? super K, ? super V> weigher,
+			BiConsumer<K, V> evictionListener) {
+		if ( maximumSize <= 0 ) {
+			throw new IllegalArgumentException( "maximumSize must be positive" );
+		}
+		if ( maximumWeight <= 0 ) {
+			throw new IllegalArgumentException( "maximumWeight must be positive" );
+		}
+		this.maximumSize = maximumSize;
+		this.windowMaximumSize = Math.max( 1, maximumSize / 100 );
+		this.maximumWeight = maximumWeight;
+		this.weigher = weigher;
+		this.evictionListener = evictionListener;
+		this.data = new ConcurrentHashMap<>( Math.min( maximumSize, 1024 ) );
+		this.sketch = new FrequencySketch( maximumSize );
+	}
+
+	@Override
+	public @Nullable V get(Object key) {
+		sketch.increment( key );
+		final Node<K, V> node = data.get( key );
+		if ( node == null ) {
+			return null;
+		}
+		if ( !node.recentlyUsed ) {
+			// avoid the volatile write, and cache line invalidation, on every read
+			node.recentlyUsed = true;
+		}
+		return node.value;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return data.containsKey( key );
+	}
+
+	@Override
+	public int size() {
+		return data.size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return data.isEmpty();
+	}
+
+	@Override
+	public @Nullable V put(K key, V value) {
+		return put( key, value, false );
+	}
+
+	@Override
+	public @Nullable V putIfAbsent(K key, V value) {
+		return put( key, value, true );
+	}
+
+	private @Nullable V put(K key, V value, boolean onlyIfAbsent) {
+		Objects.requireNonNull( key );
+		Objects.requireNonNull( value );
+		evictionLock.lock();
+		try {
+			final Node<K, V> existing = data.get( key );
+			if ( existing != null ) {
+				final V previous = existing.value;
+				if ( !onlyIfAbsent ) {
+					update( existing, value );
+				}
+				return previous;
+			}
+
+			final Node<K, V> node = new Node<>( key, value, weigh( key, value ) );
+			data.put( key, node );
+			totalWeight += node.weight;
+			window.addLast( node );
+			while ( window.size() > windowMaximumSize
+					|| isFull() && !window.isEmpty() ) {
+				// the weight bound may be exceeded before the window is
+				admit( window.pollFirst() );
+			}
+			return null;
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+	private int weigh(K key, V value) {
+		final int weight = weigher.applyAsInt( key, value );
+		if ( weight < 0 ) {
+			throw new IllegalArgumentException( "Negative weight for key: " + key );
+		}
+		return weight;
+	}
+
+	private boolean isFull() {
+		return data.size() > maximumSize || totalWeight > maximumWeight;
+	}
+
+	/**
+	 * Replace the value of an entry, and evict entries if its new weight exceeds
+	 * the weight bound.
+	 */
+	private void update(Node<K, V> node, V value) {
+		final int weight = weigh( node.key, value );
+		totalWeight += weight - node.weight;
+		node.weight = weight;
+		node.value = value;
+		while ( isFull() ) {
+			final Node<K, V> victim = main.isEmpty() ? window.pollFirst() : selectVictim();
+			if ( victim == null ) {
+				return;
+			}
+			evict( victim );
+		}
+	}
+
+	/**
+	 * Move an entry which dropped out of the admission window to the main space,
+	 * evicting either the entry itself or main space victims if there is no room
+	 * for it.
+	 */
+	private void admit(@Nullable Node<K, V> candidate) {
+		if ( candidate == null ) {
+			return;
+		}
+		final int candidateFrequency = sketch.frequency( candidate.key );
+		while ( isFull() ) {
+			final Node<K, V> victim = selectVictim();
+			if ( victim == null ) {
+				// the main space is empty, which is only possible for tiny caches,
+				// or if the candidate alone exceeds the weight bound
+				evict( candidate );
+				return;
+			}
+			else if ( candidateFrequency > sketch.frequency( victim.key ) ) {
+				evict( victim );
+			}
+			else {
+				// keep the victim at the head, so it is the first one examined next time
+				main.addFirst( victim );
+				evict( candidate );
+				return;
+			}
+		}
+		main.addLast( candidate );
+	}
+
+	/**
+	 * Choose the eviction candidate of the main space using the CLOCK algorithm:
+	 * entries which were used since they were last examined get a second chance.
+	 */
+	private @Nullable Node<K, V> selectVictim() {
+		for ( int examined = 0, size = main.size(); examined <= size; examined++ ) {
+			final Node<K, V> node = main.pollFirst();
+			if ( node == null ) {
+				return null;
+			}
+			if ( node.recentlyUsed ) {
+				node.recentlyUsed = false;
+				main.addLast( node );
+			}
+			else {
+				return node;
+			}
+		}
+		// every entry was recently used, so we are back at the start of the queue
+		return main.pollFirst();
+	}
+
+	private void evict(Node<K, V> node) {
+		if ( data.remove( node.key, node ) ) {
+			totalWeight -= node.weight;
+		}
+		evictionListener.accept( node.key, node.value );
+	}
+
+	@Override
+	public @Nullable V remove(Object key) {
+		evictionLock.lock();
+		try {
+			final Node<K, V> node = data.remove( key );
+			if ( node == null ) {
+				return null;
+			}
+			unlink( node );
+			totalWeight -= node.weight;
+			return node.value;
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+	@Override
+	public boolean remove(Object key, Object value) {
+		evictionLock.lock();
+		try {
+			final Node<K, V> node = data.get( key );
+			if ( node == null || !node.value.equals( value ) ) {
+				return false;
+			}
+			data.remove( key );
+			unlink( node );
+			totalWeight -= node.weight;
+			return true;
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+	private void unlink(Node<K, V> node) {
+		if ( !window.remove( node ) ) {
+			main.remove( node );
+		}
+	}
+
+	@Override
+	public boolean replace(K key, V oldValue, V newValue) {
+		Objects.requireNonNull( newValue );
+		evictionLock.lock();
+		try {
+			final Node<K, V> node = data.get( key );
+			if ( node == null || !node.value.equals( oldValue ) ) {
+				return false;
+			}
+			update( node, newValue );
+			return true;
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+	@Override
+	public @Nullable V replace(K key, V value) {
+		Objects.requireNonNull( value );
+		evictionLock.lock();
+		try {
+			final Node<K, V> node = data.get( key );
+			if ( node == null ) {
+				return null;
+			}
+			final V previous = node.value;
+			update( node, value );
+			return previous;
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+	@Override
+	public void clear() {
+		evictionLock.lock();
+		try {
+			data.clear();
+			window.clear();
+			main.clear();
+			totalWeight = 0;
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+	@Override
+	public Set<Entry<K, V>> entrySet() {
+		final Set<Entry<K, V>> entries = entrySet;
+		return entries == null ? entrySet = new EntrySet() : entries;
+	}
+
+	private final class EntrySet extends AbstractSet<Entry<K, V>> {
+		@Override
+		public Iterator<Entry<K, V>> iterator() {
+			final Iterator<Node<K, V>> nodes = data.values().iterator();
+			return new Iterator<>() {
+				private @Nullable Node<K, V> current;
+
+				@Override
+				public boolean hasNext() {
+					return nodes.hasNext();
+				}
+
+				@Override
+				public Entry<K, V> next() {
+					final Node<K, V> node = nodes.next();
+					current = node;
+					return new SimpleImmutableEntry<>( node.key, node.value );
+				}
+
+				@Override
+				public void remove() {
+					if ( current == null ) {
+						throw new IllegalStateException();
+					}
+					TinyLfuCache.this.remove( current.key );
+					current = null;
+				}
+			};
+		}
+
+		@Override
+		public int size() {
+			return data.size();
+		}
+
+		@Override
+		public void clear() {
+			TinyLfuCache.this.clear();
+		}
+	}
+
+	private static final class Node<K, V> {
+		private final K key;
+		private volatile V value;
+		private volatile boolean recentlyUsed;
+		// guarded by evictionLock
+		private int weight;
+		private @Nullable AccessQueue<K, V> queue;
+		private @Nullable Node<K, V> previous;
+		private @Nullable Node<K, V> next;
+
+		private Node(K key, V value, int weight) {
+			this.key = key;
+			this.value = value;
+			this.weight = weight;
+		}
+	}
+
+	/**
+	 * A doubly-linked queue threaded through the nodes themselves, so that an entry
+	 * is unlinked in constant time when it is removed from the cache.
+	 * Guarded by the eviction lock.
+	 */
+	private static final class AccessQueue<K, V> {
+		private @Nullable Node<K, V> first;
+		private @Nullable Node<K, V> last;
+		private int size;
+
+		int size() {
+			return size;
+		}
+
+		boolean isEmpty() {
+			return size == 0;
+		}
+
+		void addFirst(Node<K, V> node) {
+			node.queue = this;
+			node.previous = null;
+			node.next = first;
+			if ( first == null ) {
+				last = node;
+			}
+			else {
+				first.previous = node;
+			}
+			first = node;
+			size++;
+		}
+
+		void addLast(Node<K, V> node) {
+			node.queue = this;
+			node.next = null;
+			node.previous = last;
+			if ( last == null ) {
+				first = node;
+			}
+			else {
+				last.next = node;
+			}
+			last = node;
+			size++;
+		}
+
+		@Nullable Node<K, V> pollFirst() {
+			final Node<K, V> node = first;
+			if ( node != null ) {
+				remove( node );
+			}
+			return node;
+		}
+
+		boolean remove(Node<K, V> node) {
+			if ( node.queue != this ) {
+				return false;
+			}
+			if ( node.previous == null ) {
+				first = node.next;
+			}
+			else {
+				node.previous.next = node.next;
+			}
+			if ( node.next == null ) {
+				last = node.previous;
+			}
+			else {
+				node.next.previous = node.previous;
+			}
+			node.queue = null;
+			node.previous = null;
+			node.next = null;
+			size--;
+			return true;
+		}
+
+		void clear() {
+			Node<K, V> node = first;
+			while ( node != null ) {
+				final Node<K, V> next = node.next;
+				node.queue = null;
+				node.previous = null;
+				node.next = null;
+				node = next;
+			}
+			first = null;
+			last = null;
+			size = 0;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "TinyLfuCache(" + data.size() + "/" + maximumSize + ")";
+	}
+}
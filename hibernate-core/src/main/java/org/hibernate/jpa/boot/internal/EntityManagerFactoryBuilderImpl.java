@@ -125,6 +125,7 @@ import static org.hibernate.cfg.AvailableSettings.JPA_VALIDATION_MODE;
 import static org.hibernate.cfg.AvailableSettings.PASS;
 import static org.hibernate.cfg.AvailableSettings.PERSISTENCE_UNIT_NAME;
 import static org.hibernate.cfg.AvailableSettings.SCANNER_DISCOVERY;
+import static org.hibernate.cfg.AvailableSettings.SCANNER_PARALLELISM;
 import static org.hibernate.cfg.AvailableSettings.SESSION_FACTORY_NAME;
 import static org.hibernate.cfg.AvailableSettings.TRANSACTION_COORDINATOR_STRATEGY;
 import static org.hibernate.cfg.AvailableSettings.URL;
@@ -1374,7 +1375,8 @@ public class EntityManagerFactoryBuilderImpl implements EntityManagerFactoryBuil
 		metamodelBuilder.applyScanOptions(
 				new StandardScanOptions(
 						(String) configurationValues.get( SCANNER_DISCOVERY ),
-						persistenceUnit.isExcludeUnlistedClasses()
+						persistenceUnit.isExcludeUnlistedClasses(),
+						ConfigurationHelper.getInt( SCANNER_PARALLELISM, configurationValues, 1 )
 				)
 		);
 
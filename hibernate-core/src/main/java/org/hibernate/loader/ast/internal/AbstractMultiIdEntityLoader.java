@@ -6,12 +6,15 @@
  */
 package org.hibernate.loader.ast.internal;
 
+import org.hibernate.LockOptions;
+import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.loader.ast.spi.MultiIdEntityLoader;
 import org.hibernate.loader.ast.spi.MultiIdLoadOptions;
 import org.hibernate.metamodel.mapping.EntityIdentifierMapping;
 import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.persister.entity.EntityPersister;
 
 import java.util.List;
 
@@ -59,6 +62,45 @@ public abstract class AbstractMultiIdEntityLoader<T> implements MultiIdEntityLoa
 		}
 	}
 
+	/**
+	 * Look up the entities with the given identifiers in the second-level cache
+	 * with a single bulk call, before they are resolved one at a time.  When
+	 * {@linkplain MultiIdLoadOptions#isSessionCheckingEnabled() session checking}
+	 * is enabled, entities already associated with the session are not looked up.
+	 *
+	 * @return the cache entries at the positions of their identifiers, or
+	 * {@code null} if the second-level cache is not checked
+	 */
+	protected Object[] getFromSecondLevelCache(
+			Object[] ids,
+			MultiIdLoadOptions loadOptions,
+			LockOptions lockOptions,
+			EventSource session) {
+		if ( !loadOptions.isSecondLevelCacheCheckingEnabled() ) {
+			return null;
+		}
+
+		final boolean coerce = !getSessionFactory().getJpaMetamodel().getJpaCompliance().isLoadByIdComplianceEnabled();
+		final EntityPersister persister = getLoadable().getEntityPersister();
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final Object[] idsToLookUp = new Object[ids.length];
+		for ( int i = 0; i < ids.length; i++ ) {
+			final Object id = coerce
+					? getIdentifierMapping().getJavaType().coerce( ids[i], session )
+					: ids[i];
+			if ( !loadOptions.isSessionCheckingEnabled()
+					|| persistenceContext.getEntity( id, persister ) == null ) {
+				idsToLookUp[i] = id;
+			}
+		}
+		return CacheEntityLoaderHelper.INSTANCE.getFromSecondLevelCache(
+				session,
+				lockOptions.getLockMode(),
+				persister,
+				idsToLookUp
+		);
+	}
+
 	protected abstract <K> List<T> performOrderedMultiLoad(K[] ids, MultiIdLoadOptions loadOptions, EventSource session);
 
 	protected abstract <K> List<T> performUnorderedMultiLoad(K[] ids, MultiIdLoadOptions loadOptions, EventSource session);
@@ -6,6 +6,10 @@
  */
 package org.hibernate.loader.ast.internal;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 import org.hibernate.HibernateException;
 import org.hibernate.Incubating;
 import org.hibernate.LockMode;
@@ -207,7 +211,36 @@ public class CacheEntityLoaderHelper {
 				persister,
 				entityKey
 		);
+		firePostLoadEvent( event, persister, entity );
+		return entity;
+	}
+
+	/**
+	 * Loads the entity from an entry which was previously obtained from the
+	 * second-level cache by {@link #getFromSecondLevelCache}.
+	 *
+	 * @param event The load event
+	 * @param persister The persister for the entity being requested for load
+	 * @param entityKey The entity key
+	 * @param cacheEntry The cache entry, or null if none was found
+	 *
+	 * @return The entity from the cache entry, or null.
+	 */
+	public Object loadFromSecondLevelCache(
+			final LoadEvent event,
+			final EntityPersister persister,
+			final EntityKey entityKey,
+			final Object cacheEntry) {
+		if ( cacheEntry == null ) {
+			return null;
+		}
+		final Object entity =
+				processCachedEntry( event.getInstanceToLoad(), persister, cacheEntry, event.getSession(), entityKey );
+		firePostLoadEvent( event, persister, entity );
+		return entity;
+	}
 
+	private static void firePostLoadEvent(LoadEvent event, EntityPersister persister, Object entity) {
 		if ( entity != null ) {
 			//PostLoad is needed for EJB3
 			final PostLoadEvent postLoadEvent = event.getPostLoadEvent()
@@ -219,7 +252,6 @@ public class CacheEntityLoaderHelper {
 					.getFastSessionServices()
 					.firePostLoadEvent( postLoadEvent );
 		}
-		return entity;
 	}
 
 	/**
@@ -260,6 +292,71 @@ public class CacheEntityLoaderHelper {
 	}
 
 
+	/**
+	 * Looks up the entries for several entities in the second-level cache, using
+	 * a single {@linkplain org.hibernate.cache.spi.access.CachedDomainDataAccess#getAll
+	 * bulk call}, so that they may then be loaded one at a time by
+	 * {@link #loadFromSecondLevelCache(LoadEvent, EntityPersister, EntityKey, Object)}.
+	 *
+	 * @param source The source
+	 * @param lockMode The lock mode
+	 * @param persister The persister for the entities being requested for load
+	 * @param ids The identifiers of the entities, null elements are skipped
+	 *
+	 * @return The cache entries at the positions of their identifiers, or null
+	 * if the second-level cache cannot be used.
+	 */
+	public Object[] getFromSecondLevelCache(
+			final EventSource source,
+			final LockMode lockMode,
+			final EntityPersister persister,
+			final Object[] ids) {
+		final boolean useCache = persister.canReadFromCache()
+				&& source.getCacheMode().isGetEnabled()
+				&& lockMode.lessThan( LockMode.READ );
+		if ( !useCache ) {
+			return null;
+		}
+
+		final EntityDataAccess cache = persister.getCacheAccessStrategy();
+		final SessionFactoryImplementor factory = source.getFactory();
+		final Object[] cacheKeys = new Object[ids.length];
+		final List<Object> keysToLookUp = new ArrayList<>( ids.length );
+		for ( int i = 0; i < ids.length; i++ ) {
+			if ( ids[i] != null ) {
+				cacheKeys[i] = cache.generateCacheKey( ids[i], persister, factory, source.getTenantIdentifier() );
+				keysToLookUp.add( cacheKeys[i] );
+			}
+		}
+
+		final Object[] entries = new Object[ids.length];
+		if ( keysToLookUp.isEmpty() ) {
+			return entries;
+		}
+		final Map<Object, Object> cachedEntries = CacheHelper.fromSharedCache( source, keysToLookUp, persister, cache );
+		final StatisticsImplementor statistics = factory.getStatistics();
+		for ( int i = 0; i < ids.length; i++ ) {
+			if ( cacheKeys[i] != null ) {
+				entries[i] = cachedEntries.get( cacheKeys[i] );
+				if ( statistics.isStatisticsEnabled() ) {
+					if ( entries[i] == null ) {
+						statistics.entityCacheMiss(
+								StatsHelper.INSTANCE.getRootEntityRole( persister ),
+								cache.getRegion().getName()
+						);
+					}
+					else {
+						statistics.entityCacheHit(
+								StatsHelper.INSTANCE.getRootEntityRole( persister ),
+								cache.getRegion().getName()
+						);
+					}
+				}
+			}
+		}
+		return entries;
+	}
+
 	private Object getFromSharedCache(
 			final Object entityId,
 			final EntityPersister persister,
@@ -14,6 +14,7 @@ import java.util.List;
 
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
+import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.engine.spi.EntityEntry;
@@ -41,6 +42,8 @@ import org.hibernate.sql.results.spi.ListResultsConsumer;
 
 import org.jboss.logging.Logger;
 
+import static org.hibernate.query.sql.internal.NativeQueryImpl.determineBindValueMaxCount;
+
 /**
  * Standard MultiIdEntityLoader
  *
@@ -97,6 +100,7 @@ public class MultiIdEntityLoaderStandard<T> extends AbstractMultiIdEntityLoader<
 		final List<Integer> elementPositionsLoadedByBatch = new ArrayList<>();
 
 		final boolean coerce = !getSessionFactory().getJpaMetamodel().getJpaCompliance().isLoadByIdComplianceEnabled();
+		final Object[] cacheEntries = getFromSecondLevelCache( ids, loadOptions, lockOptions, session );
 		for ( int i = 0; i < ids.length; i++ ) {
 			final Object id;
 			if ( coerce ) {
@@ -142,7 +146,8 @@ public class MultiIdEntityLoaderStandard<T> extends AbstractMultiIdEntityLoader<
 					managedEntity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
 							loadEvent,
 							getLoadable().getEntityPersister(),
-							entityKey
+							entityKey,
+							cacheEntries == null ? null : cacheEntries[i]
 					);
 				}
 
@@ -211,7 +216,8 @@ public class MultiIdEntityLoaderStandard<T> extends AbstractMultiIdEntityLoader<
 			log.tracef( "#loadEntitiesById(`%s`, `%s`, ..)", getLoadable().getEntityName(), numberOfIdsInBatch );
 		}
 
-		JdbcParametersList.Builder jdbcParametersBuilder = JdbcParametersList.newBuilder( numberOfIdsInBatch * idJdbcTypeCount );
+		final int numberOfKeysToLoad = determineNumberOfKeysToLoad( numberOfIdsInBatch );
+		JdbcParametersList.Builder jdbcParametersBuilder = JdbcParametersList.newBuilder( numberOfKeysToLoad * idJdbcTypeCount );
 
 		final SelectStatement sqlAst = LoaderSelectBuilder.createSelect(
 				getLoadable(),
@@ -219,7 +225,7 @@ public class MultiIdEntityLoaderStandard<T> extends AbstractMultiIdEntityLoader<
 				null,
 				getLoadable().getIdentifierMapping(),
 				null,
-				numberOfIdsInBatch,
+				numberOfKeysToLoad,
 				session.getLoadQueryInfluencers(),
 				lockOptions,
 				jdbcParametersBuilder::add,
@@ -233,8 +239,9 @@ public class MultiIdEntityLoaderStandard<T> extends AbstractMultiIdEntityLoader<
 		final JdbcParameterBindings jdbcParameterBindings = new JdbcParameterBindingsImpl( jdbcParameters.size() );
 		int offset = 0;
 
-		for ( int i = 0; i < numberOfIdsInBatch; i++ ) {
-			final Object id = idsInBatch.get( i );
+		for ( int i = 0; i < numberOfKeysToLoad; i++ ) {
+			// the padding repeats the last id
+			final Object id = idsInBatch.get( Math.min( i, numberOfIdsInBatch - 1 ) );
 
 			offset += jdbcParameterBindings.registerParametersForEachJdbcValue(
 					id,
@@ -272,6 +279,28 @@ public class MultiIdEntityLoaderStandard<T> extends AbstractMultiIdEntityLoader<
 		);
 	}
 
+	/**
+	 * The number of keys the SQL is built for: the number of ids, padded exactly like
+	 * the {@code IN} lists of queries, so that batches of different sizes share the same
+	 * SQL, unless the padded keys would exceed the parameter limit of the database
+	 *
+	 * @see org.hibernate.query.sql.internal.NativeQueryImpl#determineBindValueMaxCount(boolean, int[], int, int)
+	 */
+	private int determineNumberOfKeysToLoad(int numberOfIds) {
+		final SessionFactoryOptions options = getSessionFactory().getSessionFactoryOptions();
+		final Dialect dialect = getSessionFactory().getJdbcServices().getDialect();
+		final int numberOfKeys = determineBindValueMaxCount(
+				options.inClauseParameterPaddingEnabled(),
+				options.getInClauseParameterPaddingBuckets(),
+				dialect.getInExpressionCountLimit(),
+				numberOfIds
+		);
+		final int parameterCountLimit = dialect.getParameterCountLimit();
+		return parameterCountLimit > 0 && (long) numberOfKeys * idJdbcTypeCount > parameterCountLimit
+				? numberOfIds
+				: numberOfKeys;
+	}
+
 	private List<T> performSingleMultiLoad(Object id, LockOptions lockOptions, SharedSessionContractImplementor session) {
 		//noinspection unchecked
 		T loaded = (T) getLoadable().getEntityPersister().load( id, null, lockOptions, session );
@@ -306,6 +335,7 @@ public class MultiIdEntityLoaderStandard<T> extends AbstractMultiIdEntityLoader<
 			final List<Object> nonManagedIds = new ArrayList<>();
 
 			final boolean coerce = !getSessionFactory().getJpaMetamodel().getJpaCompliance().isLoadByIdComplianceEnabled();
+			final Object[] cacheEntries = getFromSecondLevelCache( ids, loadOptions, lockOptions, session );
 			for ( int i = 0; i < ids.length; i++ ) {
 				final Object id;
 				if ( coerce ) {
@@ -349,7 +379,8 @@ public class MultiIdEntityLoaderStandard<T> extends AbstractMultiIdEntityLoader<
 					managedEntity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
 							loadEvent,
 							getLoadable().getEntityPersister(),
-							entityKey
+							entityKey,
+							cacheEntries == null ? null : cacheEntries[i]
 					);
 				}
 
@@ -0,0 +1,92 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.hibernate.type.descriptor.java.JavaType;
+
+/**
+ * A bounded index of natural-id to identifier resolutions, shared by all sessions.
+ * <p>
+ * The index is a direct-mapped table of slots: each natural id hashes to a single
+ * slot, and a new resolution simply replaces whichever resolution occupied its slot.
+ * Reads and writes are therefore lock-free, and the size of the index never exceeds
+ * the number of slots.
+ *
+ * @see org.hibernate.cfg.CacheSettings#NATURAL_ID_INDEX_SIZE
+ */
+final class NaturalIdIndex {
+	private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+	private final JavaType<Object> naturalIdJavaType;
+	private final JavaType<Object> identifierJavaType;
+	private final AtomicReferenceArray<Resolution> slots;
+	private final int mask;
+
+	NaturalIdIndex(int maximumSize, JavaType<Object> naturalIdJavaType, JavaType<Object> identifierJavaType) {
+		this.naturalIdJavaType = naturalIdJavaType;
+		this.identifierJavaType = identifierJavaType;
+		final int capacity = maximumSize > MAXIMUM_CAPACITY / 2
+				? MAXIMUM_CAPACITY
+				: Integer.highestOneBit( Math.max( 1, maximumSize - 1 ) << 1 );
+		this.slots = new AtomicReferenceArray<>( capacity );
+		this.mask = capacity - 1;
+	}
+
+	/**
+	 * The identifier the given natural id was resolved to, or {@code null}
+	 */
+	Object get(Object naturalId) {
+		final Resolution resolution = slots.get( slot( naturalId ) );
+		return resolution != null && naturalIdJavaType.areEqual( resolution.naturalId, naturalId )
+				? identifierJavaType.getMutabilityPlan().deepCopy( resolution.id )
+				: null;
+	}
+
+	void put(Object naturalId, Object id) {
+		slots.set(
+				slot( naturalId ),
+				new Resolution(
+						naturalIdJavaType.getMutabilityPlan().deepCopy( naturalId ),
+						identifierJavaType.getMutabilityPlan().deepCopy( id )
+				)
+		);
+	}
+
+	/**
+	 * Remove the resolution of the given natural id, if any
+	 */
+	void evict(Object naturalId) {
+		final int slot = slot( naturalId );
+		final Resolution resolution = slots.get( slot );
+		if ( resolution != null && naturalIdJavaType.areEqual( resolution.naturalId, naturalId ) ) {
+			slots.compareAndSet( slot, resolution, null );
+		}
+	}
+
+	void clear() {
+		for ( int i = 0; i < slots.length(); i++ ) {
+			slots.set( i, null );
+		}
+	}
+
+	private int slot(Object naturalId) {
+		final int hash = naturalIdJavaType.extractHashCode( naturalId );
+		return ( hash ^ ( hash >>> 16 ) ) & mask;
+	}
+
+	private static final class Resolution {
+		private final Object naturalId;
+		private final Object id;
+
+		private Resolution(Object naturalId, Object id) {
+			this.naturalId = naturalId;
+			this.id = id;
+		}
+	}
+}
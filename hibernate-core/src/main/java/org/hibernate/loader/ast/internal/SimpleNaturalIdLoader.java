@@ -9,9 +9,12 @@ package org.hibernate.loader.ast.internal;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
+import org.hibernate.LockOptions;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.loader.ast.spi.NaturalIdLoadOptions;
 import org.hibernate.metamodel.mapping.EntityMappingType;
 import org.hibernate.metamodel.mapping.internal.SimpleNaturalIdMapping;
+import org.hibernate.proxy.LazyInitializer;
 import org.hibernate.query.sqm.ComparisonOperator;
 import org.hibernate.sql.ast.tree.expression.Expression;
 import org.hibernate.sql.ast.tree.expression.JdbcParameter;
@@ -22,16 +25,44 @@ import org.hibernate.sql.ast.tree.predicate.Predicate;
 import org.hibernate.sql.exec.internal.JdbcParameterBindingImpl;
 import org.hibernate.sql.exec.internal.JdbcParameterImpl;
 import org.hibernate.sql.exec.spi.JdbcParameterBinding;
+import org.hibernate.type.descriptor.java.JavaType;
+
+import static org.hibernate.proxy.HibernateProxy.extractLazyInitializer;
 
 /**
  * NaturalIdLoader for simple natural-ids
+ * <p>
+ * When the natural id is immutable, and the entity is held by the second-level cache,
+ * resolutions of the natural id to the identifier may be kept in a
+ * {@linkplain org.hibernate.cfg.CacheSettings#NATURAL_ID_INDEX_SIZE shared index},
+ * which is consulted before executing any query.  An indexed identifier is only
+ * trusted once the entity has been loaded by it, usually from the second-level cache,
+ * and found to still have the natural id.
  */
 public class SimpleNaturalIdLoader<T> extends AbstractNaturalIdLoader<T> {
+	private final NaturalIdIndex index;
 
 	public SimpleNaturalIdLoader(
 			SimpleNaturalIdMapping naturalIdMapping,
 			EntityMappingType entityDescriptor) {
 		super( naturalIdMapping, entityDescriptor );
+		final int indexSize = entityDescriptor.getEntityPersister().getFactory()
+				.getSessionFactoryOptions()
+				.getNaturalIdIndexSize();
+		// the index is only worthwhile if an indexed identifier can be verified
+		// without a query, by loading the entity from the second-level cache
+		if ( indexSize > 0 && !naturalIdMapping.isMutable()
+				&& entityDescriptor.getEntityPersister().canReadFromCache() ) {
+			//noinspection unchecked
+			this.index = new NaturalIdIndex(
+					indexSize,
+					(JavaType<Object>) naturalIdMapping.getJavaType(),
+					(JavaType<Object>) entityDescriptor.getIdentifierMapping().getJavaType()
+			);
+		}
+		else {
+			this.index = null;
+		}
 	}
 
 	@Override
@@ -39,6 +70,133 @@ public class SimpleNaturalIdLoader<T> extends AbstractNaturalIdLoader<T> {
 		return (SimpleNaturalIdMapping) super.naturalIdMapping();
 	}
 
+	@Override
+	public T load(Object naturalIdValue, NaturalIdLoadOptions options, SharedSessionContractImplementor session) {
+		final Object normalizedValue = naturalIdMapping().normalizeInput( naturalIdValue );
+		if ( !isIndexed( normalizedValue, session ) ) {
+			return super.load( naturalIdValue, options, session );
+		}
+
+		final LockOptions lockOptions = options.getLockOptions() == null ? LockOptions.NONE : options.getLockOptions();
+		final Object id = index.get( normalizedValue );
+		if ( id != null ) {
+			final T loaded = loadIndexed( id, normalizedValue, lockOptions, session );
+			if ( loaded != null ) {
+				return loaded;
+			}
+			// the entity was deleted, or the identifier was reused
+			index.evict( normalizedValue );
+		}
+
+		final T result = super.load( naturalIdValue, options, session );
+		if ( result != null ) {
+			index( normalizedValue, entityDescriptor().getIdentifierMapping().getIdentifier( result ), session );
+		}
+		return result;
+	}
+
+	@Override
+	public Object resolveNaturalIdToId(Object naturalIdValue, SharedSessionContractImplementor session) {
+		final Object normalizedValue = naturalIdMapping().normalizeInput( naturalIdValue );
+		if ( !isIndexed( normalizedValue, session ) ) {
+			return super.resolveNaturalIdToId( naturalIdValue, session );
+		}
+
+		final Object indexedId = index.get( normalizedValue );
+		if ( indexedId != null ) {
+			if ( loadIndexed( indexedId, normalizedValue, LockOptions.NONE, session ) != null ) {
+				return indexedId;
+			}
+			// the entity was deleted, or the identifier was reused
+			index.evict( normalizedValue );
+		}
+
+		final Object id = super.resolveNaturalIdToId( naturalIdValue, session );
+		if ( id != null ) {
+			index( normalizedValue, id, session );
+		}
+		return id;
+	}
+
+	/**
+	 * Remove the resolution of the given natural id from the shared index, if any,
+	 * typically because the entity was deleted.  The resolution is removed again
+	 * after the completion of the current transaction, since another session may
+	 * have indexed it in the meantime.
+	 */
+	public void evictIndexedResolution(Object naturalIdValue, SharedSessionContractImplementor session) {
+		if ( index != null ) {
+			final Object normalizedValue = naturalIdMapping().normalizeInput( naturalIdValue );
+			if ( normalizedValue != null ) {
+				index.evict( normalizedValue );
+				if ( session.isEventSource() && session.isTransactionInProgress() ) {
+					session.asEventSource().getActionQueue().registerProcess(
+							(success, s) -> index.evict( normalizedValue )
+					);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Remove every resolution from the shared index, typically because the entities
+	 * were affected by a bulk operation
+	 */
+	public void clearIndexedResolutions() {
+		if ( index != null ) {
+			index.clear();
+		}
+	}
+
+	/**
+	 * Add a resolution to the shared index.  A resolution read within a transaction
+	 * might be of a row written by that transaction, and is only added once the
+	 * transaction has committed.
+	 */
+	private void index(Object normalizedValue, Object id, SharedSessionContractImplementor session) {
+		if ( session.isTransactionInProgress() ) {
+			session.asEventSource().getActionQueue().registerProcess(
+					(success, s) -> {
+						if ( success ) {
+							index.put( normalizedValue, id );
+						}
+					}
+			);
+		}
+		else {
+			index.put( normalizedValue, id );
+		}
+	}
+
+	private boolean isIndexed(Object normalizedValue, SharedSessionContractImplementor session) {
+		return index != null
+			&& normalizedValue != null
+			&& session.isEventSource()
+			&& session.getTenantIdentifierValue() == null
+			&& session.getCacheMode().isGetEnabled();
+	}
+
+	/**
+	 * Load the entity by the indexed identifier, making sure it still exists and
+	 * still has the requested natural id. Since the entity is cached, it is usually
+	 * found in the persistence context or the second-level cache, without a query.
+	 */
+	private T loadIndexed(
+			Object id,
+			Object normalizedValue,
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session) {
+		final Object loaded = session.asEventSource().get( entityDescriptor().getEntityName(), id, lockOptions );
+		if ( loaded == null ) {
+			return null;
+		}
+		final LazyInitializer lazyInitializer = extractLazyInitializer( loaded );
+		final Object entity = lazyInitializer == null ? loaded : lazyInitializer.getImplementation();
+		final Object naturalId = naturalIdMapping().extractNaturalIdFromEntity( entity );
+		//noinspection unchecked
+		return naturalIdMapping().areEqual( normalizedValue, naturalId, session ) ? (T) loaded : null;
+	}
+
 	@Override
 	protected void applyNaturalIdRestriction(
 			Object bindValue,
@@ -13,6 +13,7 @@ import java.util.function.Supplier;
 
 import org.hibernate.HibernateException;
 import org.hibernate.boot.registry.selector.spi.StrategySelector;
+import org.hibernate.bytecode.internal.ReflectionOptimizerMethodHandleImpl;
 import org.hibernate.bytecode.spi.BytecodeProvider;
 import org.hibernate.bytecode.spi.ProxyFactoryFactory;
 import org.hibernate.bytecode.spi.ReflectionOptimizer;
@@ -36,6 +37,9 @@ import org.hibernate.type.descriptor.java.spi.JavaTypeRegistry;
 import org.hibernate.type.internal.CompositeUserTypeJavaTypeWrapper;
 import org.hibernate.usertype.CompositeUserType;
 
+import static org.hibernate.cfg.BytecodeSettings.USE_METHOD_HANDLE_ACCESS;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
+
 /**
  * @author Steve Ebersole
  */
@@ -181,6 +185,9 @@ public class EmbeddableRepresentationStrategyPojo extends AbstractEmbeddableRepr
 			propertyAccessMap.put( property.getName(), getPropertyAccesses()[i] );
 			i++;
 		}
+		if ( getBoolean( USE_METHOD_HANDLE_ACCESS, creationContext.getSettings() ) ) {
+			return ReflectionOptimizerMethodHandleImpl.from( bootDescriptor.getComponentClass(), propertyAccessMap );
+		}
 		final BytecodeProvider bytecodeProvider = creationContext.getServiceRegistry().getService( BytecodeProvider.class );
 
 		return bytecodeProvider.getReflectionOptimizer(
@@ -15,6 +15,7 @@ import java.util.Set;
 import org.hibernate.HibernateException;
 import org.hibernate.MappingException;
 import org.hibernate.boot.registry.selector.spi.StrategySelector;
+import org.hibernate.bytecode.internal.ReflectionOptimizerMethodHandleImpl;
 import org.hibernate.bytecode.spi.BytecodeProvider;
 import org.hibernate.bytecode.spi.ReflectionOptimizer;
 import org.hibernate.bytecode.spi.ReflectionOptimizer.InstantiationOptimizer;
@@ -49,7 +50,9 @@ import org.hibernate.type.descriptor.java.JavaType;
 import org.hibernate.type.descriptor.java.spi.JavaTypeRegistry;
 import org.hibernate.type.spi.CompositeTypeImplementor;
 
+import static org.hibernate.cfg.BytecodeSettings.USE_METHOD_HANDLE_ACCESS;
 import static org.hibernate.engine.internal.ManagedTypeHelper.isPersistentAttributeInterceptableType;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
 
 /**
  * @author Steve Ebersole
@@ -157,7 +160,7 @@ public class EntityRepresentationStrategyPojoStandard implements EntityRepresent
 			propertyAccessMap.put( property.getName(), makePropertyAccess( property ) );
 		}
 		this.propertyAccessMap = propertyAccessMap;
-		this.reflectionOptimizer = resolveReflectionOptimizer( bytecodeProvider );
+		this.reflectionOptimizer = resolveReflectionOptimizer( bytecodeProvider, creationContext );
 
 		this.instantiator = determineInstantiator( bootDescriptor, entityMetamodel );
 	}
@@ -289,7 +292,12 @@ public class EntityRepresentationStrategyPojoStandard implements EntityRepresent
 		}
 	}
 
-	private ReflectionOptimizer resolveReflectionOptimizer(BytecodeProvider bytecodeProvider) {
+	private ReflectionOptimizer resolveReflectionOptimizer(
+			BytecodeProvider bytecodeProvider,
+			RuntimeModelCreationContext creationContext) {
+		if ( getBoolean( USE_METHOD_HANDLE_ACCESS, creationContext.getSettings() ) ) {
+			return ReflectionOptimizerMethodHandleImpl.from( mappedJtd.getJavaTypeClass(), propertyAccessMap );
+		}
 		return bytecodeProvider.getReflectionOptimizer(
 				mappedJtd.getJavaTypeClass(),
 				propertyAccessMap
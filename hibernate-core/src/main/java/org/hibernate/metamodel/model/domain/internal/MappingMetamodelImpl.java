@@ -23,6 +23,7 @@ import org.hibernate.EntityNameResolver;
 import org.hibernate.HibernateException;
 import org.hibernate.MappingException;
 import org.hibernate.UnknownEntityTypeException;
+import org.hibernate.boot.internal.BootPhaseTimings;
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
 import org.hibernate.boot.registry.classloading.spi.ClassLoadingException;
 import org.hibernate.boot.spi.MetadataImplementor;
@@ -171,6 +172,8 @@ public class MappingMetamodelImpl extends QueryParameterBindingTypeResolverImpl
 	}
 
 	public void finishInitialization(RuntimeModelCreationContext context) {
+		final BootPhaseTimings timings = new BootPhaseTimings( "Mapping model creation" );
+		timings.phase( "boot model preparation" );
 		final MetadataImplementor bootModel = context.getBootModel();
 		bootModel.visitRegisteredComponents( Component::prepareForMappingModel );
 		bootModel.getMappedSuperclassMappingsCopy().forEach( MappedSuperclass::prepareForMappingModel );
@@ -179,6 +182,7 @@ public class MappingMetamodelImpl extends QueryParameterBindingTypeResolverImpl
 		final PersisterFactory persisterFactory =
 				jpaMetamodel.getServiceRegistry().getService( PersisterFactory.class );
 		final CacheImplementor cache = context.getCache();
+		timings.phase( "persister creation" );
 		processBootEntities(
 				bootModel.getEntityBindings(),
 				cache,
@@ -195,8 +199,10 @@ public class MappingMetamodelImpl extends QueryParameterBindingTypeResolverImpl
 		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 		// after *all* persisters and named queries are registered
 
+		timings.phase( "mapping model creation" );
 		MappingModelCreationProcess.process( entityPersisterMap, context );
 
+		timings.phase( "persister initialization" );
 		for ( EntityPersister persister : entityPersisterMap.values() ) {
 			persister.postInstantiate();
 			registerEntityNameResolvers( persister, entityNameResolvers );
@@ -210,6 +216,7 @@ public class MappingMetamodelImpl extends QueryParameterBindingTypeResolverImpl
 
 		registerEmbeddableMappingType( bootModel );
 
+		timings.phase( "JPA metamodel" );
 		final Map<String, Object> settings = context.getSettings();
 		( (JpaMetamodelImpl) jpaMetamodel ).processJpa(
 				bootModel,
@@ -220,6 +227,7 @@ public class MappingMetamodelImpl extends QueryParameterBindingTypeResolverImpl
 				bootModel.getNamedEntityGraphs().values(),
 				context
 		);
+		timings.report();
 	}
 
 	private void registerEmbeddableMappingType(MetadataImplementor bootModel) {
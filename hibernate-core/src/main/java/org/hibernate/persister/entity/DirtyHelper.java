@@ -60,12 +60,19 @@ class DirtyHelper {
 			Object[] previousState,
 			boolean[][] includeColumns,
 			SharedSessionContractImplementor session, int i) {
-		if ( currentState[i] == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+		final Object current = currentState[i];
+		if ( current == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
 			return false;
 		}
 		else if ( previousState[i] == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
 			return true;
 		}
+		else if ( current == previousState[i] && ( current == null || !properties[i].getType().isMutable() ) ) {
+			// the loaded state of an immutable type holds the very instance that was
+			// read, so an unchanged value is identical, and there is no need to ask
+			// the Type; values of mutable types were copied and must be compared
+			return false;
+		}
 		else {
 			return properties[i].isDirtyCheckable()
 				&& properties[i].getType().isDirty( previousState[i], currentState[i], includeColumns[i], session);
@@ -0,0 +1,109 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.property.access.internal;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+
+import org.hibernate.property.access.spi.PropertyAccessBuildingException;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static org.hibernate.internal.util.type.PrimitiveWrapperHelper.getDescriptorByPrimitiveType;
+
+/**
+ * Builds {@link MethodHandle}s for the fields and accessor methods of persistent
+ * properties, and for the constructors of persistent classes, adapted to generic signatures so that they may be invoked with
+ * {@link MethodHandle#invokeExact}.
+ * <p>
+ * The members are expected to be {@linkplain java.lang.reflect.AccessibleObject#setAccessible
+ * accessible} already, as they are for reflective access, so that no access
+ * checks apply to the handles.
+ */
+public final class AccessorMethodHandles {
+	private static final MethodType GETTER_TYPE = MethodType.methodType( Object.class, Object.class );
+	private static final MethodType SETTER_TYPE = MethodType.methodType( void.class, Object.class, Object.class );
+	private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType( Object.class );
+
+	private AccessorMethodHandles() {
+	}
+
+	/**
+	 * A handle of type {@code (Object)Object} reading the given field, or calling
+	 * the given getter method
+	 */
+	public static MethodHandle getter(Member member) {
+		try {
+			final MethodHandle handle = member instanceof Field
+					? MethodHandles.lookup().unreflectGetter( (Field) member )
+					: MethodHandles.lookup().unreflect( (Method) member );
+			return handle.asType( GETTER_TYPE );
+		}
+		catch (IllegalAccessException | IllegalArgumentException e) {
+			throw new PropertyAccessBuildingException( "Unable to build method handle for getter [" + member + "]", e );
+		}
+	}
+
+	/**
+	 * A handle of type {@code (Object,Object)void} writing the given field, or
+	 * calling the given setter method
+	 */
+	public static MethodHandle setter(Member member) {
+		try {
+			final MethodHandle handle = member instanceof Field
+					? MethodHandles.lookup().unreflectSetter( (Field) member )
+					: MethodHandles.lookup().unreflect( (Method) member );
+			return handle.asType( SETTER_TYPE );
+		}
+		catch (IllegalAccessException | IllegalArgumentException e) {
+			throw new PropertyAccessBuildingException( "Unable to build method handle for setter [" + member + "]", e );
+		}
+	}
+
+	/**
+	 * Would the {@linkplain #getter getter} or {@linkplain #setter setter} handle of the
+	 * given member reject the given owner, with a {@link ClassCastException} or
+	 * {@link NullPointerException}, before reading, writing or calling the member?
+	 */
+	public static boolean rejectsOwner(Member member, @Nullable Object owner) {
+		return !member.getDeclaringClass().isInstance( owner );
+	}
+
+	/**
+	 * Would the {@linkplain #setter setter} handle of the given member reject the given
+	 * value, with a {@link ClassCastException} or {@link NullPointerException}, before
+	 * writing or calling the member?
+	 */
+	public static boolean rejectsValue(Member member, @Nullable Object value) {
+		final Class<?> type = member instanceof Field
+				? ( (Field) member ).getType()
+				: ( (Method) member ).getParameterTypes()[0];
+		if ( type.isPrimitive() ) {
+			return value == null || !getDescriptorByPrimitiveType( type ).getWrapperClass().isInstance( value );
+		}
+		else {
+			return value != null && !type.isInstance( value );
+		}
+	}
+
+	/**
+	 * A handle of type {@code ()Object} calling the given no-argument constructor
+	 */
+	public static MethodHandle constructor(Constructor<?> constructor) {
+		try {
+			return MethodHandles.lookup().unreflectConstructor( constructor ).asType( CONSTRUCTOR_TYPE );
+		}
+		catch (IllegalAccessException | IllegalArgumentException e) {
+			throw new PropertyAccessBuildingException( "Unable to build method handle for constructor [" + constructor + "]", e );
+		}
+	}
+}
@@ -0,0 +1,26 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.property.access.internal;
+
+import org.hibernate.property.access.spi.PropertyAccess;
+import org.hibernate.property.access.spi.PropertyAccessStrategy;
+
+/**
+ * Defines a strategy for accessing property values directly via a field, which may be non-public,
+ * through {@linkplain java.lang.invoke.MethodHandle method handles} instead of reflection.
+ */
+public class PropertyAccessStrategyFieldHandleImpl implements PropertyAccessStrategy {
+	/**
+	 * Singleton access
+	 */
+	public static final PropertyAccessStrategyFieldHandleImpl INSTANCE = new PropertyAccessStrategyFieldHandleImpl();
+
+	@Override
+	public PropertyAccess buildPropertyAccess(Class<?> containerJavaType, String propertyName, boolean setterRequired) {
+		return new PropertyAccessFieldHandleImpl( this, containerJavaType, propertyName );
+	}
+}
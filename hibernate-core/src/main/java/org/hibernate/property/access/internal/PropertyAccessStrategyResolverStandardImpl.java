@@ -40,10 +40,13 @@ public class PropertyAccessStrategyResolverStandardImpl implements PropertyAcces
 
 		if ( BuiltInPropertyAccessStrategies.BASIC.getExternalName().equals( explicitAccessStrategyName )
 				|| BuiltInPropertyAccessStrategies.FIELD.getExternalName().equals( explicitAccessStrategyName )
+				|| BuiltInPropertyAccessStrategies.FIELD_HANDLE.getExternalName().equals( explicitAccessStrategyName )
 				|| BuiltInPropertyAccessStrategies.MIXED.getExternalName().equals( explicitAccessStrategyName ) ) {
 			//type-cache-pollution agent: it's crucial to use the ManagedTypeHelper rather than attempting a direct cast
 			if ( isManagedType( containerClass ) ) {
-				if ( BuiltInPropertyAccessStrategies.FIELD.getExternalName().equals( explicitAccessStrategyName ) ) {
+				// enhanced classes are always accessed through their enhanced accessors
+				if ( BuiltInPropertyAccessStrategies.FIELD.getExternalName().equals( explicitAccessStrategyName )
+						|| BuiltInPropertyAccessStrategies.FIELD_HANDLE.getExternalName().equals( explicitAccessStrategyName ) ) {
 					return PropertyAccessStrategyEnhancedImpl.FIELD;
 				}
 				return PropertyAccessStrategyEnhancedImpl.STANDARD;
@@ -8,6 +8,7 @@ package org.hibernate.property.access.spi;
 
 import org.hibernate.property.access.internal.PropertyAccessStrategyBasicImpl;
 import org.hibernate.property.access.internal.PropertyAccessStrategyEmbeddedImpl;
+import org.hibernate.property.access.internal.PropertyAccessStrategyFieldHandleImpl;
 import org.hibernate.property.access.internal.PropertyAccessStrategyFieldImpl;
 import org.hibernate.property.access.internal.PropertyAccessStrategyMapImpl;
 import org.hibernate.property.access.internal.PropertyAccessStrategyMixedImpl;
@@ -23,6 +24,12 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 public enum BuiltInPropertyAccessStrategies {
 	BASIC( "property", PropertyAccessStrategyBasicImpl.INSTANCE ),
 	FIELD( "field", PropertyAccessStrategyFieldImpl.INSTANCE ),
+	/**
+	 * Field access through method handles
+	 *
+	 * @since 6.5
+	 */
+	FIELD_HANDLE( "field-handle", PropertyAccessStrategyFieldHandleImpl.INSTANCE ),
 	MIXED( "mixed", PropertyAccessStrategyMixedImpl.INSTANCE ),
 	MAP( "map", PropertyAccessStrategyMapImpl.INSTANCE ),
 	EMBEDDED( "embedded", PropertyAccessStrategyEmbeddedImpl.INSTANCE ),
@@ -0,0 +1,75 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.property.access.spi;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+
+import org.hibernate.Internal;
+import org.hibernate.PropertyAccessException;
+import org.hibernate.property.access.internal.AbstractFieldSerialForm;
+import org.hibernate.property.access.internal.AccessorMethodHandles;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Field-based implementation of Getter which reads the field through a
+ * {@link MethodHandle} instead of {@link Field#get}
+ */
+@Internal
+public class GetterFieldHandleImpl extends GetterFieldImpl {
+	private final Class<?> containerClass;
+	private final String propertyName;
+	private final transient MethodHandle handle;
+
+	public GetterFieldHandleImpl(Class<?> containerClass, String propertyName, Field field) {
+		super( containerClass, propertyName, field );
+		this.containerClass = containerClass;
+		this.propertyName = propertyName;
+		this.handle = AccessorMethodHandles.getter( field );
+	}
+
+	@Override
+	public @Nullable Object get(Object owner) {
+		try {
+			return (Object) handle.invokeExact( owner );
+		}
+		catch (ClassCastException | NullPointerException e) {
+			if ( AccessorMethodHandles.rejectsOwner( getMember(), owner ) ) {
+				// the field was not read, let reflection report the problem
+				return super.get( owner );
+			}
+			throw new PropertyAccessException( e, "Exception occurred inside", false, containerClass, propertyName );
+		}
+		catch (Error e) {
+			throw e;
+		}
+		catch (Throwable t) {
+			throw new PropertyAccessException( t, "Exception occurred inside", false, containerClass, propertyName );
+		}
+	}
+
+	private Object writeReplace() {
+		return new SerialForm( containerClass, propertyName, (Field) getMember() );
+	}
+
+	private static class SerialForm extends AbstractFieldSerialForm implements Serializable {
+		private final Class<?> containerClass;
+		private final String propertyName;
+
+		private SerialForm(Class<?> containerClass, String propertyName, Field field) {
+			super( field );
+			this.containerClass = containerClass;
+			this.propertyName = propertyName;
+		}
+
+		private Object readResolve() {
+			return new GetterFieldHandleImpl( containerClass, propertyName, resolveField() );
+		}
+	}
+}
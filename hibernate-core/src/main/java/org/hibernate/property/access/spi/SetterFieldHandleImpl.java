@@ -0,0 +1,81 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.property.access.spi;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+import org.hibernate.Internal;
+import org.hibernate.PropertyAccessException;
+import org.hibernate.property.access.internal.AbstractFieldSerialForm;
+import org.hibernate.property.access.internal.AccessorMethodHandles;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Field-based implementation of Setter which writes the field through a
+ * {@link MethodHandle} instead of {@link Field#set}
+ */
+@Internal
+public class SetterFieldHandleImpl extends SetterFieldImpl {
+	private final transient @Nullable MethodHandle handle;
+
+	public SetterFieldHandleImpl(Class<?> containerClass, String propertyName, Field field) {
+		super( containerClass, propertyName, field );
+		// a method handle may not write a final field
+		this.handle = Modifier.isFinal( field.getModifiers() ) ? null : AccessorMethodHandles.setter( field );
+	}
+
+	@Override
+	public void set(Object target, @Nullable Object value) {
+		if ( handle == null ) {
+			super.set( target, value );
+		}
+		else {
+			try {
+				handle.invokeExact( target, value );
+			}
+			catch (ClassCastException | NullPointerException e) {
+				if ( AccessorMethodHandles.rejectsOwner( getField(), target )
+						|| AccessorMethodHandles.rejectsValue( getField(), value ) ) {
+					// the field was not written, let reflection report the problem
+					super.set( target, value );
+				}
+				else {
+					throw new PropertyAccessException( e, "Exception occurred inside", true, getContainerClass(), getPropertyName() );
+				}
+			}
+			catch (Error e) {
+				throw e;
+			}
+			catch (Throwable t) {
+				throw new PropertyAccessException( t, "Exception occurred inside", true, getContainerClass(), getPropertyName() );
+			}
+		}
+	}
+
+	private Object writeReplace() {
+		return new SerialForm( getContainerClass(), getPropertyName(), getField() );
+	}
+
+	private static class SerialForm extends AbstractFieldSerialForm implements Serializable {
+		private final Class<?> containerClass;
+		private final String propertyName;
+
+		private SerialForm(Class<?> containerClass, String propertyName, Field field) {
+			super( field );
+			this.containerClass = containerClass;
+			this.propertyName = propertyName;
+		}
+
+		private Object readResolve() {
+			return new SetterFieldHandleImpl( containerClass, propertyName, resolveField() );
+		}
+	}
+}
@@ -8,6 +8,7 @@ package org.hibernate.query.internal;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
 import org.hibernate.HibernateException;
@@ -235,33 +236,37 @@ public class NamedObjectRepositoryImpl implements NamedObjectRepository {
 
 	@Override
 	public Map<String, HibernateException> checkNamedQueries(QueryEngine queryEngine) {
-		Map<String,HibernateException> errors = new HashMap<>();
+		final Map<String,HibernateException> errors = new ConcurrentHashMap<>();
 
 		final QueryInterpretationCache interpretationCache = queryEngine.getInterpretationCache();
 
-		// Check named HQL queries
+		// Check named HQL queries, interpreting them in parallel, which also
+		// populates the query plan cache before the first query is executed
 		log.debugf( "Checking %s named HQL queries", sqmMementoMap.size() );
-		for ( NamedSqmQueryMemento hqlMemento : sqmMementoMap.values() ) {
-			final String queryString = hqlMemento.getHqlString();
-			final String registrationName = hqlMemento.getRegistrationName();
-			try {
-				log.debugf( "Checking named HQL query: %s", registrationName );
-				interpretationCache.resolveHqlInterpretation(
-						queryString,
-						null,
-						s -> queryEngine.getHqlTranslator().translate( queryString, null )
-				);
-			}
-			catch ( QueryException e ) {
-				errors.put( registrationName, e );
-			}
-			catch ( PathElementException | TerminalPathException e ) {
-				errors.put( registrationName, new UnknownPathException( e.getMessage(), queryString, e ) );
-			}
-			catch ( EntityTypeException e ) {
-				errors.put( registrationName, new UnknownEntityException( e.getMessage(), e.getReference(), e ) );
-			}
-		}
+		QueryPlanCacheWarmup.forEachInParallel(
+				sqmMementoMap.values(),
+				hqlMemento -> {
+					final String queryString = hqlMemento.getHqlString();
+					final String registrationName = hqlMemento.getRegistrationName();
+					try {
+						log.debugf( "Checking named HQL query: %s", registrationName );
+						interpretationCache.resolveHqlInterpretation(
+								queryString,
+								null,
+								s -> queryEngine.getHqlTranslator().translate( queryString, null )
+						);
+					}
+					catch ( QueryException e ) {
+						errors.put( registrationName, e );
+					}
+					catch ( PathElementException | TerminalPathException e ) {
+						errors.put( registrationName, new UnknownPathException( e.getMessage(), queryString, e ) );
+					}
+					catch ( EntityTypeException e ) {
+						errors.put( registrationName, new UnknownEntityException( e.getMessage(), e.getReference(), e ) );
+					}
+				}
+		);
 
 		// Check native-sql queries
 		log.debugf( "Checking %s named SQL queries", sqlMementoMap.size() );
@@ -298,7 +303,7 @@ public class NamedObjectRepositoryImpl implements NamedObjectRepository {
 //			}
 		}
 
-		return errors;
+		return new HashMap<>( errors );
 	}
 
 
@@ -16,6 +16,7 @@ import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.query.spi.NativeQueryInterpreter;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.util.config.ConfigurationException;
 import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.query.hql.HqlTranslator;
 import org.hibernate.query.hql.internal.StandardHqlTranslator;
@@ -39,6 +40,7 @@ import org.jboss.logging.Logger;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.function.Supplier;
 
@@ -202,7 +204,28 @@ public class QueryEngineImpl implements QueryEngine {
 					? explicitMaxPlanSize
 					: QueryEngine.DEFAULT_QUERY_PLAN_MAX_COUNT;
 
-			return new QueryInterpretationCacheStandardImpl( size, statisticsSupplier );
+			final String eviction = ConfigurationHelper.getString(
+					AvailableSettings.QUERY_PLAN_CACHE_EVICTION,
+					properties,
+					"lirs"
+			);
+			switch ( eviction.trim().toLowerCase( Locale.ROOT ) ) {
+				case "lirs":
+					return new QueryInterpretationCacheStandardImpl( size, statisticsSupplier );
+				case "tinylfu":
+					final long maxWeight =
+							ConfigurationHelper.getLong( AvailableSettings.QUERY_PLAN_CACHE_MAX_WEIGHT, properties, -1 );
+					return new QueryInterpretationCacheTinyLfuImpl(
+							size,
+							maxWeight > 0 ? maxWeight : Long.MAX_VALUE,
+							statisticsSupplier
+					);
+				default:
+					throw new ConfigurationException(
+							"Unrecognized value for '" + AvailableSettings.QUERY_PLAN_CACHE_EVICTION
+									+ "' [" + eviction + "] (expected 'lirs' or 'tinylfu')"
+					);
+			}
 		}
 		else {
 			// disabled
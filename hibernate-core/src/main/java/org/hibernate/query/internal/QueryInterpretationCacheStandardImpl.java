@@ -6,7 +6,9 @@
  */
 package org.hibernate.query.internal;
 
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -27,6 +29,10 @@ import org.hibernate.stat.spi.StatisticsImplementor;
 
 import org.jboss.logging.Logger;
 
+import static org.hibernate.stat.QueryInterpretationCacheStatistics.HQL_INTERPRETATIONS;
+import static org.hibernate.stat.QueryInterpretationCacheStatistics.NATIVE_QUERY_PARAMETERS;
+import static org.hibernate.stat.QueryInterpretationCacheStatistics.SELECT_QUERY_PLANS;
+
 /**
  * Standard QueryInterpretationCache implementation
  *
@@ -38,18 +44,33 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 	/**
 	 * the cache of the actual plans...
 	 */
-	private final BoundedConcurrentHashMap<Key, QueryPlan> queryPlanCache;
+	private final ConcurrentMap<Key, QueryPlan> queryPlanCache;
 
-	private final BoundedConcurrentHashMap<Object, HqlInterpretation> hqlInterpretationCache;
-	private final BoundedConcurrentHashMap<String, ParameterInterpretation> nativeQueryParamCache;
+	private final ConcurrentMap<Object, HqlInterpretation> hqlInterpretationCache;
+	private final ConcurrentMap<String, ParameterInterpretation> nativeQueryParamCache;
 	private final Supplier<StatisticsImplementor> statisticsSupplier;
 
 	public QueryInterpretationCacheStandardImpl(int maxQueryPlanCount, Supplier<StatisticsImplementor> statisticsSupplier) {
+		this(
+				new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS ),
+				new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS ),
+				new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS ),
+				statisticsSupplier
+		);
 		log.debugf( "Starting QueryInterpretationCache(%s)", maxQueryPlanCount );
+	}
 
-		this.queryPlanCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
-		this.hqlInterpretationCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
-		this.nativeQueryParamCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
+	/**
+	 * For subclasses using a different bounded map implementation
+	 */
+	protected QueryInterpretationCacheStandardImpl(
+			ConcurrentMap<Key, QueryPlan> queryPlanCache,
+			ConcurrentMap<Object, HqlInterpretation> hqlInterpretationCache,
+			ConcurrentMap<String, ParameterInterpretation> nativeQueryParamCache,
+			Supplier<StatisticsImplementor> statisticsSupplier) {
+		this.queryPlanCache = queryPlanCache;
+		this.hqlInterpretationCache = hqlInterpretationCache;
+		this.nativeQueryParamCache = nativeQueryParamCache;
 		this.statisticsSupplier = statisticsSupplier;
 	}
 
@@ -75,7 +96,7 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 		final SelectQueryPlan<R> cached = (SelectQueryPlan<R>) queryPlanCache.get( key );
 		if ( cached != null ) {
 			if ( stats ) {
-				statistics.queryPlanCacheHit( key.getQueryString() );
+				statistics.queryInterpretationCacheHit( SELECT_QUERY_PLANS, key.getQueryString() );
 			}
 			return cached;
 		}
@@ -83,7 +104,7 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 		final SelectQueryPlan<R> plan = creator.get();
 		queryPlanCache.put( key.prepareForStore(), plan );
 		if ( stats ) {
-			statistics.queryPlanCacheMiss( key.getQueryString() );
+			statistics.queryInterpretationCacheMiss( SELECT_QUERY_PLANS, key.getQueryString() );
 		}
 		return plan;
 	}
@@ -131,7 +152,7 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 		final HqlInterpretation existing = hqlInterpretationCache.get( cacheKey );
 		if ( existing != null ) {
 			if ( statistics.isStatisticsEnabled() ) {
-				statistics.queryPlanCacheHit( queryString );
+				statistics.queryInterpretationCacheHit( HQL_INTERPRETATIONS, queryString );
 			}
 			return existing;
 		}
@@ -139,11 +160,14 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 			final HqlInterpretation existingQueryOnly = hqlInterpretationCache.get( queryString );
 			if ( existingQueryOnly != null ) {
 				if ( statistics.isStatisticsEnabled() ) {
-					statistics.queryPlanCacheHit( queryString );
+					statistics.queryInterpretationCacheHit( HQL_INTERPRETATIONS, queryString );
 				}
 				return existingQueryOnly;
 			}
 		}
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.queryInterpretationCacheMiss( HQL_INTERPRETATIONS, queryString );
+		}
 		final HqlInterpretation hqlInterpretation = createHqlInterpretation(
 				queryString,
 				expectedResultType,
@@ -189,6 +213,17 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 			String queryString,
 			Function<String, ParameterInterpretation> creator) {
 		log.tracef( "QueryPlan#resolveNativeQueryParameters(%s)", queryString );
+		final StatisticsImplementor statistics = statisticsSupplier.get();
+		final ParameterInterpretation existing = nativeQueryParamCache.get( queryString );
+		if ( existing != null ) {
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.queryInterpretationCacheHit( NATIVE_QUERY_PARAMETERS, queryString );
+			}
+			return existing;
+		}
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.queryInterpretationCacheMiss( NATIVE_QUERY_PARAMETERS, queryString );
+		}
 		return nativeQueryParamCache.computeIfAbsent(
 				queryString,
 				s -> {
@@ -204,6 +239,28 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 		return true;
 	}
 
+	@Override
+	public void visitHqlInterpretationKeys(BiConsumer<String, Class<?>> consumer) {
+		for ( Object cacheKey : hqlInterpretationCache.keySet() ) {
+			if ( cacheKey instanceof HqlInterpretationCacheKey ) {
+				final HqlInterpretationCacheKey key = (HqlInterpretationCacheKey) cacheKey;
+				consumer.accept( key.queryString, key.expectedResultType );
+			}
+			else {
+				consumer.accept( (String) cacheKey, null );
+			}
+		}
+	}
+
+	/**
+	 * The query string of a key of the map of HQL interpretations
+	 */
+	protected static String hqlInterpretationQueryString(Object cacheKey) {
+		return cacheKey instanceof HqlInterpretationCacheKey
+				? ( (HqlInterpretationCacheKey) cacheKey ).queryString
+				: (String) cacheKey;
+	}
+
 	@Override
 	public void close() {
 		// todo (6.0) : clear maps/caches and LOG
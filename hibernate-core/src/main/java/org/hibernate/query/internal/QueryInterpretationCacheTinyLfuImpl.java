@@ -0,0 +1,85 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.internal;
+
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+import org.hibernate.internal.util.collections.TinyLfuCache;
+import org.hibernate.query.QueryLogging;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.jboss.logging.Logger;
+
+import static org.hibernate.stat.QueryInterpretationCacheStatistics.HQL_INTERPRETATIONS;
+import static org.hibernate.stat.QueryInterpretationCacheStatistics.NATIVE_QUERY_PARAMETERS;
+import static org.hibernate.stat.QueryInterpretationCacheStatistics.SELECT_QUERY_PLANS;
+
+/**
+ * QueryInterpretationCache implementation backed by {@link TinyLfuCache}s, whose
+ * reads never take a lock, and which protect frequently used interpretations and
+ * plans from being evicted by a burst of distinct queries.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_EVICTION
+ */
+public class QueryInterpretationCacheTinyLfuImpl extends QueryInterpretationCacheStandardImpl {
+	private static final Logger log = QueryLogging.subLogger( "plan.cache" );
+
+	public QueryInterpretationCacheTinyLfuImpl(int maxQueryPlanCount, Supplier<StatisticsImplementor> statisticsSupplier) {
+		this( maxQueryPlanCount, Long.MAX_VALUE, statisticsSupplier );
+	}
+
+	/**
+	 * @param maxQueryPlanCount The maximum number of entries of each map
+	 * @param maxQueryLength The maximum total length of the queries of each map
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_MAX_WEIGHT
+	 */
+	public QueryInterpretationCacheTinyLfuImpl(
+			int maxQueryPlanCount,
+			long maxQueryLength,
+			Supplier<StatisticsImplementor> statisticsSupplier) {
+		super(
+				new TinyLfuCache<>(
+						maxQueryPlanCount,
+						maxQueryLength,
+						(key, plan) -> weigh( key.getQueryString() ),
+						evictionListener( SELECT_QUERY_PLANS, statisticsSupplier )
+				),
+				new TinyLfuCache<>(
+						maxQueryPlanCount,
+						maxQueryLength,
+						(key, interpretation) -> weigh( hqlInterpretationQueryString( key ) ),
+						evictionListener( HQL_INTERPRETATIONS, statisticsSupplier )
+				),
+				new TinyLfuCache<>(
+						maxQueryPlanCount,
+						maxQueryLength,
+						(queryString, interpretation) -> weigh( queryString ),
+						evictionListener( NATIVE_QUERY_PARAMETERS, statisticsSupplier )
+				),
+				statisticsSupplier
+		);
+		log.debugf( "Starting TinyLFU QueryInterpretationCache(%s, %s)", maxQueryPlanCount, maxQueryLength );
+	}
+
+	private static int weigh(String queryString) {
+		return queryString == null ? 1 : Math.max( 1, queryString.length() );
+	}
+
+	private static <K, V> BiConsumer<K, V> evictionListener(
+			String cacheName,
+			Supplier<StatisticsImplementor> statisticsSupplier) {
+		return (key, value) -> {
+			log.tracef( "Evicted entry from %s: %s", cacheName, key );
+			final StatisticsImplementor statistics = statisticsSupplier.get();
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.queryInterpretationCacheEviction( cacheName );
+			}
+		};
+	}
+}
@@ -0,0 +1,297 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.internal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.hibernate.HibernateException;
+import org.hibernate.Version;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.model.domain.ManagedDomainType;
+import org.hibernate.query.QueryLogging;
+import org.hibernate.query.spi.QueryEngine;
+import org.hibernate.query.spi.QueryInterpretationCache;
+
+import org.jboss.logging.Logger;
+
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.ManagedType;
+
+/**
+ * Persists the query strings held by the {@link QueryInterpretationCache} to a
+ * local file, and interprets them again, in parallel, when the next
+ * {@link org.hibernate.SessionFactory} using the same domain model is started.
+ * <p>
+ * The SQM trees, and the SQL produced from them, are not persisted: they refer to
+ * the runtime metamodel of the {@code SessionFactory}, and the SQL also depends on
+ * the options of each execution. What is expensive, parsing and interpreting the
+ * HQL, is done again at startup, instead of while serving the first requests.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_WARMUP_FILE
+ */
+public final class QueryPlanCacheWarmup {
+	private static final Logger log = QueryLogging.subLogger( "plan.cache" );
+
+	private static final int MAGIC = 0x48514331; // HQC1
+	private static final int FORMAT_VERSION = 1;
+	private static final int MAX_STRING_LENGTH = 1 << 24;
+
+	private QueryPlanCacheWarmup() {
+	}
+
+	/**
+	 * Write the query strings of the cached HQL interpretations to the given file,
+	 * replacing it if it exists.
+	 */
+	public static void write(Path file, SessionFactoryImplementor sessionFactory) {
+		final QueryInterpretationCache interpretationCache = sessionFactory.getQueryEngine().getInterpretationCache();
+		final List<QueryKey> queries = new ArrayList<>( interpretationCache.getNumberOfCachedHqlInterpretations() );
+		interpretationCache.visitHqlInterpretationKeys(
+				(queryString, resultType) -> queries.add( new QueryKey( queryString, resultType == null ? null : resultType.getName() ) )
+		);
+
+		try {
+			final Path parent = file.toAbsolutePath().getParent();
+			if ( parent != null ) {
+				Files.createDirectories( parent );
+			}
+			final Path temporaryFile = Files.createTempFile( parent, file.getFileName().toString(), ".tmp" );
+			try {
+				try ( DataOutputStream output = new DataOutputStream( new BufferedOutputStream( Files.newOutputStream( temporaryFile ) ) ) ) {
+					output.writeInt( MAGIC );
+					output.writeInt( FORMAT_VERSION );
+					writeString( output, fingerprint( sessionFactory ) );
+					output.writeInt( queries.size() );
+					for ( QueryKey query : queries ) {
+						writeString( output, query.queryString );
+						output.writeBoolean( query.resultTypeName != null );
+						if ( query.resultTypeName != null ) {
+							writeString( output, query.resultTypeName );
+						}
+					}
+				}
+				try {
+					Files.move( temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+				}
+				catch (AtomicMoveNotSupportedException e) {
+					// a reader may then see a partially written file, which it rejects
+					Files.move( temporaryFile, file, StandardCopyOption.REPLACE_EXISTING );
+				}
+			}
+			finally {
+				// only left behind if the file could not be written or moved
+				Files.deleteIfExists( temporaryFile );
+			}
+			log.debugf( "Wrote %s query strings to query plan cache warmup file %s", queries.size(), file );
+		}
+		catch (IOException e) {
+			log.warnf( e, "Unable to write query plan cache warmup file %s", file );
+		}
+	}
+
+	/**
+	 * Read the query strings from the given file, if it exists and was written for the
+	 * same domain model, and interpret them in parallel, caching the interpretations.
+	 */
+	public static void warmUp(Path file, SessionFactoryImplementor sessionFactory) {
+		if ( !Files.isRegularFile( file ) ) {
+			log.debugf( "Query plan cache warmup file %s does not exist", file );
+			return;
+		}
+
+		final List<QueryKey> queries;
+		try ( DataInputStream input = new DataInputStream( new BufferedInputStream( Files.newInputStream( file ) ) ) ) {
+			if ( input.readInt() != MAGIC || input.readInt() != FORMAT_VERSION ) {
+				log.debugf( "Ignoring query plan cache warmup file %s written in an unknown format", file );
+				return;
+			}
+			if ( !fingerprint( sessionFactory ).equals( readString( input ) ) ) {
+				log.debugf( "Ignoring query plan cache warmup file %s written for a different domain model", file );
+				return;
+			}
+			final int count = input.readInt();
+			queries = new ArrayList<>( count );
+			for ( int i = 0; i < count; i++ ) {
+				final String queryString = readString( input );
+				final String resultTypeName = input.readBoolean() ? readString( input ) : null;
+				queries.add( new QueryKey( queryString, resultTypeName ) );
+			}
+		}
+		catch (IOException e) {
+			log.warnf( e, "Unable to read query plan cache warmup file %s", file );
+			return;
+		}
+
+		final QueryEngine queryEngine = sessionFactory.getQueryEngine();
+		final QueryInterpretationCache interpretationCache = queryEngine.getInterpretationCache();
+		final ClassLoaderService classLoaderService =
+				sessionFactory.getServiceRegistry().requireService( ClassLoaderService.class );
+		final long startTime = System.nanoTime();
+		forEachInParallel(
+				queries,
+				query -> {
+					try {
+						final Class<?> resultType = query.resultTypeName == null
+								? null
+								: classLoaderService.classForName( query.resultTypeName );
+						interpretationCache.resolveHqlInterpretation(
+								query.queryString,
+								resultType,
+								queryEngine.getHqlTranslator()
+						);
+					}
+					catch (RuntimeException e) {
+						// the query is no longer valid, or its result type is gone: it will
+						// be reported if the application actually executes it again
+						log.debugf( "Unable to interpret query from warmup file: %s (%s)", query.queryString, e.getMessage() );
+					}
+				}
+		);
+		if ( log.isDebugEnabled() ) {
+			log.debug( "Interpreted " + queries.size() + " queries from query plan cache warmup file " + file
+					+ " in " + TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - startTime ) + " ms" );
+		}
+	}
+
+	/**
+	 * Apply the given action to every element of the collection using the common
+	 * {@link ForkJoinPool}, with the context class loader of the calling thread.
+	 * Any exception thrown by the action is rethrown once every element has been
+	 * processed.
+	 */
+	static <T> void forEachInParallel(Collection<T> elements, Consumer<T> action) {
+		if ( elements.size() < 2 || ForkJoinPool.getCommonPoolParallelism() < 2 ) {
+			elements.forEach( action );
+			return;
+		}
+
+		final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		final CompletableFuture<?>[] futures = new CompletableFuture[ elements.size() ];
+		int i = 0;
+		for ( T element : elements ) {
+			futures[i++] = CompletableFuture.runAsync(
+					() -> {
+						final Thread thread = Thread.currentThread();
+						final ClassLoader original = thread.getContextClassLoader();
+						thread.setContextClassLoader( contextClassLoader );
+						try {
+							action.accept( element );
+						}
+						finally {
+							thread.setContextClassLoader( original );
+						}
+					},
+					ForkJoinPool.commonPool()
+			);
+		}
+
+		try {
+			CompletableFuture.allOf( futures ).join();
+		}
+		catch (CompletionException e) {
+			final Throwable cause = e.getCause();
+			if ( cause instanceof RuntimeException ) {
+				throw (RuntimeException) cause;
+			}
+			else if ( cause instanceof Error ) {
+				throw (Error) cause;
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * A digest of everything the interpretation of a query depends on: the managed
+	 * types of the domain model and their attributes, the Dialect, and the version
+	 * of Hibernate.
+	 */
+	static String fingerprint(SessionFactoryImplementor sessionFactory) {
+		final TreeMap<String, List<String>> model = new TreeMap<>();
+		for ( ManagedType<?> managedType : sessionFactory.getJpaMetamodel().getManagedTypes() ) {
+			final List<String> attributes = new ArrayList<>();
+			for ( Attribute<?, ?> attribute : managedType.getAttributes() ) {
+				attributes.add( attribute.getName() + ':' + attribute.getJavaType().getName() );
+			}
+			attributes.sort( Comparator.naturalOrder() );
+			model.put( ( (ManagedDomainType<?>) managedType ).getTypeName(), attributes );
+		}
+
+		final MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance( "SHA-256" );
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new HibernateException( "Unable to compute the domain model fingerprint", e );
+		}
+		digest.update( Version.getVersionString().getBytes( StandardCharsets.UTF_8 ) );
+		digest.update( sessionFactory.getJdbcServices().getDialect().getClass().getName().getBytes( StandardCharsets.UTF_8 ) );
+		model.forEach( (typeName, attributes) -> {
+			digest.update( typeName.getBytes( StandardCharsets.UTF_8 ) );
+			for ( String attribute : attributes ) {
+				digest.update( (byte) 0 );
+				digest.update( attribute.getBytes( StandardCharsets.UTF_8 ) );
+			}
+			digest.update( (byte) 1 );
+		} );
+
+		final StringBuilder fingerprint = new StringBuilder( 64 );
+		for ( byte b : digest.digest() ) {
+			fingerprint.append( Character.forDigit( ( b >> 4 ) & 0xf, 16 ) )
+					.append( Character.forDigit( b & 0xf, 16 ) );
+		}
+		return fingerprint.toString();
+	}
+
+	private static void writeString(DataOutputStream output, String string) throws IOException {
+		// not writeUTF(), which is limited to 64KB
+		final byte[] bytes = string.getBytes( StandardCharsets.UTF_8 );
+		output.writeInt( bytes.length );
+		output.write( bytes );
+	}
+
+	private static String readString(DataInputStream input) throws IOException {
+		final int length = input.readInt();
+		if ( length < 0 || length > MAX_STRING_LENGTH ) {
+			throw new IOException( "Corrupt string length " + length );
+		}
+		final byte[] bytes = new byte[ length ];
+		input.readFully( bytes );
+		return new String( bytes, StandardCharsets.UTF_8 );
+	}
+
+	private static final class QueryKey {
+		private final String queryString;
+		private final String resultTypeName;
+
+		private QueryKey(String queryString, String resultTypeName) {
+			this.queryString = queryString;
+			this.resultTypeName = resultTypeName;
+		}
+	}
+}
@@ -6,6 +6,7 @@
  */
 package org.hibernate.query.spi;
 
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -53,6 +54,17 @@ public interface QueryInterpretationCache {
 
 	boolean isEnabled();
 
+	/**
+	 * Visit the query string, and the expected result type if one was given, of
+	 * every cached {@link HqlInterpretation}.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_WARMUP_FILE
+	 *
+	 * @since 6.5
+	 */
+	default void visitHqlInterpretationKeys(BiConsumer<String, Class<?>> consumer) {
+	}
+
 	/**
 	 * Close the cache when the SessionFactory is closed.
 	 * <p>
@@ -674,6 +674,7 @@ public class NativeQueryImpl<R>
 		final SessionFactoryImplementor sessionFactory = getSessionFactory();
 		final Dialect dialect = sessionFactory.getJdbcServices().getDialect();
 		final boolean paddingEnabled = sessionFactory.getSessionFactoryOptions().inClauseParameterPaddingEnabled();
+		final int[] paddingBuckets = sessionFactory.getSessionFactoryOptions().getInClauseParameterPaddingBuckets();
 		final int inExprLimit = dialect.getInExpressionCountLimit();
 
 		StringBuilder sb = null;
@@ -689,7 +690,7 @@ public class NativeQueryImpl<R>
 			final Collection<?> bindValues = binding.getBindValues();
 
 			int bindValueCount = bindValues.size();
-			int bindValueMaxCount = determineBindValueMaxCount( paddingEnabled, inExprLimit, bindValueCount );
+			int bindValueMaxCount = determineBindValueMaxCount( paddingEnabled, paddingBuckets, inExprLimit, bindValueCount );
 
 			if ( inExprLimit > 0 && bindValueCount > inExprLimit ) {
 				log.tooManyInExpressions(
@@ -784,12 +785,29 @@ public class NativeQueryImpl<R>
 	}
 
 	public static int determineBindValueMaxCount(boolean paddingEnabled, int inExprLimit, int bindValueCount) {
+		return determineBindValueMaxCount( paddingEnabled, null, inExprLimit, bindValueCount );
+	}
+
+	/**
+	 * The number of parameters a multi-valued parameter with the given number of bind values
+	 * is expanded to. Lists of one or two values are never padded. This is also used for
+	 * the {@code IN} lists of HQL and criteria queries, so that both pad the same way.
+	 *
+	 * @param paddingBuckets the lengths to pad to, or {@code null} to pad to the next power of two
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#IN_CLAUSE_PARAMETER_PADDING_BUCKETS
+	 */
+	public static int determineBindValueMaxCount(
+			boolean paddingEnabled,
+			int[] paddingBuckets,
+			int inExprLimit,
+			int bindValueCount) {
 		int bindValueMaxCount = bindValueCount;
 
 		final boolean inClauseParameterPaddingEnabled = paddingEnabled && bindValueCount > 2;
 
 		if ( inClauseParameterPaddingEnabled ) {
-			int bindValuePaddingCount = MathHelper.ceilingPowerOfTwo( bindValueCount );
+			int bindValuePaddingCount = MathHelper.ceilingBucket( bindValueCount, paddingBuckets );
 
 			if ( inExprLimit > 0 && bindValuePaddingCount > inExprLimit ) {
 				bindValuePaddingCount = inExprLimit;
@@ -7,14 +7,19 @@
 package org.hibernate.query.sqm.internal;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import jakarta.persistence.Tuple;
 import org.hibernate.AssertionFailure;
 import org.hibernate.InstantiationException;
+import org.hibernate.LockOptions;
 import org.hibernate.ScrollMode;
+import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.engine.spi.EntityHolder;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -25,7 +30,10 @@ import org.hibernate.metamodel.mapping.MappingModelExpressible;
 import org.hibernate.query.Query;
 import org.hibernate.query.TupleTransformer;
 import org.hibernate.query.spi.DomainQueryExecutionContext;
+import org.hibernate.query.spi.Limit;
 import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.spi.QueryParameterBinding;
+import org.hibernate.query.spi.QueryParameterBindings;
 import org.hibernate.query.spi.QueryParameterImplementor;
 import org.hibernate.query.spi.ScrollableResultsImplementor;
 import org.hibernate.query.spi.SelectQueryPlan;
@@ -54,9 +62,12 @@ import org.hibernate.sql.results.internal.TupleMetadata;
 import org.hibernate.sql.results.spi.ListResultsConsumer;
 import org.hibernate.sql.results.spi.ResultsConsumer;
 import org.hibernate.sql.results.spi.RowTransformer;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 import static org.hibernate.internal.util.ReflectHelper.isClass;
+import static org.hibernate.query.sql.internal.NativeQueryImpl.determineBindValueMaxCount;
 import static org.hibernate.query.sqm.internal.QuerySqmImpl.CRITERIA_HQL_STRING;
+import static org.hibernate.stat.QueryInterpretationCacheStatistics.SQL_TRANSLATIONS;
 
 /**
  * Standard Hibernate implementation of SelectQueryPlan for SQM-backed
@@ -66,6 +77,11 @@ import static org.hibernate.query.sqm.internal.QuerySqmImpl.CRITERIA_HQL_STRING;
  * @author Steve Ebersole
  */
 public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
+	/**
+	 * The maximum number of translations to SQL kept by a plan, one for each distinct {@link InterpretationShape}
+	 */
+	private static final int MAX_CACHED_INTERPRETATIONS = 16;
+
 	private final SqmSelectStatement<?> sqm;
 	private final DomainParameterXref domainParameterXref;
 	private final RowTransformer<R> rowTransformer;
@@ -73,7 +89,8 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 	private final SqmInterpreter<List<R>, Void> listInterpreter;
 	private final SqmInterpreter<ScrollableResultsImplementor<R>, ScrollMode> scrollInterpreter;
 
-	private volatile CacheableSqmInterpretation cacheableSqmInterpretation;
+	private final QueryParameterImplementor<?>[] queryParameters;
+	private final Map<InterpretationShape, CacheableSqmInterpretation> cacheableSqmInterpretations = new ConcurrentHashMap<>( 4 );
 
 	public ConcreteSqmSelectQueryPlan(
 			SqmSelectStatement<?> sqm,
@@ -84,6 +101,8 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 			QueryOptions queryOptions) {
 		this.sqm = sqm;
 		this.domainParameterXref = domainParameterXref;
+		this.queryParameters = domainParameterXref.getQueryParameters().keySet()
+				.toArray( new QueryParameterImplementor<?>[0] );
 
 		this.rowTransformer = determineRowTransformer( sqm, resultType, tupleMetadata, queryOptions );
 
@@ -314,41 +333,58 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		//		to protect access.  However, synchronized is much simpler here.  We will verify
 		// 		during throughput testing whether this is an issue and consider changes then
 
-		CacheableSqmInterpretation localCopy = cacheableSqmInterpretation;
+		final InterpretationShape shape = determineShape( executionContext );
+		CacheableSqmInterpretation localCopy = cacheableSqmInterpretations.get( shape );
 		JdbcParameterBindings jdbcParameterBindings = null;
+		boolean translated = false;
 
 		if ( localCopy == null ) {
 			synchronized ( this ) {
-				localCopy = cacheableSqmInterpretation;
+				localCopy = cacheableSqmInterpretations.get( shape );
 				if ( localCopy == null ) {
-					localCopy = buildCacheableSqmInterpretation(
-							sqm,
-							domainParameterXref,
-							executionContext
-					);
+					localCopy = buildCacheableSqmInterpretation( sqm, shape, xrefForTranslation( shape ), executionContext );
 					jdbcParameterBindings = localCopy.firstParameterBindings;
 					localCopy.firstParameterBindings = null;
-					cacheableSqmInterpretation = localCopy;
+					cacheInterpretation( shape, localCopy );
+					translated = true;
 				}
 			}
 		}
-		else {
+
+		if ( !translated && !localCopy.isCompatibleWith( shape ) ) {
+			// The multivalued parameters were expanded to exactly as many parameters as
+			// they had values when translating, rather than to the padded length
+			localCopy = buildCacheableSqmInterpretation( sqm, shape, xrefForTranslation( shape ), executionContext );
+			jdbcParameterBindings = localCopy.firstParameterBindings;
+			localCopy.firstParameterBindings = null;
+			cacheInterpretation( shape, localCopy );
+			translated = true;
+		}
+
+		if ( !translated ) {
 			// If the translation depends on parameter bindings or it isn't compatible with the current query options,
 			// we have to rebuild the JdbcSelect, which is still better than having to translate from SQM to SQL AST again
 			if ( localCopy.jdbcSelect.dependsOnParameterBindings() ) {
 				jdbcParameterBindings = createJdbcParameterBindings( localCopy, executionContext );
 			}
-			// If the translation depends on the limit or lock options, we have to rebuild the JdbcSelect
-			// We could avoid this by putting the lock options into the cache key
+			// The presence of limit and offset, and the lock options, are part of the shape,
+			// but the translation might still depend on their values, or on parameter values
 			if ( !localCopy.jdbcSelect.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
-				localCopy = buildCacheableSqmInterpretation(
-						sqm,
-						domainParameterXref,
-						executionContext
-				);
+				localCopy = buildCacheableSqmInterpretation( sqm, shape, xrefForTranslation( shape ), executionContext );
 				jdbcParameterBindings = localCopy.firstParameterBindings;
 				localCopy.firstParameterBindings = null;
-				cacheableSqmInterpretation = localCopy;
+				cacheInterpretation( shape, localCopy );
+				translated = true;
+			}
+		}
+
+		final StatisticsImplementor statistics = executionContext.getSession().getFactory().getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			if ( translated ) {
+				statistics.queryInterpretationCacheMiss( SQL_TRANSLATIONS, null );
+			}
+			else {
+				statistics.queryInterpretationCacheHit( SQL_TRANSLATIONS, null );
 			}
 		}
 
@@ -359,11 +395,75 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		return interpreter.interpret( context, executionContext, localCopy, jdbcParameterBindings );
 	}
 
+	private void cacheInterpretation(InterpretationShape shape, CacheableSqmInterpretation interpretation) {
+		// once a plan has been executed with too many different shapes, additional
+		// ones are translated on every execution, rather than displacing the others
+		if ( cacheableSqmInterpretations.size() < MAX_CACHED_INTERPRETATIONS
+				|| cacheableSqmInterpretations.containsKey( shape ) ) {
+			cacheableSqmInterpretations.put( shape, interpretation );
+		}
+	}
+
+	/**
+	 * The translation of a query with multivalued parameters records the expansion of
+	 * each parameter to one SQM parameter per value in the {@link DomainParameterXref},
+	 * so each cached translation needs its own copy
+	 */
+	private DomainParameterXref xrefForTranslation(InterpretationShape shape) {
+		return shape.exactParameterCardinalities == null ? domainParameterXref : domainParameterXref.copy();
+	}
+
+	private InterpretationShape determineShape(DomainQueryExecutionContext executionContext) {
+		final QueryOptions queryOptions = executionContext.getQueryOptions();
+		final Limit limit = queryOptions.getLimit();
+		int[] parameterCardinalities = null;
+		if ( queryParameters.length > 0 ) {
+			final QueryParameterBindings parameterBindings = executionContext.getQueryParameterBindings();
+			for ( int i = 0; i < queryParameters.length; i++ ) {
+				final QueryParameterBinding<?> binding = parameterBindings.getBinding( queryParameters[i] );
+				if ( binding.isMultiValued() ) {
+					if ( parameterCardinalities == null ) {
+						parameterCardinalities = new int[queryParameters.length];
+						Arrays.fill( parameterCardinalities, -1 );
+					}
+					parameterCardinalities[i] = binding.getBindValues().size();
+				}
+			}
+		}
+		return new InterpretationShape(
+				limit != null && limit.getFirstRow() != null,
+				limit != null && limit.getMaxRows() != null,
+				queryOptions.getLockOptions(),
+				parameterCardinalities,
+				paddedCardinalities( parameterCardinalities, executionContext.getSession().getFactory() )
+		);
+	}
+
+	/**
+	 * When {@code IN} lists are padded, they are padded during the translation, and so
+	 * lists with the same padded length share a translation. The padded length is the
+	 * one {@link org.hibernate.query.sqm.sql.BaseSqmToSqlAstConverter} expands the list
+	 * to, so that a translation is always cached under the length it was expanded to.
+	 */
+	private static int[] paddedCardinalities(int[] parameterCardinalities, SessionFactoryImplementor factory) {
+		final SessionFactoryOptions options = factory.getSessionFactoryOptions();
+		if ( parameterCardinalities == null || !options.inClauseParameterPaddingEnabled() ) {
+			return parameterCardinalities;
+		}
+		final int[] buckets = options.getInClauseParameterPaddingBuckets();
+		final int inExprLimit = factory.getJdbcServices().getDialect().getInExpressionCountLimit();
+		final int[] paddedCardinalities = new int[parameterCardinalities.length];
+		for ( int i = 0; i < parameterCardinalities.length; i++ ) {
+			paddedCardinalities[i] = determineBindValueMaxCount( true, buckets, inExprLimit, parameterCardinalities[i] );
+		}
+		return paddedCardinalities;
+	}
+
 	private JdbcParameterBindings createJdbcParameterBindings(CacheableSqmInterpretation sqmInterpretation, DomainQueryExecutionContext executionContext) {
 		final SharedSessionContractImplementor session = executionContext.getSession();
 		return SqmUtil.createJdbcParameterBindings(
 				executionContext.getQueryParameterBindings(),
-				domainParameterXref,
+				sqmInterpretation.getDomainParameterXref(),
 				sqmInterpretation.getJdbcParamsXref(),
 				session.getFactory().getRuntimeMetamodels().getMappingMetamodel(),
 				sqmInterpretation.getTableGroupAccess()::findTableGroup,
@@ -380,6 +480,7 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 
 	private static CacheableSqmInterpretation buildCacheableSqmInterpretation(
 			SqmSelectStatement<?> sqm,
+			InterpretationShape shape,
 			DomainParameterXref domainParameterXref,
 			DomainQueryExecutionContext executionContext) {
 		final SharedSessionContractImplementor session = executionContext.getSession();
@@ -428,6 +529,8 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		return new CacheableSqmInterpretation(
 				sqmInterpretation.getSqlAst(),
 				selectTranslator.translate( jdbcParameterBindings, executionContext.getQueryOptions() ),
+				domainParameterXref.isExactCardinalitiesRequired() ? shape.exactParameterCardinalities : null,
+				domainParameterXref,
 				tableGroupAccess,
 				jdbcParamsXref,
 				sqmInterpretation.getSqmParameterMappingModelTypeResolutions(),
@@ -446,6 +549,8 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 	private static class CacheableSqmInterpretation {
 		private final SelectStatement selectStatement;
 		private final JdbcOperationQuerySelect jdbcSelect;
+		private final int[] exactParameterCardinalities;
+		private final DomainParameterXref domainParameterXref;
 		private final FromClauseAccess tableGroupAccess;
 		private final Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref;
 		private final Map<SqmParameter<?>, MappingModelExpressible<?>> sqmParameterMappingModelTypes;
@@ -454,12 +559,16 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		CacheableSqmInterpretation(
 				SelectStatement selectStatement,
 				JdbcOperationQuerySelect jdbcSelect,
+				int[] exactParameterCardinalities,
+				DomainParameterXref domainParameterXref,
 				FromClauseAccess tableGroupAccess,
 				Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref,
 				Map<SqmParameter<?>, MappingModelExpressible<?>> sqmParameterMappingModelTypes,
 				JdbcParameterBindings firstParameterBindings) {
 			this.selectStatement = selectStatement;
 			this.jdbcSelect = jdbcSelect;
+			this.exactParameterCardinalities = exactParameterCardinalities;
+			this.domainParameterXref = domainParameterXref;
 			this.tableGroupAccess = tableGroupAccess;
 			this.jdbcParamsXref = jdbcParamsXref;
 			this.sqmParameterMappingModelTypes = sqmParameterMappingModelTypes;
@@ -474,6 +583,19 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 			return jdbcSelect;
 		}
 
+		DomainParameterXref getDomainParameterXref() {
+			return domainParameterXref;
+		}
+
+		/**
+		 * Whether this translation can be used for an execution with the given shape, even
+		 * though multivalued parameters might have a different number of values bound
+		 */
+		boolean isCompatibleWith(InterpretationShape shape) {
+			return exactParameterCardinalities == null
+					|| Arrays.equals( exactParameterCardinalities, shape.exactParameterCardinalities );
+		}
+
 		FromClauseAccess getTableGroupAccess() {
 			return tableGroupAccess;
 		}
@@ -495,6 +617,61 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		}
 	}
 
+	/**
+	 * The aspects of an execution which determine the SQL a query is translated to,
+	 * beyond the values of its parameters: the number of values bound to each
+	 * multivalued parameter, or the length they are padded to, the presence of a
+	 * limit or offset, and the lock options.
+	 */
+	private static final class InterpretationShape {
+		private final boolean hasOffset;
+		private final boolean hasLimit;
+		private final LockOptions lockOptions;
+		private final int[] parameterCardinalities;
+		// not part of the identity of the shape
+		private final int[] exactParameterCardinalities;
+		private final int hashCode;
+
+		private InterpretationShape(
+				boolean hasOffset,
+				boolean hasLimit,
+				LockOptions lockOptions,
+				int[] exactParameterCardinalities,
+				int[] parameterCardinalities) {
+			this.hasOffset = hasOffset;
+			this.hasLimit = hasLimit;
+			// lock options are mutable, but empty ones are very common, so avoid copying those
+			this.lockOptions = lockOptions == null || lockOptions.isEmpty() ? null : lockOptions.makeDefensiveCopy();
+			this.exactParameterCardinalities = exactParameterCardinalities;
+			this.parameterCardinalities = parameterCardinalities;
+			int result = Boolean.hashCode( hasOffset );
+			result = 31 * result + Boolean.hashCode( hasLimit );
+			result = 31 * result + Objects.hashCode( this.lockOptions );
+			result = 31 * result + Arrays.hashCode( parameterCardinalities );
+			this.hashCode = result;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( !( o instanceof InterpretationShape ) ) {
+				return false;
+			}
+			final InterpretationShape that = (InterpretationShape) o;
+			return hasOffset == that.hasOffset
+					&& hasLimit == that.hasLimit
+					&& Objects.equals( lockOptions, that.lockOptions )
+					&& Arrays.equals( parameterCardinalities, that.parameterCardinalities );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+
 	private static class MySqmJdbcExecutionContextAdapter extends SqmJdbcExecutionContextAdapter {
 		private final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler;
 		private final String hql;
@@ -115,6 +115,8 @@ public class DomainParameterXref {
 	private final Map<SqmParameter<?>, QueryParameterImplementor<?>> queryParamBySqmParam;
 
 	private Map<SqmParameter<?>,List<SqmParameter<?>>> expansions;
+	private Map<SqmParameter<?>,Integer> expansionValueIndexes;
+	private boolean exactCardinalitiesRequired;
 
 	/**
 	 * @implSpec Constructor is defined as public for
@@ -185,18 +187,49 @@ public class DomainParameterXref {
 		return queryParamBySqmParam.get( sqmParameter );
 	}
 
+	/**
+	 * Register an expansion of a multi-valued parameter, to which the bind value at
+	 * the given index is bound. An index beyond the last bind value is used for the
+	 * expansions padding an {@code IN} list, which repeat the last bind value.
+	 */
 	public void addExpansion(
 			QueryParameterImplementor<?> domainParam,
 			SqmParameter originalSqmParameter,
-			SqmParameter expansion) {
+			SqmParameter expansion,
+			int valueIndex) {
 		SqmTreeTransformationLogger.LOGGER.debugf( "Adding domain-param xref expansion : %s", originalSqmParameter );
 		queryParamBySqmParam.put( expansion, domainParam );
 
 		if ( expansions == null ) {
 			expansions = new IdentityHashMap<>();
+			expansionValueIndexes = new IdentityHashMap<>();
 		}
 
 		expansions.computeIfAbsent( originalSqmParameter, p -> new ArrayList<>() ).add( expansion );
+		expansionValueIndexes.put( expansion, valueIndex );
+	}
+
+	/**
+	 * The index of the bind value of the expanded parameter bound to the given expansion
+	 */
+	public int getExpansionValueIndex(SqmParameter<?> expansion) {
+		return expansionValueIndexes.get( expansion );
+	}
+
+	/**
+	 * Record that a multi-valued parameter was expanded to exactly as many parameters as
+	 * it had bind values, rather than to a padded {@code IN} list, so that the translation
+	 * can only be reused for the same number of bind values.
+	 */
+	public void requireExactCardinalities() {
+		exactCardinalitiesRequired = true;
+	}
+
+	/**
+	 * @see #requireExactCardinalities()
+	 */
+	public boolean isExactCardinalitiesRequired() {
+		return exactCardinalitiesRequired;
 	}
 
 	public List<SqmParameter<?>> getExpansions(SqmParameter<?> sqmParameter) {
@@ -209,6 +242,7 @@ public class DomainParameterXref {
 	}
 
 	public void clearExpansions() {
+		exactCardinalitiesRequired = false;
 		if ( expansions == null ) {
 			return;
 		}
@@ -220,5 +254,6 @@ public class DomainParameterXref {
 		}
 
 		expansions.clear();
+		expansionValueIndexes.clear();
 	}
 }
@@ -90,13 +90,12 @@ public final class SqmInterpretationsKey implements QueryInterpretationCache.Key
 			&& ! keySource.getLoadQueryInfluencers().hasEnabledFilters()
 				// At the moment we cannot cache query plan if it has an entity graph
 			&& keySource.getQueryOptions().getAppliedGraph().getSemantic() == null
-				// todo (6.0) : this one may be ok because of how I implemented multi-valued param handling
-				// - the expansion is done per-execution based on the "static" SQM
-				// - Note from Christian: The call to domainParameterXref.clearExpansions()
-				//   in ConcreteSqmSelectQueryPlan is a concurrency issue when cached
-				// - This could be solved by using a method-local clone of domainParameterXref
-				//   when multi-valued params exist
-			&& ! keySource.hasMultiValuedParameterBindingsChecker().get() == TRUE;
+				// Plans for queries with multivalued parameters keep a translation, with its own
+				// copy of the DomainParameterXref, for each number of values bound to them.
+				// But a criteria query is keyed by its SqmStatement, which may still be mutated
+				// by the application between executions, so do not cache those for now
+			&& ( !CRITERIA_HQL_STRING.equals( keySource.getQueryString() )
+				|| keySource.hasMultiValuedParameterBindingsChecker().get() != TRUE );
 	}
 
 	public static QueryInterpretationCache.Key generateNonSelectKey(InterpretationsKeySource keyDetails) {
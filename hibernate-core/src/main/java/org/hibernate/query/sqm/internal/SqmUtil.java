@@ -7,7 +7,6 @@
 package org.hibernate.query.sqm.internal;
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
@@ -303,11 +302,9 @@ public class SqmUtil {
 					}
 				}
 				else if ( domainParamBinding.isMultiValued() ) {
-					final Collection<?> bindValues = domainParamBinding.getBindValues();
-					final Iterator<?> valueItr = bindValues.iterator();
+					final Object[] bindValues = domainParamBinding.getBindValues().toArray();
 
 					// the original SqmParameter is the one we are processing.. create a binding for it..
-					final Object firstValue = valueItr.next();
 					for ( int i = 0; i < jdbcParamsBinds.size(); i++ ) {
 						final JdbcParametersList jdbcParams = jdbcParamsBinds.get( i );
 						createValueBindings(
@@ -316,38 +313,32 @@ public class SqmUtil {
 								domainParamBinding,
 								parameterType,
 								jdbcParams,
-								firstValue,
+								bindValues[0],
 								tableGroupLocator,
 								session
 						);
 					}
 
-					// an then one for each of the expansions
+					// an then one for each of the expansions, the ones padding an IN list
+					// repeating the last value
 					final List<SqmParameter<?>> expansions = domainParameterXref.getExpansions( sqmParameter );
-					final int expansionCount = bindValues.size() - 1;
-					final int parameterUseCount = jdbcParamsBinds.size();
-					assert expansions.size() == expansionCount * parameterUseCount;
-					int expansionPosition = 0;
-					while ( valueItr.hasNext() ) {
-						final Object expandedValue = valueItr.next();
-						for ( int j = 0; j < parameterUseCount; j++ ) {
-							final SqmParameter<?> expansionSqmParam = expansions.get( expansionPosition + j * expansionCount );
-							final List<JdbcParametersList> jdbcParamBinds = jdbcParamMap.get( expansionSqmParam );
-							for ( int i = 0; i < jdbcParamBinds.size(); i++ ) {
-								JdbcParametersList expansionJdbcParams = jdbcParamBinds.get( i );
-								createValueBindings(
-										jdbcParameterBindings,
-										queryParam,
-										domainParamBinding,
-										parameterType,
-										expansionJdbcParams,
-										expandedValue,
-										tableGroupLocator,
-										session
-								);
-							}
+					for ( SqmParameter<?> expansionSqmParam : expansions ) {
+						final int valueIndex = domainParameterXref.getExpansionValueIndex( expansionSqmParam );
+						final Object expandedValue = bindValues[Math.min( valueIndex, bindValues.length - 1 )];
+						final List<JdbcParametersList> jdbcParamBinds = jdbcParamMap.get( expansionSqmParam );
+						for ( int i = 0; i < jdbcParamBinds.size(); i++ ) {
+							JdbcParametersList expansionJdbcParams = jdbcParamBinds.get( i );
+							createValueBindings(
+									jdbcParameterBindings,
+									queryParam,
+									domainParamBinding,
+									parameterType,
+									expansionJdbcParams,
+									expandedValue,
+									tableGroupLocator,
+									session
+							);
 						}
-						expansionPosition++;
 					}
 				}
 				else if ( domainParamBinding.getBindValue() == null ) {
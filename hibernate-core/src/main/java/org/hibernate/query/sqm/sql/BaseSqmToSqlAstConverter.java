@@ -13,6 +13,7 @@ import org.hibernate.HibernateException;
 import org.hibernate.Internal;
 import org.hibernate.LockMode;
 import org.hibernate.boot.model.process.internal.InferredBasicValueResolver;
+import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.dialect.function.TimestampaddFunction;
 import org.hibernate.dialect.function.TimestampdiffFunction;
@@ -426,6 +427,7 @@ import java.util.function.Supplier;
 import static java.util.Collections.singletonList;
 import static org.hibernate.generator.EventType.INSERT;
 import static org.hibernate.internal.util.NullnessHelper.coalesceSuppliedValues;
+import static org.hibernate.query.sql.internal.NativeQueryImpl.determineBindValueMaxCount;
 import static org.hibernate.query.sqm.BinaryArithmeticOperator.ADD;
 import static org.hibernate.query.sqm.BinaryArithmeticOperator.MULTIPLY;
 import static org.hibernate.query.sqm.BinaryArithmeticOperator.SUBTRACT;
@@ -5730,17 +5732,16 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 
 			final Collection<?> bindValues = domainParamBinding.getBindValues();
 			final List<Expression> expressions = new ArrayList<>( bindValues.size() );
-			boolean first = true;
-			for ( Object bindValue : bindValues ) {
+			domainParameterXref.requireExactCardinalities();
+			for ( int i = 0; i < bindValues.size(); i++ ) {
 				final SqmParameter<?> sqmParamToConsume;
 				// for each bind value create an "expansion"
-				if ( first ) {
+				if ( i == 0 ) {
 					sqmParamToConsume = sqmParameter;
-					first = false;
 				}
 				else {
 					sqmParamToConsume = sqmParameter.copy();
-					domainParameterXref.addExpansion( domainParam, sqmParameter, sqmParamToConsume );
+					domainParameterXref.addExpansion( domainParam, sqmParameter, sqmParamToConsume, i );
 				}
 				expressions.add( consumeSingleSqmParameter( sqmParamToConsume ) );
 			}
@@ -7922,13 +7923,14 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 		);
 
 		try {
+			final int bindValueCount = domainParamBinding.getBindValues().size();
+			final int expansionCount = determineInListExpansionCount( bindValueCount );
 			inListPredicate.addExpression( consumeSingleSqmParameter( sqmParameter ) );
-			iterator.next();
-			while ( iterator.hasNext() ) {
-				iterator.next();
-				// for each bind value create an "expansion"
+			for ( int i = 1; i < expansionCount; i++ ) {
+				// for each bind value create an "expansion", and pad the list by
+				// creating more which repeat the last bind value
 				final SqmParameter<?> sqmParamToConsume = sqmParameter.copy();
-				domainParameterXref.addExpansion( domainParam, sqmParameter, sqmParamToConsume );
+				domainParameterXref.addExpansion( domainParam, sqmParameter, sqmParamToConsume, i );
 				inListPredicate.addExpression( consumeSingleSqmParameter( sqmParamToConsume ) );
 			}
 			return inListPredicate;
@@ -7938,6 +7940,31 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 		}
 	}
 
+	/**
+	 * The number of parameters to which a multi-valued parameter of an {@code IN} list is
+	 * expanded: when {@value org.hibernate.cfg.AvailableSettings#IN_CLAUSE_PARAMETER_PADDING}
+	 * is enabled, the list is padded here rather than when rendering the SQL, so that the
+	 * translation may be reused for any number of bind values with the same padded size.
+	 * The padded size is determined exactly as for native queries, and is also the size
+	 * by which {@link org.hibernate.query.sqm.internal.ConcreteSqmSelectQueryPlan} caches
+	 * the translation.
+	 */
+	private int determineInListExpansionCount(int bindValueCount) {
+		final SessionFactoryOptions options = creationContext.getSessionFactory().getSessionFactoryOptions();
+		if ( options.inClauseParameterPaddingEnabled() ) {
+			return determineBindValueMaxCount(
+					true,
+					options.getInClauseParameterPaddingBuckets(),
+					getDialect().getInExpressionCountLimit(),
+					bindValueCount
+			);
+		}
+		if ( bindValueCount > 1 ) {
+			domainParameterXref.requireExactCardinalities();
+		}
+		return bindValueCount;
+	}
+
 	@Override
 	public InSubQueryPredicate visitInSubQueryPredicate(SqmInSubQueryPredicate<?> predicate) {
 		return new InSubQueryPredicate(
@@ -8548,17 +8575,16 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 		final int bindValuesSize = bindValues.size();
 		final List<Expression> result = new ArrayList<>( bindValuesSize );
 
-		boolean first = true;
+		domainParameterXref.requireExactCardinalities();
 		for ( int i = 0; i < bindValuesSize; i++ ) {
 			final SqmParameter<?> sqmParamToConsume;
 			// for each bind value create an "expansion"
-			if ( first ) {
+			if ( i == 0 ) {
 				sqmParamToConsume = sqmParameter;
-				first = false;
 			}
 			else {
 				sqmParamToConsume = sqmParameter.copy();
-				domainParameterXref.addExpansion( domainParam, sqmParameter, sqmParamToConsume );
+				domainParameterXref.addExpansion( domainParam, sqmParameter, sqmParamToConsume, i );
 			}
 			final Expression expression = consumeSingleSqmParameter( sqmParamToConsume );
 			result.add( expression );
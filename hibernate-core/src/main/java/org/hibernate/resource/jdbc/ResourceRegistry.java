@@ -9,6 +9,7 @@ package org.hibernate.resource.jdbc;
 import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.NClob;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.Statement;
 
@@ -43,6 +44,35 @@ public interface ResourceRegistry {
 	 */
 	void release(Statement statement);
 
+	/**
+	 * Register a JDBC statement which, when released, may be kept open
+	 * and later {@linkplain #reuseStatement reused} to execute the same
+	 * SQL with the same result set options, instead of being closed.
+	 *
+	 * @param statement The statement to register.
+	 * @param sql The SQL the statement was prepared with.
+	 * @param resultSetType The result set type the statement was prepared with.
+	 * @param resultSetConcurrency The result set concurrency the statement was prepared with.
+	 *
+	 * @since 6.5
+	 */
+	default void registerReusable(PreparedStatement statement, String sql, int resultSetType, int resultSetConcurrency) {
+		register( statement, true );
+	}
+
+	/**
+	 * Obtain a released, but still open, {@linkplain #registerReusable reusable}
+	 * statement prepared with the given SQL and result set options, registering
+	 * it again.
+	 *
+	 * @return The statement, or {@code null} if there is no such statement.
+	 *
+	 * @since 6.5
+	 */
+	default PreparedStatement reuseStatement(String sql, int resultSetType, int resultSetConcurrency) {
+		return null;
+	}
+
 	/**
 	 * Register a JDBC result set.
 	 * <p>
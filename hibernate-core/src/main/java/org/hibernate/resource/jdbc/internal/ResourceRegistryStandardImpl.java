@@ -9,11 +9,16 @@ package org.hibernate.resource.jdbc.internal;
 import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.NClob;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
 
 import org.hibernate.HibernateException;
 import org.hibernate.JDBCException;
@@ -33,6 +38,12 @@ import org.hibernate.resource.jdbc.spi.JdbcObserver;
  * Iterators on HashMap and ArrayList, but not on HashSet (at least on JDK8 and 11).
  * Therefore some types which should ideally be modelled as a Set have
  * been implemented using HashMap.
+ * <p>
+ * When a statement cache size is given, {@linkplain #registerReusable reusable}
+ * statements are not closed when released, but cleaned and kept, up to that
+ * number, in least-recently-released order, to be {@linkplain #reuseStatement
+ * reused}.  Kept statements are closed by {@link #releaseResources()}, that is,
+ * at the latest when the physical connection is released.
  *
  * @author Steve Ebersole
  * @author Sanne Grinovero
@@ -60,12 +71,21 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 
 	private Statement lastQuery;
 
+	private final int statementCacheSize;
+	private HashMap<Statement, ReusableStatement> reusableStatements;
+	private LinkedHashMap<StatementKey, PreparedStatement> idleStatements;
+
 	public ResourceRegistryStandardImpl() {
 		this( null );
 	}
 
 	public ResourceRegistryStandardImpl(JdbcObserver jdbcObserver) {
+		this( jdbcObserver, 0 );
+	}
+
+	public ResourceRegistryStandardImpl(JdbcObserver jdbcObserver, int statementCacheSize) {
 		this.jdbcObserver = jdbcObserver;
+		this.statementCacheSize = Math.max( 0, statementCacheSize );
 	}
 
 	@Override
@@ -91,6 +111,47 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 		}
 	}
 
+	@Override
+	public void registerReusable(PreparedStatement statement, String sql, int resultSetType, int resultSetConcurrency) {
+		register( statement, true );
+
+		if ( statementCacheSize > 0 ) {
+			final int fetchSize;
+			try {
+				fetchSize = statement.getFetchSize();
+			}
+			catch (SQLException e) {
+				log.debugf( "Unable to determine fetch size of JDBC statement [%s]", e.getMessage() );
+				return;
+			}
+			if ( reusableStatements == null ) {
+				reusableStatements = new HashMap<>();
+				idleStatements = new LinkedHashMap<>( statementCacheSize + 1, 0.75f );
+			}
+			reusableStatements.put(
+					statement,
+					new ReusableStatement( new StatementKey( sql, resultSetType, resultSetConcurrency ), fetchSize )
+			);
+		}
+	}
+
+	@Override
+	public PreparedStatement reuseStatement(String sql, int resultSetType, int resultSetConcurrency) {
+		if ( idleStatements == null || idleStatements.isEmpty() ) {
+			return null;
+		}
+
+		final PreparedStatement statement =
+				idleStatements.remove( new StatementKey( sql, resultSetType, resultSetConcurrency ) );
+		if ( statement == null ) {
+			return null;
+		}
+
+		log.tracef( "Reusing statement [%s]", statement );
+		register( statement, true );
+		return statement;
+	}
+
 	@Override
 	public void release(Statement statement) {
 		log.tracev( "Releasing statement [{0}]", statement );
@@ -105,13 +166,67 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 			log.unregisteredStatement();
 		}
 
-		close( statement );
+		if ( resultSets == null || !keepIdle( statement ) ) {
+			if ( reusableStatements != null ) {
+				final ReusableStatement reusableStatement = reusableStatements.remove( statement );
+				if ( reusableStatement != null ) {
+					idleStatements.remove( reusableStatement.key, statement );
+				}
+			}
+			close( statement );
+		}
 
 		if ( lastQuery == statement ) {
 			lastQuery = null;
 		}
 	}
 
+	/**
+	 * Clean a released reusable statement, and keep it for reuse, closing
+	 * the least recently released statement if there are too many.
+	 *
+	 * @return {@code false} if the statement should be closed
+	 */
+	private boolean keepIdle(Statement statement) {
+		if ( reusableStatements == null ) {
+			return false;
+		}
+		final ReusableStatement reusableStatement = reusableStatements.get( statement );
+		if ( reusableStatement == null || idleStatements.containsKey( reusableStatement.key ) ) {
+			return false;
+		}
+
+		final PreparedStatement preparedStatement = (PreparedStatement) statement;
+		try {
+			preparedStatement.clearParameters();
+			preparedStatement.clearWarnings();
+			if ( preparedStatement.getMaxRows() != 0 ) {
+				preparedStatement.setMaxRows( 0 );
+			}
+			if ( preparedStatement.getQueryTimeout() != 0 ) {
+				preparedStatement.setQueryTimeout( 0 );
+			}
+			if ( preparedStatement.getFetchSize() != reusableStatement.fetchSize ) {
+				preparedStatement.setFetchSize( reusableStatement.fetchSize );
+			}
+		}
+		catch (SQLException e) {
+			log.debugf( "Unable to clean JDBC statement for reuse [%s]", e.getMessage() );
+			return false;
+		}
+
+		log.tracef( "Keeping statement [%s] for reuse", statement );
+		idleStatements.put( reusableStatement.key, preparedStatement );
+		if ( idleStatements.size() > statementCacheSize ) {
+			final Iterator<Map.Entry<StatementKey, PreparedStatement>> iterator = idleStatements.entrySet().iterator();
+			final PreparedStatement eldest = iterator.next().getValue();
+			iterator.remove();
+			reusableStatements.remove( eldest );
+			close( eldest );
+		}
+		return true;
+	}
+
 	@Override
 	public void release(ResultSet resultSet, Statement statement) {
 		log.tracef( "Releasing result set [%s]", resultSet );
@@ -337,6 +452,12 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 
 		closeAll( unassociatedResultSets );
 
+		if ( idleStatements != null ) {
+			idleStatements.forEach( (key, statement) -> close( statement ) );
+			idleStatements.clear();
+			reusableStatements.clear();
+		}
+
 		if ( blobs != null ) {
 			blobs.forEach( blob -> {
 				try {
@@ -382,4 +503,45 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 	private boolean hasRegistered(final ArrayList resource) {
 		return resource != null && !resource.isEmpty();
 	}
+
+	private static final class StatementKey {
+		private final String sql;
+		private final int resultSetType;
+		private final int resultSetConcurrency;
+
+		private StatementKey(String sql, int resultSetType, int resultSetConcurrency) {
+			this.sql = sql;
+			this.resultSetType = resultSetType;
+			this.resultSetConcurrency = resultSetConcurrency;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( !( o instanceof StatementKey ) ) {
+				return false;
+			}
+			final StatementKey that = (StatementKey) o;
+			return resultSetType == that.resultSetType
+					&& resultSetConcurrency == that.resultSetConcurrency
+					&& sql.equals( that.sql );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( sql, resultSetType, resultSetConcurrency );
+		}
+	}
+
+	private static final class ReusableStatement {
+		private final StatementKey key;
+		private final int fetchSize;
+
+		private ReusableStatement(StatementKey key, int fetchSize) {
+			this.key = key;
+			this.fetchSize = fetchSize;
+		}
+	}
 }
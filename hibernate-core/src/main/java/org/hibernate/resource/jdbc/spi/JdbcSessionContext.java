@@ -40,6 +40,18 @@ public interface JdbcSessionContext {
 	@Deprecated(since = "6.2", forRemoval = true)
 	int getFetchSize();
 
+	/**
+	 * The maximum number of idle prepared statements kept open for reuse,
+	 * or {@code 0} if statements are not reused.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE
+	 *
+	 * @since 6.5
+	 */
+	default int getStatementCacheSize() {
+		return 0;
+	}
+
 	/**
 	 * @see org.hibernate.cfg.AvailableSettings#CONNECTION_PROVIDER_DISABLES_AUTOCOMMIT
 	 */
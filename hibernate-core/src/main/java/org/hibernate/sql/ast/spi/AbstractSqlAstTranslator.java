@@ -28,6 +28,7 @@ import org.hibernate.Internal;
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
 import org.hibernate.QueryException;
+import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.dialect.DmlTargetColumnQualifierSupport;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.dialect.RowLockStrategy;
@@ -7608,8 +7609,13 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 
 		int inExprLimit = dialect.getInExpressionCountLimit();
 
-		if ( getSessionFactory().getSessionFactoryOptions().inClauseParameterPaddingEnabled() ) {
-			bindValueCountWithPadding = addPadding( bindValueCount, inExprLimit );
+		final SessionFactoryOptions options = getSessionFactory().getSessionFactoryOptions();
+		if ( options.inClauseParameterPaddingEnabled() ) {
+			bindValueCountWithPadding = addPadding(
+					bindValueCount,
+					inExprLimit,
+					options.getInClauseParameterPaddingBuckets()
+			);
 		}
 
 		final boolean parenthesis = !inListPredicate.isNegated()
@@ -7671,10 +7677,10 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 		appendSql( OPEN_PARENTHESIS );
 	}
 
-	private static int addPadding(int bindValueCount, int inExprLimit) {
-		int ceilingPowerOfTwo = MathHelper.ceilingPowerOfTwo( bindValueCount );
-		if ( inExprLimit <= 0 || ceilingPowerOfTwo <= inExprLimit ) {
-			return ceilingPowerOfTwo;
+	private static int addPadding(int bindValueCount, int inExprLimit, int[] buckets) {
+		int ceilingBucket = MathHelper.ceilingBucket( bindValueCount, buckets );
+		if ( inExprLimit <= 0 || ceilingBucket <= inExprLimit ) {
+			return ceilingBucket;
 		}
 
 		int numberOfInClauses = MathHelper.divideRoundingUp( bindValueCount, inExprLimit );
@@ -55,6 +55,7 @@ public class JdbcParameterBindingsImpl implements JdbcParameterBindings {
 
 			final Dialect dialect = factory.getJdbcServices().getDialect();
 			final boolean paddingEnabled = factory.getSessionFactoryOptions().inClauseParameterPaddingEnabled();
+			final int[] paddingBuckets = factory.getSessionFactoryOptions().getInClauseParameterPaddingBuckets();
 			final int inExprLimit = dialect.getParameterCountLimit();
 
 			for ( ParameterOccurrence occurrence : parameterOccurrences ) {
@@ -86,6 +87,7 @@ public class JdbcParameterBindingsImpl implements JdbcParameterBindings {
 					final int bindValueCount = bindValues.size();
 					final int bindValueMaxCount = NativeQueryImpl.determineBindValueMaxCount(
 							paddingEnabled,
+							paddingBuckets,
 							inExprLimit,
 							bindValueCount
 					);
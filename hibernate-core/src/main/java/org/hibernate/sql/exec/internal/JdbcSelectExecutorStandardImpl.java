@@ -279,6 +279,7 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 					// todo (6.0) : `querySpaces` and `session` make perfect sense as args, but its odd passing those into this method just to pass along
 					//		atm we do not even collect querySpaces, but we need to
 					querySpaces,
+					queryIdentifier,
 					session
 			);
 
@@ -911,7 +911,15 @@ public abstract class AbstractEntityInitializer extends AbstractFetchParentAcces
 		// No need to put into the entity cache if this is coming from the query cache already
 		final EntityDataAccess cacheAccess = concreteDescriptor.getCacheAccessStrategy();
 		if ( !rowProcessingState.isQueryCacheHit() && cacheAccess != null && session.getCacheMode().isPutEnabled() ) {
-			putInCache( toInitialize, session, persistenceContext, entityIdentifier, version, cacheAccess );
+			putInCache(
+					toInitialize,
+					rowProcessingState.getJdbcValuesSourceProcessingState(),
+					session,
+					persistenceContext,
+					entityIdentifier,
+					version,
+					cacheAccess
+			);
 		}
 	}
 
@@ -962,6 +970,7 @@ public abstract class AbstractEntityInitializer extends AbstractFetchParentAcces
 
 	private void putInCache(
 			Object toInitialize,
+			JdbcValuesSourceProcessingState processingState,
 			SharedSessionContractImplementor session,
 			PersistenceContext persistenceContext,
 			Object entityIdentifier,
@@ -1015,7 +1024,12 @@ public abstract class AbstractEntityInitializer extends AbstractFetchParentAcces
 				);
 			}
 		}
-		else {
+		else if ( !processingState.registerEntityCachePut(
+				rootEntityDescriptor,
+				cacheKey,
+				concreteDescriptor.getCacheEntryStructure().structure( cacheEntry ),
+				version
+		) ) {
 			final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
 			boolean put = false;
 			final HibernateMonitoringEvent cachePutEvent = eventManager.beginCachePutEvent();
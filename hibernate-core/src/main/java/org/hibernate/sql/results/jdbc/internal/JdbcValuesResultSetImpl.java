@@ -29,6 +29,7 @@ import org.hibernate.sql.results.caching.internal.QueryCachePutManagerEnabledImp
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMetadata;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+import org.hibernate.type.descriptor.JdbcExtractingLogging;
 
 /**
  * {@link AbstractJdbcValues} implementation for a JDBC {@link ResultSet} as the source
@@ -43,6 +44,7 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 	private final ExecutionContext executionContext;
 
 	private final SqlSelection[] sqlSelections;
+	private final NumericColumnReader[] numericColumnReaders;
 	private final BitSet initializedIndexes;
 	private final Object[] currentRowJdbcValues;
 
@@ -70,10 +72,32 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 		for ( SqlSelection selection : valuesMapping.getSqlSelections() ) {
 			this.sqlSelections[selection.getValuesArrayPosition()] = selection;
 		}
+		this.numericColumnReaders = resolveNumericColumnReaders( sqlSelections );
 		this.initializedIndexes = new BitSet( rowSize );
 		this.currentRowJdbcValues = new Object[rowSize];
 	}
 
+	private static NumericColumnReader[] resolveNumericColumnReaders(SqlSelection[] sqlSelections) {
+		if ( JdbcExtractingLogging.LOGGER.isTraceEnabled() ) {
+			// the extractors log the extracted values
+			return null;
+		}
+		NumericColumnReader[] readers = null;
+		for ( int i = 0; i < sqlSelections.length; i++ ) {
+			final SqlSelection sqlSelection = sqlSelections[i];
+			if ( sqlSelection != null ) {
+				final NumericColumnReader reader = NumericColumnReader.from( sqlSelection.getJdbcValueExtractor() );
+				if ( reader != null ) {
+					if ( readers == null ) {
+						readers = new NumericColumnReader[sqlSelections.length];
+					}
+					readers[i] = reader;
+				}
+			}
+		}
+		return readers;
+	}
+
 	private static QueryCachePutManager resolveQueryCachePutManager(
 			ExecutionContext executionContext,
 			QueryOptions queryOptions,
@@ -308,11 +332,18 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 			initializedIndexes.set( valueIndex );
 			final SqlSelection sqlSelection = sqlSelections[valueIndex];
 			try {
-				currentRowJdbcValues[valueIndex] = sqlSelection.getJdbcValueExtractor().extract(
-						resultSetAccess.getResultSet(),
-						sqlSelection.getJdbcResultSetIndex(),
-						executionContext.getSession()
-				);
+				final NumericColumnReader numericColumnReader =
+						numericColumnReaders == null ? null : numericColumnReaders[valueIndex];
+				currentRowJdbcValues[valueIndex] = numericColumnReader == null
+						? sqlSelection.getJdbcValueExtractor().extract(
+								resultSetAccess.getResultSet(),
+								sqlSelection.getJdbcResultSetIndex(),
+								executionContext.getSession()
+						)
+						: numericColumnReader.read(
+								resultSetAccess.getResultSet(),
+								sqlSelection.getJdbcResultSetIndex()
+						);
 			}
 			catch ( SQLException e ) {
 				// do not want to wrap in ExecutionException here
@@ -8,19 +8,25 @@ package org.hibernate.sql.results.jdbc.internal;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
 
+import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.engine.spi.CollectionKey;
 import org.hibernate.engine.spi.EntityHolder;
 import org.hibernate.engine.spi.EntityUniqueKey;
+import org.hibernate.engine.spi.SessionEventListenerManager;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventManager;
 import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.event.spi.PostLoadEvent;
 import org.hibernate.event.spi.PreLoadEvent;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.results.graph.Initializer;
@@ -29,6 +35,7 @@ import org.hibernate.sql.results.graph.collection.LoadingCollectionEntry;
 import org.hibernate.sql.results.graph.collection.internal.ArrayInitializer;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingState;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 /**
  * @author Steve Ebersole
@@ -45,6 +52,7 @@ public class JdbcValuesSourceProcessingStateStandardImpl implements JdbcValuesSo
 	private Map<EntityUniqueKey, Initializer> initializerByUniquKeyMap;
 	private Map<CollectionKey, LoadingCollectionEntry> loadingCollectionMap;
 	private List<CollectionInitializer> arrayInitializers;
+	private Map<EntityPersister, EntityCachePuts> entityCachePuts;
 
 	private final PreLoadEvent preLoadEvent;
 	private final PostLoadEvent postLoadEvent;
@@ -159,11 +167,28 @@ public class JdbcValuesSourceProcessingStateStandardImpl implements JdbcValuesSo
 		return executionContext.getSession();
 	}
 
+	@Override
+	public boolean registerEntityCachePut(
+			EntityPersister rootEntityDescriptor,
+			Object cacheKey,
+			Object cacheEntry,
+			Object version) {
+		if ( entityCachePuts == null ) {
+			entityCachePuts = new IdentityHashMap<>();
+		}
+		entityCachePuts.computeIfAbsent( rootEntityDescriptor, persister -> new EntityCachePuts() )
+				.add( cacheKey, cacheEntry, version );
+		return true;
+	}
+
 	@Override
 	public void finishUp(boolean registerSubselects) {
 		// now we can finalize loading collections
 		finishLoadingCollections();
 
+		// and put the loaded entities into the second-level cache
+		putEntitiesInCache();
+
 		final Consumer<EntityHolder> holderConsumer;
 		if ( registerSubselects ) {
 			holderConsumer = executionContext::registerLoadingEntityHolder;
@@ -188,6 +213,16 @@ public class JdbcValuesSourceProcessingStateStandardImpl implements JdbcValuesSo
 	}
 
 
+	private void putEntitiesInCache() {
+		if ( entityCachePuts != null ) {
+			final SharedSessionContractImplementor session = getSession();
+			for ( Map.Entry<EntityPersister, EntityCachePuts> entry : entityCachePuts.entrySet() ) {
+				entry.getValue().putInCache( entry.getKey(), session );
+			}
+			entityCachePuts = null;
+		}
+	}
+
 	private void finishLoadingCollections() {
 		if ( loadingCollectionMap != null ) {
 			for ( LoadingCollectionEntry loadingCollectionEntry : loadingCollectionMap.values() ) {
@@ -198,4 +233,55 @@ public class JdbcValuesSourceProcessingStateStandardImpl implements JdbcValuesSo
 		}
 	}
 
+	/**
+	 * The cache entries of the loaded entities of a hierarchy
+	 */
+	private static class EntityCachePuts {
+		private final List<Object> cacheKeys = new ArrayList<>();
+		private final List<Object> cacheEntries = new ArrayList<>();
+		private final List<Object> versions = new ArrayList<>();
+
+		private void add(Object cacheKey, Object cacheEntry, Object version) {
+			cacheKeys.add( cacheKey );
+			cacheEntries.add( cacheEntry );
+			versions.add( version );
+		}
+
+		private void putInCache(EntityPersister rootEntityDescriptor, SharedSessionContractImplementor session) {
+			final EntityDataAccess cacheAccess = rootEntityDescriptor.getCacheAccessStrategy();
+			final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
+			final EventManager eventManager = session.getEventManager();
+			int puts = 0;
+			final HibernateMonitoringEvent cachePutEvent = eventManager.beginCachePutEvent();
+			try {
+				eventListenerManager.cachePutStart();
+				puts = cacheAccess.putAllFromLoad(
+						session,
+						cacheKeys.toArray(),
+						cacheEntries.toArray(),
+						versions.toArray()
+				);
+			}
+			finally {
+				eventManager.completeCachePutEvent(
+						cachePutEvent,
+						session,
+						cacheAccess,
+						rootEntityDescriptor,
+						puts > 0,
+						EventManager.CacheActionDescription.ENTITY_LOAD
+				);
+				final StatisticsImplementor statistics = session.getFactory().getStatistics();
+				if ( statistics.isStatisticsEnabled() ) {
+					for ( int i = 0; i < puts; i++ ) {
+						statistics.entityCachePut(
+								rootEntityDescriptor.getNavigableRole(),
+								cacheAccess.getRegion().getName()
+						);
+					}
+				}
+				eventListenerManager.cachePutEnd();
+			}
+		}
+	}
 }
@@ -0,0 +1,180 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.results.jdbc.internal;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.hibernate.type.descriptor.ValueExtractor;
+import org.hibernate.type.descriptor.java.ByteJavaType;
+import org.hibernate.type.descriptor.java.DoubleJavaType;
+import org.hibernate.type.descriptor.java.FloatJavaType;
+import org.hibernate.type.descriptor.java.IntegerJavaType;
+import org.hibernate.type.descriptor.java.JavaType;
+import org.hibernate.type.descriptor.java.LongJavaType;
+import org.hibernate.type.descriptor.java.ShortJavaType;
+import org.hibernate.type.descriptor.jdbc.BasicExtractor;
+import org.hibernate.type.descriptor.jdbc.BigIntJdbcType;
+import org.hibernate.type.descriptor.jdbc.DoubleJdbcType;
+import org.hibernate.type.descriptor.jdbc.FloatJdbcType;
+import org.hibernate.type.descriptor.jdbc.IntegerJdbcType;
+import org.hibernate.type.descriptor.jdbc.JdbcType;
+import org.hibernate.type.descriptor.jdbc.RealJdbcType;
+import org.hibernate.type.descriptor.jdbc.SmallIntJdbcType;
+import org.hibernate.type.descriptor.jdbc.TinyIntJdbcType;
+
+/**
+ * Reads the value of a numeric column of a {@link ResultSet} as a primitive, and
+ * boxes it directly into the Java type of the selection.
+ * <p>
+ * The {@link BasicExtractor} of the column boxes the value read from JDBC before
+ * {@linkplain org.hibernate.type.descriptor.java.JavaType#wrap wrapping} it into
+ * the Java type, which allocates a second box whenever the JDBC type and the Java
+ * type differ, for example for an {@code INTEGER} column mapped to a {@code Long}.
+ * The value produced by this reader is the same as the value produced by the
+ * extractor.
+ */
+final class NumericColumnReader {
+	private enum JdbcRead {
+		LONG, INT, SHORT, BYTE, DOUBLE, FLOAT
+	}
+
+	private enum Box {
+		LONG, INTEGER, SHORT, BYTE, DOUBLE, FLOAT
+	}
+
+	private final JdbcRead jdbcRead;
+	private final Box box;
+
+	private NumericColumnReader(JdbcRead jdbcRead, Box box) {
+		this.jdbcRead = jdbcRead;
+		this.box = box;
+	}
+
+	/**
+	 * A reader equivalent to the given extractor, or {@code null} if the extractor
+	 * does not read a standard numeric JDBC type into a standard numeric Java type.
+	 */
+	static NumericColumnReader from(ValueExtractor<?> extractor) {
+		if ( !( extractor instanceof BasicExtractor ) ) {
+			return null;
+		}
+		final BasicExtractor<?> basicExtractor = (BasicExtractor<?>) extractor;
+		final JdbcRead jdbcRead = jdbcRead( basicExtractor.getJdbcType() );
+		final Box box = box( basicExtractor.getJavaType() );
+		return jdbcRead == null || box == null ? null : new NumericColumnReader( jdbcRead, box );
+	}
+
+	private static JdbcRead jdbcRead(JdbcType jdbcType) {
+		// exact types only, since subclasses may extract differently
+		final Class<?> jdbcTypeClass = jdbcType.getClass();
+		if ( jdbcTypeClass == BigIntJdbcType.class ) {
+			return JdbcRead.LONG;
+		}
+		else if ( jdbcTypeClass == IntegerJdbcType.class ) {
+			return JdbcRead.INT;
+		}
+		else if ( jdbcTypeClass == SmallIntJdbcType.class ) {
+			return JdbcRead.SHORT;
+		}
+		else if ( jdbcTypeClass == TinyIntJdbcType.class ) {
+			return JdbcRead.BYTE;
+		}
+		else if ( jdbcTypeClass == DoubleJdbcType.class ) {
+			return JdbcRead.DOUBLE;
+		}
+		else if ( jdbcTypeClass == FloatJdbcType.class || jdbcTypeClass == RealJdbcType.class ) {
+			return JdbcRead.FLOAT;
+		}
+		else {
+			return null;
+		}
+	}
+
+	private static Box box(JavaType<?> javaType) {
+		// exact types only, since custom Java types may wrap differently
+		final Class<?> javaTypeClass = javaType.getClass();
+		if ( javaTypeClass == LongJavaType.class ) {
+			return Box.LONG;
+		}
+		else if ( javaTypeClass == IntegerJavaType.class ) {
+			return Box.INTEGER;
+		}
+		else if ( javaTypeClass == ShortJavaType.class ) {
+			return Box.SHORT;
+		}
+		else if ( javaTypeClass == ByteJavaType.class ) {
+			return Box.BYTE;
+		}
+		else if ( javaTypeClass == DoubleJavaType.class ) {
+			return Box.DOUBLE;
+		}
+		else if ( javaTypeClass == FloatJavaType.class ) {
+			return Box.FLOAT;
+		}
+		else {
+			return null;
+		}
+	}
+
+	Object read(ResultSet resultSet, int position) throws SQLException {
+		switch ( jdbcRead ) {
+			case DOUBLE:
+				return boxFloatingPoint( resultSet.getDouble( position ), resultSet );
+			case FLOAT:
+				return boxFloatingPoint( resultSet.getFloat( position ), resultSet );
+			case INT:
+				return boxIntegral( resultSet.getInt( position ), resultSet );
+			case SHORT:
+				return boxIntegral( resultSet.getShort( position ), resultSet );
+			case BYTE:
+				return boxIntegral( resultSet.getByte( position ), resultSet );
+			default:
+				return boxIntegral( resultSet.getLong( position ), resultSet );
+		}
+	}
+
+	private Object boxIntegral(long value, ResultSet resultSet) throws SQLException {
+		if ( resultSet.wasNull() ) {
+			return null;
+		}
+		switch ( box ) {
+			case INTEGER:
+				return (int) value;
+			case SHORT:
+				return (short) value;
+			case BYTE:
+				return (byte) value;
+			case DOUBLE:
+				return (double) value;
+			case FLOAT:
+				return (float) value;
+			default:
+				return value;
+		}
+	}
+
+	private Object boxFloatingPoint(double value, ResultSet resultSet) throws SQLException {
+		if ( resultSet.wasNull() ) {
+			return null;
+		}
+		switch ( box ) {
+			case LONG:
+				return (long) value;
+			case INTEGER:
+				return (int) value;
+			case SHORT:
+				return (short) value;
+			case BYTE:
+				return (byte) value;
+			case FLOAT:
+				return (float) value;
+			default:
+				return value;
+		}
+	}
+}
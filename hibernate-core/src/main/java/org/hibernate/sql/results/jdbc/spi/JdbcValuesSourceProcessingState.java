@@ -14,6 +14,7 @@ import org.hibernate.engine.spi.EntityUniqueKey;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.event.spi.PostLoadEvent;
 import org.hibernate.event.spi.PreLoadEvent;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.sql.results.graph.Initializer;
 import org.hibernate.sql.results.spi.LoadContexts;
 import org.hibernate.sql.results.graph.collection.LoadingCollectionEntry;
@@ -70,5 +71,30 @@ public interface JdbcValuesSourceProcessingState {
 			CollectionKey collectionKey,
 			LoadingCollectionEntry loadingCollectionEntry);
 
+	/**
+	 * Registers the cache entry of an entity loaded by this context, to be put
+	 * into the second-level cache along with the other loaded entities of the
+	 * same hierarchy, using a single {@linkplain
+	 * org.hibernate.cache.spi.access.CachedDomainDataAccess#putAllFromLoad bulk put},
+	 * when this context {@linkplain #finishUp finishes up}.
+	 *
+	 * @param rootEntityDescriptor The root entity persister of the loaded entity
+	 * @param cacheKey The cache key of the entity
+	 * @param cacheEntry The structured cache entry of the entity
+	 * @param version The version of the entity
+	 *
+	 * @return {@code false} if this context does not batch cache puts, in which
+	 * case the entry must be put into the cache by the caller
+	 *
+	 * @since 6.5
+	 */
+	default boolean registerEntityCachePut(
+			EntityPersister rootEntityDescriptor,
+			Object cacheKey,
+			Object cacheEntry,
+			Object version) {
+		return false;
+	}
+
 	void finishUp(boolean registerSubselects);
 }
@@ -0,0 +1,76 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat;
+
+import java.io.Serializable;
+
+/**
+ * Statistics of one of the maps making up the
+ * {@linkplain org.hibernate.query.spi.QueryInterpretationCache query interpretation cache}.
+ *
+ * @see Statistics#getQueryInterpretationCacheStatistics(String)
+ *
+ * @since 6.5
+ */
+public interface QueryInterpretationCacheStatistics extends Serializable {
+	/**
+	 * The name of the map of parsed HQL and criteria queries.
+	 */
+	String HQL_INTERPRETATIONS = "hql-interpretations";
+
+	/**
+	 * The name of the map of select query plans.
+	 */
+	String SELECT_QUERY_PLANS = "select-query-plans";
+
+	/**
+	 * The name of the map of native query parameter interpretations.
+	 */
+	String NATIVE_QUERY_PARAMETERS = "native-query-parameters";
+
+	/**
+	 * The name of the translations to SQL memoized by each select query plan,
+	 * one for each combination of list parameter sizes, limit, offset and lock
+	 * options the plan was executed with. A miss means the SQL AST had to be
+	 * translated again.
+	 */
+	String SQL_TRANSLATIONS = "sql-translations";
+
+	/**
+	 * The name of the map, one of {@link #HQL_INTERPRETATIONS},
+	 * {@link #SELECT_QUERY_PLANS}, {@link #NATIVE_QUERY_PARAMETERS}
+	 * or {@link #SQL_TRANSLATIONS}
+	 */
+	String getName();
+
+	/**
+	 * The number of successful look-ups since the last Statistics clearing
+	 */
+	long getHitCount();
+
+	/**
+	 * The number of unsuccessful look-ups since the last Statistics clearing
+	 */
+	long getMissCount();
+
+	/**
+	 * The number of entries evicted, or not admitted, since the last
+	 * Statistics clearing. Only reported by caches configured with the
+	 * {@code tinylfu} {@linkplain org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_EVICTION
+	 * eviction policy}.
+	 */
+	long getEvictionCount();
+
+	/**
+	 * The ratio of hits to look-ups, or {@code 0} if there was no look-up
+	 */
+	default double getHitRatio() {
+		final long hits = getHitCount();
+		final long lookups = hits + getMissCount();
+		return lookups == 0 ? 0 : (double) hits / lookups;
+	}
+}
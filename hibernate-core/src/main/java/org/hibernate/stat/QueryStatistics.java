@@ -71,6 +71,17 @@ public interface QueryStatistics extends Serializable {
 	 */
 	long getCacheMissCount();
 
+	/**
+	 * The number of cache lookups for this query which found
+	 * cached results, but which were stale. These lookups are
+	 * also counted as {@linkplain #getCacheMissCount misses}.
+	 *
+	 * @since 6.5
+	 */
+	default long getCacheStaleCount() {
+		return 0;
+	}
+
 	/**
 	 * The number of cache puts for this query
 	 *
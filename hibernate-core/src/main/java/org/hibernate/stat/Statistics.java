@@ -11,6 +11,8 @@ import java.util.Map;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import static java.util.Collections.emptyMap;
+
 /**
  * Exposes statistics collected from all sessions belonging to a
  * particular {@link org.hibernate.SessionFactory}.
@@ -177,6 +179,17 @@ public interface Statistics {
      */
 	long getQueryCacheMissCount();
 
+	/**
+	 * The global number of cached queries found in the cache, but
+	 * which were stale. These are also counted as
+	 * {@linkplain #getQueryCacheMissCount misses}.
+	 *
+	 * @since 6.5
+	 */
+	default long getQueryCacheStaleCount() {
+		return 0;
+	}
+
     /**
      * The global number of cacheable queries put in cache.
      */
@@ -343,6 +356,20 @@ public interface Statistics {
 	 */
 	Map<String,Long> getSlowQueries();
 
+	/**
+	 * If {@value org.hibernate.cfg.AvailableSettings#ADAPTIVE_BATCH_SIZE_MAX}
+	 * is enabled, a map from the {@linkplain org.hibernate.engine.jdbc.batch.spi.BatchKey
+	 * batch key} to the JDBC batch size most recently chosen for it. Only the most
+	 * recently adapted batch keys are retained, and the map cannot be modified.
+	 *
+	 * @since 6.5
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#ADAPTIVE_BATCH_SIZE_MAX
+	 */
+	default Map<String,Integer> getAdaptiveJdbcBatchSizes() {
+		return emptyMap();
+	}
+
 	/**
 	 * The names of all entities.
 	 */
@@ -395,4 +422,40 @@ public interface Statistics {
 	 * The global number of query plans lookups <em>not</em> found in cache.
 	 */
 	long getQueryPlanCacheMissCount();
+
+	/**
+	 * Hit, miss and eviction counts of one of the maps making up the
+	 * {@linkplain org.hibernate.query.spi.QueryInterpretationCache query
+	 * interpretation cache}.
+	 *
+	 * @param cacheName One of {@link QueryInterpretationCacheStatistics#HQL_INTERPRETATIONS},
+	 * {@link QueryInterpretationCacheStatistics#SELECT_QUERY_PLANS} or
+	 * {@link QueryInterpretationCacheStatistics#NATIVE_QUERY_PARAMETERS}
+	 *
+	 * @since 6.5
+	 */
+	default QueryInterpretationCacheStatistics getQueryInterpretationCacheStatistics(String cacheName) {
+		// for implementations which do not collect them
+		return new QueryInterpretationCacheStatistics() {
+			@Override
+			public String getName() {
+				return cacheName;
+			}
+
+			@Override
+			public long getHitCount() {
+				return 0;
+			}
+
+			@Override
+			public long getMissCount() {
+				return 0;
+			}
+
+			@Override
+			public long getEvictionCount() {
+				return 0;
+			}
+		};
+	}
 }
@@ -0,0 +1,68 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.stat.QueryInterpretationCacheStatistics;
+
+/**
+ * Statistics of one of the maps of the query interpretation cache
+ */
+public class QueryInterpretationCacheStatisticsImpl implements QueryInterpretationCacheStatistics {
+	private final String name;
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder evictionCount = new LongAdder();
+
+	QueryInterpretationCacheStatisticsImpl(String name) {
+		this.name = name;
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	@Override
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	@Override
+	public long getEvictionCount() {
+		return evictionCount.sum();
+	}
+
+	void incrementHitCount() {
+		hitCount.increment();
+	}
+
+	void incrementMissCount() {
+		missCount.increment();
+	}
+
+	void incrementEvictionCount() {
+		evictionCount.increment();
+	}
+
+	@Override
+	public String toString() {
+		return "QueryInterpretationCacheStatistics"
+				+ "[name=" + name
+				+ ",hitCount=" + hitCount
+				+ ",missCount=" + missCount
+				+ ",evictionCount=" + evictionCount
+				+ ']';
+	}
+}
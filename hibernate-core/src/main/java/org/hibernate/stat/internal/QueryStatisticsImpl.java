@@ -27,6 +27,7 @@ public class QueryStatisticsImpl implements QueryStatistics {
 
 	private final LongAdder cacheHitCount = new LongAdder();
 	private final LongAdder cacheMissCount = new LongAdder();
+	private final LongAdder cacheStaleCount = new LongAdder();
 	private final LongAdder cachePutCount = new LongAdder();
 	private final LongAdder executionCount = new LongAdder();
 	private final LongAdder executionRowCount = new LongAdder();
@@ -71,6 +72,11 @@ public class QueryStatisticsImpl implements QueryStatistics {
 		return cacheMissCount.sum();
 	}
 
+	@Override
+	public long getCacheStaleCount() {
+		return cacheStaleCount.sum();
+	}
+
 	/**
 	 * Number of lines returned by all the executions of this query (from DB)
 	 * For now, {@link Query#stream()}}
@@ -195,6 +201,10 @@ public class QueryStatisticsImpl implements QueryStatistics {
 		cacheMissCount.increment();
 	}
 
+	void incrementCacheStaleCount() {
+		cacheStaleCount.increment();
+	}
+
 	void incrementCachePutCount() {
 		cachePutCount.increment();
 	}
@@ -212,6 +222,7 @@ public class QueryStatisticsImpl implements QueryStatistics {
 				+ "[query=" + query
 				+ ",cacheHitCount=" + this.cacheHitCount
 				+ ",cacheMissCount=" + this.cacheMissCount
+				+ ",cacheStaleCount=" + this.cacheStaleCount
 				+ ",cachePutCount=" + this.cachePutCount
 				+ ",planCacheHitCount=" + this.planCacheHitCount
 				+ ",planCacheMissCount=" + this.planCacheMissCount
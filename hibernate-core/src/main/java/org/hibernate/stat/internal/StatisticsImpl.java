@@ -8,6 +8,7 @@ package org.hibernate.stat.internal;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -24,6 +25,7 @@ import org.hibernate.cache.spi.Region;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.NullnessUtil;
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
 import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
 import org.hibernate.persister.entity.EntityPersister;
@@ -35,6 +37,9 @@ import org.checkerframework.checker.initialization.qual.UnknownInitialization;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import static org.hibernate.internal.CoreLogging.messageLogger;
+import static org.hibernate.internal.util.collections.BoundedConcurrentHashMap.Eviction.LRU;
+import static org.hibernate.stat.QueryInterpretationCacheStatistics.HQL_INTERPRETATIONS;
+import static org.hibernate.stat.QueryInterpretationCacheStatistics.SELECT_QUERY_PLANS;
 
 /**
  * Implementation of {@link Statistics} based on the {@link java.util.concurrent} package.
@@ -46,6 +51,8 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 	private static final CoreMessageLogger LOG = messageLogger( StatisticsImpl.class );
 
+	private static final int ADAPTIVE_JDBC_BATCH_SIZES_MAX_SIZE = 1000;
+
 	private final MappingMetamodelImplementor metamodel;
 	private final CacheImplementor cache;
 
@@ -94,6 +101,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 	private volatile @Nullable String queryExecutionMaxTimeQueryString;
 	private final LongAdder queryCacheHitCount = new LongAdder();
 	private final LongAdder queryCacheMissCount = new LongAdder();
+	private final LongAdder queryCacheStaleCount = new LongAdder();
 	private final LongAdder queryCachePutCount = new LongAdder();
 
 	private final LongAdder queryPlanCacheHitCount = new LongAdder();
@@ -122,11 +130,22 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 	 */
 	private final StatsNamedContainer<CacheRegionStatisticsImpl> l2CacheStatsMap = new StatsNamedContainer<>();
 
+	/**
+	 * Keyed by the name of the map of the query interpretation cache
+	 */
+	private final StatsNamedContainer<QueryInterpretationCacheStatisticsImpl> queryInterpretationCacheStatsMap = new StatsNamedContainer<>();
+
 	/**
 	 * Keyed by query SQL
 	 */
 	private final Map<String, Long> slowQueries = new ConcurrentHashMap<>();
 
+	/**
+	 * Keyed by batch key, the least recently adapted ones are dropped
+	 */
+	private final Map<String, Integer> adaptiveJdbcBatchSizes =
+			new BoundedConcurrentHashMap<>( ADAPTIVE_JDBC_BATCH_SIZES_MAX_SIZE, 20, LRU );
+
 	public StatisticsImpl(SessionFactoryImplementor sessionFactory) {
 		Objects.requireNonNull( sessionFactory );
 		SessionFactoryOptions sessionFactoryOptions = sessionFactory.getSessionFactoryOptions();
@@ -190,6 +209,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		queryExecutionMaxTime.set( 0L );
 		queryExecutionMaxTimeQueryString = null;
 		queryCacheMissCount.reset();
+		queryCacheStaleCount.reset();
 		queryCachePutCount.reset();
 
 		updateTimestampsCacheMissCount.reset();
@@ -209,6 +229,9 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 		queryPlanCacheHitCount.reset();
 		queryPlanCacheMissCount.reset();
+		queryInterpretationCacheStatsMap.clear();
+
+		adaptiveJdbcBatchSizes.clear();
 
 		resetStart();
 	}
@@ -687,6 +710,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		return queryCacheMissCount.sum();
 	}
 
+	@Override
+	public long getQueryCacheStaleCount() {
+		return queryCacheStaleCount.sum();
+	}
+
 	@Override
 	public long getQueryCachePutCount() {
 		return queryCachePutCount.sum();
@@ -750,6 +778,17 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		}
 	}
 
+	@Override
+	public void queryCacheStale(String hql, String regionName) {
+		LOG.tracef( "Statistics#queryCacheStale( `%s`, `%s` )", hql, regionName );
+
+		queryCacheStaleCount.increment();
+
+		if ( hql != null ) {
+			getQueryStatistics( hql ).incrementCacheStaleCount();
+		}
+	}
+
 	@Override
 	public void queryCachePut(String hql, String regionName) {
 		LOG.tracef( "Statistics#queryCachePut( `%s`, `%s` )", hql, regionName );
@@ -800,6 +839,37 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		}
 	}
 
+	@Override
+	public QueryInterpretationCacheStatisticsImpl getQueryInterpretationCacheStatistics(String cacheName) {
+		return NullnessUtil.castNonNull(
+					queryInterpretationCacheStatsMap.getOrCompute(
+						cacheName,
+						QueryInterpretationCacheStatisticsImpl::new
+					)
+		);
+	}
+
+	@Override
+	public void queryInterpretationCacheHit(String cacheName, String query) {
+		getQueryInterpretationCacheStatistics( cacheName ).incrementHitCount();
+		if ( HQL_INTERPRETATIONS.equals( cacheName ) || SELECT_QUERY_PLANS.equals( cacheName ) ) {
+			queryPlanCacheHit( query );
+		}
+	}
+
+	@Override
+	public void queryInterpretationCacheMiss(String cacheName, String query) {
+		getQueryInterpretationCacheStatistics( cacheName ).incrementMissCount();
+		if ( SELECT_QUERY_PLANS.equals( cacheName ) ) {
+			queryPlanCacheMiss( query );
+		}
+	}
+
+	@Override
+	public void queryInterpretationCacheEviction(String cacheName) {
+		getQueryInterpretationCacheStatistics( cacheName ).incrementEvictionCount();
+	}
+
 	private CacheRegionStatisticsImpl getQueryRegionStats(String regionName) {
 		return NullnessUtil.castNonNull(
 					l2CacheStatsMap.getOrCompute(
@@ -968,6 +1038,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 				",query cache puts=" + queryCachePutCount +
 				",query cache hits=" + queryCacheHitCount +
 				",query cache misses=" + queryCacheMissCount +
+				",query cache stale results=" + queryCacheStaleCount +
 				",update timestamps cache puts=" + updateTimestampsCachePutCount +
 				",update timestamps cache hits=" + updateTimestampsCacheHitCount +
 				",update timestamps cache misses=" + updateTimestampsCacheMissCount +
@@ -1039,4 +1110,14 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 	public void slowQuery(String sql, long executionTime) {
 		slowQueries.merge( sql, executionTime, Math::max );
 	}
+
+	@Override
+	public Map<String, Integer> getAdaptiveJdbcBatchSizes() {
+		return Collections.unmodifiableMap( adaptiveJdbcBatchSizes );
+	}
+
+	@Override
+	public void jdbcBatchSizeAdapted(String batchKey, int batchSize) {
+		adaptiveJdbcBatchSizes.put( batchKey, batchSize );
+	}
 }
@@ -13,6 +13,8 @@ import org.hibernate.stat.Statistics;
 import java.util.Map;
 
 import static java.util.Collections.emptyMap;
+import static org.hibernate.stat.QueryInterpretationCacheStatistics.HQL_INTERPRETATIONS;
+import static org.hibernate.stat.QueryInterpretationCacheStatistics.SELECT_QUERY_PLANS;
 
 /**
  * A service SPI for collecting statistics about various events that occur at runtime.
@@ -227,6 +229,19 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void queryCacheMiss(String hql, String regionName);
 
+	/**
+	 * Callback indicating a get from the query cache found results which were stale.
+	 * Such a get is also reported as a {@linkplain #queryCacheMiss miss}.
+	 *
+	 * @param hql The query
+	 * @param regionName The name of the cache region
+	 *
+	 * @since 6.5
+	 */
+	default void queryCacheStale(String hql, String regionName) {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback indicating execution of a sql/hql query
 	 *
@@ -269,6 +284,52 @@ public interface StatisticsImplementor extends Statistics, Service {
 		//For backward compatibility
 	}
 
+	/**
+	 * Callback indicating a get from one of the maps of the query interpretation
+	 * cache resulted in a hit. A hit on the {@linkplain QueryInterpretationCacheStatistics#HQL_INTERPRETATIONS
+	 * HQL interpretations} or on the {@linkplain QueryInterpretationCacheStatistics#SELECT_QUERY_PLANS
+	 * select query plans} is also a {@linkplain #queryPlanCacheHit query plan cache hit}.
+	 *
+	 * @param cacheName The name of the map
+	 * @param query The query, or {@code null} if the map is not keyed by query
+	 *
+	 * @see org.hibernate.stat.QueryInterpretationCacheStatistics
+	 */
+	default void queryInterpretationCacheHit(String cacheName, String query) {
+		if ( HQL_INTERPRETATIONS.equals( cacheName ) || SELECT_QUERY_PLANS.equals( cacheName ) ) {
+			queryPlanCacheHit( query );
+		}
+	}
+
+	/**
+	 * Callback indicating a get from one of the maps of the query interpretation
+	 * cache resulted in a miss. A miss on the {@linkplain QueryInterpretationCacheStatistics#SELECT_QUERY_PLANS
+	 * select query plans} is also a {@linkplain #queryPlanCacheMiss query plan cache miss}, while a miss
+	 * on the HQL interpretations is reported as a {@linkplain #queryCompiled compilation}.
+	 *
+	 * @param cacheName The name of the map
+	 * @param query The query, or {@code null} if the map is not keyed by query
+	 *
+	 * @see org.hibernate.stat.QueryInterpretationCacheStatistics
+	 */
+	default void queryInterpretationCacheMiss(String cacheName, String query) {
+		if ( SELECT_QUERY_PLANS.equals( cacheName ) ) {
+			queryPlanCacheMiss( query );
+		}
+	}
+
+	/**
+	 * Callback indicating an entry was evicted from, or not admitted to, one of
+	 * the maps of the query interpretation cache.
+	 *
+	 * @param cacheName The name of the map
+	 *
+	 * @see org.hibernate.stat.QueryInterpretationCacheStatistics
+	 */
+	default void queryInterpretationCacheEviction(String cacheName) {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback indicating compilation of a sql/hql query
 	 *
@@ -291,4 +352,11 @@ public interface StatisticsImplementor extends Statistics, Service {
 		//For backward compatibility
 		return emptyMap();
 	}
+
+	/**
+	 * Register the batch size chosen by adaptive batching for a batch key.
+	 */
+	default void jdbcBatchSizeAdapted(String batchKey, int batchSize) {
+		//For backward compatibility
+	}
 }
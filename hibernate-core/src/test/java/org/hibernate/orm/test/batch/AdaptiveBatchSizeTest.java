@@ -0,0 +1,125 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.batch.internal.AdaptiveBatchSizes;
+import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DomainModel(annotatedClasses = AdaptiveBatchSizeTest.Document.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "10"),
+		@Setting(name = AvailableSettings.ADAPTIVE_BATCH_SIZE_MAX, value = "50"),
+		@Setting(name = AvailableSettings.ADAPTIVE_BATCH_SIZE_MIN, value = "2"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory
+public class AdaptiveBatchSizeTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete Document" ).executeUpdate() );
+	}
+
+	@Test
+	public void testWideRowsShrinkBatches(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 30; i++ ) {
+				session.persist( new Document( i, new byte[512 * 1024] ) );
+			}
+		} );
+
+		scope.inTransaction( session -> {
+			assertThat( session.createSelectionQuery( "select count(*) from Document", Long.class ).getSingleResult() )
+					.isEqualTo( 30L );
+		} );
+		assertThat( scope.getSessionFactory().getStatistics().getAdaptiveJdbcBatchSizes() )
+				.hasEntrySatisfying(
+						Document.class.getName() + "#INSERT",
+						batchSize -> assertThat( batchSize ).isLessThan( 10 )
+				);
+
+		scope.getSessionFactory().getStatistics().clear();
+		assertThat( scope.getSessionFactory().getStatistics().getAdaptiveJdbcBatchSizes() ).isEmpty();
+	}
+
+	@Test
+	public void testSessionBatchSizeIsNotAdapted(SessionFactoryScope scope) {
+		scope.getSessionFactory().getStatistics().clear();
+		scope.inTransaction( session -> {
+			session.setJdbcBatchSize( 20 );
+			for ( int i = 1; i <= 30; i++ ) {
+				session.persist( new Document( i, new byte[512 * 1024] ) );
+			}
+		} );
+		assertThat( scope.getSessionFactory().getStatistics().getAdaptiveJdbcBatchSizes() ).isEmpty();
+		assertThatThrownBy( () -> scope.getSessionFactory().getStatistics().getAdaptiveJdbcBatchSizes().clear() )
+				.isInstanceOf( UnsupportedOperationException.class );
+	}
+
+	@Test
+	public void testBatchSizeBounds() {
+		final AdaptiveBatchSizes batchSizes = new AdaptiveBatchSizes( 5, 100, 50 );
+		final AdaptiveBatchSizes.AdaptiveBatchSize batchSize =
+				batchSizes.resolve( new BasicBatchKey( "Narrow#INSERT" ), 20 );
+		assertThat( batchSize.getBatchSize() ).isEqualTo( 20 );
+
+		// fast, narrow rows grow the batch, up to the maximum
+		for ( int i = 0; i < 20; i++ ) {
+			batchSize.executed( batchSize.getBatchSize(), batchSize.getBatchSize() * 16L, TimeUnit.MILLISECONDS.toNanos( 1 ) );
+		}
+		assertThat( batchSize.getBatchSize() ).isEqualTo( 100 );
+
+		// slow rows shrink it, down to the minimum
+		for ( int i = 0; i < 20; i++ ) {
+			batchSize.executed( batchSize.getBatchSize(), 0, TimeUnit.SECONDS.toNanos( 1 ) );
+		}
+		assertThat( batchSize.getBatchSize() ).isEqualTo( 5 );
+	}
+
+	@Test
+	public void testPartialBatchDoesNotGrow() {
+		final AdaptiveBatchSizes batchSizes = new AdaptiveBatchSizes( 2, 100, 50 );
+		final AdaptiveBatchSizes.AdaptiveBatchSize batchSize =
+				batchSizes.resolve( new BasicBatchKey( "Partial#INSERT" ), 20 );
+		assertThat( batchSize.executed( 3, 48, TimeUnit.MILLISECONDS.toNanos( 1 ) ) ).isFalse();
+		assertThat( batchSize.getBatchSize() ).isEqualTo( 20 );
+	}
+
+	@Entity(name = "Document")
+	public static class Document {
+		@Id
+		Integer id;
+		@Lob
+		byte[] content;
+
+		public Document() {
+		}
+
+		public Document(Integer id, byte[] content) {
+			this.id = id;
+			this.content = content;
+		}
+	}
+}
@@ -0,0 +1,100 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batch;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = MultiRowInsertBatchingTest.Product.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "10"),
+		@Setting(name = AvailableSettings.MULTI_ROW_INSERT, value = "true")
+})
+@SessionFactory(useCollectingStatementInspector = true)
+@RequiresDialect(H2Dialect.class)
+public class MultiRowInsertBatchingTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete Product" ).executeUpdate() );
+	}
+
+	@Test
+	public void testInsertsAreCoalesced(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		inspector.clear();
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 25; i++ ) {
+				session.persist( new Product( i, "Product " + i, i * 10 ) );
+			}
+		} );
+
+		assertThat( inspector.getSqlQueries() ).hasSize( 3 );
+		assertThat( countTuples( inspector.getSqlQueries().get( 0 ) ) ).isEqualTo( 10 );
+		assertThat( countTuples( inspector.getSqlQueries().get( 1 ) ) ).isEqualTo( 10 );
+		assertThat( countTuples( inspector.getSqlQueries().get( 2 ) ) ).isEqualTo( 5 );
+
+		scope.inTransaction( session -> {
+			assertThat( session.createSelectionQuery( "select count(*) from Product", Long.class ).getSingleResult() )
+					.isEqualTo( 25L );
+			final Product product = session.find( Product.class, 17 );
+			assertThat( product.name ).isEqualTo( "Product 17" );
+			assertThat( product.price ).isEqualTo( 170 );
+		} );
+	}
+
+	@Test
+	public void testSingleRowInsert(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Product( 1, "Single", 5 ) ) );
+		scope.inTransaction( session -> assertThat( session.find( Product.class, 1 ).name ).isEqualTo( "Single" ) );
+	}
+
+	@Test
+	public void testMultiRowInsertRendering(SessionFactoryScope scope) {
+		final H2Dialect dialect = (H2Dialect) scope.getSessionFactory().getJdbcServices().getDialect();
+		assertThat( dialect.getMultiRowInsertString( "insert into t (a,b) values (?,coalesce(?,'(x'))", 3 ) )
+				.isEqualTo( "insert into t (a,b) values (?,coalesce(?,'(x')),(?,coalesce(?,'(x')),(?,coalesce(?,'(x'))" );
+		assertThat( dialect.getMultiRowInsertString( "insert into t (a) values (?) returning id", 2 ) ).isNull();
+		assertThat( dialect.getMultiRowInsertString( "insert into t default values", 2 ) ).isNull();
+	}
+
+	private static int countTuples(String sql) {
+		return sql.split( "\\),\\(" ).length;
+	}
+
+	@Entity(name = "Product")
+	public static class Product {
+		@Id
+		Integer id;
+		String name;
+		int price;
+
+		public Product() {
+		}
+
+		public Product(Integer id, String name, int price) {
+			this.id = id;
+			this.name = name;
+			this.price = price;
+		}
+	}
+}
@@ -0,0 +1,152 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.bootstrap;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import org.hibernate.boot.registry.classloading.internal.AggregatedClassLoader;
+import org.hibernate.boot.registry.classloading.internal.TcclLookupPrecedence;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.MappedSuperclass;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel( annotatedClasses = {
+		ParallelClassLoadingTest.Author.class,
+		ParallelClassLoadingTest.Publisher.class,
+		ParallelClassLoadingTest.Novel.class
+}, annotatedClassNames = "org.hibernate.orm.test.bootstrap.ParallelClassLoadingTest$Essay" )
+@SessionFactory
+@ServiceRegistry( settings = @Setting( name = AvailableSettings.CLASS_LOADING_PARALLELISM, value = "4" ) )
+public class ParallelClassLoadingTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Novel" ).executeUpdate();
+			session.createMutationQuery( "delete from Author" ).executeUpdate();
+			session.createMutationQuery( "delete from Publisher" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testModelIsBound(SessionFactoryScope scope) {
+		assertThat( scope.getSessionFactory().getMappingMetamodel().getEntityDescriptor( Novel.class )
+				.findAttributeMapping( "author" ) ).isNotNull();
+
+		scope.inTransaction( session -> {
+			final Author author = new Author( 1, "Frank Herbert" );
+			final Publisher publisher = new Publisher( 1, "Chilton Books" );
+			session.persist( author );
+			session.persist( publisher );
+			session.persist( new Novel( 1, "Dune", author, publisher ) );
+		} );
+
+		scope.inTransaction( session -> {
+			final List<String> titles = session.createSelectionQuery(
+					"select n.title from Novel n where n.author.name = 'Frank Herbert'",
+					String.class
+			).getResultList();
+			assertThat( titles ).containsExactly( "Dune" );
+		} );
+	}
+
+	@Test
+	public void testClassesArePreloaded(SessionFactoryScope scope) {
+		assertThat( scope.getSessionFactory().getMappingMetamodel().getEntityDescriptor( Essay.class ) ).isNotNull();
+		// the class, listed by name, was loaded and initialized by a preloading thread,
+		// rather than when it was bound
+		assertThat( Essay.initializingThread ).startsWith( "hibernate-class-preloader-" );
+	}
+
+	@Test
+	public void testClassLoaderIsParallelCapable() {
+		final AggregatedClassLoader classLoader = new AggregatedClassLoader(
+				new LinkedHashSet<>( List.of( ParallelClassLoadingTest.class.getClassLoader() ) ),
+				TcclLookupPrecedence.AFTER
+		);
+		assertThat( classLoader.isRegisteredAsParallelCapable() ).isTrue();
+	}
+
+	@MappedSuperclass
+	public static abstract class Named {
+		@Id
+		Integer id;
+		String name;
+
+		protected Named() {
+		}
+
+		protected Named(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity( name = "Author" )
+	public static class Author extends Named {
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			super( id, name );
+		}
+	}
+
+	@Entity( name = "Publisher" )
+	public static class Publisher extends Named {
+		public Publisher() {
+		}
+
+		public Publisher(Integer id, String name) {
+			super( id, name );
+		}
+	}
+
+	@Entity( name = "Novel" )
+	public static class Novel {
+		@Id
+		Integer id;
+		String title;
+		@ManyToOne
+		Author author;
+		@ManyToOne
+		Publisher publisher;
+
+		public Novel() {
+		}
+
+		public Novel(Integer id, String title, Author author, Publisher publisher) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+			this.publisher = publisher;
+		}
+	}
+
+	@Entity( name = "Essay" )
+	public static class Essay {
+		static final String initializingThread = Thread.currentThread().getName();
+
+		@Id
+		Integer id;
+		String title;
+	}
+}
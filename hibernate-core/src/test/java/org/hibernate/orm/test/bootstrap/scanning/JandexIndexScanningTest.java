@@ -0,0 +1,151 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.bootstrap.scanning;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.Collections;
+import java.util.List;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
+
+import org.hibernate.boot.archive.scan.internal.ClassFileEntryCategorizer;
+import org.hibernate.boot.archive.scan.internal.StandardScanOptions;
+import org.hibernate.boot.archive.scan.internal.StandardScanParameters;
+import org.hibernate.boot.archive.scan.internal.StandardScanner;
+import org.hibernate.boot.archive.scan.spi.ClassDescriptor;
+import org.hibernate.boot.archive.scan.spi.ScanEnvironment;
+import org.hibernate.boot.archive.scan.spi.ScanOptions;
+import org.hibernate.boot.archive.scan.spi.ScanResult;
+import org.hibernate.boot.archive.spi.ArchiveException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.jboss.jandex.IndexWriter;
+import org.jboss.jandex.Indexer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+public class JandexIndexScanningTest {
+	@Test
+	public void testClassesAreCategorizedFromIndex(@TempDir File directory) throws Exception {
+		// the class file of Pasta is unreadable, so it can only be found in the index
+		final File jar = new File( directory, "indexed.jar" );
+		writeJar( jar, true );
+
+		final ScanResult result = scan( jar, new StandardScanOptions() );
+		assertLocatedClasses( result );
+	}
+
+	@Test
+	public void testClassFilesAreReadWithoutIndex(@TempDir File directory) throws Exception {
+		final File jar = new File( directory, "unindexed.jar" );
+		writeJar( jar, false );
+
+		assertThatThrownBy( () -> scan( jar, new StandardScanOptions() ) ).isInstanceOf( ArchiveException.class );
+	}
+
+	@Test
+	public void testParallelScanFindsSameClasses(@TempDir File directory) throws Exception {
+		final File jar = new File( directory, "classes.jar" );
+		try (JarOutputStream out = new JarOutputStream( new FileOutputStream( jar ) )) {
+			writeEntry( out, entryName( Pasta.class ), classBytes( Pasta.class ) );
+			writeEntry( out, entryName( IntegerToVarcharConverter.class ), classBytes( IntegerToVarcharConverter.class ) );
+			writeEntry( out, entryName( JandexIndexScanningTest.class ), classBytes( JandexIndexScanningTest.class ) );
+			writeEntry( out, entryName( ScanningSnapshotTest.class ), classBytes( ScanningSnapshotTest.class ) );
+		}
+
+		final ScanResult sequential = scan( jar, new StandardScanOptions() );
+		final ScanResult parallel = scan( jar, new StandardScanOptions( "hbm,class", false, 4 ) );
+		assertLocatedClasses( sequential );
+		assertLocatedClasses( parallel );
+	}
+
+	private static void assertLocatedClasses(ScanResult result) {
+		assertThat( result.getLocatedClasses() )
+				.extracting( ClassDescriptor::getName, ClassDescriptor::getCategorization )
+				.containsExactlyInAnyOrder(
+						tuple( Pasta.class.getName(), ClassDescriptor.Categorization.MODEL ),
+						tuple( IntegerToVarcharConverter.class.getName(), ClassDescriptor.Categorization.CONVERTER )
+				);
+	}
+
+	private static ScanResult scan(File jar, ScanOptions options) throws MalformedURLException {
+		return new StandardScanner().scan(
+				new TestScanEnvironment( jar.toURI().toURL() ),
+				options,
+				StandardScanParameters.INSTANCE
+		);
+	}
+
+	private static void writeJar(File jar, boolean withIndex) throws IOException {
+		try (JarOutputStream out = new JarOutputStream( new FileOutputStream( jar ) )) {
+			writeEntry( out, entryName( Pasta.class ), new byte[] { 1, 2, 3 } );
+			writeEntry( out, entryName( IntegerToVarcharConverter.class ), classBytes( IntegerToVarcharConverter.class ) );
+			if ( withIndex ) {
+				final Indexer indexer = new Indexer();
+				indexer.indexClass( Pasta.class );
+				indexer.indexClass( IntegerToVarcharConverter.class );
+				final ByteArrayOutputStream index = new ByteArrayOutputStream();
+				new IndexWriter( index ).write( indexer.complete() );
+				writeEntry( out, ClassFileEntryCategorizer.JANDEX_INDEX, index.toByteArray() );
+			}
+		}
+	}
+
+	private static void writeEntry(JarOutputStream out, String name, byte[] bytes) throws IOException {
+		out.putNextEntry( new ZipEntry( name ) );
+		out.write( bytes );
+		out.closeEntry();
+	}
+
+	private static String entryName(Class<?> type) {
+		return type.getName().replace( '.', '/' ) + ".class";
+	}
+
+	private static byte[] classBytes(Class<?> type) throws IOException {
+		try (InputStream in = type.getClassLoader().getResourceAsStream( entryName( type ) )) {
+			return in.readAllBytes();
+		}
+	}
+
+	private static class TestScanEnvironment implements ScanEnvironment {
+		private final URL rootUrl;
+
+		private TestScanEnvironment(URL rootUrl) {
+			this.rootUrl = rootUrl;
+		}
+
+		@Override
+		public URL getRootUrl() {
+			return rootUrl;
+		}
+
+		@Override
+		public List<URL> getNonRootUrls() {
+			return Collections.emptyList();
+		}
+
+		@Override
+		public List<String> getExplicitlyListedClassNames() {
+			return Collections.emptyList();
+		}
+
+		@Override
+		public List<String> getExplicitlyListedMappingFiles() {
+			return Collections.emptyList();
+		}
+	}
+}
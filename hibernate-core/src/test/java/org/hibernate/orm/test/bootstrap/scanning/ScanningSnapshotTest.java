@@ -0,0 +1,171 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.bootstrap.scanning;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.net.URL;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.archive.scan.internal.ClassDescriptorImpl;
+import org.hibernate.boot.archive.scan.internal.ScanResultImpl;
+import org.hibernate.boot.archive.scan.spi.ClassDescriptor;
+import org.hibernate.boot.archive.scan.spi.ScanEnvironment;
+import org.hibernate.boot.archive.scan.spi.ScanOptions;
+import org.hibernate.boot.archive.scan.spi.ScanParameters;
+import org.hibernate.boot.archive.scan.spi.ScanResult;
+import org.hibernate.boot.archive.scan.spi.Scanner;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ScanningSnapshotTest {
+
+	@Test
+	public void testSnapshotReplacesScanning(@TempDir File directory) {
+		final File snapshotFile = new File( directory, "scanning.snapshot" );
+		final CountingScanner scanner = new CountingScanner();
+
+		assertThat( buildMetadata( snapshotFile, scanner ).getEntityBinding( Pasta.class.getName() ) ).isNotNull();
+		assertThat( scanner.scans ).isEqualTo( 1 );
+		assertThat( snapshotFile ).exists();
+
+		assertThat( buildMetadata( snapshotFile, scanner ).getEntityBinding( Pasta.class.getName() ) ).isNotNull();
+		assertThat( scanner.scans ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testUnreadableSnapshotIsReplaced(@TempDir File directory) throws Exception {
+		final File snapshotFile = new File( directory, "scanning.snapshot" );
+		Files.writeString( snapshotFile.toPath(), "not a snapshot" );
+		final CountingScanner scanner = new CountingScanner();
+
+		assertThat( buildMetadata( snapshotFile, scanner ).getEntityBinding( Pasta.class.getName() ) ).isNotNull();
+		assertThat( scanner.scans ).isEqualTo( 1 );
+
+		assertThat( buildMetadata( snapshotFile, scanner ).getEntityBinding( Pasta.class.getName() ) ).isNotNull();
+		assertThat( scanner.scans ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testFileAddedToDirectoryInvalidatesSnapshot(@TempDir File directory) throws Exception {
+		final File snapshotFile = new File( directory, "scanning.snapshot" );
+		final File classes = new File( directory, "classes" );
+		final File pkg = new File( classes, "org/example" );
+		assertThat( pkg.mkdirs() ).isTrue();
+		Files.write( new File( pkg, "Existing.class" ).toPath(), new byte[] { 1 } );
+		final URL rootUrl = classes.toURI().toURL();
+		final CountingScanner scanner = new CountingScanner();
+
+		buildMetadata( snapshotFile, scanner, rootUrl );
+		buildMetadata( snapshotFile, scanner, rootUrl );
+		assertThat( scanner.scans ).isEqualTo( 1 );
+
+		Files.write( new File( pkg, "Added.class" ).toPath(), new byte[] { 2 } );
+		buildMetadata( snapshotFile, scanner, rootUrl );
+		assertThat( scanner.scans ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testUnexpectedTypesAreNotDeserialized(@TempDir File directory) throws Exception {
+		final File snapshotFile = new File( directory, "scanning.snapshot" );
+		try ( ObjectOutputStream out = new ObjectOutputStream( new FileOutputStream( snapshotFile ) ) ) {
+			out.writeObject( new Gadget() );
+		}
+		Gadget.deserialized = false;
+		final CountingScanner scanner = new CountingScanner();
+
+		assertThat( buildMetadata( snapshotFile, scanner ).getEntityBinding( Pasta.class.getName() ) ).isNotNull();
+		assertThat( scanner.scans ).isEqualTo( 1 );
+		assertThat( Gadget.deserialized ).isFalse();
+	}
+
+	private static Metadata buildMetadata(File snapshotFile, Scanner scanner) {
+		return buildMetadata( snapshotFile, scanner, null );
+	}
+
+	private static Metadata buildMetadata(File snapshotFile, Scanner scanner, URL rootUrl) {
+		final StandardServiceRegistry serviceRegistry = new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.SCANNER_SNAPSHOT, snapshotFile.getAbsolutePath() )
+				.build();
+		try {
+			return new MetadataSources( serviceRegistry )
+					.getMetadataBuilder()
+					.applyScanEnvironment( new TestScanEnvironment( rootUrl ) )
+					.applyScanner( scanner )
+					.build();
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( serviceRegistry );
+		}
+	}
+
+	private static class CountingScanner implements Scanner {
+		private int scans;
+
+		@Override
+		public ScanResult scan(ScanEnvironment environment, ScanOptions options, ScanParameters parameters) {
+			scans++;
+			return new ScanResultImpl(
+					Collections.emptySet(),
+					Set.of( new ClassDescriptorImpl( Pasta.class.getName(), ClassDescriptor.Categorization.MODEL, null ) ),
+					Collections.emptySet()
+			);
+		}
+	}
+
+	public static class Gadget implements Serializable {
+		private static boolean deserialized;
+
+		private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+			in.defaultReadObject();
+			deserialized = true;
+		}
+	}
+
+	private static class TestScanEnvironment implements ScanEnvironment {
+		private final URL rootUrl;
+
+		private TestScanEnvironment(URL rootUrl) {
+			this.rootUrl = rootUrl;
+		}
+
+		@Override
+		public URL getRootUrl() {
+			return rootUrl;
+		}
+
+		@Override
+		public List<URL> getNonRootUrls() {
+			return Collections.emptyList();
+		}
+
+		@Override
+		public List<String> getExplicitlyListedClassNames() {
+			return Collections.emptyList();
+		}
+
+		@Override
+		public List<String> getExplicitlyListedMappingFiles() {
+			return Collections.emptyList();
+		}
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.bytecode;
+
+import org.hibernate.bytecode.internal.BytecodeProviderInitiator;
+import org.hibernate.bytecode.spi.ReflectionOptimizer;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel( annotatedClasses = NoneBytecodeProviderTest.Customer.class )
+@SessionFactory
+@ServiceRegistry( settings = @Setting(
+		name = AvailableSettings.BYTECODE_PROVIDER,
+		value = BytecodeProviderInitiator.BYTECODE_PROVIDER_NAME_NONE
+) )
+public class NoneBytecodeProviderTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Customer" ).executeUpdate() );
+	}
+
+	@Test
+	public void testWithoutGeneratedClasses(SessionFactoryScope scope) {
+		final ReflectionOptimizer optimizer = scope.getSessionFactory().getMappingMetamodel()
+				.getEntityDescriptor( Customer.class )
+				.getRepresentationStrategy()
+				.getReflectionOptimizer();
+		assertThat( optimizer.getInstantiationOptimizer() ).isNotNull();
+		assertThat( optimizer.getAccessOptimizer() ).isNotNull();
+
+		scope.inTransaction( session -> session.persist( new Customer( 1, "Acme", new Address( "Main Street", "Springfield" ) ) ) );
+
+		scope.inTransaction( session -> {
+			final Customer customer = session.find( Customer.class, 1 );
+			assertThat( customer.name ).isEqualTo( "Acme" );
+			assertThat( customer.address.street ).isEqualTo( "Main Street" );
+			assertThat( customer.address.city ).isEqualTo( "Springfield" );
+			customer.name = "Acme Corporation";
+			customer.address.city = "Shelbyville";
+		} );
+
+		scope.inTransaction( session -> {
+			final Customer customer = session.find( Customer.class, 1 );
+			assertThat( customer.name ).isEqualTo( "Acme Corporation" );
+			assertThat( customer.address.city ).isEqualTo( "Shelbyville" );
+		} );
+	}
+
+	@Entity( name = "Customer" )
+	public static class Customer {
+		@Id
+		private Integer id;
+		private String name;
+		@Embedded
+		private Address address;
+
+		protected Customer() {
+		}
+
+		public Customer(Integer id, String name, Address address) {
+			this.id = id;
+			this.name = name;
+			this.address = address;
+		}
+	}
+
+	@Embeddable
+	public static class Address {
+		private String street;
+		private String city;
+
+		protected Address() {
+		}
+
+		public Address(String street, String city) {
+			this.street = street;
+			this.city = city;
+		}
+	}
+}
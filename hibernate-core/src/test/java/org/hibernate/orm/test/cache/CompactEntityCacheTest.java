@@ -0,0 +1,209 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.cache;
+
+import java.time.LocalDate;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.cache.spi.entry.CompactCacheEntry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.spi.StatisticsImplementor;
+import org.hibernate.type.YesNoConverter;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SessionFactory
+@DomainModel( annotatedClasses = {
+		CompactEntityCacheTest.Account.class,
+		CompactEntityCacheTest.SavingsAccount.class,
+		CompactEntityCacheTest.Owner.class,
+		CompactEntityCacheTest.Branch.class,
+} )
+@ServiceRegistry( settings = {
+		@Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+		@Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" ),
+		@Setting( name = AvailableSettings.USE_COMPACT_CACHE_ENTRIES, value = "true" ),
+} )
+public class CompactEntityCacheTest {
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Owner owner = new Owner( 1L, "Emily" );
+			session.persist( owner );
+
+			final Account account = new Account();
+			account.id = 1L;
+			account.number = 1234567890123L;
+			account.branch = 42;
+			account.kind = 3;
+			account.flags = (byte) 0x7F;
+			account.active = true;
+			account.balance = -12.5;
+			account.rate = 0.25f;
+			account.currency = '$';
+			account.label = "Current account";
+			account.opened = LocalDate.of( 2020, 2, 29 );
+			account.owner = owner;
+			session.persist( account );
+
+			final SavingsAccount savings = new SavingsAccount();
+			savings.id = 2L;
+			savings.label = "Savings";
+			savings.interest = 3;
+			session.persist( savings );
+
+			final Branch branch = new Branch();
+			branch.id = 1L;
+			branch.name = "Main street";
+			branch.active = true;
+			session.persist( branch );
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Account" ).executeUpdate();
+			session.createMutationQuery( "delete from Owner" ).executeUpdate();
+			session.createMutationQuery( "delete from Branch" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testCompactStructureIsUsed(SessionFactoryScope scope) {
+		final EntityPersister persister = scope.getSessionFactory()
+				.getMappingMetamodel()
+				.getEntityDescriptor( Account.class );
+		assertThat( persister.getCacheEntryStructure() ).isInstanceOf( CompactCacheEntry.class );
+	}
+
+	@Test
+	public void testValuesAreReadFromCache(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( session -> {
+			final Account account = session.get( Account.class, 1L );
+			assertThat( account.number ).isEqualTo( 1234567890123L );
+			assertThat( account.branch ).isEqualTo( 42 );
+			assertThat( account.kind ).isEqualTo( (short) 3 );
+			assertThat( account.flags ).isEqualTo( (byte) 0x7F );
+			assertThat( account.active ).isTrue();
+			assertThat( account.balance ).isEqualTo( -12.5 );
+			assertThat( account.rate ).isEqualTo( 0.25f );
+			assertThat( account.currency ).isEqualTo( '$' );
+			assertThat( account.label ).isEqualTo( "Current account" );
+			assertThat( account.opened ).isEqualTo( LocalDate.of( 2020, 2, 29 ) );
+			assertThat( account.owner.name ).isEqualTo( "Emily" );
+			assertThat( account.version ).isEqualTo( 0 );
+			assertThat( account.note ).isNull();
+
+			final SavingsAccount savings = session.get( SavingsAccount.class, 2L );
+			assertThat( savings.label ).isEqualTo( "Savings" );
+			assertThat( savings.interest ).isEqualTo( 3 );
+			assertThat( savings.owner ).isNull();
+		} );
+
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 2 );
+		assertThat( statistics.getSecondLevelCacheMissCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testConvertedValuesAreEncoded(SessionFactoryScope scope) {
+		final EntityPersister persister = scope.getSessionFactory()
+				.getMappingMetamodel()
+				.getEntityDescriptor( Branch.class );
+
+		scope.inTransaction( session -> {
+			final Branch branch = session.get( Branch.class, 1L );
+			final CacheEntry entry = persister.buildCacheEntry(
+					branch,
+					persister.getValues( branch ),
+					null,
+					session
+			);
+			final CompactCacheEntry.CompactState state = (CompactCacheEntry.CompactState)
+					persister.getCacheEntryStructure().structure( entry );
+			// the disassembled value of the converted attribute is its Boolean domain value
+			assertThat( state.getReferences() ).isNull();
+
+			final CacheEntry destructured = (CacheEntry) persister.getCacheEntryStructure()
+					.destructure( state, scope.getSessionFactory() );
+			assertThat( destructured.getDisassembledState() ).containsExactly( true, "Main street" );
+		} );
+	}
+
+	@Entity( name = "Account" )
+	@Cache( usage = CacheConcurrencyStrategy.READ_WRITE )
+	public static class Account {
+		@Id
+		Long id;
+		@Version
+		Integer version;
+		long number;
+		int branch;
+		short kind;
+		byte flags;
+		boolean active;
+		double balance;
+		float rate;
+		char currency;
+		String label;
+		String note;
+		LocalDate opened;
+		@ManyToOne
+		Owner owner;
+	}
+
+	@Entity( name = "SavingsAccount" )
+	public static class SavingsAccount extends Account {
+		Integer interest;
+	}
+
+	@Entity( name = "Branch" )
+	@Cache( usage = CacheConcurrencyStrategy.READ_WRITE )
+	public static class Branch {
+		@Id
+		Long id;
+		String name;
+		@Convert( converter = YesNoConverter.class )
+		Boolean active;
+	}
+
+	@Entity( name = "Owner" )
+	public static class Owner {
+		@Id
+		Long id;
+		String name;
+
+		public Owner() {
+		}
+
+		public Owner(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,119 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.List;
+
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel( annotatedClasses = EntityCachePutAllFromLoadTest.Item.class )
+@SessionFactory( generateStatistics = true )
+@ServiceRegistry( settings = @Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ) )
+public class EntityCachePutAllFromLoadTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 10; i++ ) {
+				session.persist( new Item( i, "item" + i ) );
+			}
+		} );
+		scope.getSessionFactory().getCache().evictEntityData( Item.class );
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Item" ).executeUpdate() );
+	}
+
+	@Test
+	public void testQueryResultsArePutInSingleCall(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		final CountingListener listener = new CountingListener();
+		scope.inTransaction( session -> {
+			session.addEventListeners( listener );
+			final List<Item> items = session.createSelectionQuery( "from Item order by id", Item.class )
+					.getResultList();
+			assertThat( items ).hasSize( 10 );
+		} );
+
+		assertThat( listener.cachePuts ).isEqualTo( 1 );
+		assertThat( statistics.getSecondLevelCachePutCount() ).isEqualTo( 10 );
+
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 10; i++ ) {
+				assertThat( session.find( Item.class, i ).name ).isEqualTo( "item" + i );
+			}
+		} );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 10 );
+	}
+
+	@Test
+	public void testStaleEntriesAreNotPut(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> session.find( Item.class, 1 ).name = "updated" );
+		statistics.clear();
+
+		scope.inTransaction( session -> {
+			final List<Item> items = session.createSelectionQuery( "from Item order by id", Item.class )
+					.getResultList();
+			assertThat( items.get( 0 ).name ).isEqualTo( "updated" );
+		} );
+		// the updated item was already cached
+		assertThat( statistics.getSecondLevelCachePutCount() ).isEqualTo( 9 );
+
+		scope.inTransaction( session -> assertThat( session.find( Item.class, 1 ).name ).isEqualTo( "updated" ) );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	private static class CountingListener extends BaseSessionEventListener {
+		int cachePuts;
+
+		@Override
+		public void cachePutStart() {
+			cachePuts++;
+		}
+	}
+
+	@Entity( name = "Item" )
+	@Cache( usage = CacheConcurrencyStrategy.READ_WRITE )
+	public static class Item {
+		@Id
+		Integer id;
+		@Version
+		Integer version;
+		String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,147 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.cache;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.internal.OffHeapRegionFactory;
+import org.hibernate.cache.internal.OffHeapStorageAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SessionFactory
+@DomainModel( annotatedClasses = OffHeapRegionFactoryTest.Country.class )
+@ServiceRegistry( settings = {
+		@Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+		@Setting( name = AvailableSettings.USE_QUERY_CACHE, value = "true" ),
+		@Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" ),
+		@Setting( name = AvailableSettings.CACHE_REGION_FACTORY, value = "org.hibernate.cache.internal.OffHeapRegionFactory" ),
+		@Setting( name = AvailableSettings.OFF_HEAP_REGION_CAPACITY + ".countries", value = "1048576" ),
+} )
+public class OffHeapRegionFactoryTest {
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Country( "FR", "France", LocalDate.of( 1958, 10, 4 ) ) );
+			session.persist( new Country( "IT", "Italy", LocalDate.of( 1948, 1, 1 ) ) );
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Country" ).executeUpdate() );
+	}
+
+	@Test
+	public void testEntitiesAreReadFromCache(SessionFactoryScope scope) {
+		assertThat( scope.getSessionFactory().getCache().getRegionFactory() )
+				.isInstanceOf( OffHeapRegionFactory.class );
+
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final Country country = session.get( Country.class, "FR" );
+			assertThat( country.name ).isEqualTo( "France" );
+			assertThat( country.founded ).isEqualTo( LocalDate.of( 1958, 10, 4 ) );
+			assertThat( country.version ).isEqualTo( 0 );
+		} );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 1 );
+		assertThat( statistics.getSecondLevelCacheMissCount() ).isEqualTo( 0 );
+
+		scope.inTransaction( session -> session.get( Country.class, "IT" ).name = "Italia" );
+		scope.inTransaction( session -> assertThat( session.get( Country.class, "IT" ).name ).isEqualTo( "Italia" ) );
+	}
+
+	@Test
+	public void testQueryResultsAreReadFromCache(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		for ( int i = 0; i < 2; i++ ) {
+			statistics.clear();
+			scope.inTransaction( session -> {
+				final List<String> names = session.createSelectionQuery(
+								"select name from Country where code = 'FR'",
+								String.class
+						)
+						.setCacheable( true )
+						.getResultList();
+				assertThat( names ).containsExactly( "France" );
+			} );
+		}
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testEvictionKeepsFrequentlyAccessedEntries() {
+		// room for one hundred blocks of 128 bytes
+		final OffHeapStorageAccess storageAccess = new OffHeapStorageAccess( "test", 100 * 128 );
+		try {
+			storageAccess.putIntoCache( "hot", "frequently accessed", null );
+			for ( int i = 0; i < 200; i++ ) {
+				storageAccess.putIntoCache( i, "value " + i, null );
+				if ( i < 5 ) {
+					assertThat( storageAccess.getFromCache( "hot", null ) ).isEqualTo( "frequently accessed" );
+				}
+			}
+			assertThat( storageAccess.getEntryCount() ).isLessThanOrEqualTo( 100 );
+			assertThat( storageAccess.getOccupiedBytes() ).isLessThanOrEqualTo( 100 * 128 );
+			assertThat( storageAccess.getFromCache( "hot", null ) ).isEqualTo( "frequently accessed" );
+
+			// a value which spans several blocks, and was requested often enough to be admitted
+			final String large = "x".repeat( 1000 );
+			for ( int i = 0; i < 10; i++ ) {
+				assertThat( storageAccess.getFromCache( "large", null ) ).isNull();
+			}
+			storageAccess.putIntoCache( "large", large, null );
+			assertThat( storageAccess.getFromCache( "large", null ) ).isEqualTo( large );
+
+			storageAccess.evictData();
+			assertThat( storageAccess.contains( "hot" ) ).isFalse();
+			assertThat( storageAccess.getOccupiedBytes() ).isEqualTo( 0 );
+		}
+		finally {
+			storageAccess.release();
+		}
+	}
+
+	@Entity( name = "Country" )
+	@Cache( usage = CacheConcurrencyStrategy.READ_WRITE, region = "countries" )
+	public static class Country {
+		@Id
+		String code;
+		@Version
+		Integer version;
+		String name;
+		LocalDate founded;
+
+		public Country() {
+		}
+
+		public Country(String code, String name, LocalDate founded) {
+			this.code = code;
+			this.name = name;
+			this.founded = founded;
+		}
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel( annotatedClasses = ReadWriteAccessConcurrencyTest.Product.class )
+@SessionFactory
+@ServiceRegistry( settings = @Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ) )
+public class ReadWriteAccessConcurrencyTest {
+	private static final int KEYS = 16;
+	private static final int THREADS = 8;
+	private static final int ITERATIONS = 500;
+
+	@Test
+	public void testConcurrentSoftLocksAreAllReleased(SessionFactoryScope scope) throws Exception {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		final EntityDataAccess cacheAccess = sessionFactory.getMappingMetamodel()
+				.getEntityDescriptor( Product.class )
+				.getCacheAccessStrategy();
+
+		final Object[] keys = new Object[KEYS];
+		for ( int i = 0; i < KEYS; i++ ) {
+			keys[i] = cacheAccess.generateCacheKey(
+					i,
+					sessionFactory.getMappingMetamodel().getEntityDescriptor( Product.class ),
+					sessionFactory,
+					null
+			);
+		}
+
+		// each thread uses a session of its own, as sessions are not thread-safe
+		final ExecutorService executor = Executors.newFixedThreadPool( THREADS );
+		try {
+			final List<Future<?>> futures = new ArrayList<>();
+			for ( int t = 0; t < THREADS; t++ ) {
+				final int offset = t;
+				futures.add( executor.submit( () -> scope.inSession( session -> {
+					for ( int i = 0; i < ITERATIONS; i++ ) {
+						final Object key = keys[( offset + i ) % KEYS];
+						final SoftLock lock = cacheAccess.lockItem( session, key, 1 );
+						cacheAccess.get( session, key );
+						cacheAccess.unlockItem( session, key, lock );
+					}
+				} ) ) );
+			}
+			for ( Future<?> future : futures ) {
+				future.get();
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		// every soft lock was released, so newer versions may be cached again
+		scope.inSession( session -> {
+			for ( Object key : keys ) {
+				assertThat( cacheAccess.putFromLoad( session, key, "product", 2 ) ).isTrue();
+			}
+		} );
+
+		scope.inSession( session -> {
+			for ( Object key : keys ) {
+				assertThat( cacheAccess.get( session, key ) ).isEqualTo( "product" );
+			}
+		} );
+	}
+
+	@Entity( name = "Product" )
+	@Cache( usage = CacheConcurrencyStrategy.READ_WRITE )
+	public static class Product {
+		@Id
+		Integer id;
+		String name;
+	}
+}
@@ -0,0 +1,111 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.dirtiness;
+
+import java.util.Date;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Temporal;
+import jakarta.persistence.TemporalType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unchanged values are recognized without consulting their Type, but values of
+ * mutable types changed in place are still detected.
+ */
+@DomainModel(annotatedClasses = UnchangedValueDirtyCheckTest.Document.class)
+@SessionFactory(useCollectingStatementInspector = true)
+public class UnchangedValueDirtyCheckTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Document document = new Document();
+			document.id = 1;
+			document.title = "title";
+			document.modified = new Date( 0 );
+			document.content = new byte[] { 1, 2, 3 };
+			document.author = new Author();
+			document.author.name = "author";
+			session.persist( document );
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete Document" ).executeUpdate() );
+	}
+
+	@Test
+	public void testUnchanged(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final Document document = session.find( Document.class, 1 );
+			// equal, but not the same instance
+			document.title = new String( "title" );
+			inspector.clear();
+			session.flush();
+			assertThat( inspector.getSqlQueries() ).isEmpty();
+		} );
+	}
+
+	@Test
+	public void testMutableValuesChangedInPlace(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Document document = session.find( Document.class, 1 );
+			document.modified.setTime( 1000 );
+			document.content[0] = 9;
+			document.author.name = "other";
+		} );
+		scope.inTransaction( session -> {
+			final Document document = session.find( Document.class, 1 );
+			assertThat( document.modified.getTime() ).isEqualTo( 1000 );
+			assertThat( document.content ).containsExactly( 9, 2, 3 );
+			assertThat( document.author.name ).isEqualTo( "other" );
+		} );
+	}
+
+	@Test
+	public void testNullValues(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.find( Document.class, 1 ).title = null );
+		scope.inTransaction( session -> {
+			final Document document = session.find( Document.class, 1 );
+			assertThat( document.title ).isNull();
+			document.title = "again";
+		} );
+		scope.inTransaction( session -> assertThat( session.find( Document.class, 1 ).title ).isEqualTo( "again" ) );
+	}
+
+	@Entity(name = "Document")
+	public static class Document {
+		@Id
+		private Integer id;
+		private String title;
+		@Temporal(TemporalType.TIMESTAMP)
+		private Date modified;
+		private byte[] content;
+		@Embedded
+		private Author author;
+	}
+
+	@Embeddable
+	public static class Author {
+		private String name;
+	}
+}
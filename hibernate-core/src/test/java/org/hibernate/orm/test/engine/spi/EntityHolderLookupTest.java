@@ -0,0 +1,189 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.engine.spi;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the lookup of managed entities by identifier, for the different
+ * kinds of identifiers which the persistence context keeps unboxed
+ */
+@DomainModel(annotatedClasses = {
+		EntityHolderLookupTest.Vehicle.class,
+		EntityHolderLookupTest.Truck.class,
+		EntityHolderLookupTest.Gate.class,
+		EntityHolderLookupTest.Badge.class,
+		EntityHolderLookupTest.Country.class
+})
+@SessionFactory
+public class EntityHolderLookupTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete Vehicle" ).executeUpdate();
+			session.createMutationQuery( "delete Gate" ).executeUpdate();
+			session.createMutationQuery( "delete Badge" ).executeUpdate();
+			session.createMutationQuery( "delete Country" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testManyEntities(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long i = 1; i <= 1000; i++ ) {
+				session.persist( i % 2 == 0 ? new Truck( i ) : new Vehicle( i ) );
+			}
+		} );
+		scope.inTransaction( session -> {
+			final List<Vehicle> vehicles = session.createSelectionQuery( "from Vehicle", Vehicle.class ).getResultList();
+			assertThat( vehicles ).hasSize( 1000 );
+
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			final EntityPersister vehiclePersister = persister( session, Vehicle.class );
+			final EntityPersister truckPersister = persister( session, Truck.class );
+			assertThat( persistenceContext.getNumberOfManagedEntities() ).isEqualTo( 1000 );
+			for ( Vehicle vehicle : vehicles ) {
+				assertThat( persistenceContext.getEntity( vehicle.id, vehiclePersister ) ).isSameAs( vehicle );
+				assertThat( persistenceContext.getEntity( vehicle.id, truckPersister ) ).isSameAs( vehicle );
+				assertThat( persistenceContext.getEntity( new EntityKey( vehicle.id, vehiclePersister ) ) )
+						.isSameAs( vehicle );
+			}
+			// the key of an entity with a Long id never matches an Integer
+			assertThat( persistenceContext.getEntity( 1, vehiclePersister ) ).isNull();
+
+			for ( int i = 0; i < vehicles.size(); i += 2 ) {
+				session.detach( vehicles.get( i ) );
+			}
+			assertThat( persistenceContext.getEntityHoldersByKey() ).hasSize( 500 );
+			for ( int i = 0; i < vehicles.size(); i++ ) {
+				final Vehicle vehicle = vehicles.get( i );
+				assertThat( persistenceContext.getEntity( vehicle.id, vehiclePersister ) )
+						.isSameAs( i % 2 == 0 ? null : vehicle );
+			}
+
+			final List<Object> managed = new ArrayList<>();
+			persistenceContext.managedEntitiesIterator().forEachRemaining( managed::add );
+			assertThat( managed ).hasSize( 500 ).doesNotHaveDuplicates();
+		} );
+	}
+
+	@Test
+	public void testIdentifierKinds(SessionFactoryScope scope) {
+		final UUID uuid = UUID.randomUUID();
+		scope.inTransaction( session -> {
+			session.persist( new Gate( 7 ) );
+			session.persist( new Badge( uuid ) );
+			session.persist( new Country( "FR" ) );
+		} );
+		scope.inTransaction( session -> {
+			final Gate gate = session.find( Gate.class, 7 );
+			final Badge badge = session.find( Badge.class, uuid );
+			final Country country = session.find( Country.class, "FR" );
+
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			assertThat( persistenceContext.getEntity( 7, persister( session, Gate.class ) ) ).isSameAs( gate );
+			assertThat( persistenceContext.getEntity( 8, persister( session, Gate.class ) ) ).isNull();
+			assertThat( persistenceContext.getEntity( UUID.fromString( uuid.toString() ), persister( session, Badge.class ) ) )
+					.isSameAs( badge );
+			assertThat( persistenceContext.getEntity( "FR", persister( session, Country.class ) ) ).isSameAs( country );
+			assertThat( persistenceContext.getEntityHoldersByKey() ).hasSize( 3 );
+
+			session.remove( badge );
+			session.flush();
+			assertThat( persistenceContext.getEntity( uuid, persister( session, Badge.class ) ) ).isNull();
+			assertThat( persistenceContext.getEntityHoldersByKey() ).hasSize( 2 );
+		} );
+	}
+
+	private static EntityPersister persister(SessionImplementor session, Class<?> entityClass) {
+		return session.getFactory().getMappingMetamodel().getEntityDescriptor( entityClass );
+	}
+
+	@Entity(name = "Vehicle")
+	@Inheritance(strategy = InheritanceType.SINGLE_TABLE)
+	public static class Vehicle {
+		@Id
+		Long id;
+
+		public Vehicle() {
+		}
+
+		public Vehicle(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Truck")
+	public static class Truck extends Vehicle {
+		public Truck() {
+		}
+
+		public Truck(Long id) {
+			super( id );
+		}
+	}
+
+	@Entity(name = "Gate")
+	public static class Gate {
+		@Id
+		int id;
+
+		public Gate() {
+		}
+
+		public Gate(int id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Badge")
+	public static class Badge {
+		@Id
+		UUID id;
+
+		public Badge() {
+		}
+
+		public Badge(UUID id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Country")
+	public static class Country {
+		@Id
+		String code;
+
+		public Country() {
+		}
+
+		public Country(String code) {
+			this.code = code;
+		}
+	}
+}
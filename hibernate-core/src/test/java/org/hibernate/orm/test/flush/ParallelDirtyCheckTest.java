@@ -0,0 +1,256 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.flush;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Interceptor;
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.type.Type;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Access;
+import jakarta.persistence.AccessType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Transient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = {
+		ParallelDirtyCheckTest.Item.class,
+		ParallelDirtyCheckTest.Shipment.class,
+		ParallelDirtyCheckTest.Gauge.class
+})
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.FLUSH_PARALLEL_DIRTY_CHECK_THRESHOLD, value = "10"))
+@SessionFactory(useCollectingStatementInspector = true)
+public class ParallelDirtyCheckTest {
+	private static final int COUNT = 200;
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= COUNT; i++ ) {
+				final Item item = new Item( i, "Item " + i, i );
+				session.persist( item );
+				session.persist( new Shipment( i, item ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete Shipment" ).executeUpdate();
+			session.createMutationQuery( "delete Item" ).executeUpdate();
+			session.createMutationQuery( "delete Gauge" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testDirtyEntitiesAreUpdated(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final List<Item> items = session.createSelectionQuery( "from Item order by id", Item.class ).getResultList();
+			final List<Shipment> shipments = session.createSelectionQuery( "from Shipment order by id", Shipment.class )
+					.getResultList();
+			items.get( 3 ).name = "changed";
+			items.get( 150 ).quantity = -1;
+			shipments.get( 199 ).item = items.get( 0 );
+			inspector.clear();
+			session.flush();
+			assertThat( inspector.getSqlQueries() ).hasSize( 3 ).allMatch( sql -> sql.startsWith( "update" ) );
+		} );
+		scope.inTransaction( session -> {
+			assertThat( session.find( Item.class, 4 ).name ).isEqualTo( "changed" );
+			assertThat( session.find( Item.class, 151 ).quantity ).isEqualTo( -1 );
+			assertThat( session.find( Shipment.class, 200 ).item.id ).isEqualTo( 1 );
+			assertThat( session.find( Item.class, 5 ).name ).isEqualTo( "Item 5" );
+		} );
+	}
+
+	@Test
+	public void testStateIsExtractedInParallel(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= COUNT; i++ ) {
+				session.persist( new Gauge( i, i ) );
+			}
+		} );
+		scope.inTransaction( session -> {
+			final List<Gauge> gauges = session.createSelectionQuery( "from Gauge order by id", Gauge.class )
+					.getResultList();
+			gauges.get( COUNT - 1 ).reading = -1;
+			// reading the first gauge waits until the last one was read, which only
+			// happens if they are read by different threads
+			Gauge.lastRead = new CountDownLatch( 1 );
+			Gauge.firstReadConcurrently = null;
+			try {
+				session.flush();
+			}
+			finally {
+				Gauge.lastRead = null;
+			}
+			assertThat( Gauge.firstReadConcurrently ).isTrue();
+		} );
+		scope.inTransaction( session -> {
+			assertThat( session.find( Gauge.class, COUNT ).reading ).isEqualTo( -1 );
+			assertThat( session.find( Gauge.class, 1 ).reading ).isEqualTo( 1 );
+		} );
+	}
+
+	@Test
+	public void testEntityChangedByEarlierFlushIsUpdated(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Item> items = session.createSelectionQuery( "from Item order by id", Item.class ).getResultList();
+			// the callback of the first item changes the last one, after its dirty check was performed in parallel
+			items.get( 0 ).name = "changed";
+			items.get( 0 ).renamedOnUpdate = items.get( COUNT - 1 );
+		} );
+		scope.inTransaction( session -> {
+			assertThat( session.find( Item.class, 1 ).name ).isEqualTo( "changed" );
+			assertThat( session.find( Item.class, COUNT ).name ).isEqualTo( "changed by flush of 1" );
+		} );
+	}
+
+	@Test
+	public void testInterceptorDirtyCheckIsUsed(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		try ( Session session = scope.getSessionFactory().withOptions().interceptor( new DirtyNameInterceptor() ).openSession() ) {
+			session.getTransaction().begin();
+			session.createSelectionQuery( "from Item order by id", Item.class ).getResultList();
+			inspector.clear();
+			session.flush();
+			assertThat( inspector.getSqlQueries() ).hasSize( 1 ).allMatch( sql -> sql.startsWith( "update" ) );
+			session.getTransaction().commit();
+		}
+	}
+
+	/**
+	 * Reports the name of the item with id 1 as dirty, even though it is not
+	 */
+	private static class DirtyNameInterceptor implements Interceptor {
+		@Override
+		public int[] findDirty(
+				Object entity,
+				Object id,
+				Object[] currentState,
+				Object[] previousState,
+				String[] propertyNames,
+				Type[] types) {
+			if ( entity instanceof Item && ( (Item) entity ).id == 1 ) {
+				return new int[] { List.of( propertyNames ).indexOf( "name" ) };
+			}
+			return null;
+		}
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Integer id;
+		private String name;
+		private int quantity;
+		@Transient
+		private Item renamedOnUpdate;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name, int quantity) {
+			this.id = id;
+			this.name = name;
+			this.quantity = quantity;
+		}
+
+		@PreUpdate
+		void renameOther() {
+			if ( renamedOnUpdate != null ) {
+				renamedOnUpdate.name = "changed by flush of " + id;
+			}
+		}
+	}
+
+	@Entity(name = "Gauge")
+	@Access(AccessType.PROPERTY)
+	public static class Gauge {
+		private static volatile CountDownLatch lastRead;
+		private static volatile Boolean firstReadConcurrently;
+
+		private Integer id;
+		private int reading;
+
+		public Gauge() {
+		}
+
+		public Gauge(Integer id, int reading) {
+			this.id = id;
+			this.reading = reading;
+		}
+
+		@Id
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public int getReading() {
+			final CountDownLatch latch = lastRead;
+			if ( latch != null ) {
+				if ( id == COUNT ) {
+					latch.countDown();
+				}
+				else if ( id == 1 && firstReadConcurrently == null ) {
+					try {
+						firstReadConcurrently = latch.await( 10, TimeUnit.SECONDS );
+					}
+					catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+						firstReadConcurrently = false;
+					}
+				}
+			}
+			return reading;
+		}
+
+		public void setReading(int reading) {
+			this.reading = reading;
+		}
+	}
+
+	@Entity(name = "Shipment")
+	public static class Shipment {
+		@Id
+		private Integer id;
+		@ManyToOne
+		private Item item;
+
+		public Shipment() {
+		}
+
+		public Shipment(Integer id, Item item) {
+			this.id = id;
+			this.item = item;
+		}
+	}
+}
@@ -0,0 +1,113 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.jdbc.internal;
+
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = StatementCacheTest.City.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.STATEMENT_CACHE_SIZE, value = "1"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory
+public class StatementCacheTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new City( 1, "Lyon" ) );
+			session.persist( new City( 2, "Nantes" ) );
+			session.persist( new City( 3, "Lille" ) );
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete City" ).executeUpdate() );
+	}
+
+	@Test
+	public void testQueryStatementIsReused(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 3; i++ ) {
+				final List<String> names = session.createSelectionQuery(
+								"select name from City where id <= :id order by id",
+								String.class
+						)
+						.setParameter( "id", i )
+						.getResultList();
+				assertThat( names ).hasSize( i );
+			}
+		} );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testLeastRecentlyUsedStatementIsClosed(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 2; i++ ) {
+				assertThat( session.createSelectionQuery( "select count(*) from City", Long.class ).getSingleResult() )
+						.isEqualTo( 3L );
+				assertThat( session.createSelectionQuery( "select max(id) from City", Integer.class ).getSingleResult() )
+						.isEqualTo( 3 );
+			}
+		} );
+		// only one idle statement is kept, and it is never the one executed next
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 4 );
+	}
+
+	@Test
+	public void testStatementsAreNotReusedAcrossTransactions(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inSession( session -> {
+			for ( int i = 0; i < 2; i++ ) {
+				session.getTransaction().begin();
+				assertThat( session.find( City.class, 2 ).name ).isEqualTo( "Nantes" );
+				session.clear();
+				session.getTransaction().commit();
+			}
+		} );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 2 );
+	}
+
+	@Entity(name = "City")
+	public static class City {
+		@Id
+		Integer id;
+		String name;
+
+		public City() {
+		}
+
+		public City(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.loading.multiLoad;
+
+import java.util.List;
+
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.CacheMode;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel( annotatedClasses = MultiLoadBulkSecondLevelCacheTest.Event.class )
+@SessionFactory( generateStatistics = true )
+@ServiceRegistry( settings = @Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ) )
+public class MultiLoadBulkSecondLevelCacheTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 5; i++ ) {
+				session.persist( new Event( i, "text" + i ) );
+			}
+		} );
+		scope.getSessionFactory().getCache().evictEntityData( Event.class, 1 );
+		scope.getSessionFactory().getCache().evictEntityData( Event.class, 2 );
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Event" ).executeUpdate() );
+	}
+
+	@Test
+	public void testMultiLoadUsesSingleCacheLookup(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		final CountingListener listener = new CountingListener();
+		scope.inSession( session -> {
+			session.addEventListeners( listener );
+			final List<Event> events = session.byMultipleIds( Event.class )
+					.with( CacheMode.NORMAL )
+					.multiLoad( 1, 2, 3, 4, 5 );
+			assertThat( events ).extracting( event -> event.text )
+					.containsExactly( "text1", "text2", "text3", "text4", "text5" );
+		} );
+
+		assertThat( listener.cacheGets ).isEqualTo( 1 );
+		assertThat( listener.statements ).isEqualTo( 1 );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 3 );
+		assertThat( statistics.getSecondLevelCacheMissCount() ).isEqualTo( 2 );
+		assertThat( statistics.getEntityLoadCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testBatchFetchSkipsCachedEntities(SessionFactoryScope scope) {
+		final CountingListener listener = new CountingListener();
+		scope.inSession( session -> {
+			final Event[] references = new Event[5];
+			for ( int i = 0; i < references.length; i++ ) {
+				references[i] = session.getReference( Event.class, i + 1 );
+			}
+			session.addEventListeners( listener );
+
+			Hibernate.initialize( references[0] );
+			assertThat( listener.statements ).isEqualTo( 1 );
+			assertThat( Hibernate.isInitialized( references[1] ) ).isTrue();
+			assertThat( Hibernate.isInitialized( references[2] ) ).isFalse();
+
+			// read from the second-level cache
+			Hibernate.initialize( references[2] );
+			assertThat( listener.statements ).isEqualTo( 1 );
+		} );
+	}
+
+	private static class CountingListener extends BaseSessionEventListener {
+		int cacheGets;
+		int statements;
+
+		@Override
+		public void cacheGetStart() {
+			cacheGets++;
+		}
+
+		@Override
+		public void jdbcExecuteStatementEnd() {
+			statements++;
+		}
+	}
+
+	@Entity( name = "Event" )
+	@Cache( usage = CacheConcurrencyStrategy.READ_WRITE )
+	@BatchSize( size = 10 )
+	public static class Event {
+		@Id
+		Integer id;
+		String text;
+
+		public Event() {
+		}
+
+		public Event(Integer id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+	}
+}
@@ -0,0 +1,203 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.mapping.naturalid;
+
+import java.sql.Statement;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel( annotatedClasses = { NaturalIdIndexTest.Book.class, NaturalIdIndexTest.Author.class } )
+@SessionFactory( generateStatistics = true )
+@ServiceRegistry( settings = {
+		@Setting( name = AvailableSettings.NATURAL_ID_INDEX_SIZE, value = "16" ),
+		@Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" )
+} )
+public class NaturalIdIndexTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Book( 1, "978-0441013593", "Dune" ) );
+			session.persist( new Book( 2, "978-0553283686", "Hyperion" ) );
+			session.persist( new Author( 1, "Frank Herbert" ) );
+		} );
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Book" ).executeUpdate();
+			session.createMutationQuery( "delete from Author" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testLoadUsesIndex(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		for ( int i = 0; i < 3; i++ ) {
+			scope.inTransaction( session -> {
+				final Book book = session.bySimpleNaturalId( Book.class ).load( "978-0441013593" );
+				assertThat( book.title ).isEqualTo( "Dune" );
+			} );
+		}
+		assertThat( statistics.getNaturalIdQueryExecutionCount() ).isEqualTo( 1 );
+
+		// the indexed identifier is checked against the second-level cache
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final Book book = session.bySimpleNaturalId( Book.class ).getReference( "978-0441013593" );
+			assertThat( session.getIdentifier( book ) ).isEqualTo( 1 );
+		} );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testUncachedEntityIsNotIndexed(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		for ( int i = 0; i < 3; i++ ) {
+			scope.inTransaction( session -> {
+				final Author author = session.bySimpleNaturalId( Author.class ).load( "Frank Herbert" );
+				assertThat( author.id ).isEqualTo( 1 );
+			} );
+		}
+		assertThat( statistics.getNaturalIdQueryExecutionCount() ).isEqualTo( 3 );
+	}
+
+	@Test
+	public void testReferenceUsesIndex(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		for ( int i = 0; i < 3; i++ ) {
+			scope.inTransaction( session -> {
+				final Book book = session.bySimpleNaturalId( Book.class ).getReference( "978-0553283686" );
+				assertThat( Hibernate.unproxy( book, Book.class ).title ).isEqualTo( "Hyperion" );
+			} );
+		}
+		assertThat( statistics.getNaturalIdQueryExecutionCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testDeletionEvictsResolution(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.bySimpleNaturalId( Book.class ).load( "978-0441013593" ) );
+
+		scope.inTransaction( session -> session.remove( session.find( Book.class, 1 ) ) );
+		scope.inTransaction( session -> {
+			assertThat( session.bySimpleNaturalId( Book.class ).getReference( "978-0441013593" ) ).isNull();
+			session.persist( new Book( 3, "978-0441013593", "Dune Messiah" ) );
+		} );
+
+		scope.inTransaction( session -> {
+			final Book book = session.bySimpleNaturalId( Book.class ).getReference( "978-0441013593" );
+			assertThat( session.getIdentifier( book ) ).isEqualTo( 3 );
+		} );
+	}
+
+	@Test
+	public void testBulkDeletionClearsIndex(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.bySimpleNaturalId( Book.class ).load( "978-0441013593" ) );
+
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Book" ).executeUpdate();
+			session.persist( new Book( 3, "978-0441013593", "Dune Messiah" ) );
+		} );
+
+		scope.inTransaction( session -> {
+			final Book book = session.bySimpleNaturalId( Book.class ).getReference( "978-0441013593" );
+			assertThat( Hibernate.unproxy( book, Book.class ).title ).isEqualTo( "Dune Messiah" );
+		} );
+	}
+
+	@Test
+	public void testUncommittedRowIsNotIndexed(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			session.getTransaction().begin();
+			session.doWork( connection -> {
+				try (Statement statement = connection.createStatement()) {
+					statement.executeUpdate( "insert into Book (id, isbn, title) values (3, '978-0765326355', 'The Way of Kings')" );
+				}
+			} );
+			assertThat( session.bySimpleNaturalId( Book.class ).load( "978-0765326355" ) ).isNotNull();
+			session.getTransaction().rollback();
+		} );
+
+		scope.inTransaction( session -> {
+			assertThat( session.bySimpleNaturalId( Book.class ).getReference( "978-0765326355" ) ).isNull();
+		} );
+	}
+
+	@Test
+	public void testExternalDeletionIsDetected(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.bySimpleNaturalId( Book.class ).load( "978-0441013593" ) );
+
+		scope.inTransaction( session -> session.doWork( connection -> {
+			try (Statement statement = connection.createStatement()) {
+				statement.executeUpdate( "delete from Book where id = 1" );
+			}
+		} ) );
+		// the deletion is detected once the entity has left the second-level cache
+		scope.getSessionFactory().getCache().evictEntityData( Book.class, 1 );
+
+		scope.inTransaction( session -> {
+			assertThat( session.bySimpleNaturalId( Book.class ).getReference( "978-0441013593" ) ).isNull();
+			assertThat( session.bySimpleNaturalId( Book.class ).load( "978-0441013593" ) ).isNull();
+		} );
+	}
+
+	@Entity( name = "Book" )
+	@Cache( usage = CacheConcurrencyStrategy.READ_WRITE )
+	public static class Book {
+		@Id
+		Integer id;
+		@NaturalId
+		String isbn;
+		String title;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String isbn, String title) {
+			this.id = id;
+			this.isbn = isbn;
+			this.title = title;
+		}
+	}
+
+	@Entity( name = "Author" )
+	public static class Author {
+		@Id
+		Integer id;
+		@NaturalId
+		String name;
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,164 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.property;
+
+import java.util.Arrays;
+
+import org.hibernate.PropertyAccessException;
+import org.hibernate.annotations.AttributeAccessor;
+import org.hibernate.bytecode.internal.ReflectionOptimizerMethodHandleImpl;
+import org.hibernate.bytecode.spi.ReflectionOptimizer;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.property.access.internal.PropertyAccessStrategyFieldHandleImpl;
+import org.hibernate.property.access.spi.GetterFieldHandleImpl;
+import org.hibernate.property.access.spi.SetterFieldHandleImpl;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Access;
+import jakarta.persistence.AccessType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DomainModel( annotatedClasses = {
+		MethodHandlePropertyAccessTest.Person.class,
+		MethodHandlePropertyAccessTest.Account.class
+} )
+@SessionFactory
+@ServiceRegistry( settings = @Setting( name = AvailableSettings.USE_METHOD_HANDLE_ACCESS, value = "true" ) )
+public class MethodHandlePropertyAccessTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Person" ).executeUpdate() );
+	}
+
+	@Test
+	public void testAccess(SessionFactoryScope scope) {
+		final EntityPersister persister = scope.getSessionFactory().getMappingMetamodel()
+				.getEntityDescriptor( Person.class );
+		assertThat( persister.getRepresentationStrategy().getReflectionOptimizer() )
+				.isInstanceOf( ReflectionOptimizerMethodHandleImpl.class );
+		assertThat( persister.findAttributeMapping( "nickname" ).getPropertyAccess().getGetter() )
+				.isInstanceOf( GetterFieldHandleImpl.class );
+		assertThat( persister.findAttributeMapping( "nickname" ).getPropertyAccess().getSetter() )
+				.isInstanceOf( SetterFieldHandleImpl.class );
+
+		scope.inTransaction( session -> session.persist( new Person( 1, "Robert", "Bob", 42 ) ) );
+
+		scope.inTransaction( session -> {
+			final Person person = session.find( Person.class, 1 );
+			assertThat( person.name ).isEqualTo( "Robert" );
+			assertThat( person.nickname ).isEqualTo( "Bob" );
+			assertThat( person.age ).isEqualTo( 42 );
+			person.nickname = "Bobby";
+			person.age = 43;
+		} );
+
+		scope.inTransaction( session -> {
+			final Person person = session.find( Person.class, 1 );
+			assertThat( person.nickname ).isEqualTo( "Bobby" );
+			assertThat( person.age ).isEqualTo( 43 );
+		} );
+	}
+
+	@Test
+	public void testAccessorExceptions(SessionFactoryScope scope) {
+		final ReflectionOptimizer.AccessOptimizer accessOptimizer = scope.getSessionFactory().getMappingMetamodel()
+				.getEntityDescriptor( Account.class )
+				.getRepresentationStrategy()
+				.getReflectionOptimizer()
+				.getAccessOptimizer();
+		final int balance = Arrays.asList( accessOptimizer.getPropertyNames() ).indexOf( "balance" );
+		final Account account = new Account();
+
+		// an exception thrown by the getter itself is not a rejected argument
+		account.failing = true;
+		assertThatThrownBy( () -> accessOptimizer.getPropertyValues( account ) )
+				.isInstanceOf( PropertyAccessException.class )
+				.hasCauseInstanceOf( NullPointerException.class );
+		assertThat( account.balanceReads ).isEqualTo( 1 );
+
+		// a value of the wrong type is rejected before the setter is called
+		final Object[] values = new Object[accessOptimizer.getPropertyNames().length];
+		values[balance] = "not a balance";
+		assertThatThrownBy( () -> accessOptimizer.setPropertyValues( account, values ) )
+				.isInstanceOf( PropertyAccessException.class );
+		assertThat( account.balanceWrites ).isEqualTo( 0 );
+	}
+
+	@Entity( name = "Account" )
+	@Access( AccessType.PROPERTY )
+	public static class Account {
+		private Integer id;
+		private long balance;
+		private String label;
+		boolean failing;
+		int balanceReads;
+		int balanceWrites;
+
+		@Id
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public long getBalance() {
+			balanceReads++;
+			if ( failing ) {
+				throw new NullPointerException( "failing" );
+			}
+			return balance;
+		}
+
+		public void setBalance(long balance) {
+			balanceWrites++;
+			this.balance = balance;
+		}
+
+		public String getLabel() {
+			return label;
+		}
+
+		public void setLabel(String label) {
+			this.label = label;
+		}
+	}
+
+	@Entity( name = "Person" )
+	public static class Person {
+		@Id
+		private Integer id;
+		private String name;
+		@AttributeAccessor( strategy = PropertyAccessStrategyFieldHandleImpl.class )
+		private String nickname;
+		private int age;
+
+		public Person() {
+		}
+
+		public Person(Integer id, String name, String nickname, int age) {
+			this.id = id;
+			this.name = name;
+			this.nickname = nickname;
+			this.age = age;
+		}
+	}
+}
@@ -0,0 +1,170 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.criteria.JpaCriteriaQuery;
+import org.hibernate.query.criteria.JpaParameterExpression;
+import org.hibernate.query.criteria.JpaRoot;
+import org.hibernate.stat.QueryInterpretationCacheStatistics;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.stat.QueryInterpretationCacheStatistics.SQL_TRANSLATIONS;
+
+@DomainModel(annotatedClasses = InClauseParameterPaddingBucketsTest.Person.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"),
+		@Setting(name = AvailableSettings.IN_CLAUSE_PARAMETER_PADDING, value = "true"),
+		@Setting(name = AvailableSettings.IN_CLAUSE_PARAMETER_PADDING_BUCKETS, value = "10, 5"),
+		@Setting(name = AvailableSettings.DIALECT_NATIVE_PARAM_MARKERS, value = "false")
+})
+@SessionFactory(useCollectingStatementInspector = true)
+public class InClauseParameterPaddingBucketsTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 25; i++ ) {
+				final Person person = new Person();
+				person.id = i;
+				person.name = "Person " + i;
+				session.persist( person );
+			}
+		} );
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete Person" ).executeUpdate() );
+	}
+
+	@Test
+	public void testHqlPadding(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final String hql = "from Person where id in :ids order by id";
+			for ( int size : new int[] { 1, 2, 3, 4, 5, 6, 10, 11, 21 } ) {
+				inspector.clear();
+				assertThat( session.createQuery( hql, Person.class ).setParameter( "ids", ids( size ) ).getResultList() )
+						.extracting( p -> p.id )
+						.containsExactlyElementsOf( ids( size ) );
+				assertThat( parameterCount( inspector ) ).isEqualTo( expectedParameterCount( size ) );
+			}
+		} );
+
+		// lists padded to the same length share a translation, lists of one or two values are not padded
+		final QueryInterpretationCacheStatistics translations =
+				scope.getSessionFactory().getStatistics().getQueryInterpretationCacheStatistics( SQL_TRANSLATIONS );
+		assertThat( translations.getMissCount() ).isEqualTo( 6 );
+		assertThat( translations.getHitCount() ).isEqualTo( 3 );
+	}
+
+	@Test
+	public void testNativePadding(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final String sql = "select * from Person where id in (:ids) order by id";
+			for ( int size : new int[] { 1, 2, 3, 6, 11 } ) {
+				inspector.clear();
+				assertThat( session.createNativeQuery( sql, Person.class ).setParameter( "ids", ids( size ) ).getResultList() )
+						.extracting( p -> p.id )
+						.containsExactlyElementsOf( ids( size ) );
+				assertThat( parameterCount( inspector ) ).isEqualTo( expectedParameterCount( size ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testCriteriaPadding(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final HibernateCriteriaBuilder cb = session.getCriteriaBuilder();
+			final JpaCriteriaQuery<Person> query = cb.createQuery( Person.class );
+			final JpaRoot<Person> root = query.from( Person.class );
+			final JpaParameterExpression<List> ids = cb.parameter( List.class, "ids" );
+			query.where( root.get( "id" ).in( ids ) ).orderBy( cb.asc( root.get( "id" ) ) );
+			for ( int size : new int[] { 3, 7, 12 } ) {
+				inspector.clear();
+				assertThat( session.createQuery( query ).setParameter( "ids", ids( size ) ).getResultList() )
+						.extracting( p -> p.id )
+						.containsExactlyElementsOf( ids( size ) );
+				assertThat( parameterCount( inspector ) ).isEqualTo( expectedParameterCount( size ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testMultiLoadPadding(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			inspector.clear();
+			assertThat( session.byMultipleIds( Person.class ).multiLoad( 1, 2, 3 ) )
+					.extracting( p -> p.id )
+					.containsExactly( 1, 2, 3 );
+			assertThat( parameterCount( inspector ) ).isEqualTo( 5 );
+		} );
+		scope.inTransaction( session -> {
+			inspector.clear();
+			assertThat( session.byMultipleIds( Person.class ).multiLoad( 1, 2 ) )
+					.extracting( p -> p.id )
+					.containsExactly( 1, 2 );
+			assertThat( parameterCount( inspector ) ).isEqualTo( 2 );
+		} );
+		scope.inTransaction( session -> {
+			inspector.clear();
+			assertThat( session.byMultipleIds( Person.class ).enableOrderedReturn( false ).multiLoad( ids( 7 ) ) )
+					.extracting( p -> p.id )
+					.containsExactlyInAnyOrderElementsOf( ids( 7 ) );
+			assertThat( parameterCount( inspector ) ).isEqualTo( 10 );
+		} );
+	}
+
+	private static long parameterCount(SQLStatementInspector inspector) {
+		return inspector.getSqlQueries().get( 0 ).chars().filter( c -> c == '?' ).count();
+	}
+
+	private static int expectedParameterCount(int size) {
+		if ( size <= 2 ) {
+			return size;
+		}
+		return size <= 5 ? 5 : ( size + 9 ) / 10 * 10;
+	}
+
+	private static List<Integer> ids(int size) {
+		final List<Integer> ids = new ArrayList<>( size );
+		for ( int i = 1; i <= size; i++ ) {
+			ids.add( i );
+		}
+		return ids;
+	}
+
+	@Entity(name = "Person")
+	public static class Person {
+		@Id
+		private Integer id;
+
+		private String name;
+	}
+}
@@ -0,0 +1,113 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.QueryInterpretationCacheStatistics;
+
+import org.hibernate.testing.orm.junit.BaseUnitTest;
+import org.hibernate.testing.util.ServiceRegistryUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.stat.QueryInterpretationCacheStatistics.HQL_INTERPRETATIONS;
+
+@BaseUnitTest
+public class QueryPlanCacheWarmupTest {
+
+	@Test
+	public void testCacheIsWarmedUpAfterRestart(@TempDir Path tempDir) {
+		final Path warmupFile = tempDir.resolve( "query-plans.bin" );
+
+		withSessionFactory( warmupFile, Employee.class, sessionFactory -> {
+			assertThat( sessionFactory.getQueryEngine().getInterpretationCache().getNumberOfCachedHqlInterpretations() )
+					.isZero();
+			sessionFactory.inTransaction( session -> {
+				session.createQuery( "from Employee where name = :name", Employee.class )
+						.setParameter( "name", "Gavin" )
+						.getResultList();
+				session.createQuery( "select count(*) from Employee" ).getResultList();
+			} );
+		} );
+		assertThat( warmupFile ).exists();
+
+		withSessionFactory( warmupFile, Employee.class, sessionFactory -> {
+			assertThat( sessionFactory.getQueryEngine().getInterpretationCache().getNumberOfCachedHqlInterpretations() )
+					.isEqualTo( 2 );
+			sessionFactory.getStatistics().clear();
+			sessionFactory.inTransaction( session -> {
+				session.createQuery( "from Employee where name = :name", Employee.class )
+						.setParameter( "name", "Steve" )
+						.getResultList();
+				session.createQuery( "select count(*) from Employee" ).getResultList();
+			} );
+			final QueryInterpretationCacheStatistics hql =
+					sessionFactory.getStatistics().getQueryInterpretationCacheStatistics( HQL_INTERPRETATIONS );
+			assertThat( hql.getMissCount() ).isZero();
+			assertThat( hql.getHitCount() ).isEqualTo( 2 );
+		} );
+	}
+
+	@Test
+	public void testFileIgnoredWhenDomainModelChanges(@TempDir Path tempDir) throws Exception {
+		final Path warmupFile = tempDir.resolve( "query-plans.bin" );
+
+		withSessionFactory( warmupFile, Employee.class, sessionFactory -> sessionFactory.inTransaction(
+				session -> session.createQuery( "from Employee", Employee.class ).getResultList()
+		) );
+		assertThat( Files.size( warmupFile ) ).isPositive();
+
+		withSessionFactory( warmupFile, Department.class, sessionFactory ->
+				assertThat( sessionFactory.getQueryEngine().getInterpretationCache().getNumberOfCachedHqlInterpretations() )
+						.isZero()
+		);
+	}
+
+	private static void withSessionFactory(Path warmupFile, Class<?> entityClass, Consumer<SessionFactoryImplementor> action) {
+		final StandardServiceRegistry ssr = ServiceRegistryUtil.serviceRegistryBuilder()
+				.applySetting( AvailableSettings.QUERY_PLAN_CACHE_WARMUP_FILE, warmupFile.toString() )
+				.applySetting( AvailableSettings.QUERY_PLAN_CACHE_MAX_SIZE, 100 )
+				.applySetting( AvailableSettings.GENERATE_STATISTICS, true )
+				.applySetting( AvailableSettings.HBM2DDL_AUTO, "create-drop" )
+				.build();
+		try ( SessionFactoryImplementor sessionFactory = (SessionFactoryImplementor) new MetadataSources( ssr )
+				.addAnnotatedClass( entityClass )
+				.buildMetadata()
+				.buildSessionFactory() ) {
+			action.accept( sessionFactory );
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( ssr );
+		}
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee {
+		@Id
+		private Integer id;
+		private String name;
+	}
+
+	@Entity(name = "Department")
+	public static class Department {
+		@Id
+		private Integer id;
+		private String name;
+	}
+}
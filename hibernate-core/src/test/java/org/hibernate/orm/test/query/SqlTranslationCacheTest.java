@@ -0,0 +1,113 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.QueryInterpretationCacheStatistics;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.stat.QueryInterpretationCacheStatistics.SELECT_QUERY_PLANS;
+import static org.hibernate.stat.QueryInterpretationCacheStatistics.SQL_TRANSLATIONS;
+
+@DomainModel(annotatedClasses = SqlTranslationCacheTest.Employee.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"),
+		@Setting(name = AvailableSettings.QUERY_PLAN_CACHE_MAX_SIZE, value = "100")
+})
+@SessionFactory
+public class SqlTranslationCacheTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 5; i++ ) {
+				final Employee employee = new Employee();
+				employee.id = i;
+				employee.name = "Employee " + i;
+				session.persist( employee );
+			}
+		} );
+		scope.getSessionFactory().getQueryEngine().getInterpretationCache().close();
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete Employee" ).executeUpdate() );
+	}
+
+	@Test
+	public void testListParameterSizes(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			final String hql = "from Employee where id in :ids order by id";
+			assertThat( session.createQuery( hql, Employee.class ).setParameter( "ids", List.of( 1, 2 ) ).getResultList() )
+					.extracting( e -> e.id ).containsExactly( 1, 2 );
+			assertThat( session.createQuery( hql, Employee.class ).setParameter( "ids", List.of( 1, 2, 3 ) ).getResultList() )
+					.extracting( e -> e.id ).containsExactly( 1, 2, 3 );
+			assertThat( session.createQuery( hql, Employee.class ).setParameter( "ids", List.of( 4, 5 ) ).getResultList() )
+					.extracting( e -> e.id ).containsExactly( 4, 5 );
+			assertThat( session.createQuery( hql, Employee.class ).setParameter( "ids", 3 ).getResultList() )
+					.extracting( e -> e.id ).containsExactly( 3 );
+			assertThat( session.createQuery( hql, Employee.class ).setParameter( "ids", List.of( 2, 3, 5 ) ).getResultList() )
+					.extracting( e -> e.id ).containsExactly( 2, 3, 5 );
+		} );
+
+		// the plan itself is cached, and translated once for each number of values
+		final QueryInterpretationCacheStatistics plans =
+				statistics.getQueryInterpretationCacheStatistics( SELECT_QUERY_PLANS );
+		assertThat( plans.getMissCount() ).isEqualTo( 1 );
+		assertThat( plans.getHitCount() ).isEqualTo( 4 );
+		final QueryInterpretationCacheStatistics translations =
+				statistics.getQueryInterpretationCacheStatistics( SQL_TRANSLATIONS );
+		assertThat( translations.getMissCount() ).isEqualTo( 3 );
+		assertThat( translations.getHitCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testAlternatingLimits(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 3; i++ ) {
+				assertThat( session.createQuery( "from Employee order by id", Employee.class )
+									.setMaxResults( 2 )
+									.getResultList() )
+						.extracting( e -> e.id ).containsExactly( 1, 2 );
+				assertThat( session.createQuery( "from Employee order by id", Employee.class )
+									.getResultList() )
+						.hasSize( 5 );
+			}
+		} );
+
+		final QueryInterpretationCacheStatistics translations =
+				statistics.getQueryInterpretationCacheStatistics( SQL_TRANSLATIONS );
+		assertThat( translations.getMissCount() ).isEqualTo( 2 );
+		assertThat( translations.getHitCount() ).isEqualTo( 4 );
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee {
+		@Id
+		private Integer id;
+		private String name;
+	}
+}
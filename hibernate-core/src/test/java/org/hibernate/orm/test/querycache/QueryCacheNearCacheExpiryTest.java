@@ -0,0 +1,94 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.querycache;
+
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.cache.CachingRegionFactory;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel( annotatedClasses = QueryCacheNearCacheExpiryTest.Book.class )
+@SessionFactory( generateStatistics = true )
+@ServiceRegistry( settings = {
+		@Setting( name = AvailableSettings.USE_QUERY_CACHE, value = "true" ),
+		@Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+		@Setting( name = AvailableSettings.QUERY_CACHE_NEAR_CACHE_SIZE, value = "10" ),
+		@Setting( name = AvailableSettings.CACHE_REGION_FACTORY,
+				value = "org.hibernate.orm.test.querycache.QueryCacheNearCacheExpiryTest$NoTimeoutRegionFactory" )
+} )
+public class QueryCacheNearCacheExpiryTest {
+	private static final String QUERY = "select title from Book order by id";
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Book( 1L, "Dune" ) ) );
+		scope.getSessionFactory().getCache().evictQueryRegions();
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Book" ).executeUpdate() );
+	}
+
+	@Test
+	public void testExpiredResultsAreReadFromRegion(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+
+		for ( int i = 0; i < 4; i++ ) {
+			assertThat( executeQuery( scope ) ).containsExactly( "Dune" );
+		}
+		// the entries of the near cache expire at once, so every hit is read from
+		// the region, and checked against the update timestamps
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 3 );
+		assertThat( statistics.getUpdateTimestampsCacheHitCount() + statistics.getUpdateTimestampsCacheMissCount() )
+				.isEqualTo( 3 );
+	}
+
+	private static List<String> executeQuery(SessionFactoryScope scope) {
+		return scope.fromTransaction( session -> session.createSelectionQuery( QUERY, String.class )
+				.setCacheable( true )
+				.getResultList() );
+	}
+
+	public static class NoTimeoutRegionFactory extends CachingRegionFactory {
+		@Override
+		public long getTimeout() {
+			return 0;
+		}
+	}
+
+	@Entity( name = "Book" )
+	public static class Book {
+		@Id
+		Long id;
+		String title;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.querycache;
+
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel( annotatedClasses = QueryCacheNearCacheTest.Book.class )
+@SessionFactory( generateStatistics = true )
+@ServiceRegistry( settings = {
+		@Setting( name = AvailableSettings.USE_QUERY_CACHE, value = "true" ),
+		@Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+		@Setting( name = AvailableSettings.QUERY_CACHE_NEAR_CACHE_SIZE, value = "3" )
+} )
+public class QueryCacheNearCacheTest {
+	private static final String QUERY = "select title from Book order by id";
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Book( 1L, "Dune" ) );
+			session.persist( new Book( 2L, "Hyperion" ) );
+		} );
+		scope.getSessionFactory().getCache().evictQueryRegions();
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Book" ).executeUpdate() );
+	}
+
+	@Test
+	public void testNearCacheHitsSkipTimestamps(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+
+		// miss and put, then a hit from the region, checked against the update timestamps
+		assertThat( executeQuery( scope ) ).containsExactly( "Dune", "Hyperion" );
+		assertThat( executeQuery( scope ) ).containsExactly( "Dune", "Hyperion" );
+		final long timestampLookups = timestampLookups( statistics );
+		assertThat( timestampLookups ).isEqualTo( 1 );
+
+		for ( int i = 0; i < 5; i++ ) {
+			assertThat( executeQuery( scope ) ).containsExactly( "Dune", "Hyperion" );
+		}
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 6 );
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 1 );
+		assertThat( timestampLookups( statistics ) ).isEqualTo( timestampLookups );
+	}
+
+	@Test
+	public void testInvalidationEvictsNearCache(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		executeQuery( scope );
+		executeQuery( scope );
+
+		scope.inTransaction( session -> session.find( Book.class, 2L ).title = "Endymion" );
+
+		// the results in the region are stale, and are not returned by the near cache
+		assertThat( executeQuery( scope ) ).containsExactly( "Dune", "Endymion" );
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 2 );
+		assertThat( statistics.getQueryCacheStaleCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryStatistics( QUERY ).getCacheStaleCount() ).isEqualTo( 1 );
+
+		assertThat( executeQuery( scope ) ).containsExactly( "Dune", "Endymion" );
+		assertThat( executeQuery( scope ) ).containsExactly( "Dune", "Endymion" );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 3 );
+	}
+
+	@Test
+	public void testResultsLargerThanNearCacheAreNotKept(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Book( 3L, "Ubik" ) );
+			session.persist( new Book( 4L, "Solaris" ) );
+		} );
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		for ( int i = 0; i < 3; i++ ) {
+			assertThat( executeQuery( scope ) ).hasSize( 4 );
+		}
+		// every hit was read from the region
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 2 );
+		assertThat( timestampLookups( statistics ) ).isEqualTo( 2 );
+	}
+
+	private static List<String> executeQuery(SessionFactoryScope scope) {
+		return scope.fromTransaction( session -> session.createSelectionQuery( QUERY, String.class )
+				.setCacheable( true )
+				.getResultList() );
+	}
+
+	private static long timestampLookups(StatisticsImplementor statistics) {
+		return statistics.getUpdateTimestampsCacheHitCount() + statistics.getUpdateTimestampsCacheMissCount();
+	}
+
+	@Entity( name = "Book" )
+	public static class Book {
+		@Id
+		Long id;
+		String title;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
@@ -0,0 +1,148 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.sql.results;
+
+import org.hibernate.annotations.JavaType;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.LongJavaType;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Tuple;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel( annotatedClasses = NumericColumnReadingTest.Measurement.class )
+@SessionFactory
+public class NumericColumnReadingTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Measurement( 1, 3_000_000_000L, 1_000, 2.5d, 0.25f, (short) 7, (byte) 3 ) );
+			session.persist( new Measurement( 2, null, null, null, null, null, null ) );
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Measurement" ).executeUpdate() );
+	}
+
+	@Test
+	public void testNumericAttributes(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Measurement measurement = session.find( Measurement.class, 1 );
+			assertThat( measurement.total ).isEqualTo( 3_000_000_000L );
+			assertThat( measurement.quantity ).isEqualTo( 1_000L );
+			assertThat( measurement.amount ).isEqualTo( 2.5d );
+			assertThat( measurement.ratio ).isEqualTo( 0.25f );
+			assertThat( measurement.priority ).isEqualTo( (short) 7 );
+			assertThat( measurement.flags ).isEqualTo( (byte) 3 );
+
+			final Measurement empty = session.find( Measurement.class, 2 );
+			assertThat( empty.total ).isNull();
+			assertThat( empty.quantity ).isNull();
+			assertThat( empty.amount ).isNull();
+			assertThat( empty.ratio ).isNull();
+			assertThat( empty.priority ).isNull();
+			assertThat( empty.flags ).isNull();
+		} );
+	}
+
+	@Test
+	public void testNumericProjections(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Tuple tuple = session.createSelectionQuery(
+					"select m.total as total, m.quantity as quantity, m.amount as amount, m.ratio as ratio from Measurement m where m.id = 1",
+					Tuple.class
+			).getSingleResult();
+			assertThat( tuple.get( "total" ) ).isEqualTo( 3_000_000_000L );
+			assertThat( tuple.get( "quantity" ) ).isEqualTo( 1_000L );
+			assertThat( tuple.get( "amount" ) ).isEqualTo( 2.5d );
+			assertThat( tuple.get( "ratio" ) ).isEqualTo( 0.25f );
+
+			assertThat( session.createSelectionQuery( "select count(m) from Measurement m", Long.class )
+					.getSingleResult() ).isEqualTo( 2L );
+			assertThat( session.createSelectionQuery( "select m.quantity from Measurement m order by m.id", Long.class )
+					.getResultList() ).containsExactly( 1_000L, null );
+		} );
+	}
+
+	@Test
+	public void testCustomJavaType(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Measurement measurement = session.find( Measurement.class, 1 );
+			assertThat( measurement.adjusted ).isEqualTo( 5L );
+			assertThat( session.createSelectionQuery( "select m.adjusted from Measurement m where m.id = 1", Long.class )
+					.getSingleResult() ).isEqualTo( 5L );
+		} );
+	}
+
+	@Entity( name = "Measurement" )
+	public static class Measurement {
+		@Id
+		Integer id;
+		Long total;
+		@JdbcTypeCode( SqlTypes.INTEGER )
+		Long quantity;
+		Double amount;
+		Float ratio;
+		Short priority;
+		Byte flags;
+		@JavaType( OffsetLongJavaType.class )
+		Long adjusted;
+
+		public Measurement() {
+		}
+
+		public Measurement(
+				Integer id,
+				Long total,
+				Integer quantity,
+				Double amount,
+				Float ratio,
+				Short priority,
+				Byte flags) {
+			this.id = id;
+			this.total = total;
+			this.quantity = quantity == null ? null : quantity.longValue();
+			this.amount = amount;
+			this.ratio = ratio;
+			this.priority = priority;
+			this.flags = flags;
+			this.adjusted = flags == null ? null : 5L;
+		}
+	}
+
+	/**
+	 * Stores values with an offset, which only its own wrap() removes
+	 */
+	public static class OffsetLongJavaType extends LongJavaType {
+		private static final long OFFSET = 1000L;
+
+		@Override
+		public <X> X unwrap(Long value, Class<X> type, WrapperOptions options) {
+			return super.unwrap( value == null ? null : value + OFFSET, type, options );
+		}
+
+		@Override
+		public <X> Long wrap(X value, WrapperOptions options) {
+			final Long wrapped = super.wrap( value, options );
+			return wrapped == null ? null : wrapped - OFFSET;
+		}
+	}
+}
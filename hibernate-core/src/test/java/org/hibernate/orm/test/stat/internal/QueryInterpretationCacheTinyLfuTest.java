@@ -0,0 +1,105 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stat.internal;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.internal.QueryInterpretationCacheTinyLfuImpl;
+import org.hibernate.stat.QueryInterpretationCacheStatistics;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.stat.QueryInterpretationCacheStatistics.HQL_INTERPRETATIONS;
+import static org.hibernate.stat.QueryInterpretationCacheStatistics.NATIVE_QUERY_PARAMETERS;
+
+@DomainModel(annotatedClasses = QueryInterpretationCacheTinyLfuTest.Employee.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"),
+		@Setting(name = AvailableSettings.QUERY_PLAN_CACHE_EVICTION, value = "tinylfu"),
+		@Setting(name = AvailableSettings.QUERY_PLAN_CACHE_MAX_SIZE, value = "10")
+})
+@SessionFactory
+public class QueryInterpretationCacheTinyLfuTest {
+	private Statistics statistics;
+
+	@BeforeEach
+	public void cleanup(SessionFactoryScope scope) {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		statistics = sessionFactory.getStatistics();
+		statistics.clear();
+		sessionFactory.getQueryEngine().getInterpretationCache().close();
+	}
+
+	@Test
+	public void testImplementationSelected(SessionFactoryScope scope) {
+		assertThat( scope.getSessionFactory().getQueryEngine().getInterpretationCache() )
+				.isInstanceOf( QueryInterpretationCacheTinyLfuImpl.class );
+	}
+
+	@Test
+	public void testHitsAndMisses(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createQuery( "from Employee", Employee.class ).getResultList();
+			session.createQuery( "from Employee", Employee.class ).getResultList();
+			session.createNativeQuery( "select * from Employee where id = :id", Employee.class )
+					.setParameter( "id", 1 )
+					.getResultList();
+			session.createNativeQuery( "select * from Employee where id = :id", Employee.class )
+					.setParameter( "id", 1 )
+					.getResultList();
+		} );
+
+		final QueryInterpretationCacheStatistics hql = statistics.getQueryInterpretationCacheStatistics( HQL_INTERPRETATIONS );
+		assertThat( hql.getHitCount() ).isEqualTo( 1 );
+		assertThat( hql.getMissCount() ).isEqualTo( 1 );
+		assertThat( hql.getHitRatio() ).isEqualTo( 0.5 );
+
+		final QueryInterpretationCacheStatistics nativeParams = statistics.getQueryInterpretationCacheStatistics( NATIVE_QUERY_PARAMETERS );
+		assertThat( nativeParams.getHitCount() ).isEqualTo( 1 );
+		assertThat( nativeParams.getMissCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testFrequentQueriesSurviveDistinctQueries(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 100; i++ ) {
+				session.createQuery( "from Employee where id = " + i, Employee.class ).getResultList();
+				if ( i % 5 == 0 ) {
+					session.createQuery( "from Employee where name = 'frequent'", Employee.class ).getResultList();
+				}
+			}
+		} );
+
+		final QueryInterpretationCacheStatistics hql = statistics.getQueryInterpretationCacheStatistics( HQL_INTERPRETATIONS );
+		assertThat( hql.getEvictionCount() ).isGreaterThanOrEqualTo( 90 );
+		assertThat( scope.getSessionFactory().getQueryEngine().getInterpretationCache().getNumberOfCachedHqlInterpretations() )
+				.isLessThanOrEqualTo( 10 );
+
+		final long misses = hql.getMissCount();
+		scope.inTransaction( session -> session.createQuery( "from Employee where name = 'frequent'", Employee.class )
+				.getResultList() );
+		assertThat( hql.getMissCount() ).isEqualTo( misses );
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee {
+		@Id
+		private Integer id;
+		private String name;
+	}
+}
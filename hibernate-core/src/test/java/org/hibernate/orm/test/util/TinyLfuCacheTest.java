@@ -0,0 +1,122 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.internal.util.collections.TinyLfuCache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TinyLfuCacheTest {
+	@Test
+	public void testBasicOperations() {
+		final TinyLfuCache<String, Integer> cache = new TinyLfuCache<>( 10 );
+		assertNull( cache.put( "a", 1 ) );
+		assertEquals( 1, cache.put( "a", 2 ) );
+		assertEquals( 2, cache.putIfAbsent( "a", 3 ) );
+		assertEquals( 2, cache.get( "a" ) );
+		assertEquals( 1, cache.size() );
+		assertEquals( 5, cache.computeIfAbsent( "b", key -> 5 ) );
+		assertEquals( 2, cache.entrySet().size() );
+		assertEquals( 2, cache.remove( "a" ) );
+		assertNull( cache.get( "a" ) );
+		cache.clear();
+		assertTrue( cache.isEmpty() );
+	}
+
+	@Test
+	public void testSizeIsBounded() {
+		final List<String> evicted = new ArrayList<>();
+		final TinyLfuCache<String, Integer> cache = new TinyLfuCache<>( 100, (key, value) -> evicted.add( key ) );
+		for ( int i = 0; i < 1_000; i++ ) {
+			cache.put( "key" + i, i );
+			assertTrue( cache.size() <= 100 );
+		}
+		assertEquals( 900, evicted.size() );
+	}
+
+	@Test
+	public void testWeightIsBounded() {
+		final List<String> evicted = new ArrayList<>();
+		final TinyLfuCache<String, String> cache = new TinyLfuCache<>(
+				100,
+				50,
+				(key, value) -> value.length(),
+				(key, value) -> evicted.add( key )
+		);
+		for ( int i = 0; i < 100; i++ ) {
+			cache.put( "key" + i, "0123456789" );
+			assertTrue( cache.size() <= 5 );
+		}
+		assertEquals( 95, evicted.size() );
+
+		// an entry heavier than the bound is never retained
+		cache.put( "heavy", "0123456789".repeat( 6 ) );
+		assertNull( cache.get( "heavy" ) );
+
+		// growing an entry evicts others
+		final String retained = cache.keySet().iterator().next();
+		cache.put( retained, "0123456789".repeat( 4 ) );
+		assertTrue( cache.values().stream().mapToInt( String::length ).sum() <= 50 );
+		assertTrue( cache.size() < 4 );
+	}
+
+	@Test
+	public void testRemovedEntriesAreNotEvicted() {
+		final List<String> evicted = new ArrayList<>();
+		final TinyLfuCache<String, Integer> cache = new TinyLfuCache<>( 10, (key, value) -> evicted.add( key ) );
+		for ( int i = 0; i < 10; i++ ) {
+			cache.put( "key" + i, i );
+		}
+		for ( int i = 0; i < 10; i++ ) {
+			assertEquals( i, cache.remove( "key" + i ) );
+		}
+		assertTrue( cache.isEmpty() );
+		for ( int i = 0; i < 10; i++ ) {
+			cache.put( "other" + i, i );
+		}
+		assertEquals( 10, cache.size() );
+		assertTrue( evicted.isEmpty() );
+	}
+
+	@Test
+	public void testFrequentlyUsedEntriesSurviveScan() {
+		final TinyLfuCache<String, Integer> cache = new TinyLfuCache<>( 100 );
+		for ( int i = 0; i < 50; i++ ) {
+			cache.put( "hot" + i, i );
+		}
+		for ( int round = 0; round < 5; round++ ) {
+			for ( int i = 0; i < 50; i++ ) {
+				assertNotNull( cache.get( "hot" + i ) );
+			}
+		}
+
+		// keys which are each used only once, in between regular uses of the hot
+		// keys: each hot key is only used once every 100 cold keys, so an LRU cache
+		// of the same size would hold on to the cold keys instead
+		for ( int i = 0; i < 10_000; i++ ) {
+			final String key = "cold" + i;
+			if ( cache.get( key ) == null ) {
+				cache.put( key, i );
+			}
+			if ( i % 2 == 0 ) {
+				assertNotNull( cache.get( "hot" + ( i / 2 ) % 50 ) );
+			}
+		}
+
+		for ( int i = 0; i < 50; i++ ) {
+			assertEquals( i, cache.get( "hot" + i ) );
+		}
+	}
+}
@@ -31,6 +31,9 @@ public class JdbcPreparedStatementCreationEvent extends Event implements Hiberna
 	@Label("PreparedStatement Creation Time")
 	public long executionTime;
 
+	@Label("PreparedStatement Reused From Cache")
+	public boolean cached;
+
 	@Override
 	public String toString() {
 		return NAME;
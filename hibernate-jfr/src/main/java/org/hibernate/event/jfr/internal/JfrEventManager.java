@@ -177,12 +177,21 @@ public class JfrEventManager implements EventManager {
 	public void completeJdbcPreparedStatementCreationEvent(
 			HibernateMonitoringEvent event,
 			String preparedStatementSql) {
+		completeJdbcPreparedStatementCreationEvent( event, preparedStatementSql, false );
+	}
+
+	@Override
+	public void completeJdbcPreparedStatementCreationEvent(
+			HibernateMonitoringEvent event,
+			String preparedStatementSql,
+			boolean cached) {
 		if ( event != null ) {
 			final JdbcPreparedStatementCreationEvent jdbcPreparedStatementCreation = (JdbcPreparedStatementCreationEvent) event;
 			jdbcPreparedStatementCreation.end();
 			if ( jdbcPreparedStatementCreation.shouldCommit() ) {
 				jdbcPreparedStatementCreation.executionTime = getExecutionTime( jdbcPreparedStatementCreation.startedAt );
 				jdbcPreparedStatementCreation.sql = preparedStatementSql;
+				jdbcPreparedStatementCreation.cached = cached;
 				jdbcPreparedStatementCreation.commit();
 			}
 		}